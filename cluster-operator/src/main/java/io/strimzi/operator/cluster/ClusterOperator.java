@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.strimzi.api.kafka.model.KafkaConnector;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.operator.cluster.leaderelection.ShardOwnership;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
@@ -30,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
 
 import static java.util.Arrays.asList;
 
@@ -54,6 +56,8 @@ public class ClusterOperator extends AbstractVerticle {
     private final KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator;
     private final KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator;
     private final ResourceOperatorSupplier resourceOperatorSupplier;
+    private final ShardOwnership shardOwnership;
+    private final IntConsumer shardAcquiredListener = shard -> vertx.runOnContext(ignored -> reconcileShard(shard));
 
     private StrimziPodSetController strimziPodSetController;
 
@@ -73,6 +77,8 @@ public class ClusterOperator extends AbstractVerticle {
      * @param kafkaBridgeAssemblyOperator       KafkaBridge operator
      * @param kafkaRebalanceAssemblyOperator    KafkaRebalance operator
      * @param resourceOperatorSupplier          Resource operator supplier
+     * @param shardOwnership                    Shard ownership of this operator instance when the sharded leader
+     *                                          election is used. Null otherwise.
      */
     public ClusterOperator(String namespace,
                            ClusterOperatorConfig config,
@@ -82,7 +88,8 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
                            KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
-                           ResourceOperatorSupplier resourceOperatorSupplier) {
+                           ResourceOperatorSupplier resourceOperatorSupplier,
+                           ShardOwnership shardOwnership) {
         LOGGER.info("Creating ClusterOperator for namespace {}", namespace);
         this.namespace = namespace;
         this.config = config;
@@ -93,6 +100,7 @@ public class ClusterOperator extends AbstractVerticle {
         this.kafkaBridgeAssemblyOperator = kafkaBridgeAssemblyOperator;
         this.kafkaRebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
         this.resourceOperatorSupplier = resourceOperatorSupplier;
+        this.shardOwnership = shardOwnership;
     }
 
     @Override
@@ -144,6 +152,12 @@ public class ClusterOperator extends AbstractVerticle {
                         }
                     });
 
+                    if (shardOwnership != null) {
+                        // The resources from the shards owned by this instance are reconciled when the shards are acquired
+                        shardOwnership.addShardAcquiredListener(shardAcquiredListener);
+                        shardOwnership.ownedShards().forEach(this::reconcileShard);
+                    }
+
                     return Future.succeededFuture((Void) null);
                 })
                 .onComplete(start);
@@ -162,7 +176,11 @@ public class ClusterOperator extends AbstractVerticle {
                         resourceOperatorSupplier.strimziPodSetOperator,
                         resourceOperatorSupplier.podOperations,
                         resourceOperatorSupplier.metricsProvider,
-                        config.getPodSetControllerWorkQueueSize()
+                        config.getPodSetControllerWorkQueueSize(),
+                        config.getPodSetControllerWorkers(),
+                        config.getPodSetControllerPodOperationsThreads(),
+                        resourceOperatorSupplier.informerRegistry,
+                        shardOwnership
                 );
                 strimziPodSetController.start();
                 future.complete();
@@ -178,6 +196,9 @@ public class ClusterOperator extends AbstractVerticle {
     public void stop(Promise<Void> stop) {
         LOGGER.info("Stopping ClusterOperator for namespace {}", namespace);
         vertx.cancelTimer(reconcileTimer);
+        if (shardOwnership != null) {
+            shardOwnership.removeShardAcquiredListener(shardAcquiredListener);
+        }
         for (ReconnectingWatcher<?> watch : watchByKind.values()) {
             if (watch != null) {
                 watch.close();
@@ -188,6 +209,24 @@ public class ClusterOperator extends AbstractVerticle {
         stop.complete();
     }
 
+    /**
+     * Reconciliation of the resources from a shard acquired by this operator instance
+     *
+     * @param shard     The acquired shard
+     */
+    private void reconcileShard(int shard) {
+        if (!config.isPodSetReconciliationOnly()) {
+            LOGGER.info("Triggering reconciliation of shard {} for namespace {}", shard, namespace);
+            String trigger = "shard-" + shard;
+            kafkaAssemblyOperator.reconcileShard(trigger, namespace, shard);
+            kafkaMirrorMakerAssemblyOperator.reconcileShard(trigger, namespace, shard);
+            kafkaConnectAssemblyOperator.reconcileShard(trigger, namespace, shard);
+            kafkaMirrorMaker2AssemblyOperator.reconcileShard(trigger, namespace, shard);
+            kafkaBridgeAssemblyOperator.reconcileShard(trigger, namespace, shard);
+            kafkaRebalanceAssemblyOperator.reconcileShard(trigger, namespace, shard);
+        }
+    }
+
     /**
       Periodical reconciliation (in case we lost some event)
      */
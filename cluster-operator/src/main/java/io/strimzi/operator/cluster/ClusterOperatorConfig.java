@@ -32,6 +32,7 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.STRING;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.BOOLEAN;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.strictlyPositive;
 
 /**
  * Cluster Operator configuration
@@ -152,6 +153,11 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Long> CONNECT_BUILD_TIMEOUT_MS = new ConfigParameter<>("STRIMZI_CONNECT_BUILD_TIMEOUT_MS", LONG, "300000", CONFIG_VALUES);
 
+    /**
+     * Set true to run the Kafka Connect builds in the background without blocking the KafkaConnect reconciliation
+     */
+    public static final ConfigParameter<Boolean> CONNECT_BUILD_IN_BACKGROUND = new ConfigParameter<>("STRIMZI_CONNECT_BUILD_IN_BACKGROUND", BOOLEAN, "false", CONFIG_VALUES);
+
     /**
      * Set true to create the ClusterRoles
      */
@@ -218,6 +224,26 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORK_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE", INTEGER, "1024", CONFIG_VALUES);
 
+    /**
+     * Indicates the number of StrimziPodSetController worker threads reconciling the StrimziPodSets
+     */
+    public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORKERS = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORKERS", strictlyPositive(INTEGER), "4", CONFIG_VALUES);
+
+    /**
+     * Indicates the size of the thread pool used by the StrimziPodSetController to create pods in parallel
+     */
+    public static final ConfigParameter<Integer> POD_SET_CONTROLLER_POD_OPERATIONS_THREADS = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_POD_OPERATIONS_THREADS", strictlyPositive(INTEGER), "8", CONFIG_VALUES);
+
+    /**
+     * Maximal number of time series of each metric. 0 disables the limit.
+     */
+    public static final ConfigParameter<Integer> METRICS_MAX_SERIES_PER_METRIC = new ConfigParameter<>("STRIMZI_METRICS_MAX_SERIES_PER_METRIC", INTEGER, "10000", CONFIG_VALUES);
+
+    /**
+     * Enables the endpoint for starting and stopping the Flight Recorder recordings of the operator
+     */
+    public static final ConfigParameter<Boolean> PROFILING_ENDPOINT_ENABLED = new ConfigParameter<>("STRIMZI_PROFILING_ENDPOINT_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
 
     /**
      * The Pod name of the cluster operator, used to identify source of K8s events the operator creates
@@ -491,6 +517,13 @@ public class ClusterOperatorConfig {
         return get(CONNECT_BUILD_TIMEOUT_MS);
     }
 
+    /**
+     * @return  Indicates whether Kafka Connect builds should run in the background
+     */
+    public boolean isConnectBuildInBackground() {
+        return get(CONNECT_BUILD_IN_BACKGROUND);
+    }
+
     /**
      * @return  Indicates whether Cluster Roles should be created
      */
@@ -582,6 +615,34 @@ public class ClusterOperatorConfig {
         return get(POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
     }
 
+    /**
+     * @return Returns the number of StrimziPodSetController worker threads
+     */
+    public int getPodSetControllerWorkers() {
+        return get(POD_SET_CONTROLLER_WORKERS);
+    }
+
+    /**
+     * @return Returns the size of the thread pool used by the StrimziPodSetController to create pods in parallel
+     */
+    public int getPodSetControllerPodOperationsThreads() {
+        return get(POD_SET_CONTROLLER_POD_OPERATIONS_THREADS);
+    }
+
+    /**
+     * @return Returns the maximal number of time series of each metric
+     */
+    public int getMetricsMaxSeriesPerMetric() {
+        return get(METRICS_MAX_SERIES_PER_METRIC);
+    }
+
+    /**
+     * @return  True if the Flight Recorder profiling endpoint is enabled. False otherwise.
+     */
+    public boolean isProfilingEndpointEnabled() {
+        return get(PROFILING_ENDPOINT_ENABLED);
+    }
+
     /**
      * @return  The name of this operator
      */
@@ -614,6 +675,7 @@ public class ClusterOperatorConfig {
                 "\n\treconciliationIntervalMs=" + getReconciliationIntervalMs() +
                 "\n\toperationTimeoutMs=" + getOperationTimeoutMs() +
                 "\n\tconnectBuildTimeoutMs=" + getConnectBuildTimeoutMs() +
+                "\n\tconnectBuildInBackground=" + isConnectBuildInBackground() +
                 "\n\tcreateClusterRoles=" + isCreateClusterRoles() +
                 "\n\tnetworkPolicyGeneration=" + isNetworkPolicyGeneration() +
                 "\n\tversions='" + versions() + '\'' +
@@ -627,6 +689,10 @@ public class ClusterOperatorConfig {
                 "\n\tdnsCacheTtlSec=" + getDnsCacheTtlSec() +
                 "\n\tpodSetReconciliationOnly=" + isPodSetReconciliationOnly() +
                 "\n\tpodSetControllerWorkQueueSize=" + getPodSetControllerWorkQueueSize() +
+                "\n\tpodSetControllerWorkers=" + getPodSetControllerWorkers() +
+                "\n\tpodSetControllerPodOperationsThreads=" + getPodSetControllerPodOperationsThreads() +
+                "\n\tmetricsMaxSeriesPerMetric=" + getMetricsMaxSeriesPerMetric() +
+                "\n\tprofilingEndpointEnabled=" + isProfilingEndpointEnabled() +
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
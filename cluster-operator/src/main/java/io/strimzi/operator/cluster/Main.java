@@ -10,7 +10,10 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
+import io.strimzi.operator.cluster.leaderelection.ShardOwnership;
+import io.strimzi.operator.cluster.leaderelection.ShardedLeaderElectionManager;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
+import io.strimzi.operator.cluster.operator.assembly.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
@@ -25,6 +28,8 @@ import io.strimzi.operator.common.model.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ShutdownHook;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.jfr.FlightRecorderController;
+import io.strimzi.operator.common.metrics.CardinalityLimitingMeterFilter;
 import io.strimzi.operator.common.operator.resource.ClusterRoleOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.CompositeFuture;
@@ -32,7 +37,9 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
 import org.apache.logging.log4j.LogManager;
@@ -42,6 +49,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.security.Security;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -92,13 +100,14 @@ public class Main {
 
         // Setup Micrometer Metrics provider
         MetricsProvider metricsProvider = new MicrometerMetricsProvider();
+        CardinalityLimitingMeterFilter.configure(metricsProvider.meterRegistry(), config.getMetricsMaxSeriesPerMetric());
         KubernetesClient client = new OperatorKubernetesClientBuilder("strimzi-cluster-operator", strimziVersion).build();
 
         maybeCreateClusterRoles(vertx, config, client)
-                .compose(i -> startHealthServer(vertx, metricsProvider))
-                .compose(i -> leaderElection(client, config, shutdownHook))
-                .compose(i -> createPlatformFeaturesAvailability(vertx, client))
-                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shutdownHook))
+                .compose(i -> startHealthServer(vertx, metricsProvider, config.isProfilingEndpointEnabled()))
+                .compose(i -> leaderElection(client, config, metricsProvider, shutdownHook))
+                .compose(shardOwnership -> createPlatformFeaturesAvailability(vertx, client)
+                        .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shutdownHook, shardOwnership)))
                 .onComplete(res -> {
                     if (res.failed())   {
                         LOGGER.error("Unable to start operator for 1 or more namespace", res.cause());
@@ -142,10 +151,12 @@ public class Main {
      * @param pfa               PlatformFeaturesAvailability instance describing the Kubernetes cluster
      * @param config            Cluster Operator configuration
      * @param shutdownHook      Shutdown hook to register leader election shutdown
+     * @param shardOwnership    Shard ownership of this operator instance when the sharded leader election is used.
+     *                          Null otherwise.
      *
      * @return  Future which completes when all Cluster Operator verticles are started and running
      */
-    static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config, ShutdownHook shutdownHook) {
+    static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config, ShutdownHook shutdownHook, ShardOwnership shardOwnership) {
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(
                 vertx,
                 client,
@@ -180,6 +191,14 @@ public class Main {
             kafkaMirrorMakerAssemblyOperator = new KafkaMirrorMakerAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaBridgeAssemblyOperator = new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaRebalanceAssemblyOperator = new KafkaRebalanceAssemblyOperator(vertx, resourceOperatorSupplier, config);
+
+            if (shardOwnership != null) {
+                for (AbstractOperator<?, ?, ?, ?> operator : List.of(kafkaClusterOperations, kafkaConnectClusterOperations,
+                        kafkaMirrorMaker2AssemblyOperator, kafkaMirrorMakerAssemblyOperator, kafkaBridgeAssemblyOperator,
+                        kafkaRebalanceAssemblyOperator)) {
+                    operator.setShardOwnership(shardOwnership);
+                }
+            }
         }
 
         List<Future<String>> futures = new ArrayList<>(config.getNamespaces().size());
@@ -194,7 +213,8 @@ public class Main {
                     kafkaMirrorMaker2AssemblyOperator,
                     kafkaBridgeAssemblyOperator,
                     kafkaRebalanceAssemblyOperator,
-                    resourceOperatorSupplier);
+                    resourceOperatorSupplier,
+                    shardOwnership);
             vertx.deployVerticle(operator,
                 res -> {
                     if (res.succeeded()) {
@@ -222,14 +242,38 @@ public class Main {
      *
      * When the leader election is disabled, it just completes the future without waiting for anything.
      *
-     * @param client        Kubernetes client
-     * @param config        Cluster Operator configuration
-     * @param shutdownHook  Shutdown hook to register leader election shutdown
+     * When the sharded leader election is configured, it completes the future right away with the shard ownership of
+     * this instance. All instances are active and reconcile only the resources from the shards they own. The resources
+     * of a shard are reconciled when the shard is acquired. If a shard is lost, it will loop the operator container to
+     * start from the beginning. The running reconciliations of the lost shard cannot be interrupted, so exiting is the
+     * only way to make sure they do not run at the same time as the reconciliations of the instance taking over the
+     * shard.
+     *
+     * @param client            Kubernetes client
+     * @param config            Cluster Operator configuration
+     * @param metricsProvider   Metrics provider instance
+     * @param shutdownHook      Shutdown hook to register leader election shutdown
+     *
+     * @return  Future which completes when the operator can start. It contains the shard ownership when the sharded
+     *          leader election is used or null otherwise.
      */
-    private static Future<Void> leaderElection(KubernetesClient client, ClusterOperatorConfig config, ShutdownHook shutdownHook)    {
-        Promise<Void> leader = Promise.promise();
+    private static Future<ShardOwnership> leaderElection(KubernetesClient client, ClusterOperatorConfig config, MetricsProvider metricsProvider, ShutdownHook shutdownHook)    {
+        Promise<ShardOwnership> leader = Promise.promise();
+
+        if (config.getLeaderElectionConfig() != null && config.getLeaderElectionConfig().isSharded()) {
+            ShardedLeaderElectionManager leaderElection = new ShardedLeaderElectionManager(
+                    client, config.getLeaderElectionConfig(), metricsProvider,
+                    () -> {
+                        LOGGER.warn("Lost a shard => exiting");
+                        // Has to run asynchronously to not block the leader election from shutting down (the exit call is synchronous)
+                        CompletableFuture.runAsync(() -> System.exit(1));
+                    });
 
-        if (config.getLeaderElectionConfig() != null) {
+            LOGGER.info("Starting sharded leader election");
+            leaderElection.start();
+            shutdownHook.register(leaderElection::stop);
+            leader.complete(leaderElection.shardOwnership());
+        } else if (config.getLeaderElectionConfig() != null) {
             LeaderElectionManager leaderElection = new LeaderElectionManager(
                     client, config.getLeaderElectionConfig(),
                     () -> {
@@ -322,13 +366,16 @@ public class Main {
      *
      * @param vertx             Vertx instance
      * @param metricsProvider   Metrics Provider to get the metrics from
+     * @param profilingEnabled  Enables the endpoints for starting and stopping the Flight Recorder recordings
      *
      * @return Future which completes when the health and metrics webserver is started
      */
-    private static Future<HttpServer> startHealthServer(Vertx vertx, MetricsProvider metricsProvider) {
+    private static Future<HttpServer> startHealthServer(Vertx vertx, MetricsProvider metricsProvider, boolean profilingEnabled) {
         Promise<HttpServer> result = Promise.promise();
+        FlightRecorderController flightRecorder = new FlightRecorderController();
 
-        vertx.createHttpServer()
+        // The metrics are compressed when the client supports it, because they can be big in large deployments
+        vertx.createHttpServer(new HttpServerOptions().setCompressionSupported(true))
                 .requestHandler(request -> {
                     if (request.path().equals("/healthy")) {
                         request.response().setStatusCode(204).end();
@@ -338,6 +385,54 @@ public class Main {
                         PrometheusMeterRegistry metrics = (PrometheusMeterRegistry) metricsProvider.meterRegistry();
                         request.response().setStatusCode(200)
                                 .end(metrics.scrape());
+                    } else if (profilingEnabled && request.path().equals("/jfr/start") && request.method() == HttpMethod.POST) {
+                        String settings = request.getParam("settings", FlightRecorderController.DEFAULT_SETTINGS);
+
+                        // Loading the settings and starting the recording does blocking IO, so it is not done on the event loop
+                        vertx.<Void>executeBlocking(promise -> {
+                            try {
+                                flightRecorder.start(settings);
+                                promise.complete();
+                            } catch (Exception e) {
+                                promise.fail(e);
+                            }
+                        }, false)
+                                .onComplete(res -> {
+                                    if (res.succeeded()) {
+                                        request.response().setStatusCode(200).end("Flight recording started");
+                                    } else if (res.cause() instanceof IllegalStateException) {
+                                        request.response().setStatusCode(409).end(res.cause().getMessage());
+                                    } else if (res.cause() instanceof IllegalArgumentException) {
+                                        request.response().setStatusCode(400).end(res.cause().getMessage());
+                                    } else {
+                                        LOGGER.error("Failed to start the flight recording", res.cause());
+                                        request.response().setStatusCode(500).end(res.cause().getMessage());
+                                    }
+                                });
+                    } else if (profilingEnabled && request.path().equals("/jfr/stop") && request.method() == HttpMethod.POST) {
+                        // Dumping the recording does blocking IO, so it is not done on the event loop
+                        vertx.<Path>executeBlocking(promise -> {
+                            try {
+                                promise.complete(flightRecorder.stop());
+                            } catch (Exception e) {
+                                promise.fail(e);
+                            }
+                        }, false)
+                                .onComplete(res -> {
+                                    if (res.succeeded()) {
+                                        Path recording = res.result();
+                                        request.response()
+                                                .putHeader("Content-Type", "application/octet-stream")
+                                                .putHeader("Content-Disposition", "attachment; filename=\"" + recording.getFileName() + "\"")
+                                                .sendFile(recording.toString())
+                                                .onComplete(ignored -> vertx.fileSystem().delete(recording.toString()));
+                                    } else if (res.cause() instanceof IllegalStateException) {
+                                        request.response().setStatusCode(409).end(res.cause().getMessage());
+                                    } else {
+                                        LOGGER.error("Failed to stop the flight recording", res.cause());
+                                        request.response().setStatusCode(500).end(res.cause().getMessage());
+                                    }
+                                });
                     }
                 })
                 .listen(HEALTH_SERVER_PORT, ar -> {
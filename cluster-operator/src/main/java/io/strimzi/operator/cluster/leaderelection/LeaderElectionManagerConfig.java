@@ -14,6 +14,8 @@ import java.util.Set;
 
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.NON_EMPTY_STRING;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.DURATION;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.INTEGER;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.strictlyPositive;
 
 /**
  * Configuration class for the Leader Election Manager
@@ -52,6 +54,12 @@ public class LeaderElectionManagerConfig {
      */
     public final static ConfigParameter<Duration> ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS = new ConfigParameter<>("STRIMZI_LEADER_ELECTION_RETRY_PERIOD_MS", DURATION, "2000", CONFIG_VALUES);
 
+    /**
+     * Number of shards into which the custom resources are split. With more than one shard, all operator replicas are
+     * active and each of them reconciles only the resources in the shards it holds the Lease for.
+     */
+    public final static ConfigParameter<Integer> ENV_VAR_LEADER_ELECTION_SHARDS = new ConfigParameter<>("STRIMZI_LEADER_ELECTION_SHARDS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
     /**
      * Creates the LeaderElectionManager configuration from Map with environment variables
      *
@@ -163,6 +171,21 @@ public class LeaderElectionManagerConfig {
         return get(ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS);
     }
 
+    /**
+     * @return  Returns the number of shards into which the custom resources are split
+     */
+    public int getShards() {
+        return get(ENV_VAR_LEADER_ELECTION_SHARDS);
+    }
+
+    /**
+     * @return  Returns true when the custom resources are split into multiple shards which are reconciled by different
+     *          operator replicas
+     */
+    public boolean isSharded() {
+        return getShards() > 1;
+    }
+
     @Override
     public String toString() {
         return "LeaderElectionConfig{" +
@@ -172,6 +195,7 @@ public class LeaderElectionManagerConfig {
                 ", leaseDuration=" + getLeaseDuration() +
                 ", renewDeadline=" + getRenewDeadline() +
                 ", retryPeriod=" + getRetryPeriod() +
+                ", shards=" + getShards() +
                 '}';
     }
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import org.apache.kafka.common.utils.Utils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Tracks the shards owned by this operator instance when the sharded leader election is used. The custom resources are
+ * assigned to the shards by hashing their namespace and name. The assignment depends only on the number of shards, so
+ * it does not change when operator replicas join or leave. Only the ownership of the whole shards moves between the
+ * replicas.
+ *
+ * The reconciliations of the resources in the owned shards are counted, so that a shard is handed over to another
+ * replica only after all its running reconciliations are finished. The components reconciling the resources register
+ * listeners which are notified when a shard is acquired, so that they can reconcile the resources of the shard right
+ * away instead of waiting for the next periodic reconciliation.
+ */
+public class ShardOwnership {
+    private static final Logger LOGGER = LogManager.getLogger(ShardOwnership.class);
+
+    private final int shards;
+    private final Set<Integer> ownedShards = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger[] runningReconciliations;
+    private final List<IntConsumer> shardAcquiredListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor
+     *
+     * @param shards    Number of shards
+     */
+    public ShardOwnership(int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("The number of shards has to be at least 1");
+        }
+
+        this.shards = shards;
+        this.runningReconciliations = new AtomicInteger[shards];
+
+        for (int i = 0; i < shards; i++) {
+            runningReconciliations[i] = new AtomicInteger(0);
+        }
+    }
+
+    /**
+     * Calculates the shard of a custom resource. It uses the same murmur2 hash as Kafka uses for partitioning the
+     * record keys, so that the resources are evenly spread over the shards.
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     * @param shards        Number of shards
+     *
+     * @return  The shard of the custom resource
+     */
+    public static int shard(String namespace, String name, int shards) {
+        return Utils.toPositive(Utils.murmur2((namespace + "/" + name).getBytes(StandardCharsets.UTF_8))) % shards;
+    }
+
+    /**
+     * @return  Number of shards
+     */
+    public int shards() {
+        return shards;
+    }
+
+    /**
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     *
+     * @return  The shard of the custom resource
+     */
+    public int shard(String namespace, String name) {
+        return shard(namespace, name, shards);
+    }
+
+    /**
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     *
+     * @return  True if the custom resource belongs to a shard owned by this operator instance. False otherwise.
+     */
+    public boolean owns(String namespace, String name) {
+        return ownedShards.contains(shard(namespace, name));
+    }
+
+    /**
+     * Registers the start of a reconciliation of a custom resource when it belongs to a shard owned by this operator
+     * instance. Every successful call has to be followed by a call to {@link #endReconciliation(String, String)}.
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     *
+     * @return  True if the reconciliation can start. False if the resource belongs to a shard which is not owned by
+     *          this operator instance.
+     */
+    public boolean tryStartReconciliation(String namespace, String name) {
+        int shard = shard(namespace, name);
+
+        runningReconciliations[shard].incrementAndGet();
+
+        // The ownership is checked after the reconciliation is counted, so that a shard which is being released is
+        // either not reconciled anymore or waited for
+        if (ownedShards.contains(shard)) {
+            return true;
+        } else {
+            runningReconciliations[shard].decrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * Registers the end of a reconciliation of a custom resource started with
+     * {@link #tryStartReconciliation(String, String)}.
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     */
+    public void endReconciliation(String namespace, String name) {
+        runningReconciliations[shard(namespace, name)].decrementAndGet();
+    }
+
+    /**
+     * @return  Set with the shards owned by this operator instance
+     */
+    public Set<Integer> ownedShards() {
+        return new TreeSet<>(ownedShards);
+    }
+
+    /**
+     * Registers a listener which is called with the shard number every time this operator instance acquires a shard.
+     * The listener is called from the leader election thread and should not block.
+     *
+     * @param listener  Listener which should be called when a shard is acquired
+     */
+    public void addShardAcquiredListener(IntConsumer listener) {
+        shardAcquiredListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener registered with {@link #addShardAcquiredListener(IntConsumer)}
+     *
+     * @param listener  Listener which should be removed
+     */
+    public void removeShardAcquiredListener(IntConsumer listener) {
+        shardAcquiredListeners.remove(listener);
+    }
+
+    /**
+     * Marks the shard as owned by this operator instance and notifies the listeners
+     *
+     * @param shard     The shard
+     */
+    void acquire(int shard) {
+        if (ownedShards.add(shard)) {
+            for (IntConsumer listener : shardAcquiredListeners) {
+                try {
+                    listener.accept(shard);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Shard acquired listener failed for shard {}", shard, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the shard as not owned by this operator instance. No new reconciliations of the resources from this shard
+     * are started afterwards, but the running reconciliations are not interrupted.
+     *
+     * @param shard     The shard
+     */
+    void release(int shard) {
+        ownedShards.remove(shard);
+    }
+
+    /**
+     * @param shard     The shard
+     *
+     * @return  True if no reconciliation of a resource from this shard is running
+     */
+    boolean isIdle(int shard) {
+        return runningReconciliations[shard].get() == 0;
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderCallbacks;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectionConfigBuilder;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElector;
+import io.fabric8.kubernetes.client.extended.leaderelection.resourcelock.LeaseLock;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ShardedLeaderElectionManager is used instead of the LeaderElectionManager when the custom resources are split into
+ * multiple shards. All operator replicas are active and each of them reconciles only the custom resources from the
+ * shards it holds. Every shard has its own Lease resource named {@code <leaseName>-shard-<shard>}. The Leases are
+ * acquired and renewed using the Fabric8 leader elector in the same way as the Lease of the LeaderElectionManager.
+ *
+ * Every replica also holds its own membership Lease named {@code <leaseName>-member-<identity>}. The membership Leases
+ * are used to find out how many replicas are running. The shards are rebalanced periodically: a replica holding more
+ * than its fair share of the shards releases the extra shards once their running reconciliations are finished, and a
+ * replica holding less than its fair share competes for the shards which are not held by anyone. So the shards are
+ * redistributed when replicas join or leave. In contrast to the rebalancing, which releases only shards without any
+ * running reconciliations, a shard Lease which could not be renewed is lost right away and the shard lost callback is
+ * called.
+ *
+ * Because the membership Leases are listed, the operator needs the RBAC rights to list Lease resources in the Lease
+ * namespace and to manage the shard and membership Leases.
+ */
+public class ShardedLeaderElectionManager {
+    private static final Logger LOGGER = LogManager.getLogger(ShardedLeaderElectionManager.class);
+
+    private static final String METRICS_PREFIX = "strimzi.leader.election.";
+    // Membership Leases of replicas which stopped renewing them more than this number of lease durations ago are deleted
+    private static final int STALE_MEMBER_LEASE_DURATIONS = 10;
+
+    private final KubernetesClient client;
+    private final LeaderElectionManagerConfig config;
+    private final Runnable shardLostCallback;
+    private final ShardOwnership ownership;
+    private final String memberLeasePrefix;
+    private final ScheduledExecutorService executor;
+    private final Map<Integer, ShardElector> shardElectors = new ConcurrentHashMap<>();
+    private final Set<Integer> drainingShards = ConcurrentHashMap.newKeySet();
+    private final List<AtomicInteger> shardOwnedMetrics;
+    private final AtomicInteger membersMetric;
+
+    private CompletableFuture<?> memberElectorFuture;
+    private volatile boolean isShuttingDown = false;
+
+    /**
+     * ShardedLeaderElectionManager constructor
+     *
+     * @param client                Kubernetes client
+     * @param config                LeaderElectionManager configuration
+     * @param metricsProvider       Metrics provider used for the shard ownership metrics
+     * @param shardLostCallback     Callback which is called when this instance fails to renew the Lease of one of its
+     *                              shards and another instance might take over the shard. The lost shard is already
+     *                              released when the callback is called, but the reconciliations of the shard which
+     *                              are already running are not interrupted. So the callback has to stop them before
+     *                              the Lease expires (e.g. by exiting the operator), otherwise they might run at the
+     *                              same time as the reconciliations of the instance taking over the shard.
+     */
+    public ShardedLeaderElectionManager(KubernetesClient client, LeaderElectionManagerConfig config, MetricsProvider metricsProvider, Runnable shardLostCallback) {
+        this.client = client;
+        this.config = config;
+        this.shardLostCallback = shardLostCallback;
+        this.ownership = new ShardOwnership(config.getShards());
+        this.memberLeasePrefix = config.getLeaseName() + "-member-";
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sharded-leader-election");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.shardOwnedMetrics = new ArrayList<>(config.getShards());
+        for (int shard = 0; shard < config.getShards(); shard++) {
+            shardOwnedMetrics.add(metricsProvider.gauge(METRICS_PREFIX + "shard.owned", "Whether the shard is owned by this operator instance: 1 owned, 0 not owned", Tags.of("shard", String.valueOf(shard))));
+        }
+        this.membersMetric = metricsProvider.gauge(METRICS_PREFIX + "members", "Number of operator instances sharing the shards", Tags.empty());
+    }
+
+    /**
+     * @return  The shard ownership of this operator instance. It is updated as the shards are acquired and released.
+     */
+    public ShardOwnership shardOwnership() {
+        return ownership;
+    }
+
+    /**
+     * Starts the membership Lease and the periodic rebalancing of the shards
+     */
+    public void start() {
+        LOGGER.info("Starting the sharded Leader Elector with {} shards", config.getShards());
+        startMemberElector();
+        executor.scheduleWithFixedDelay(this::rebalance, 0, config.getRetryPeriod().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the rebalancing and releases all shard Leases and the membership Lease
+     */
+    public void stop() {
+        LOGGER.info("Stopping the sharded Leader Elector");
+        isShuttingDown = true;
+        executor.shutdownNow();
+
+        try {
+            if (!executor.awaitTermination(config.getRetryPeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Shard rebalancing did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (ShardElector elector : shardElectors.values()) {
+            elector.stop();
+        }
+        shardElectors.clear();
+
+        if (memberElectorFuture != null) {
+            stopLeaderElector(memberElectorFuture);
+        }
+
+        LOGGER.info("Sharded Leader Elector stopped");
+    }
+
+    /**
+     * Rebalances the shards. It is called periodically from the executor. It releases the shards above the fair share
+     * of this instance and competes for more shards when this instance has less than its fair share.
+     */
+    /* test */ void rebalance() {
+        try {
+            if (memberElectorFuture.isDone() && !isShuttingDown) {
+                // The membership Lease was lost (e.g. because the Kubernetes API was not reachable) => we register again
+                LOGGER.warn("Membership Lease was lost and will be acquired again");
+                startMemberElector();
+            }
+
+            int members = countMembers();
+            int fairShare = (config.getShards() + members - 1) / members;
+            membersMetric.set(members);
+
+            // Shards which were lost because their Lease could not be renewed
+            shardElectors.values().removeIf(ShardElector::isDone);
+
+            Set<Integer> ownedShards = ownership.ownedShards();
+            if (ownedShards.size() > fairShare) {
+                ownedShards.stream()
+                        .sorted(Comparator.reverseOrder())
+                        .limit(ownedShards.size() - fairShare)
+                        .forEach(this::startDraining);
+            }
+
+            for (Integer shard : drainingShards) {
+                if (ownership.isIdle(shard)) {
+                    LOGGER.info("Shard {} has no running reconciliations and its Lease will be released", shard);
+                    stopShardElector(shard);
+                    drainingShards.remove(shard);
+                }
+            }
+
+            if (ownership.ownedShards().size() < fairShare) {
+                // Compete for all shards we do not hold. The extra shards acquired above the fair share will be
+                // released in the next rebalancing.
+                for (int shard = 0; shard < config.getShards(); shard++) {
+                    if (!shardElectors.containsKey(shard)) {
+                        startShardElector(shard);
+                    }
+                }
+            } else {
+                // We have our fair share => we stop competing for the other shards
+                for (Integer shard : Set.copyOf(shardElectors.keySet())) {
+                    if (!ownership.ownedShards().contains(shard) && !drainingShards.contains(shard)) {
+                        stopShardElector(shard);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            if (isShuttingDown) {
+                // The rebalancing was interrupted by the shutdown
+                LOGGER.debug("Shard rebalancing interrupted during shutdown", e);
+            } else {
+                LOGGER.warn("Failed to rebalance the shards", e);
+            }
+        }
+    }
+
+    /**
+     * Counts the operator instances with a valid membership Lease. It also deletes the membership Leases of the
+     * instances which are gone for a long time.
+     *
+     * @return  Number of operator instances sharing the shards (at least 1 for this instance)
+     */
+    private int countMembers() {
+        ZonedDateTime now = ZonedDateTime.now();
+        int members = 0;
+
+        for (Lease lease : client.leases().inNamespace(config.getNamespace()).list().getItems()) {
+            if (lease.getMetadata().getName().startsWith(memberLeasePrefix)) {
+                if (isValidUntil(lease, now)) {
+                    members++;
+                } else if (!isValidUntil(lease, now.minus(config.getLeaseDuration().multipliedBy(STALE_MEMBER_LEASE_DURATIONS)))) {
+                    deleteStaleMemberLease(lease);
+                }
+            }
+        }
+
+        return Math.max(members, 1);
+    }
+
+    /**
+     * Checks if the Lease is held and renewed at the given time
+     *
+     * @param lease     Lease which should be checked
+     * @param time      Time for which the Lease should be checked
+     *
+     * @return  True if the Lease is valid at the given time. False otherwise.
+     */
+    private static boolean isValidUntil(Lease lease, ZonedDateTime time) {
+        return lease.getSpec() != null
+                && lease.getSpec().getHolderIdentity() != null
+                && !lease.getSpec().getHolderIdentity().isEmpty()
+                && lease.getSpec().getRenewTime() != null
+                && lease.getSpec().getLeaseDurationSeconds() != null
+                && lease.getSpec().getRenewTime().plusSeconds(lease.getSpec().getLeaseDurationSeconds()).isAfter(time);
+    }
+
+    private void deleteStaleMemberLease(Lease lease) {
+        try {
+            LOGGER.info("Deleting stale membership Lease {}", lease.getMetadata().getName());
+            client.leases().inNamespace(config.getNamespace()).withName(lease.getMetadata().getName()).delete();
+        } catch (KubernetesClientException e) {
+            LOGGER.debug("Failed to delete stale membership Lease {}", lease.getMetadata().getName(), e);
+        }
+    }
+
+    private void startDraining(int shard) {
+        LOGGER.info("Shard {} is above the fair share of this instance and will be released", shard);
+        ownership.release(shard);
+        shardOwnedMetrics.get(shard).set(0);
+        drainingShards.add(shard);
+    }
+
+    private void startMemberElector() {
+        memberElectorFuture = leaderElector(memberLeasePrefix + config.getIdentity(),
+                new LeaderCallbacks(
+                        () -> LOGGER.info("Registered as a member of the sharded leader election"),
+                        () -> LOGGER.info("Not a member of the sharded leader election anymore"),
+                        newLeader -> {
+                            // Do nothing
+                        }))
+                .start();
+    }
+
+    private void startShardElector(int shard) {
+        ShardElector elector = new ShardElector(shard);
+        shardElectors.put(shard, elector);
+        elector.start();
+    }
+
+    private void stopShardElector(int shard) {
+        ShardElector elector = shardElectors.remove(shard);
+
+        if (elector != null) {
+            elector.stop();
+        }
+    }
+
+    private LeaderElector leaderElector(String leaseName, LeaderCallbacks callbacks) {
+        return client.leaderElector()
+                .withConfig(new LeaderElectionConfigBuilder()
+                        .withReleaseOnCancel()
+                        .withName(leaseName)
+                        .withLock(new LeaseLock(config.getNamespace(), leaseName, config.getIdentity()))
+                        .withLeaseDuration(config.getLeaseDuration())
+                        .withRenewDeadline(config.getRenewDeadline())
+                        .withRetryPeriod(config.getRetryPeriod())
+                        .withLeaderCallbacks(callbacks)
+                        .build())
+                .build();
+    }
+
+    private static void stopLeaderElector(CompletableFuture<?> future) {
+        future.cancel(true);
+
+        try {
+            future.join();
+        } catch (CancellationException e) {
+            // Nothing to do, we just canceled it
+        }
+    }
+
+    /**
+     * Leader elector for a single shard
+     */
+    private final class ShardElector {
+        private final int shard;
+        private final LeaderElector leaderElector;
+        private CompletableFuture<?> future;
+        private volatile boolean stopping = false;
+
+        private ShardElector(int shard) {
+            this.shard = shard;
+            this.leaderElector = leaderElector(config.getLeaseName() + "-shard-" + shard,
+                    new LeaderCallbacks(this::onStartLeading, this::onStopLeading, newLeader -> {
+                        // Do nothing
+                    }));
+        }
+
+        private void start() {
+            future = leaderElector.start();
+        }
+
+        private boolean isDone() {
+            return future.isDone();
+        }
+
+        private void stop() {
+            stopping = true;
+            stopLeaderElector(future);
+        }
+
+        private void onStartLeading() {
+            if (!stopping) {
+                LOGGER.info("Acquired shard {}", shard);
+                ownership.acquire(shard);
+                shardOwnedMetrics.get(shard).set(1);
+            }
+        }
+
+        private void onStopLeading() {
+            ownership.release(shard);
+            shardOwnedMetrics.get(shard).set(0);
+
+            if (stopping || isShuttingDown) {
+                LOGGER.info("Released shard {}", shard);
+            } else {
+                LOGGER.warn("Lost shard {}", shard);
+                shardLostCallback.run();
+            }
+        }
+    }
+}
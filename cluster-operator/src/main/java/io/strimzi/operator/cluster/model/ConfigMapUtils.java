@@ -11,10 +11,13 @@ import io.strimzi.operator.cluster.model.logging.SupportsLogging;
 import io.strimzi.operator.cluster.model.metrics.MetricsModel;
 import io.strimzi.operator.cluster.model.metrics.SupportsMetrics;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Shared methods for working with Config Maps
@@ -49,6 +52,33 @@ public class ConfigMapUtils {
                 .build();
     }
 
+    /**
+     * Calculates the hash of the content of the Config Map. The hash covers the data, the labels and the owner
+     * references of the Config Map. It can be stored in an annotation and used to detect whether the Config Map
+     * needs to be updated without comparing the whole resource.
+     *
+     * @param configMap     Config Map for which the hash should be calculated
+     *
+     * @return  Hash of the Config Map content
+     */
+    public static String contentHash(ConfigMap configMap)  {
+        StringBuilder content = new StringBuilder();
+
+        if (configMap.getData() != null) {
+            content.append(new TreeMap<>(configMap.getData()));
+        }
+
+        if (configMap.getMetadata().getLabels() != null) {
+            content.append(new TreeMap<>(configMap.getMetadata().getLabels()));
+        }
+
+        if (configMap.getMetadata().getOwnerReferences() != null) {
+            configMap.getMetadata().getOwnerReferences().forEach(ref -> content.append(ref.getUid()));
+        }
+
+        return Util.hashStub(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Generates a metrics and logging ConfigMap according to configured defaults. This is used with most operands, but
      * not all of them. Kafka brokers have own methods in the KafkaCluster class. So does the Bridge. And Kafka Exporter
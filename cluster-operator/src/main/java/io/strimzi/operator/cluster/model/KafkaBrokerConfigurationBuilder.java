@@ -88,6 +88,48 @@ public class KafkaBrokerConfigurationBuilder {
         configureNodeOrBrokerId();
     }
 
+    /**
+     * Constructor used for rendering configuration fragments. It does not render the file header or the node/broker
+     * ID and it cannot be used for sections which depend on the node/broker ID.
+     *
+     * @param reconciliation    The reconciliation
+     * @param useKRaft          Indicates whether KRaft is used or not
+     */
+    private KafkaBrokerConfigurationBuilder(Reconciliation reconciliation, boolean useKRaft) {
+        this.reconciliation = reconciliation;
+        this.brokerId = null;
+        this.useKRaft = useKRaft;
+    }
+
+    /**
+     * Creates a builder for rendering a configuration fragment. Fragments contain only the sections which are the same
+     * for multiple nodes. They can be rendered only once and added to the configuration of the individual nodes using
+     * the withConfigurationFragment(...) method. The fragment builder does not render the file header and the
+     * node/broker ID and cannot be used for sections which depend on the node/broker ID such as the log dirs.
+     *
+     * @param reconciliation    The reconciliation
+     * @param useKRaft          Indicates whether KRaft is used or not
+     *
+     * @return  Builder for the configuration fragment
+     */
+    static KafkaBrokerConfigurationBuilder fragment(Reconciliation reconciliation, boolean useKRaft) {
+        return new KafkaBrokerConfigurationBuilder(reconciliation, useKRaft);
+    }
+
+    /**
+     * Adds a configuration fragment which was rendered before using a fragment builder. The fragment is added as-is,
+     * so the result is the same as if the sections from the fragment were rendered directly by this builder.
+     *
+     * @param fragment  The configuration fragment
+     *
+     * @return Returns the builder instance
+     */
+    public KafkaBrokerConfigurationBuilder withConfigurationFragment(String fragment)   {
+        writer.print(fragment);
+
+        return this;
+    }
+
     /**
      * Renders the broker.id or node.id configurations
      */
@@ -55,6 +55,7 @@ import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationOAuth;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
 import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolStatus;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.storage.Storage;
 import io.strimzi.api.kafka.model.template.ExternalTrafficPolicy;
@@ -170,6 +171,11 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
      */
     public static final String ANNO_STRIMZI_BROKER_CONFIGURATION_HASH = Annotations.STRIMZI_DOMAIN + "broker-configuration-hash";
 
+    /**
+     * Hash of the content of the per-broker configuration ConfigMap. Used to detect ConfigMaps which do not need to be updated.
+     */
+    public static final String ANNO_STRIMZI_CONFIG_MAP_HASH = Annotations.STRIMZI_DOMAIN + "config-map-hash";
+
     /**
      * Annotation for keeping certificate thumbprints
      */
@@ -1589,57 +1595,43 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
         KafkaPool pool = nodePoolForNodeId(nodeId);
 
         return generatePerBrokerBrokerConfiguration(
+                new PerBrokerConfigurationTemplate(),
                 pool.nodeRef(nodeId),
                 pool,
+                VolumeUtils.createVolumeMounts(pool.storage, DATA_VOLUME_MOUNT_PATH, false),
                 advertisedHostnames,
                 advertisedPorts
         );
     }
 
     /**
-     * Internal method used to generate a Kafka configuration for given broker node.
+     * Internal method used to generate a Kafka configuration for given broker node. The sections of the configuration
+     * which are shared by multiple nodes are taken from the configuration template. Only the node-specific sections
+     * (node ID, log dirs and listeners) are rendered for each node.
      *
+     * @param template              Template with the shared parts of the configuration
      * @param node                  Node reference with Node ID and pod name
-     * @param pool                  Pool to which this node belongs - this is used to get pool-specific settings such as storage
+     * @param pool                  Pool to which this node belongs - this is used to get pool-specific settings such as roles
+     * @param dataVolumeMounts      Data volume mounts of the pool used to configure the log dirs
      * @param advertisedHostnames   Map with advertised hostnames
      * @param advertisedPorts       Map with advertised ports
      *
      * @return  String with the Kafka broker configuration
      */
-    private String generatePerBrokerBrokerConfiguration(NodeRef node, KafkaPool pool, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts)   {
-        if (useKRaft) {
-            return new KafkaBrokerConfigurationBuilder(reconciliation, String.valueOf(node.nodeId()), true)
-                    .withRackId(rack)
-                    .withKRaft(cluster, namespace, pool.processRoles, nodes())
-                    .withLogDirs(VolumeUtils.createVolumeMounts(pool.storage, DATA_VOLUME_MOUNT_PATH, false))
-                    .withListeners(cluster,
-                            namespace,
-                            node,
-                            listeners,
-                            listenerId -> advertisedHostnames.get(node.nodeId()).get(listenerId),
-                            listenerId -> advertisedPorts.get(node.nodeId()).get(listenerId)
-                    )
-                    .withAuthorization(cluster, authorization)
-                    .withCruiseControl(cluster, ccMetricsReporter, node.broker())
-                    .withUserConfiguration(configuration, node.broker() && ccMetricsReporter != null)
-                    .build().trim();
-        } else {
-            return new KafkaBrokerConfigurationBuilder(reconciliation, String.valueOf(node.nodeId()), false)
-                    .withRackId(rack)
-                    .withZookeeper(cluster)
-                    .withLogDirs(VolumeUtils.createVolumeMounts(pool.storage, DATA_VOLUME_MOUNT_PATH, false))
-                    .withListeners(cluster,
-                            namespace,
-                            node,
-                            listeners,
-                            listenerId -> advertisedHostnames.get(node.nodeId()).get(listenerId),
-                            listenerId -> advertisedPorts.get(node.nodeId()).get(listenerId)
-                    )
-                    .withAuthorization(cluster, authorization)
-                    .withCruiseControl(cluster, ccMetricsReporter, node.broker())
-                    .withUserConfiguration(configuration, node.broker() && ccMetricsReporter != null)
-                    .build().trim();
-        }
+    private String generatePerBrokerBrokerConfiguration(PerBrokerConfigurationTemplate template, NodeRef node, KafkaPool pool, List<VolumeMount> dataVolumeMounts, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts)   {
+        return new KafkaBrokerConfigurationBuilder(reconciliation, String.valueOf(node.nodeId()), useKRaft)
+                .withRackId(rack)
+                .withConfigurationFragment(template.clusterConfiguration(pool.processRoles))
+                .withLogDirs(dataVolumeMounts)
+                .withListeners(cluster,
+                        namespace,
+                        node,
+                        listeners,
+                        listenerId -> advertisedHostnames.get(node.nodeId()).get(listenerId),
+                        listenerId -> advertisedPorts.get(node.nodeId()).get(listenerId)
+                )
+                .withConfigurationFragment(template.sharedConfiguration(node.broker()))
+                .build().trim();
     }
 
     /**
@@ -1655,9 +1647,15 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
     public List<ConfigMap> generatePerBrokerConfigurationConfigMaps(MetricsAndLogging metricsAndLogging, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts)   {
         String parsedMetrics = metrics.metricsJson(reconciliation, metricsAndLogging.metricsCm());
         String parsedLogging = logging().loggingConfiguration(reconciliation, metricsAndLogging.loggingCm());
+        // List of configured listeners => StrimziPodSets still need this because of OAUTH and how the OAUTH secret
+        // environment variables are parsed in the container bash scripts
+        String listenersConfig = listeners.stream().map(ListenersUtils::envVarIdentifier).collect(Collectors.joining(" "));
+        PerBrokerConfigurationTemplate template = new PerBrokerConfigurationTemplate();
         List<ConfigMap> configMaps = new ArrayList<>();
 
         for (KafkaPool pool : nodePools)    {
+            List<VolumeMount> dataVolumeMounts = VolumeUtils.createVolumeMounts(pool.storage, DATA_VOLUME_MOUNT_PATH, false);
+
             for (NodeRef node : pool.nodes())   {
                 Map<String, String> data = new HashMap<>(4);
 
@@ -1666,12 +1664,13 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
                 }
 
                 data.put(logging.configMapKey(), parsedLogging);
-                data.put(BROKER_CONFIGURATION_FILENAME, generatePerBrokerBrokerConfiguration(node, pool, advertisedHostnames, advertisedPorts));
-                // List of configured listeners => StrimziPodSets still need this because of OAUTH and how the OAUTH secret
-                // environment variables are parsed in the container bash scripts
-                data.put(BROKER_LISTENERS_FILENAME, listeners.stream().map(ListenersUtils::envVarIdentifier).collect(Collectors.joining(" ")));
+                data.put(BROKER_CONFIGURATION_FILENAME, generatePerBrokerBrokerConfiguration(template, node, pool, dataVolumeMounts, advertisedHostnames, advertisedPorts));
+                data.put(BROKER_LISTENERS_FILENAME, listenersConfig);
 
-                configMaps.add(ConfigMapUtils.createConfigMap(node.podName(), namespace, pool.labels.withStrimziPodName(node.podName()), pool.ownerReference, data));
+                ConfigMap cm = ConfigMapUtils.createConfigMap(node.podName(), namespace, pool.labels.withStrimziPodName(node.podName()), pool.ownerReference, data);
+                cm.getMetadata().getAnnotations().put(ANNO_STRIMZI_CONFIG_MAP_HASH, ConfigMapUtils.contentHash(cm));
+
+                configMaps.add(cm);
 
             }
         }
@@ -1679,6 +1678,61 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
         return configMaps;
     }
 
+    /**
+     * Template of the per-broker configuration. Most of the per-broker configuration is the same for all nodes or at
+     * least for all nodes with the same roles. The template renders these parts only once and caches them, so that
+     * only the node-specific parts are rendered for each node. This makes the generation of the per-broker
+     * configurations of large clusters significantly cheaper. The template should be used only for a single
+     * generation of the per-broker configurations and not kept between reconciliations.
+     */
+    private class PerBrokerConfigurationTemplate {
+        private final Map<Set<ProcessRoles>, String> clusterConfigurations = new HashMap<>(2);
+        private final Map<Boolean, String> sharedConfigurations = new HashMap<>(2);
+        private Set<NodeRef> nodes;
+
+        /**
+         * Returns the cluster configuration (KRaft or ZooKeeper) for a node with given roles. In KRaft mode, the
+         * configuration includes the process roles and the controller quorum.
+         *
+         * @param processRoles  Process roles of the node
+         *
+         * @return  Fragment with the cluster configuration
+         */
+        String clusterConfiguration(Set<ProcessRoles> processRoles)    {
+            return clusterConfigurations.computeIfAbsent(useKRaft ? processRoles : Set.of(), roles -> {
+                if (useKRaft) {
+                    if (nodes == null)  {
+                        nodes = nodes();
+                    }
+
+                    return KafkaBrokerConfigurationBuilder.fragment(reconciliation, true)
+                            .withKRaft(cluster, namespace, roles, nodes)
+                            .build();
+                } else {
+                    return KafkaBrokerConfigurationBuilder.fragment(reconciliation, false)
+                            .withZookeeper(cluster)
+                            .build();
+                }
+            });
+        }
+
+        /**
+         * Returns the configuration shared by all brokers or all controllers. This includes the authorization, the
+         * Cruise Control metrics reporter and the user-provided configuration.
+         *
+         * @param broker    Flag indicating whether the node is a broker
+         *
+         * @return  Fragment with the shared configuration
+         */
+        String sharedConfiguration(boolean broker)  {
+            return sharedConfigurations.computeIfAbsent(broker, isBroker -> KafkaBrokerConfigurationBuilder.fragment(reconciliation, useKRaft)
+                    .withAuthorization(cluster, authorization)
+                    .withCruiseControl(cluster, ccMetricsReporter, isBroker)
+                    .withUserConfiguration(configuration, isBroker && ccMetricsReporter != null)
+                    .build());
+        }
+    }
+
     /**
      * @return  Kafka version
      */
@@ -17,6 +17,7 @@ import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.model.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedNamespacedResourceOperator;
@@ -72,7 +73,28 @@ public abstract class AbstractAssemblyOperator<C extends KubernetesClient, T ext
                                        AbstractWatchableStatusedNamespacedResourceOperator<C, T, L, R> resourceOperator,
                                        ResourceOperatorSupplier supplier,
                                        ClusterOperatorConfig config) {
-        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector());
+        this(vertx, pfa, kind, certManager, passwordGenerator, resourceOperator, supplier, config,
+                new OperatorMetricsHolder(kind, config.getCustomResourceSelector(), supplier.metricsProvider));
+    }
+
+    /**
+     * @param vertx The Vertx instance
+     * @param pfa Properties with features availability
+     * @param kind The kind of watched resource
+     * @param certManager Certificate manager
+     * @param passwordGenerator Password generator
+     * @param resourceOperator For operating on the desired resource
+     * @param supplier Supplies the operators for different resources
+     * @param config ClusterOperator configuration. Used to get the user-configured image pull policy and the secrets.
+     * @param metrics Specialized metrics holder used by this operator
+     */
+    protected AbstractAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa, String kind,
+                                       CertManager certManager, PasswordGenerator passwordGenerator,
+                                       AbstractWatchableStatusedNamespacedResourceOperator<C, T, L, R> resourceOperator,
+                                       ResourceOperatorSupplier supplier,
+                                       ClusterOperatorConfig config,
+                                       OperatorMetricsHolder metrics) {
+        super(vertx, kind, resourceOperator, metrics, config.getCustomResourceSelector());
         this.pfa = pfa;
         this.certManager = certManager;
         this.passwordGenerator = passwordGenerator;
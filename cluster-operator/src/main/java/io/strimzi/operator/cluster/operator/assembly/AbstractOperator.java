@@ -15,6 +15,7 @@ import io.strimzi.api.kafka.model.Spec;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.api.kafka.model.status.Status;
+import io.strimzi.operator.cluster.leaderelection.ShardOwnership;
 import io.strimzi.operator.common.model.InvalidResourceException;
 import io.strimzi.operator.common.model.StatusDiff;
 import io.strimzi.operator.common.Annotations;
@@ -25,6 +26,7 @@ import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.VertxUtil;
+import io.strimzi.operator.common.jfr.ReconciliationEvent;
 import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
@@ -39,6 +41,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.shareddata.Lock;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -90,6 +93,8 @@ public abstract class AbstractOperator<
 
     private final Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
 
+    private volatile ShardOwnership shardOwnership;
+
     /**
      * Constructs the AbstractOperator. This constructor is used to construct the AbstractOperator using the
      * OperatorMetricsHolder instance. This constructor is used by subclasses which want to use specialized metrics
@@ -134,6 +139,16 @@ public abstract class AbstractOperator<
         return metrics;
     }
 
+    /**
+     * Restricts this operator to the custom resources from the shards owned by this operator instance. This is used
+     * when the sharded leader election is enabled. Without the shard ownership, all custom resources are reconciled.
+     *
+     * @param shardOwnership    Shard ownership of this operator instance or null to reconcile all custom resources
+     */
+    public void setShardOwnership(ShardOwnership shardOwnership) {
+        this.shardOwnership = shardOwnership;
+    }
+
     /**
      * Gets the name of the lock to be used for operating on the given {@code namespace} and
      * cluster {@code name}
@@ -182,17 +197,25 @@ public abstract class AbstractOperator<
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
+        if (shardOwnership != null && !shardOwnership.owns(namespace, name)) {
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} belongs to a shard owned by another operator instance and will be ignored", kind(), name, namespace);
+            return Future.succeededFuture();
+        }
+
         metrics().reconciliationsCounter(reconciliation.namespace()).increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
+        ReconciliationEvent reconciliationEvent = ReconciliationEvent.begin(reconciliation);
 
         Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () ->
             resourceOperator.getAsync(namespace, name)
                 .compose(cr -> cr != null ? reconcileResource(reconciliation, cr) : reconcileDeletion(reconciliation)));
 
         Promise<Void> result = Promise.promise();
-        handler.onComplete(reconcileResult ->
+        handler.onComplete(reconcileResult -> {
+            reconciliationEvent.end(reconcileResult.succeeded());
             callSafely(reconciliation, () -> handleResult(reconciliation, reconcileResult, reconciliationTimerSample))
-                .onComplete(handleSafely(reconciliation, ignored -> result.handle(reconcileResult))));
+                .onComplete(handleSafely(reconciliation, ignored -> result.handle(reconcileResult)));
+        });
 
         return result.future();
     }
@@ -373,11 +396,19 @@ public abstract class AbstractOperator<
      */
     static class UnableToAcquireLockException extends TimeoutException { }
 
+    /**
+     * The exception by which Futures returned by {@link #withLock(Reconciliation, long, Callable)} are failed when
+     * the resource belongs to a shard which is not owned by this operator instance anymore.
+     */
+    static class ShardNotOwnedException extends RuntimeException { }
+
     /**
      * Acquire the lock for the resource implied by the {@code reconciliation}
      * and call the given {@code callable} with the lock held.
      * Once the callable returns (or if it throws) release the lock and complete the returned Future.
      * If the lock cannot be acquired the given {@code callable} is not called and the returned Future is completed with {@link UnableToAcquireLockException}.
+     * If the resource belongs to a shard which is not owned by this operator instance, the given {@code callable} is
+     * not called either and the returned Future is completed with {@link ShardNotOwnedException}.
      *
      * @param reconciliation    Reconciliation marker
      * @param callable          Function which will be called when the lock is acquired
@@ -391,18 +422,33 @@ public abstract class AbstractOperator<
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
         final String lockName = getLockName(namespace, name);
+        final ShardOwnership ownership = shardOwnership;
         LOGGER.debugCr(reconciliation, "Try to acquire lock {}", lockName);
         vertx.sharedData().getLockWithTimeout(lockName, lockTimeoutMs, res -> {
             if (res.succeeded()) {
                 LOGGER.debugCr(reconciliation, "Lock {} acquired", lockName);
 
                 Lock lock = res.result();
+
+                if (ownership != null && !ownership.tryStartReconciliation(namespace, name)) {
+                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} belongs to a shard owned by another operator instance", kind(), name, namespace);
+                    lock.release();
+                    handler.fail(new ShardNotOwnedException());
+                    return;
+                }
+
                 long timerId = vertx.setPeriodic(PROGRESS_WARNING, timer -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"));
 
                 callSafely(reconciliation, callable)
                     .onSuccess(handleSafely(reconciliation, handler::complete))
                     .onFailure(handleSafely(reconciliation, handler::fail))
-                    .eventually(ignored -> releaseLockAndTimer(reconciliation, lock, lockName, timerId));
+                    .eventually(ignored -> {
+                        if (ownership != null) {
+                            ownership.endReconciliation(namespace, name);
+                        }
+
+                        return releaseLockAndTimer(reconciliation, lock, lockName, timerId);
+                    });
             } else {
                 LOGGER.debugCr(reconciliation, "Failed to acquire lock {} within {}ms.", lockName, lockTimeoutMs);
                 handler.fail(new UnableToAcquireLockException());
@@ -467,10 +513,43 @@ public abstract class AbstractOperator<
         return Future.succeededFuture();
     }
 
+    /**
+     * Reconciles the custom resources from a shard which was just acquired by this operator instance. Unlike
+     * {@link #reconcileAll(String, String, Handler)}, it reconciles only the resources from the given shard and does
+     * not reset the resource metrics.
+     *
+     * @param trigger       The cause of this reconciliation (for logging)
+     * @param namespace     The namespace to reconcile, or {@code *} to reconcile across all namespaces
+     * @param shard         The acquired shard
+     *
+     * @return  Future which completes when all resources from the shard are reconciled
+     */
+    public Future<Void> reconcileShard(String trigger, String namespace, int shard) {
+        ShardOwnership ownership = shardOwnership;
+
+        if (ownership == null) {
+            return Future.succeededFuture();
+        }
+
+        return allResourceNames(namespace)
+                .compose(names -> {
+                    List<Future<Void>> futures = new ArrayList<>();
+
+                    for (NamespaceAndName resourceRef : names) {
+                        if (ownership.shard(resourceRef.getNamespace(), resourceRef.getName()) == shard) {
+                            futures.add(reconcile(new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName())));
+                        }
+                    }
+
+                    return Future.join(futures).map((Void) null);
+                });
+    }
+
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
         return resourceOperator.listAsync(namespace, selector())
                 .map(resourceList ->
                         resourceList.stream()
+                                .filter(resource -> shardOwnership == null || shardOwnership.owns(resource.getMetadata().getNamespace(), resource.getMetadata().getName()))
                                 .map(resource -> new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName()))
                                 .collect(Collectors.toSet()));
     }
@@ -507,6 +586,7 @@ public abstract class AbstractOperator<
 
         switch (action) {
             case ADDED, DELETED, MODIFIED -> {
+                resourceOperator.recordWatchEvent(action, resource);
                 Reconciliation reconciliation = new Reconciliation("watch", this.kind(), namespace, name);
                 LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", this.kind(), name, namespace, action);
                 reconcile(reconciliation);
@@ -550,6 +630,8 @@ public abstract class AbstractOperator<
             } else if (cause instanceof UnableToAcquireLockException) {
                 metrics().lockedReconciliationsCounter(reconciliation.namespace()).increment();
                 handlingResult.complete();
+            } else if (cause instanceof ShardNotOwnedException) {
+                handlingResult.complete();
             } else {
                 updateResourceState(reconciliation, false, cause).onComplete(stateUpdateResult -> {
                     metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
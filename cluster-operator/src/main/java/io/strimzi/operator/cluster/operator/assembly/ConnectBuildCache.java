@@ -0,0 +1,147 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed cache of the Kafka Connect builds shared by the KafkaConnect resources. The builds are keyed by
+ * the namespace, the output and the build revision which is derived from the hash of the generated Dockerfile
+ * (including the base image) and of the output image. KafkaConnect resources with identical build configuration in
+ * the same namespace reuse the image which was already built instead of running their own build. The cache holds the
+ * futures of the builds, so the builds still in progress are shared as well and concurrent identical builds are
+ * coalesced into a single build.
+ *
+ * Failed builds are removed from the cache so that they can be retried. The cache is bounded and evicts the least
+ * recently used builds. The completed builds also expire after a configured time, because the built image might be
+ * removed from the registry in the meantime.
+ */
+class ConnectBuildCache {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ConnectBuildCache.class.getName());
+
+    private final Map<String, CachedBuild> builds;
+    private final long expirationMs;
+    private final Clock clock;
+
+    /**
+     * Constructs the cache
+     *
+     * @param maxSize       Maximal number of builds kept in the cache
+     * @param expirationMs  Time in milliseconds after which the completed builds expire
+     */
+    ConnectBuildCache(int maxSize, long expirationMs) {
+        this(maxSize, expirationMs, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs the cache
+     *
+     * @param maxSize       Maximal number of builds kept in the cache
+     * @param expirationMs  Time in milliseconds after which the completed builds expire
+     * @param clock         Clock used to expire the builds
+     */
+    ConnectBuildCache(int maxSize, long expirationMs, Clock clock) {
+        this.expirationMs = expirationMs;
+        this.clock = clock;
+        this.builds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedBuild> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached build for given key or runs a new build and caches it. When the rebuild is forced, the
+     * cached build is ignored and replaced with the new build.
+     *
+     * @param reconciliation    The reconciliation
+     * @param key               Key of the build
+     * @param forceRebuild      If true, the cached build is not used and a new build is always started
+     * @param build             Supplier which starts a new build and returns a future completing with the built image
+     *
+     * @return  Future which completes with the built image
+     */
+    synchronized Future<String> getOrBuild(Reconciliation reconciliation, String key, boolean forceRebuild, Supplier<Future<String>> build)   {
+        removeExpired();
+        CachedBuild cached = builds.get(key);
+
+        if (cached != null && !cached.build.failed() && !forceRebuild) {
+            LOGGER.infoCr(reconciliation, "Build {} was already {} and will be reused", key, cached.build.isComplete() ? "completed" : "started");
+            return cached.build;
+        }
+
+        Future<String> result = build.get();
+        CachedBuild newBuild = new CachedBuild(result);
+        builds.put(key, newBuild);
+        result.onSuccess(image -> completed(newBuild))
+                .onFailure(e -> remove(key, newBuild));
+
+        return result;
+    }
+
+    /**
+     * Removes the completed builds which expired. The builds in progress never expire.
+     */
+    private void removeExpired()    {
+        long now = clock.millis();
+        Iterator<CachedBuild> it = builds.values().iterator();
+
+        while (it.hasNext())    {
+            CachedBuild cached = it.next();
+
+            if (cached.completedAt >= 0 && now - cached.completedAt >= expirationMs)  {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Marks the build as completed to start its expiration
+     *
+     * @param cached    The completed build
+     */
+    private synchronized void completed(CachedBuild cached)   {
+        cached.completedAt = clock.millis();
+    }
+
+    /**
+     * Removes the build from the cache if it is still cached under given key
+     *
+     * @param key       Key of the build
+     * @param result    Build which should be removed
+     */
+    private synchronized void remove(String key, CachedBuild result)   {
+        builds.remove(key, result);
+    }
+
+    /**
+     * @return  The number of cached builds
+     */
+    synchronized int size()  {
+        removeExpired();
+        return builds.size();
+    }
+
+    /**
+     * Build held in the cache together with the time when it completed
+     */
+    private static class CachedBuild {
+        private final Future<String> build;
+        private long completedAt = -1;
+
+        CachedBuild(Future<String> build) {
+            this.build = build;
+        }
+    }
+}
@@ -8,9 +8,8 @@ import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ContainerStateTerminated;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
-import io.fabric8.kubernetes.api.model.Pod;
-import io.fabric8.openshift.api.model.Build;
 import io.strimzi.api.kafka.model.KafkaConnectResources;
+import io.strimzi.api.kafka.model.connect.build.DockerOutput;
 import io.strimzi.api.kafka.model.connect.build.Output;
 import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
@@ -33,13 +32,23 @@ import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
 import io.vertx.core.Future;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
- * Manages the Kafka Connect Build
+ * Manages the Kafka Connect Build. The completion of the builds is detected using watches on the builder Pod or Build
+ * instead of polling them. When background builds are enabled, the reconciliation does not wait for the build to
+ * finish. It returns a build info marked as in progress instead and the completion handler is called once the build
+ * finishes so that the KafkaConnect resource can be reconciled again. The builds are shared between the KafkaConnect
+ * resources with the same build configuration using the build cache.
  */
 public class ConnectBuildOperator {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ConnectBuildOperator.class.getName());
+    private static final int BUILD_CACHE_SIZE = 100;
+    private static final long BUILD_CACHE_EXPIRATION_MS = 24 * 60 * 60 * 1_000L;
 
     private final ImageStreamOperator imageStreamOperations;
     private final PodOperator podOperator;
@@ -52,15 +61,21 @@ public class ConnectBuildOperator {
     private final List<LocalObjectReference> imagePullSecrets;
     private final long connectBuildTimeoutMs;
     private final PlatformFeaturesAvailability pfa;
+    private final boolean buildInBackground;
+    private final Consumer<Reconciliation> backgroundBuildCompletionHandler;
+    private final Map<String, BackgroundBuild> backgroundBuilds = new ConcurrentHashMap<>();
+    private final ConnectBuildCache buildCache = new ConnectBuildCache(BUILD_CACHE_SIZE, BUILD_CACHE_EXPIRATION_MS);
 
     /**
      * Constructor
      *
-     * @param pfa       Describes the features available in the Kubernetes cluster
-     * @param supplier  Resource operator supplier
-     * @param config    Cluster operator configuration
+     * @param pfa                                   Describes the features available in the Kubernetes cluster
+     * @param supplier                              Resource operator supplier
+     * @param config                                Cluster operator configuration
+     * @param backgroundBuildCompletionHandler      Handler called with the reconciliation which started the background
+     *                                              build once the build finishes
      */
-    public ConnectBuildOperator(PlatformFeaturesAvailability pfa, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
+    public ConnectBuildOperator(PlatformFeaturesAvailability pfa, ResourceOperatorSupplier supplier, ClusterOperatorConfig config, Consumer<Reconciliation> backgroundBuildCompletionHandler) {
         this.imageStreamOperations = supplier.imageStreamOperations;
         this.podOperator = supplier.podOperations;
         this.configMapOperations = supplier.configMapOperations;
@@ -72,6 +87,8 @@ public class ConnectBuildOperator {
         this.imagePullSecrets = config.getImagePullSecrets();
         this.connectBuildTimeoutMs = config.getConnectBuildTimeoutMs();
         this.pfa = pfa;
+        this.buildInBackground = config.isConnectBuildInBackground();
+        this.backgroundBuildCompletionHandler = backgroundBuildCompletionHandler;
     }
 
     /**
@@ -88,6 +105,7 @@ public class ConnectBuildOperator {
     public Future<BuildInfo> reconcile(Reconciliation reconciliation, String namespace, HasMetadata controllerResource, KafkaConnectBuild connectBuild) {
         if (connectBuild.getBuild() == null) {
             // Build is not configured => we should delete resources
+            backgroundBuilds.remove(namespace + "/" + connectBuild.getCluster());
             return configMapOperations.reconcile(reconciliation, namespace, KafkaConnectResources.dockerFileConfigMapName(connectBuild.getCluster()), null)
                     .compose(ignore -> podOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildPodName(connectBuild.getCluster()), null))
                     .compose(ignore -> serviceAccountOperations.reconcile(reconciliation, namespace, KafkaConnectResources.buildServiceAccountName(connectBuild.getCluster()), null))
@@ -133,15 +151,86 @@ public class ConnectBuildOperator {
             return Future.succeededFuture(new BuildInfo(currentImage, newBuildRevision));
         } else if (pfa.supportsS2I()) {
             // Revisions differ, and we have S2I support => we are on OpenShift and should do a build
-            return openShiftBuild(reconciliation, namespace, connectBuild, forceRebuild, dockerfile, newBuildRevision)
-                    .compose(image -> Future.succeededFuture(new BuildInfo(image, newBuildRevision)));
+            return runBuild(reconciliation, connectBuild, forceRebuild, newBuildRevision,
+                    force -> buildCache.getOrBuild(reconciliation, buildCacheKey(namespace, connectBuild, newBuildRevision), force,
+                            () -> openShiftBuild(reconciliation, namespace, connectBuild, force, dockerfile, newBuildRevision)));
         } else {
             // Revisions differ, and no S2I support => we are on Kubernetes and should do a build
-            return kubernetesBuild(reconciliation, namespace, connectBuild, forceRebuild, dockerFileConfigMap, newBuildRevision)
-                    .compose(image -> Future.succeededFuture(new BuildInfo(image, newBuildRevision)));
+            return runBuild(reconciliation, connectBuild, forceRebuild, newBuildRevision,
+                    force -> buildCache.getOrBuild(reconciliation, buildCacheKey(namespace, connectBuild, newBuildRevision), force,
+                            () -> kubernetesBuild(reconciliation, namespace, connectBuild, force, dockerFileConfigMap, newBuildRevision)));
         }
     }
 
+    /**
+     * Generates the key of the build in the build cache. The build revision identifies the Dockerfile and the output
+     * image. The builds use the push secret and the ImageStreams from the namespace of the Connect cluster. So the
+     * namespace and the output are part of the key as well and the builds are never shared across namespaces.
+     *
+     * @param namespace         Namespace of the Connect cluster
+     * @param connectBuild      KafkaConnectBuild object
+     * @param buildRevision     Build revision (hash of the Dockerfile and of the output image)
+     *
+     * @return  Key of the build in the build cache
+     */
+    /* test */ static String buildCacheKey(String namespace, KafkaConnectBuild connectBuild, String buildRevision)    {
+        Output output = connectBuild.getBuild().getOutput();
+        String pushSecret = output instanceof DockerOutput dockerOutput ? dockerOutput.getPushSecret() : null;
+
+        return namespace + "/" + output.getType() + "/" + output.getImage() + "/" + pushSecret + "/" + buildRevision;
+    }
+
+    /**
+     * Runs the build either in the foreground or in the background. In the foreground, the returned future completes
+     * once the build finishes. In the background, the build is started (or an already running build with the same
+     * revision is reused) and the returned future completes right away with build info marked as in progress. Once the
+     * background build finishes, the completion handler is called and the next reconciliation picks up its result.
+     *
+     * @param reconciliation        The reconciliation
+     * @param connectBuild          KafkaConnectBuild object
+     * @param forceRebuild          If true, force a new build even if one is already in progress
+     * @param newBuildRevision      New build revision (hash of the Dockerfile)
+     * @param build                 Function which starts the build (forced or not) and returns a future completing
+     *                              with the built image
+     *
+     * @return  Future with the build info
+     */
+    private Future<BuildInfo> runBuild(Reconciliation reconciliation, KafkaConnectBuild connectBuild, boolean forceRebuild, String newBuildRevision, Function<Boolean, Future<String>> build)  {
+        if (!buildInBackground) {
+            return build.apply(forceRebuild).map(image -> new BuildInfo(image, newBuildRevision));
+        }
+
+        String key = reconciliation.namespace() + "/" + connectBuild.getCluster();
+        BackgroundBuild existing = backgroundBuilds.get(key);
+
+        // The build forced by the annotation is reused as well because the annotation is removed only once the new
+        // image is rolled out
+        if (existing != null
+                && newBuildRevision.equals(existing.buildRevision())
+                && (!forceRebuild || existing.forced())) {
+            if (existing.result().isComplete()) {
+                // The background build finished => we collect its result
+                backgroundBuilds.remove(key, existing);
+                return existing.result().map(image -> new BuildInfo(image, newBuildRevision));
+            } else {
+                LOGGER.debugCr(reconciliation, "Build with revision {} is still running in the background", newBuildRevision);
+                return Future.succeededFuture(BuildInfo.inProgress(newBuildRevision));
+            }
+        }
+
+        LOGGER.infoCr(reconciliation, "Running the build with revision {} in the background", newBuildRevision);
+        BackgroundBuild backgroundBuild = new BackgroundBuild(newBuildRevision, forceRebuild, build.apply(forceRebuild));
+        backgroundBuilds.put(key, backgroundBuild);
+        backgroundBuild.result().onComplete(res -> {
+            if (backgroundBuilds.get(key) == backgroundBuild) {
+                LOGGER.infoCr(reconciliation, "Background build with revision {} finished", newBuildRevision);
+                backgroundBuildCompletionHandler.accept(reconciliation);
+            }
+        });
+
+        return Future.succeededFuture(BuildInfo.inProgress(newBuildRevision));
+    }
+
     /**
      * Executes the Kafka Connect Build on Kubernetes. Run only if needed because of changes to the Dockerfile or when
      * triggered by annotation.
@@ -209,19 +298,6 @@ public class ConnectBuildOperator {
                 .mapEmpty();
     }
 
-    /**
-     * Checks if the builder Pod finished the build
-     *
-     @param namespace               Namespace of the Connect cluster
-     * @param podName               The name of the Pod which should be checked whether it finished
-     *
-     * @return                      True if the build already finished, false if it is still building
-     */
-    private boolean kubernetesBuildPodFinished(String namespace, String podName, String containerName)   {
-        Pod buildPod = podOperator.get(namespace, podName);
-        return KafkaConnectBuildUtils.buildPodComplete(buildPod, containerName);
-    }
-
     /**
      * Waits for the Kafka Connect build to finish and collects the results from it
      *
@@ -235,8 +311,7 @@ public class ConnectBuildOperator {
         String buildPodName = KafkaConnectResources.buildPodName(connectBuild.getCluster());
         String containerName = KafkaConnectBuildUtils.getBuildContainerName(connectBuild.getCluster(), pfa.isOpenshift());
 
-        return podOperator.waitFor(reconciliation, namespace, buildPodName, "complete", 1_000, connectBuildTimeoutMs, (ignore1, ignore2) -> kubernetesBuildPodFinished(namespace, buildPodName, containerName))
-                .compose(ignore -> podOperator.getAsync(namespace, buildPodName))
+        return podOperator.waitForResource(reconciliation, namespace, buildPodName, "complete", connectBuildTimeoutMs, pod -> KafkaConnectBuildUtils.buildPodComplete(pod, containerName))
                 .compose(pod -> {
                     if (KafkaConnectBuildUtils.buildPodSucceeded(pod, containerName)) {
                         ContainerStateTerminated state = KafkaConnectBuildUtils.getConnectBuildContainerStateTerminated(pod, containerName);
@@ -345,19 +420,6 @@ public class ConnectBuildOperator {
         return Future.succeededFuture();
     }
 
-    /**
-     * Checks if the Build finished
-     *
-     * @param namespace             Namespace of the Connect cluster
-     * @param buildName             Name of the Build which should be checked
-     *
-     * @return                      True if the Build already finished, false if it is still building
-     */
-    private boolean openShiftBuildFinished(String namespace, String buildName) {
-        Build runningBuild = buildOperator.get(namespace, buildName);
-        return KafkaConnectBuildUtils.buildComplete(runningBuild);
-    }
-
     /**
      * Waits for the Kafka Connect build to finish and collects the results from it
      *
@@ -368,8 +430,7 @@ public class ConnectBuildOperator {
      * @return                      Future which completes with the built image when the build is finished (or fails if it fails)
      */
     private Future<String> openShiftBuildWaitForFinish(Reconciliation reconciliation, String namespace, String buildName)   {
-        return buildOperator.waitFor(reconciliation, namespace, buildName, "complete", 1_000, connectBuildTimeoutMs, (ignore1, ignore2) -> openShiftBuildFinished(namespace, buildName))
-                .compose(ignore -> buildOperator.getAsync(namespace, buildName))
+        return buildOperator.waitForResource(reconciliation, namespace, buildName, "complete", connectBuildTimeoutMs, KafkaConnectBuildUtils::buildComplete)
                 .compose(build -> {
                     if (KafkaConnectBuildUtils.buildSucceeded(build))   {
                         // Build completed successfully. Let's extract the new image
@@ -404,6 +465,27 @@ public class ConnectBuildOperator {
 
     /**
      * Utility class to return the information about the Kafka Connect Build.
+     *
+     * @param image             The built container image (null when the build is still in progress)
+     * @param buildRevision     The revision of the build
+     * @param inProgress        Indicates that the build is still running in the background
+     */
+    record BuildInfo(String image, String buildRevision, boolean inProgress) {
+        BuildInfo(String image, String buildRevision) {
+            this(image, buildRevision, false);
+        }
+
+        static BuildInfo inProgress(String buildRevision) {
+            return new BuildInfo(null, buildRevision, true);
+        }
+    }
+
+    /**
+     * Build running in the background
+     *
+     * @param buildRevision     The revision of the build
+     * @param forced            Indicates whether the build was forced using the annotation
+     * @param result            Future which completes with the built image once the build finishes
      */
-    record BuildInfo(String image, String buildRevision) { }
+    record BackgroundBuild(String buildRevision, boolean forced, Future<String> result) { }
 }
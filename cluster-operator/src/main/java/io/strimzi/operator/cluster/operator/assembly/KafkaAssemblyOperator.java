@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.KafkaNodePoolList;
 import io.strimzi.api.kafka.model.Constants;
@@ -63,6 +64,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 /**
@@ -124,7 +126,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                  CertManager certManager, PasswordGenerator passwordGenerator,
                                  ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
         super(vertx, pfa, Kafka.RESOURCE_KIND, certManager, passwordGenerator,
-                supplier.kafkaOperator, supplier, config);
+                supplier.kafkaOperator, supplier, config,
+                new KafkaAssemblyOperatorMetricsHolder(Kafka.RESOURCE_KIND, config.getCustomResourceSelector(), supplier.metricsProvider));
         this.config = config;
         this.supplier = supplier;
 
@@ -137,6 +140,16 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.clock = Clock.systemUTC();
     }
 
+    @Override
+    public KafkaAssemblyOperatorMetricsHolder metrics()   {
+        // We have to check the type because of Spotbugs
+        if (metrics instanceof KafkaAssemblyOperatorMetricsHolder) {
+            return (KafkaAssemblyOperatorMetricsHolder) metrics;
+        } else {
+            throw new RuntimeException("MetricsHolder in KafkaAssemblyOperator should be always of type KafkaAssemblyOperatorMetricsHolder");
+        }
+    }
+
     @Override
     public Future<KafkaStatus> createOrUpdate(Reconciliation reconciliation, Kafka kafkaAssembly) {
         Promise<KafkaStatus> createOrUpdatePromise = Promise.promise();
@@ -226,16 +239,20 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         reconcileState.initialStatus()
                 // Preparation steps => prepare cluster descriptions, handle CA creation or changes
-                .compose(state -> state.reconcileCas(clock))
+                .compose(state -> state.timed("cas", () -> state.reconcileCas(clock)))
                 .compose(state -> state.versionChange())
 
                 // Run reconciliations of the different components
-                .compose(state -> featureGates.useKRaftEnabled() ? Future.succeededFuture(state) : state.reconcileZooKeeper(clock))
-                .compose(state -> state.reconcileKafka(clock))
-                .compose(state -> state.reconcileEntityOperator(clock))
-                .compose(state -> state.reconcileCruiseControl(clock))
-                .compose(state -> state.reconcileKafkaExporter(clock))
-                .compose(state -> state.reconcileJmxTrans())
+                .compose(state -> featureGates.useKRaftEnabled() ? Future.succeededFuture(state) : state.timed("zookeeper", () -> state.reconcileZooKeeper(clock)))
+                .compose(state -> state.timed("kafka", () -> state.reconcileKafka(clock)))
+
+                // The remaining components depend only on the Kafka cluster and not on each other => they are reconciled concurrently
+                .compose(state -> state.reconcileConcurrently(List.of(
+                        state.timed("entity-operator", () -> state.reconcileEntityOperator(clock)),
+                        state.timed("cruise-control", () -> state.reconcileCruiseControl(clock)),
+                        state.timed("kafka-exporter", () -> state.reconcileKafkaExporter(clock)),
+                        state.timed("jmx-trans", state::reconcileJmxTrans)
+                )))
 
                 // Finish the reconciliation
                 .map((Void) null)
@@ -638,6 +655,50 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     .map(this);
         }
 
+        /**
+         * Runs the reconciliation step and records its duration in the per-component timer metric. Exceptions thrown
+         * by the step are converted to a failed future.
+         *
+         * @param component     Name of the component reconciled by this step
+         * @param step          Supplier which starts the reconciliation step
+         *
+         * @return  Future with Reconciliation State which completes when the reconciliation step completes
+         */
+        Future<ReconciliationState> timed(String component, Supplier<Future<ReconciliationState>> step)  {
+            Timer.Sample sample = Timer.start(metrics().metricsProvider().meterRegistry());
+            Future<ReconciliationState> result;
+
+            try {
+                result = step.get();
+            } catch (Throwable e)   {
+                result = Future.failedFuture(e);
+            }
+
+            return result.onComplete(i -> sample.stop(metrics().componentReconciliationsTimer(namespace, component)));
+        }
+
+        /**
+         * Waits for the reconciliation steps which run concurrently. The steps do not modify the Kafka status, so only
+         * their results have to be merged. To keep the result deterministic regardless of the order in which the steps
+         * complete, the failure of the first failed step in the order of the list is used when multiple steps fail.
+         *
+         * @param steps     List with the futures of the concurrently running reconciliation steps
+         *
+         * @return  Future with Reconciliation State which completes when all reconciliation steps complete
+         */
+        Future<ReconciliationState> reconcileConcurrently(List<Future<ReconciliationState>> steps)  {
+            return Future.join(steps)
+                    .transform(i -> {
+                        for (Future<ReconciliationState> step : steps) {
+                            if (step.failed()) {
+                                return Future.failedFuture(step.cause());
+                            }
+                        }
+
+                        return Future.succeededFuture(this);
+                    });
+        }
+
         /**
          * Provider method for Kafka Exporter reconciler. Overriding this method can be used to get mocked reconciler.
          *
@@ -775,6 +836,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        if (supplier.zookeeperLeaderFinder != null) {
+            supplier.zookeeperLeaderFinder.forgetZookeeperLeader(reconciliation.namespace(), reconciliation.name());
+        }
+
         return ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
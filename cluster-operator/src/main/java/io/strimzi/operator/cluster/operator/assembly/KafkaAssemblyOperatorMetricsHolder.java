@@ -0,0 +1,55 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Util class which holds the different metrics used by the Kafka assembly operator
+ */
+public class KafkaAssemblyOperatorMetricsHolder extends OperatorMetricsHolder {
+    private final Map<String, Timer> componentReconciliationsTimerMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the operator metrics holder for the Kafka assembly operator
+     *
+     * @param kind              Kind of the resources for which these metrics apply
+     * @param selectorLabels    Selector labels to select the controller resources
+     * @param metricsProvider   Metrics provider
+     */
+    public KafkaAssemblyOperatorMetricsHolder(String kind, Labels selectorLabels, MetricsProvider metricsProvider) {
+        super(kind, selectorLabels, metricsProvider);
+    }
+
+    /**
+     * Timer which measures how long do the reconciliations of the individual components of the Kafka cluster (such as
+     * ZooKeeper, Kafka brokers or Entity Operator) take.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param component     Name of the component
+     *
+     * @return  Metrics timer
+     */
+    public Timer componentReconciliationsTimer(String namespace, String component) {
+        return componentReconciliationsTimerMap.computeIfAbsent(namespace + "/" + component, key -> {
+            Tags tags = Tags.of(
+                    Tag.of("kind", kind),
+                    Tag.of("namespace", "*".equals(namespace) ? "" : namespace),
+                    Tag.of("selector", selectorLabels != null ? selectorLabels.toSelectorString() : ""),
+                    Tag.of("component", component)
+            );
+
+            return metricsProvider.timer(METRICS_PREFIX + "reconciliations.component.duration", "The time the reconciliation of the individual component takes to complete", tags);
+        });
+    }
+}
@@ -20,6 +20,8 @@ import io.strimzi.api.kafka.model.KafkaConnectSpec;
 import io.strimzi.api.kafka.model.KafkaConnector;
 import io.strimzi.api.kafka.model.StrimziPodSet;
 import io.strimzi.api.kafka.model.authentication.KafkaClientAuthentication;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.api.kafka.model.status.KafkaConnectStatus;
 import io.strimzi.api.kafka.model.status.KafkaConnectorStatus;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
@@ -50,6 +52,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -114,7 +117,52 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                                         Function<Vertx, KafkaConnectApi> connectClientProvider, int port) {
         super(vertx, pfa, KafkaConnect.RESOURCE_KIND, supplier.connectOperator, supplier, config, connectClientProvider, port);
 
-        this.connectBuildOperator = new ConnectBuildOperator(pfa, supplier, config);
+        this.connectBuildOperator = new ConnectBuildOperator(pfa, supplier, config,
+                buildReconciliation -> reconcile(new Reconciliation("connect-build", kind(), buildReconciliation.namespace(), buildReconciliation.name())));
+    }
+
+    /**
+     * @return  Condition indicating that the Kafka Connect build is running in the background
+     */
+    private static Condition buildingCondition()   {
+        return new ConditionBuilder()
+                .withLastTransitionTime(StatusUtils.iso8601Now())
+                .withType("Building")
+                .withStatus("True")
+                .withReason("ConnectBuildInProgress")
+                .withMessage("The Kafka Connect build is running in the background")
+                .build();
+    }
+
+    /**
+     * Merges the Building condition with the other conditions. The conditions added by the current reconciliation
+     * (such as warnings) are kept. The Ready or NotReady condition from the previous reconciliation is kept as well,
+     * because the running Connect cluster is not changed until the build finishes. An existing Building condition is
+     * reused to keep its last transition time.
+     *
+     * @param kafkaConnect  The reconciled KafkaConnect resource
+     * @param status        The status from the current reconciliation
+     *
+     * @return  List with the merged conditions
+     */
+    /* test */ static List<Condition> buildingConditions(KafkaConnect kafkaConnect, KafkaConnectStatus status)   {
+        List<Condition> previousConditions = kafkaConnect.getStatus() != null && kafkaConnect.getStatus().getConditions() != null
+                ? kafkaConnect.getStatus().getConditions() : List.of();
+        List<Condition> conditions = new ArrayList<>();
+
+        conditions.add(previousConditions.stream()
+                .filter(condition -> "Building".equals(condition.getType()))
+                .findFirst()
+                .orElseGet(KafkaConnectAssemblyOperator::buildingCondition));
+        previousConditions.stream()
+                .filter(condition -> "Ready".equals(condition.getType()) || "NotReady".equals(condition.getType()))
+                .forEach(conditions::add);
+
+        if (status.getConditions() != null) {
+            conditions.addAll(status.getConditions());
+        }
+
+        return conditions;
     }
 
     @Override
@@ -142,6 +190,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
         final AtomicReference<String> desiredLogging = new AtomicReference<>();
         final AtomicReference<Deployment> deployment = new AtomicReference<>();
         final AtomicReference<StrimziPodSet> podSet = new AtomicReference<>();
+        final AtomicBoolean buildInProgress = new AtomicBoolean(false);
         String initCrbName = KafkaConnectResources.initContainerClusterRoleBindingName(kafkaConnect.getMetadata().getName(), namespace);
         ClusterRoleBinding initCrb = connect.generateClusterRoleBinding();
 
@@ -154,62 +203,78 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                 .compose(i -> manualRollingUpdate(reconciliation, connect))
                 .compose(i -> connectBuildOperator.reconcile(reconciliation, namespace, activeController(deployment.get(), podSet.get()), build))
                 .compose(buildInfo -> {
+                    if (buildInfo != null && buildInfo.inProgress()) {
+                        // The build is running in the background => the rest of the reconciliation will be done once
+                        // it finishes
+                        LOGGER.infoCr(reconciliation, "Kafka Connect build is running in the background. The Kafka Connect cluster will be updated once it finishes.");
+                        buildInProgress.set(true);
+                        return Future.succeededFuture();
+                    }
+
                     if (buildInfo != null) {
                         podAnnotations.put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, buildInfo.buildRevision());
                         controllerAnnotations.put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, buildInfo.buildRevision());
                         controllerAnnotations.put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, buildInfo.image());
                         image.set(buildInfo.image());
                     }
-                    return Future.succeededFuture();
-                })
-                .compose(i -> serviceOperations.reconcile(reconciliation, namespace, connect.getServiceName(), connect.generateService()))
-                .compose(i -> serviceOperations.reconcile(reconciliation, namespace, connect.getComponentName(), stableIdentities ? connect.generateHeadlessService() : null))
-                .compose(i -> generateMetricsAndLoggingConfigMap(reconciliation, namespace, connect))
-                .compose(logAndMetricsConfigMap -> {
-                    String logging = logAndMetricsConfigMap.getData().get(connect.logging().configMapKey());
-                    podAnnotations.put(Annotations.ANNO_STRIMZI_LOGGING_APPENDERS_HASH, Util.hashStub(Util.getLoggingDynamicallyUnmodifiableEntries(logging)));
-                    desiredLogging.set(logging);
-                    return configMapOperations.reconcile(reconciliation, namespace, logAndMetricsConfigMap.getMetadata().getName(), logAndMetricsConfigMap);
-                })
-                .compose(i -> ReconcilerUtils.reconcileJmxSecret(reconciliation, secretOperations, connect))
-                .compose(i -> podDisruptionBudgetOperator.reconcile(reconciliation, namespace, connect.getComponentName(), connect.generatePodDisruptionBudget(stableIdentities)))
-                .compose(i -> generateAuthHash(namespace, kafkaConnect.getSpec()))
-                .compose(hash -> {
-                    podAnnotations.put(Annotations.ANNO_STRIMZI_AUTH_HASH, Integer.toString(hash));
-                    return Future.succeededFuture();
-                })
-                .compose(i -> {
-                    KafkaConnectMigration migration = new KafkaConnectMigration(
-                            reconciliation,
-                            connect,
-                            controllerAnnotations,
-                            podAnnotations,
-                            operationTimeoutMs,
-                            pfa.isOpenshift(),
-                            imagePullPolicy,
-                            imagePullSecrets,
-                            image.get(),
-                            deploymentOperations,
-                            podSetOperations,
-                            podOperations
-                    );
-
-                    if (stableIdentities)   {
-                        return migration.migrateFromDeploymentToStrimziPodSets(deployment.get(), podSet.get());
-                    } else {
-                        return migration.migrateFromStrimziPodSetsToDeployment(deployment.get(), podSet.get());
-                    }
+
+                    return serviceOperations.reconcile(reconciliation, namespace, connect.getServiceName(), connect.generateService())
+                            .compose(i -> serviceOperations.reconcile(reconciliation, namespace, connect.getComponentName(), stableIdentities ? connect.generateHeadlessService() : null))
+                            .compose(i -> generateMetricsAndLoggingConfigMap(reconciliation, namespace, connect))
+                            .compose(logAndMetricsConfigMap -> {
+                                String logging = logAndMetricsConfigMap.getData().get(connect.logging().configMapKey());
+                                podAnnotations.put(Annotations.ANNO_STRIMZI_LOGGING_APPENDERS_HASH, Util.hashStub(Util.getLoggingDynamicallyUnmodifiableEntries(logging)));
+                                desiredLogging.set(logging);
+                                return configMapOperations.reconcile(reconciliation, namespace, logAndMetricsConfigMap.getMetadata().getName(), logAndMetricsConfigMap);
+                            })
+                            .compose(i -> ReconcilerUtils.reconcileJmxSecret(reconciliation, secretOperations, connect))
+                            .compose(i -> podDisruptionBudgetOperator.reconcile(reconciliation, namespace, connect.getComponentName(), connect.generatePodDisruptionBudget(stableIdentities)))
+                            .compose(i -> generateAuthHash(namespace, kafkaConnect.getSpec()))
+                            .compose(hash -> {
+                                podAnnotations.put(Annotations.ANNO_STRIMZI_AUTH_HASH, Integer.toString(hash));
+                                return Future.succeededFuture();
+                            })
+                            .compose(i -> {
+                                KafkaConnectMigration migration = new KafkaConnectMigration(
+                                        reconciliation,
+                                        connect,
+                                        controllerAnnotations,
+                                        podAnnotations,
+                                        operationTimeoutMs,
+                                        pfa.isOpenshift(),
+                                        imagePullPolicy,
+                                        imagePullSecrets,
+                                        image.get(),
+                                        deploymentOperations,
+                                        podSetOperations,
+                                        podOperations
+                                );
+
+                                if (stableIdentities)   {
+                                    return migration.migrateFromDeploymentToStrimziPodSets(deployment.get(), podSet.get());
+                                } else {
+                                    return migration.migrateFromStrimziPodSetsToDeployment(deployment.get(), podSet.get());
+                                }
+                            })
+                            .compose(i -> {
+                                if (stableIdentities)   {
+                                    return reconcilePodSet(reconciliation, connect, podAnnotations, controllerAnnotations, image.get());
+                                } else {
+                                    return reconcileDeployment(reconciliation, connect, podAnnotations, controllerAnnotations, image.get(), hasZeroReplicas);
+                                }
+                            })
+                            .compose(i -> reconcileConnectors(reconciliation, kafkaConnect, kafkaConnectStatus, hasZeroReplicas, desiredLogging.get(), connect.defaultLogConfig()));
                 })
-                .compose(i -> {
-                    if (stableIdentities)   {
-                        return reconcilePodSet(reconciliation, connect, podAnnotations, controllerAnnotations, image.get());
+                .onComplete(reconciliationResult -> {
+                    if (reconciliationResult.succeeded() && buildInProgress.get()) {
+                        // The reconciliation is not complete yet => we keep the previously observed generation
+                        if (kafkaConnect.getStatus() != null) {
+                            kafkaConnectStatus.setObservedGeneration(kafkaConnect.getStatus().getObservedGeneration());
+                        }
+                        kafkaConnectStatus.setConditions(buildingConditions(kafkaConnect, kafkaConnectStatus));
                     } else {
-                        return reconcileDeployment(reconciliation, connect, podAnnotations, controllerAnnotations, image.get(), hasZeroReplicas);
+                        StatusUtils.setStatusConditionAndObservedGeneration(kafkaConnect, kafkaConnectStatus, reconciliationResult.cause());
                     }
-                })
-                .compose(i -> reconcileConnectors(reconciliation, kafkaConnect, kafkaConnectStatus, hasZeroReplicas, desiredLogging.get(), connect.defaultLogConfig()))
-                .onComplete(reconciliationResult -> {
-                    StatusUtils.setStatusConditionAndObservedGeneration(kafkaConnect, kafkaConnectStatus, reconciliationResult.cause());
 
                     if (!hasZeroReplicas) {
                         kafkaConnectStatus.setUrl(KafkaConnectResources.url(connect.getCluster(), namespace, KafkaConnectCluster.REST_API_PORT));
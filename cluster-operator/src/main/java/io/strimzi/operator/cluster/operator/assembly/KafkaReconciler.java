@@ -95,6 +95,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
@@ -112,6 +113,11 @@ import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_SERVER_CERT_HA
 public class KafkaReconciler {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaReconciler.class.getName());
 
+    /**
+     * Maximal number of per-broker ConfigMaps which are created or updated at the same time
+     */
+    private static final int PER_BROKER_CONFIG_MAP_CONCURRENCY = 10;
+
     /* test */ final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
@@ -624,11 +630,14 @@ public class KafkaReconciler {
     protected Future<Void> perBrokerKafkaConfiguration(MetricsAndLogging metricsAndLogging) {
         return configMapOperator.listAsync(reconciliation.namespace(), kafka.getSelectorLabels())
                 .compose(existingConfigMaps -> {
+                    Map<String, ConfigMap> existingConfigMapsByName = existingConfigMaps.stream().collect(Collectors.toMap(cm -> cm.getMetadata().getName(), cm -> cm));
+
                     // This is used during Kafka rolling updates -> we have to store it for later
                     this.logging = kafka.logging().loggingConfiguration(reconciliation, metricsAndLogging.loggingCm());
                     this.loggingHash = Util.hashStub(Util.getLoggingDynamicallyUnmodifiableEntries(logging));
 
                     List<ConfigMap> desiredConfigMaps = kafka.generatePerBrokerConfigurationConfigMaps(metricsAndLogging, listenerReconciliationResults.advertisedHostnames, listenerReconciliationResults.advertisedPorts);
+                    List<ConfigMap> changedConfigMaps = new ArrayList<>();
                     List<Future<?>> ops = new ArrayList<>();
 
                     // Delete all existing ConfigMaps which are not desired and are not the shared config map
@@ -682,15 +691,45 @@ public class KafkaReconciler {
                         // We store hash of the broker configurations for later use in Pod and in rolling updates
                         this.brokerConfigurationHash.put(nodeId, Util.hashStub(brokerConfiguration + kc.unknownConfigsWithValues(kafka.getKafkaVersion()).toString() + controllerConfiguration));
 
-                        ops.add(configMapOperator.reconcile(reconciliation, reconciliation.namespace(), cmName, cm));
+                        if (configMapUnchanged(existingConfigMapsByName.get(cmName), cm)) {
+                            LOGGER.debugCr(reconciliation, "ConfigMap {} is up-to-date and does not need to be updated", cmName);
+                        } else {
+                            changedConfigMaps.add(cm);
+                        }
                     }
 
+                    // Create / update the changed config maps with bounded concurrency
+                    ops.add(ReconcilerUtils.withBoundedConcurrency(changedConfigMaps, PER_BROKER_CONFIG_MAP_CONCURRENCY,
+                            cm -> configMapOperator.reconcile(reconciliation, reconciliation.namespace(), cm.getMetadata().getName(), cm)));
+
                     return Future
                             .join(ops)
                             .map((Void) null);
                 });
     }
 
+    /**
+     * Checks whether the existing per-broker ConfigMap is up-to-date. The ConfigMap is considered up-to-date when the
+     * content hash annotation of the existing ConfigMap matches the desired ConfigMap and its data were not modified.
+     * Up-to-date ConfigMaps do not need to be reconciled which saves the API calls.
+     *
+     * @param existing  Existing ConfigMap or null if it does not exist
+     * @param desired   Desired ConfigMap
+     *
+     * @return  True if the existing ConfigMap is up-to-date. False otherwise.
+     */
+    private static boolean configMapUnchanged(ConfigMap existing, ConfigMap desired)   {
+        if (existing == null) {
+            return false;
+        }
+
+        String existingHash = Annotations.stringAnnotation(existing, KafkaCluster.ANNO_STRIMZI_CONFIG_MAP_HASH, null);
+
+        return existingHash != null
+                && existingHash.equals(Annotations.stringAnnotation(desired, KafkaCluster.ANNO_STRIMZI_CONFIG_MAP_HASH, null))
+                && Objects.equals(existing.getData(), desired.getData());
+    }
+
     /**
      * This method is used to create or update the config maps required by the brokers. It does not do the cleanup the
      * old shared Config Map used by StatefulSets. That is done only at the end of the reconciliation. However, it would
@@ -0,0 +1,111 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Runs reconciliation steps concurrently while respecting the dependencies between them. Each step starts as soon as
+ * all the steps it depends on completed successfully. Steps without dependencies start right away. The dependencies
+ * can refer only to the steps added before, so the steps always form an acyclic graph.
+ *
+ * When some of the steps fail, the steps depending on them are not started and the result fails with the cause of the
+ * first failed step in the order in which the steps were added. That keeps the reported error deterministic regardless
+ * of the order in which the steps actually completed.
+ */
+class ReconcilerStepRunner {
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    /**
+     * Adds a step
+     *
+     * @param name          Name of the step
+     * @param step          Supplier which starts the step and returns a future which completes when the step is done
+     * @param dependencies  Names of the steps which have to complete before this step is started
+     *
+     * @return  This step runner
+     */
+    ReconcilerStepRunner step(String name, Supplier<Future<Void>> step, String... dependencies)   {
+        if (steps.containsKey(name))    {
+            throw new IllegalArgumentException("Step " + name + " is already defined");
+        }
+
+        for (String dependency : dependencies)  {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Step " + name + " depends on an unknown step " + dependency);
+            }
+        }
+
+        steps.put(name, new Step(step, List.of(dependencies)));
+        return this;
+    }
+
+    /**
+     * Starts all the steps and waits for them to complete
+     *
+     * @return  Future which completes when all the steps are complete. It fails with the cause of the first failed
+     *          step when any of the steps fails.
+     */
+    Future<Void> run()  {
+        Map<String, Future<Void>> results = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Step> entry : steps.entrySet())  {
+            Step step = entry.getValue();
+
+            if (step.dependencies().isEmpty())  {
+                results.put(entry.getKey(), start(step.step()));
+            } else {
+                List<Future<Void>> dependencies = new ArrayList<>(step.dependencies().size());
+                for (String dependency : step.dependencies())   {
+                    dependencies.add(results.get(dependency));
+                }
+
+                results.put(entry.getKey(), Future.all(dependencies).compose(i -> start(step.step())));
+            }
+        }
+
+        List<Future<Void>> futures = new ArrayList<>(results.values());
+
+        return Future.join(futures)
+                .transform(i -> {
+                    for (Future<Void> result : futures) {
+                        if (result.failed()) {
+                            return Future.failedFuture(result.cause());
+                        }
+                    }
+
+                    return Future.succeededFuture();
+                });
+    }
+
+    /**
+     * Starts the step and converts any exception thrown while starting it into a failed future
+     *
+     * @param step  Step which should be started
+     *
+     * @return  Future which completes when the step is complete
+     */
+    private static Future<Void> start(Supplier<Future<Void>> step) {
+        try {
+            return step.get();
+        } catch (Throwable t) {
+            return Future.failedFuture(t);
+        }
+    }
+
+    /**
+     * Definition of a step
+     *
+     * @param step          Supplier starting the step
+     * @param dependencies  Names of the steps this step depends on
+     */
+    private record Step(Supplier<Future<Void>> step, List<String> dependencies) { }
+}
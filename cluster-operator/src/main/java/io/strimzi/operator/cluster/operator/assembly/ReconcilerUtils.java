@@ -34,10 +34,14 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
 
 import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_SERVER_CERT_HASH;
 
@@ -372,4 +376,50 @@ public class ReconcilerUtils {
     public static boolean nodePoolsEnabled(Kafka kafka) {
         return KafkaCluster.ENABLED_VALUE_STRIMZI_IO_NODE_POOLS.equals(Annotations.stringAnnotation(kafka, Annotations.ANNO_STRIMZI_IO_NODE_POOLS, "disabled").toLowerCase(Locale.ENGLISH));
     }
+
+    /**
+     * Runs an asynchronous operation for each of the items with bounded concurrency. At most maxConcurrency operations
+     * run at the same time. The remaining items are processed as soon as some of the running operations complete.
+     * Failure of one of the operations does not stop the processing of the other items.
+     *
+     * @param items             Items which should be processed
+     * @param maxConcurrency    Maximal number of operations running at the same time
+     * @param operation         Operation which should be run for each item
+     *
+     * @param <T>   Type of the items
+     *
+     * @return  Future which completes when all operations complete. It fails if any of the operations failed.
+     */
+    public static <T> Future<Void> withBoundedConcurrency(Collection<T> items, int maxConcurrency, Function<T, Future<?>> operation)  {
+        Queue<T> queue = new ConcurrentLinkedQueue<>(items);
+        List<Future<Void>> workers = new ArrayList<>();
+
+        for (int i = 0; i < Math.min(maxConcurrency, items.size()); i++) {
+            workers.add(processNext(queue, operation, null));
+        }
+
+        return Future.join(workers).mapEmpty();
+    }
+
+    /**
+     * Processes the items from the queue one by one until the queue is empty.
+     *
+     * @param queue         Queue with the items which should be processed
+     * @param operation     Operation which should be run for each item
+     * @param failure       First failure which occurred in this chain of operations or null
+     *
+     * @param <T>   Type of the items
+     *
+     * @return  Future which completes when the queue is empty
+     */
+    private static <T> Future<Void> processNext(Queue<T> queue, Function<T, Future<?>> operation, Throwable failure)  {
+        T item = queue.poll();
+
+        if (item == null) {
+            return failure == null ? Future.succeededFuture() : Future.failedFuture(failure);
+        } else {
+            return operation.apply(item)
+                    .transform(res -> processNext(queue, operation, failure != null ? failure : res.cause()));
+        }
+    }
 }
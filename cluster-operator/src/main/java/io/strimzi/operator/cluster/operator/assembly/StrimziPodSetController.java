@@ -14,8 +14,6 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
-import io.fabric8.kubernetes.client.dsl.base.PatchContext;
-import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Lister;
@@ -30,14 +28,17 @@ import io.strimzi.api.kafka.model.KafkaMirrorMaker2;
 import io.strimzi.api.kafka.model.StrimziPodSet;
 import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
 import io.strimzi.api.kafka.model.status.StrimziPodSetStatus;
+import io.strimzi.operator.cluster.leaderelection.ShardOwnership;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.common.model.StatusDiff;
 import io.strimzi.operator.cluster.model.PodRevision;
+import io.strimzi.operator.common.InformerRegistry;
 import io.strimzi.operator.common.InformerUtils;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.TransformingItemStore;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
@@ -46,6 +47,7 @@ import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.model.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -53,10 +55,18 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 /**
- * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them
+ * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them. The
+ * reconciliations are distributed between several worker threads. Each StrimziPodSet is always assigned to the same
+ * worker, so it is never reconciled by two workers at the same time.
  */
 public class StrimziPodSetController implements Runnable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
@@ -74,9 +84,13 @@ public class StrimziPodSetController implements Runnable {
     private final StrimziPodSetOperator strimziPodSetOperator;
     private final ControllerMetricsHolder metrics;
     private final LabelSelector crSelector;
+    private final ShardOwnership shardOwnership;
+    private final IntConsumer shardAcquiredListener = this::enqueueShard;
     private final String watchedNamespace;
 
-    private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    private final StrimziPodSetPodsCache podsCache;
+    private final List<Worker> workers;
+    private final ExecutorService podOperationsExecutor;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -102,7 +116,15 @@ public class StrimziPodSetController implements Runnable {
      *                                      their status etc.
      * @param podOperator                   Pod operator for managing pods
      * @param metricsProvider               Metrics provider
-     * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
+     * @param podSetControllerWorkQueueSize Indicates the size of the work queue of each StrimziPodSetController worker
+     * @param podSetControllerWorkers       Number of worker threads reconciling the StrimziPodSets
+     * @param podOperationsThreads          Size of the thread pool used to create the pods of a StrimziPodSet in parallel
+     * @param informerRegistry              Registry of the shared informers. The custom resource and StrimziPodSet
+     *                                      informers used by this controller are shared with the other parts of the
+     *                                      operator through this registry.
+     * @param shardOwnership                Shard ownership of this operator instance when the sharded leader election is
+     *                                      used. Only the StrimziPodSets belonging to custom resources from the owned
+     *                                      shards are reconciled. Null to reconcile all StrimziPodSets.
      */
     public StrimziPodSetController(
             String watchedNamespace,
@@ -113,35 +135,60 @@ public class StrimziPodSetController implements Runnable {
             StrimziPodSetOperator strimziPodSetOperator,
             PodOperator podOperator,
             MetricsProvider metricsProvider,
-            int podSetControllerWorkQueueSize
+            int podSetControllerWorkQueueSize,
+            int podSetControllerWorkers,
+            int podOperationsThreads,
+            InformerRegistry informerRegistry,
+            ShardOwnership shardOwnership
     ) {
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, crSelectorLabels.toMap());
         this.watchedNamespace = watchedNamespace;
-        this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
+        this.shardOwnership = shardOwnership;
 
         // Set up the metrics holder
         this.metrics = new ControllerMetricsHolder("StrimziPodSet", crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
 
+        // Cache of the desired pods decoded from the StrimziPodSets
+        this.podsCache = new StrimziPodSetPodsCache(metricsProvider);
+
         // Kafka, KafkaConnect and KafkaMirrorMaker2 informers and listers are used to get the CRs quickly.
-        // This is needed for verification of the CR selector labels.
-        this.kafkaInformer = kafkaOperator.informer(watchedNamespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap(), DEFAULT_RESYNC_PERIOD_MS);
+        // This is needed for verification of the CR selector labels. Their caches are also used by the assembly
+        // operators to get the CRs in the reconciliations. The managed fields are not used and are not cached.
+        Map<String, String> crSelectorMap = (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap();
+        String crSelector = (crSelectorLabels == null) ? null : crSelectorLabels.toSelectorString();
+        this.kafkaInformer = informerRegistry.informer(Kafka.RESOURCE_KIND, watchedNamespace, crSelector, () -> kafkaOperator.informer(watchedNamespace, crSelectorMap, DEFAULT_RESYNC_PERIOD_MS).itemStore(new TransformingItemStore<>(InformerUtils::stripManagedFields)));
         this.kafkaLister = new Lister<>(kafkaInformer.getIndexer());
-        this.kafkaConnectInformer = kafkaConnectOperator.informer(watchedNamespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap(), DEFAULT_RESYNC_PERIOD_MS);
+        this.kafkaConnectInformer = informerRegistry.informer(KafkaConnect.RESOURCE_KIND, watchedNamespace, crSelector, () -> kafkaConnectOperator.informer(watchedNamespace, crSelectorMap, DEFAULT_RESYNC_PERIOD_MS).itemStore(new TransformingItemStore<>(InformerUtils::stripManagedFields)));
         this.kafkaConnectLister = new Lister<>(kafkaConnectInformer.getIndexer());
-        this.kafkaMirrorMaker2Informer = kafkaMirrorMaker2Operator.informer(watchedNamespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap(), DEFAULT_RESYNC_PERIOD_MS);
+        this.kafkaMirrorMaker2Informer = informerRegistry.informer(KafkaMirrorMaker2.RESOURCE_KIND, watchedNamespace, crSelector, () -> kafkaMirrorMaker2Operator.informer(watchedNamespace, crSelectorMap, DEFAULT_RESYNC_PERIOD_MS).itemStore(new TransformingItemStore<>(InformerUtils::stripManagedFields)));
         this.kafkaMirrorMaker2Lister = new Lister<>(kafkaMirrorMaker2Informer.getIndexer());
 
         // StrimziPodSet informer and lister is used to get events about StrimziPodSet and get StrimziPodSet quickly
-        this.strimziPodSetInformer = strimziPodSetOperator.informer(watchedNamespace, DEFAULT_RESYNC_PERIOD_MS);
+        this.strimziPodSetInformer = informerRegistry.informer(StrimziPodSet.RESOURCE_KIND, watchedNamespace, null, () -> strimziPodSetOperator.informer(watchedNamespace, DEFAULT_RESYNC_PERIOD_MS).itemStore(new TransformingItemStore<>(InformerUtils::stripManagedFields)));
         this.strimziPodSetLister = new Lister<>(strimziPodSetInformer.getIndexer());
 
-        // Pod informer and lister is used to get events about pods and get pods quickly
-        this.podInformer = podOperator.informer(watchedNamespace, POD_LABEL_SELECTOR, DEFAULT_RESYNC_PERIOD_MS);
+        // Pod informer and lister is used to get events about pods and get pods quickly. Only the metadata, phase and
+        // conditions of the pods are used by the controller, so the rest of the pod is not cached. The informer is
+        // private to this controller and is not shared through the informer registry, because other components might
+        // need the stripped fields.
+        this.podInformer = podOperator.informer(watchedNamespace, POD_LABEL_SELECTOR, DEFAULT_RESYNC_PERIOD_MS).itemStore(new TransformingItemStore<>(InformerUtils::stripPod));
         this.podLister = new Lister<>(podInformer.getIndexer());
 
         this.controllerThread = new Thread(this, "StrimziPodSetController");
+
+        this.workers = new ArrayList<>(podSetControllerWorkers);
+        for (int i = 0; i < podSetControllerWorkers; i++) {
+            this.workers.add(new Worker(i, podSetControllerWorkQueueSize));
+        }
+
+        AtomicInteger podOperationsThreadCounter = new AtomicInteger(0);
+        this.podOperationsExecutor = Executors.newFixedThreadPool(podOperationsThreads, r -> {
+            Thread thread = new Thread(r, "StrimziPodSetController-pod-operations-" + podOperationsThreadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     protected ControllerMetricsHolder metrics()   {
@@ -201,6 +248,25 @@ public class StrimziPodSetController implements Runnable {
         }
     }
 
+    /**
+     * Enqueues the StrimziPodSets belonging to the custom resources from a shard which was just acquired by this
+     * operator instance. Without this, they would be reconciled only after the next resync of the informers.
+     *
+     * @param shard     The acquired shard
+     */
+    private void enqueueShard(int shard) {
+        LOGGER.infoOp("Enqueueing StrimziPodSets from shard {}", shard);
+
+        for (StrimziPodSet podSet : strimziPodSetLister.list()) {
+            String customResourceName = podSet.getMetadata().getLabels() != null ? podSet.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL) : null;
+
+            if (customResourceName != null
+                    && shardOwnership.shard(podSet.getMetadata().getNamespace(), customResourceName) == shard) {
+                enqueueStrimziPodSet(podSet, "in an acquired shard");
+            }
+        }
+    }
+
     /**
      * Checks if the Pod which should be enqueued belongs to a StrimziPodSet this controller manages and whether the
      * Kafka cluster which owns it matches the CR selector. If it does, it will enqueue the reconciliation. This is used
@@ -311,7 +377,12 @@ public class StrimziPodSetController implements Runnable {
 
             if (cr != null
                     && Util.matchesSelector(crSelector, cr)) {
-                return true;
+                if (shardOwnership == null || shardOwnership.owns(cr.getMetadata().getNamespace(), cr.getMetadata().getName())) {
+                    return true;
+                } else {
+                    LOGGER.debugOp("StrimziPodSet {} in namespace {} belongs to a custom resource from a shard owned by another operator instance", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace());
+                    return false;
+                }
             } else {
                 LOGGER.debugOp("StrimziPodSet {} in namespace {} does not belong to a custom resource matching the selector", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace());
                 return false;
@@ -374,49 +445,78 @@ public class StrimziPodSetController implements Runnable {
                 // Kubernetes.
                 LOGGER.infoCr(reconciliation, "StrimziPodSet is deleting => nothing to do");
                 metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
+            } else if (shardOwnership == null) {
+                reconcilePodSet(reconciliation, podSet);
             } else {
-                LOGGER.infoCr(reconciliation, "StrimziPodSet will be reconciled");
+                // The reconciliation is registered in the shard ownership, so that the shard of the custom resource is
+                // not handed over to another operator instance while the StrimziPodSet is being reconciled
+                String customResourceName = podSet.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
+
+                if (shardOwnership.tryStartReconciliation(namespace, customResourceName)) {
+                    try {
+                        reconcilePodSet(reconciliation, podSet);
+                    } finally {
+                        shardOwnership.endReconciliation(namespace, customResourceName);
+                    }
+                } else {
+                    LOGGER.debugCr(reconciliation, "StrimziPodSet belongs to a shard owned by another operator instance => nothing to do");
+                    metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
+                }
+            }
+        } finally   {
+            // Tasks after reconciliation
+            reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace())); // Stop the reconciliation timer
+        }
+    }
 
-                StrimziPodSetStatus status = new StrimziPodSetStatus();
-                status.setObservedGeneration(podSet.getMetadata().getGeneration());
+    /**
+     * Reconciles the pods of the StrimziPodSet and updates its status
+     *
+     * @param reconciliation    Reconciliation identifier used for logging
+     * @param podSet            StrimziPodSet which should be reconciled
+     */
+    private void reconcilePodSet(Reconciliation reconciliation, StrimziPodSet podSet) {
+        LOGGER.infoCr(reconciliation, "StrimziPodSet will be reconciled");
 
-                try {
-                    // This has to:
-                    // 1) Create missing pods
-                    // 2) Modify changed pods if needed (patch owner reference)
-                    // 3) Delete scaled down pods
+        StrimziPodSetStatus status = new StrimziPodSetStatus();
+        status.setObservedGeneration(podSet.getMetadata().getGeneration());
 
-                    // Will be used later to find out if any pod needs to be deleted
-                    Set<String> desiredPods = new HashSet<>(podSet.getSpec().getPods().size());
-                    PodCounter podCounter = new PodCounter();
-                    podCounter.pods = podSet.getSpec().getPods().size();
+        try {
+            // This has to:
+            // 1) Create missing pods
+            // 2) Modify changed pods if needed (patch owner reference)
+            // 3) Delete scaled down pods
 
-                    for (Map<String, Object> desiredPod : podSet.getSpec().getPods()) {
-                        Pod pod = PodSetUtils.mapToPod(desiredPod);
-                        desiredPods.add(pod.getMetadata().getName());
+            // Will be used later to find out if any pod needs to be deleted
+            Set<String> desiredPods = new HashSet<>(podSet.getSpec().getPods().size());
+            PodCounter podCounter = new PodCounter();
+            podCounter.pods = podSet.getSpec().getPods().size();
 
-                        maybeCreateOrPatchPod(reconciliation, pod, ModelUtils.createOwnerReference(podSet, true), podCounter);
-                    }
+            // Will be used to create the missing pods in parallel
+            List<Pod> podsToCreate = new ArrayList<>();
 
-                    // Check if any pods needs to be deleted
-                    removeDeletedPods(reconciliation, podSet.getSpec().getSelector(), desiredPods, podCounter);
+            for (Pod pod : podsCache.pods(podSet)) {
+                desiredPods.add(pod.getMetadata().getName());
 
-                    status.setPods(podCounter.pods);
-                    status.setReadyPods(podCounter.readyPods);
-                    status.setCurrentPods(podCounter.currentPods);
-                    metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
-                } catch (Exception e) {
-                    LOGGER.errorCr(reconciliation, "StrimziPodSet {} in namespace {} reconciliation failed", reconciliation.name(), reconciliation.namespace(), e);
-                    status.addCondition(StatusUtils.buildConditionFromException("Error", "true", e));
-                    metrics.failedReconciliationsCounter(reconciliation.namespace()).increment();
-                } finally {
-                    maybeUpdateStatus(reconciliation, podSet, status);
-                    LOGGER.infoCr(reconciliation, "reconciled");
-                }
+                maybeCreateOrPatchPod(reconciliation, pod, ModelUtils.createOwnerReference(podSet, true), podCounter, podsToCreate);
             }
-        } finally   {
-            // Tasks after reconciliation
-            reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace())); // Stop the reconciliation timer
+
+            createPods(reconciliation, podsToCreate);
+
+            // Check if any pods needs to be deleted
+            removeDeletedPods(reconciliation, podSet.getSpec().getSelector(), desiredPods, podCounter);
+
+            status.setPods(podCounter.pods);
+            status.setReadyPods(podCounter.readyPods);
+            status.setCurrentPods(podCounter.currentPods);
+            metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
+        } catch (Exception e) {
+            LOGGER.errorCr(reconciliation, "StrimziPodSet {} in namespace {} reconciliation failed", reconciliation.name(), reconciliation.namespace(), e);
+            status.addCondition(StatusUtils.buildConditionFromException("Error", "true", e));
+            metrics.failedReconciliationsCounter(reconciliation.namespace()).increment();
+        } finally {
+            maybeUpdateStatus(reconciliation, podSet, status);
+            LOGGER.infoCr(reconciliation, "reconciled");
         }
     }
 
@@ -452,22 +552,26 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Creates missing pod defined in the StrimziPodSet. If the pod already exists, it checks the owner reference and if
-     * needed adds it to the Pod.
+     * Checks the pod defined in the StrimziPodSet. If the pod is missing, it is added to the list of pods which should
+     * be created. If the pod already exists, it checks the owner reference and if needed adds it to the Pod.
      *
      * @param reconciliation    Reconciliation in which this is executed
      * @param pod               Pod which should be checked and created if needed
      * @param owner             The OwnerReference which should be set to the pod
      * @param podCounter        Pod Counter used to count pods for the status
+     * @param podsToCreate      List to which the pods which should be created are added
      */
-    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, OwnerReference owner, PodCounter podCounter)    {
+    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, OwnerReference owner, PodCounter podCounter, List<Pod> podsToCreate)    {
         Pod currentPod = podLister.namespace(reconciliation.namespace()).get(pod.getMetadata().getName());
 
         if (currentPod == null) {
-            // Pod does not exist => we create it
-            LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
-            pod.getMetadata().setOwnerReferences(List.of(owner));
-            podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create();
+            // Pod does not exist => we create it (the desired pod is shared through the cache, so we copy it before
+            // setting the owner reference)
+            podsToCreate.add(new PodBuilder(pod)
+                    .editMetadata()
+                        .withOwnerReferences(owner)
+                    .endMetadata()
+                    .build());
         } else {
             if (PodSetUtils.isInTerminalState(currentPod))  {
                 // The Pods might reach a terminal state of Succeeded or Failed in some situations such as node failures
@@ -479,15 +583,12 @@ public class StrimziPodSetController implements Runnable {
                 LOGGER.debugCr(reconciliation, "Pod {} in namespace {} already exists => nothing to do right now", pod.getMetadata().getName(), reconciliation.namespace());
             } else  {
                 LOGGER.debugCr(reconciliation, "Pod {} in namespace {} is missing owner reference => patching it", currentPod.getMetadata().getName(), reconciliation.namespace());
-                Pod podWithOwnerReference = new PodBuilder(currentPod).build();
-
-                if (podWithOwnerReference.getMetadata().getOwnerReferences() != null)   {
-                    podWithOwnerReference.getMetadata().getOwnerReferences().add(owner);
-                } else {
-                    podWithOwnerReference.getMetadata().setOwnerReferences(List.of(owner));
-                }
-
-                podOperator.client().inNamespace(reconciliation.namespace()).withName(pod.getMetadata().getName()).patch(PatchContext.of(PatchType.JSON), podWithOwnerReference);
+                // The cached pod does not contain the whole pod. So the patch is based on the pod from the Kubernetes API.
+                podOperator.client().inNamespace(reconciliation.namespace()).withName(pod.getMetadata().getName()).edit(p -> new PodBuilder(p)
+                        .editMetadata()
+                            .addToOwnerReferences(owner)
+                        .endMetadata()
+                        .build());
             }
 
             if (Readiness.isPodReady(currentPod))   {
@@ -503,6 +604,44 @@ public class StrimziPodSetController implements Runnable {
         }
     }
 
+    /**
+     * Creates the missing pods. The pods are independent of each other, so they are created in parallel using the pod
+     * operations thread pool. This method waits until all pods are created (or their creation failed).
+     *
+     * @param reconciliation    Reconciliation in which this is executed
+     * @param pods              Pods which should be created
+     */
+    private void createPods(Reconciliation reconciliation, List<Pod> pods)    {
+        if (pods.size() == 1)   {
+            createPod(reconciliation, pods.get(0));
+        } else if (pods.size() > 1) {
+            CompletableFuture<?>[] creations = pods.stream()
+                    .map(pod -> CompletableFuture.runAsync(() -> createPod(reconciliation, pod), podOperationsExecutor))
+                    .toArray(CompletableFuture[]::new);
+
+            try {
+                CompletableFuture.allOf(creations).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                } else {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a single pod
+     *
+     * @param reconciliation    Reconciliation in which this is executed
+     * @param pod               Pod which should be created
+     */
+    private void createPod(Reconciliation reconciliation, Pod pod)    {
+        LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
+        podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create();
+    }
+
     /**
      * Removes the pods which were removed from the StrimziPodSet but which match the selector.
      *
@@ -529,23 +668,28 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
+     * Enqueues the next reconciliation. The reconciliation is always assigned to the same worker based on the name and
+     * namespace of the StrimziPodSet. It checks whether another reconciliation for the same resource is already in
      * the queue and enqueues the new event only if it is not there yet.
      *
      * @param reconciliation    Reconciliation identifier
      */
     private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
+        Worker worker = workers.get(Math.floorMod(reconciliation.hashCode(), workers.size()));
+
+        if (!worker.workQueue.contains(reconciliation)) {
+            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {} to worker {}", reconciliation.name, reconciliation.namespace, worker.name);
+            worker.workQueue.add(reconciliation);
+            metrics().workerQueueSizeGauge(worker.name).set(worker.workQueue.size());
         } else {
             metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
+            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.namespace);
         }
     }
 
     /**
-     * The run loop of the controller thread. It picks reconciliations from the work queue and executes them.
+     * The run loop of the controller thread. It starts the informers, waits for them to sync and starts the workers
+     * which pick reconciliations from their work queues and execute them.
      */
     @Override
     public void run() {
@@ -559,16 +703,19 @@ public class StrimziPodSetController implements Runnable {
 
         LOGGER.infoOp("Informers are in-sync");
 
-        while (!stop) {
-            try {
-                LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
-            } catch (InterruptedException e)    {
-                LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
-            } catch (Exception e)   {
-                LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
-            }
+        if (shardOwnership != null) {
+            // The StrimziPodSets from the shards acquired while the informers were syncing might have been skipped
+            shardOwnership.addShardAcquiredListener(shardAcquiredListener);
+            shardOwnership.ownedShards().forEach(this::enqueueShard);
+        }
+
+        if (!stop) {
+            LOGGER.infoOp("Starting {} StrimziPodSet controller workers", workers.size());
+            workers.forEach(worker -> worker.thread.start());
+        }
+
+        for (Worker worker : workers) {
+            worker.awaitTermination();
         }
 
         LOGGER.infoOp("Stopping StrimziPodSet controller");
@@ -590,15 +737,78 @@ public class StrimziPodSetController implements Runnable {
     public void stop()  {
         LOGGER.infoOp("Requesting the StrimziPodSet controller to stop");
         this.stop = true;
+        if (shardOwnership != null) {
+            shardOwnership.removeShardAcquiredListener(shardAcquiredListener);
+        }
+        workers.forEach(worker -> worker.thread.interrupt());
         controllerThread.interrupt();
         try {
             controllerThread.join();
         } catch (InterruptedException e)    {
             LOGGER.warnOp("Interrupted while waiting for the StrimziPodSet controller thread to stop");
         }
+        podOperationsExecutor.shutdownNow();
         LOGGER.infoOp("StrimziPodSet controller stopped");
     }
 
+    /**
+     * Worker of the StrimziPodSet controller. Each worker has its own work queue and its own thread which picks the
+     * reconciliations from the queue and executes them.
+     */
+    private class Worker implements Runnable {
+        private final String name;
+        private final BlockingQueue<SimplifiedReconciliation> workQueue;
+        private final Thread thread;
+
+        Worker(int id, int workQueueSize) {
+            this.name = String.valueOf(id);
+            this.workQueue = new ArrayBlockingQueue<>(workQueueSize);
+            this.thread = new Thread(this, "StrimziPodSetController-worker-" + id);
+        }
+
+        /**
+         * The run loop of the worker thread. It picks reconciliations from the work queue and executes them.
+         */
+        @Override
+        public void run() {
+            LOGGER.debugOp("StrimziPodSet controller worker {} is running", name);
+
+            while (!stop) {
+                try {
+                    LOGGER.debugOp("Waiting for next event from work queue of worker {}", name);
+                    Reconciliation reconciliation = workQueue.take().toReconciliation();
+                    metrics().workerQueueSizeGauge(name).set(workQueue.size());
+
+                    Timer.Sample workerTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
+                    try {
+                        reconcile(reconciliation);
+                    } finally {
+                        workerTimerSample.stop(metrics().workerReconciliationsTimer(name));
+                    }
+                } catch (InterruptedException e)    {
+                    LOGGER.debugOp("StrimziPodSet controller worker {} was interrupted", name, e);
+                } catch (Exception e)   {
+                    LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
+                }
+            }
+
+            LOGGER.debugOp("StrimziPodSet controller worker {} stopped", name);
+        }
+
+        /**
+         * Waits for the worker thread to finish. If the worker thread was never started, it returns immediately.
+         */
+        void awaitTermination() {
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    LOGGER.debugOp("Interrupted while waiting for the StrimziPodSet controller worker {} to stop", name);
+                }
+            }
+        }
+    }
+
     /**
      * Helper class to track the pod counts during reconciliation and to pass through different methods. This is used to
      * count the numbers for the StrimziPodSet status subresource.
@@ -685,11 +895,14 @@ public class StrimziPodSetController implements Runnable {
 
         @Override
         public void onUpdate(StrimziPodSet oldPodSet, StrimziPodSet newPodSet) {
+            podsCache.update(newPodSet);
             enqueueStrimziPodSet(newPodSet, "MODIFIED");
         }
 
         @Override
         public void onDelete(StrimziPodSet podSet, boolean deletedFinalStateUnknown) {
+            podsCache.delete(podSet);
+
             if (matchesCrSelector(podSet)) {
                 metrics.resourceCounter(podSet.getMetadata().getNamespace()).decrementAndGet();
             }
@@ -0,0 +1,117 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the desired pods decoded from the StrimziPodSet resources. Decoding the pods from the StrimziPodSet spec is
+ * using Jackson and is relatively expensive. But the StrimziPodSet is reconciled many times (for example for every
+ * Pod event) without its spec changing. The cache is keyed by the StrimziPodSet UID and holds the decoded pods for
+ * the last seen generation of the StrimziPodSet.
+ *
+ * The cached pods are shared between reconciliations and should not be modified by the users of this cache.
+ */
+class StrimziPodSetPodsCache {
+    private static final String METRICS_PREFIX = "strimzi.controller.podset.pods.cache.";
+
+    private final Map<String, CachedPods> cache = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructs the cache
+     *
+     * @param metricsProvider   Metrics provider used for the cache hit and miss metrics
+     */
+    StrimziPodSetPodsCache(MetricsProvider metricsProvider) {
+        Tags tags = Tags.of(Tag.of("kind", StrimziPodSet.RESOURCE_KIND));
+        this.hits = metricsProvider.counter(METRICS_PREFIX + "hits", "Number of StrimziPodSet reconciliations which used the cached pods", tags);
+        this.misses = metricsProvider.counter(METRICS_PREFIX + "misses", "Number of StrimziPodSet reconciliations which had to decode the pods", tags);
+    }
+
+    /**
+     * Gets the desired pods for the StrimziPodSet. If the pods for the same UID and generation are cached, it returns
+     * them from the cache. Otherwise, it decodes them and stores them in the cache. StrimziPodSets without UID or
+     * generation are never cached.
+     *
+     * @param podSet    StrimziPodSet for which the pods should be returned
+     *
+     * @return  List with the desired pods
+     */
+    List<Pod> pods(StrimziPodSet podSet)    {
+        String uid = podSet.getMetadata().getUid();
+        Long generation = podSet.getMetadata().getGeneration();
+
+        if (uid == null || generation == null)  {
+            misses.increment();
+            return PodSetUtils.podSetToPods(podSet);
+        }
+
+        CachedPods cached = cache.get(uid);
+
+        if (cached != null && cached.generation() == generation) {
+            hits.increment();
+            return cached.pods();
+        } else {
+            misses.increment();
+            List<Pod> pods = PodSetUtils.podSetToPods(podSet);
+            cache.put(uid, new CachedPods(generation, pods));
+            return pods;
+        }
+    }
+
+    /**
+     * Evicts the cached pods for given StrimziPodSet when it changed. Cached pods for the same generation are kept.
+     *
+     * @param podSet    StrimziPodSet which was updated
+     */
+    void update(StrimziPodSet podSet)  {
+        String uid = podSet.getMetadata().getUid();
+
+        if (uid != null) {
+            cache.computeIfPresent(uid, (key, cached) -> Objects.equals(cached.generation(), podSet.getMetadata().getGeneration()) ? cached : null);
+        }
+    }
+
+    /**
+     * Evicts the cached pods for given StrimziPodSet when it was deleted.
+     *
+     * @param podSet    StrimziPodSet which was deleted
+     */
+    void delete(StrimziPodSet podSet)  {
+        String uid = podSet.getMetadata().getUid();
+
+        if (uid != null) {
+            cache.remove(uid);
+        }
+    }
+
+    /**
+     * @return  The number of StrimziPodSets with cached pods
+     */
+    int size()  {
+        return cache.size();
+    }
+
+    /**
+     * Cached pods for a single StrimziPodSet
+     *
+     * @param generation    Generation of the StrimziPodSet from which the pods were decoded
+     * @param pods          Decoded pods
+     */
+    record CachedPods(long generation, List<Pod> pods) { }
+}
@@ -181,18 +181,8 @@ public class ZooKeeperReconciler {
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
         return modelWarnings(kafkaStatus)
-                .compose(i -> jmxSecret())
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
                 .compose(i -> logVersionChange())
-                .compose(i -> serviceAccount())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> service())
-                .compose(i -> headlessService())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> loggingAndMetricsConfigMap())
-                .compose(i -> podDisruptionBudget())
+                .compose(i -> resources(kafkaStatus, clock))
                 .compose(i -> migrateFromStatefulSetToPodSet())
                 .compose(i -> podSet())
                 .compose(i -> scaleDown())
@@ -205,6 +195,32 @@ public class ZooKeeperReconciler {
                 .compose(i -> deletePersistentClaims());
     }
 
+    /**
+     * Reconciles the resources which need to be ready before the ZooKeeper pods are reconciled. The independent
+     * resources are reconciled concurrently. The manual pod cleaning and the manual rolling update are done before the
+     * resources used by the pods (PVCs, certificates and configuration) are updated, in the same order as before.
+     *
+     * @param kafkaStatus   The Kafka Status class for adding conditions to it during the reconciliation
+     * @param clock         The clock for supplying the reconciler with the time instant of each reconciliation cycle.
+     *
+     * @return              Future which completes when all the resources are reconciled
+     */
+    protected Future<Void> resources(KafkaStatus kafkaStatus, Clock clock) {
+        return new ReconcilerStepRunner()
+                .step("jmx-secret", this::jmxSecret)
+                .step("network-policy", this::networkPolicy)
+                .step("service-account", this::serviceAccount)
+                .step("service", this::service)
+                .step("headless-service", this::headlessService)
+                .step("pod-disruption-budget", this::podDisruptionBudget)
+                .step("manual-pod-cleaning", this::manualPodCleaning)
+                .step("manual-rolling-update", this::manualRollingUpdate, "jmx-secret", "network-policy", "manual-pod-cleaning")
+                .step("pvcs", () -> pvcs(kafkaStatus), "manual-rolling-update")
+                .step("certificate-secret", () -> certificateSecret(clock), "manual-rolling-update")
+                .step("logging-and-metrics-config-map", this::loggingAndMetricsConfigMap, "manual-rolling-update")
+                .run();
+    }
+
     /**
      * Takes the warning conditions from the Model and adds them in the KafkaStatus
      *
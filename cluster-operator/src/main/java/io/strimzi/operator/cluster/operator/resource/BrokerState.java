@@ -10,23 +10,35 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
- * Java representation of the JSON response from the /v1/broker-state endpoint of the KafkaAgent
+ * Java representation of the JSON response from the /v1/broker-state and /v1/broker-state-watch endpoints of the KafkaAgent
  */
 class BrokerState {
     private static final int BROKER_RECOVERY_STATE = 2;
 
     private final int code;
     private final Map<String, Object> recoveryState;
+    private final long version;
 
     /**
      * Constructor
      * @param code Broker state
      * @param recoveryState Map that has the number of remaining logs and segments to recover
      */
+    public BrokerState(int code, Map<String, Object> recoveryState) {
+        this(code, recoveryState, 0L);
+    }
+
+    /**
+     * Constructor
+     * @param code Broker state
+     * @param recoveryState Map that has the number of remaining logs and segments to recover
+     * @param version Version of the broker state returned by the /v1/broker-state-watch endpoint or 0 when not known
+     */
     @JsonCreator
-    public BrokerState(@JsonProperty("brokerState")int code, @JsonProperty("recoveryState") Map<String, Object> recoveryState) {
+    public BrokerState(@JsonProperty("brokerState")int code, @JsonProperty("recoveryState") Map<String, Object> recoveryState, @JsonProperty("version") long version) {
         this.code = code;
         this.recoveryState = recoveryState;
+        this.version = version;
     }
 
     /**
@@ -37,6 +49,14 @@ class BrokerState {
         return code;
     }
 
+    /**
+     * Version of the broker state used to wait for the next change of the broker state
+     * @return long result
+     */
+    public long version() {
+        return version;
+    }
+
     /**
      * The number of remaining logs to recover
      * @return integer result
@@ -61,7 +81,7 @@ class BrokerState {
 
     @Override
     public String toString() {
-        return String.format("Broker state: %d, Recovery state: %s", code, recoveryState);
+        return String.format("Broker state: %d, Recovery state: %s, Version: %d", code, recoveryState, version);
     }
 
     /**
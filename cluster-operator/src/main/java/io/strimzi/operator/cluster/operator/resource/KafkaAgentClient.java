@@ -15,6 +15,8 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
@@ -38,6 +40,12 @@ class KafkaAgentClient {
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
     private static final String BROKER_STATE_REST_PATH = "/v1/broker-state/";
+    private static final String BROKER_STATE_WATCH_REST_PATH = "/v1/broker-state-watch/";
+    // Extra time on top of the watch timeout the HTTP request waits for the response of the KafkaAgent
+    private static final long BROKER_STATE_WATCH_REQUEST_MARGIN_MS = 10_000L;
+    private static final String ROLL_READINESS_REST_PATH = "/v1/roll-readiness/";
+    // Roll readiness is only a shortcut for the Admin based availability check, so it should not wait long for unresponsive brokers
+    private static final Duration ROLL_READINESS_REQUEST_TIMEOUT = Duration.ofSeconds(5);
     private static final int BROKER_STATE_HTTPS_PORT = 8443;
 
     private final String namespace;
@@ -99,11 +107,20 @@ class KafkaAgentClient {
     }
 
     String doGet(URI uri) {
+        return doGet(uri, null);
+    }
+
+    String doGet(URI uri, Duration timeout) {
         try {
-            HttpRequest req = HttpRequest.newBuilder()
+            HttpRequest.Builder builder = HttpRequest.newBuilder()
                     .uri(uri)
-                    .GET()
-                    .build();
+                    .GET();
+
+            if (timeout != null) {
+                builder.timeout(timeout);
+            }
+
+            HttpRequest req = builder.build();
 
             var response = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
             if (response.statusCode() != 200) {
@@ -115,6 +132,22 @@ class KafkaAgentClient {
         }
     }
 
+    CompletableFuture<String> doGetAsync(URI uri, Duration timeout) {
+        HttpRequest req = HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(timeout)
+                .GET()
+                .build();
+
+        return httpClient.sendAsync(req, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new RuntimeException("Unexpected HTTP status code: " + response.statusCode());
+                    }
+                    return response.body();
+                });
+    }
+
     /**
      * Gets broker state by sending HTTP request to the /v1/broker-state endpoint of the KafkaAgent
      *
@@ -138,4 +171,70 @@ class KafkaAgentClient {
         }
         return brokerstate;
     }
+
+    /**
+     * Waits for the next change of the broker state using the long-polling /v1/broker-state-watch endpoint of the
+     * KafkaAgent. The KafkaAgent responds as soon as the broker state or the log recovery progress changes, or when
+     * the timeout expires.
+     *
+     * @param podName   Name of the pod to interact with
+     * @param version   Version of the last known broker state. 0 returns the current broker state immediately.
+     * @param timeoutMs Maximal time the KafkaAgent waits for the change of the broker state
+     * @return A BrokerState that contains broker state, recovery progress and the version of the broker state.
+     *         -1 is returned for broker state if the http request failed or returned non 200 response, for example
+     *         because the KafkaAgent used by the broker does not support this endpoint yet.
+     */
+    BrokerState watchBrokerState(String podName, long version, long timeoutMs) {
+        BrokerState brokerstate = new BrokerState(-1, null);
+        String host = DnsNameGenerator.podDnsName(namespace, KafkaResources.brokersServiceName(cluster), podName);
+        try {
+            URI uri = new URI("https", null, host, BROKER_STATE_HTTPS_PORT, BROKER_STATE_WATCH_REST_PATH, "version=" + version + "&timeoutMs=" + timeoutMs, null);
+            brokerstate = MAPPER.readValue(doGet(uri, Duration.ofMillis(timeoutMs + BROKER_STATE_WATCH_REQUEST_MARGIN_MS)), BrokerState.class);
+        } catch (JsonProcessingException e) {
+            LOGGER.warnCr(reconciliation, "Failed to parse broker state", e);
+        } catch (URISyntaxException e) {
+            LOGGER.warnCr(reconciliation, "Failed to watch broker state due to invalid URI", e);
+        } catch (RuntimeException e) {
+            LOGGER.warnCr(reconciliation, "Failed to watch broker state", e);
+        }
+        return brokerstate;
+    }
+
+    /**
+     * Gets the roll readiness summary by sending asynchronous HTTP request to the /v1/roll-readiness endpoint of the
+     * KafkaAgent. The requests to different nodes can be sent concurrently.
+     *
+     * @param podName Name of the pod to interact with
+     * @return A future completing with the RollReadiness with the replication metrics of the node.
+     *         The future completes with null if the http request failed or returned non 200 response, for example
+     *         because the KafkaAgent used by the node does not support this endpoint yet. It never fails.
+     */
+    CompletableFuture<RollReadiness> getRollReadiness(String podName) {
+        String host = DnsNameGenerator.podDnsName(namespace, KafkaResources.brokersServiceName(cluster), podName);
+        CompletableFuture<String> response;
+
+        try {
+            URI uri = new URI("https", null, host, BROKER_STATE_HTTPS_PORT, ROLL_READINESS_REST_PATH, null, null);
+            response = doGetAsync(uri, ROLL_READINESS_REQUEST_TIMEOUT);
+        } catch (URISyntaxException e) {
+            LOGGER.debugCr(reconciliation, "Failed to get roll readiness due to invalid URI", e);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+
+        return response.handle((body, error) -> {
+            if (error != null) {
+                LOGGER.debugCr(reconciliation, "Failed to get roll readiness", error);
+                return null;
+            }
+
+            try {
+                return MAPPER.readValue(body, RollReadiness.class);
+            } catch (JsonProcessingException e) {
+                LOGGER.debugCr(reconciliation, "Failed to parse roll readiness", e);
+                return null;
+            }
+        });
+    }
 }
@@ -14,6 +14,7 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
@@ -23,6 +24,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -30,6 +33,12 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * The descriptions of all topics are loaded only once when this class is created. Every following check refreshes
+ * only the descriptions of the topics with replicas on the checked broker and of the topics created in the meantime,
+ * so that a rolling update of N brokers does not describe all topics N times. The replicas on the checked broker are
+ * taken from its log directories and from the snapshot, so that partitions reassigned to or from the broker since the
+ * snapshot was taken are refreshed as well.
  */
 class KafkaAvailability {
 
@@ -39,18 +48,81 @@ class KafkaAvailability {
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final Consumer<String> adminCallRecorder;
+
+    // Snapshot of the topic descriptions. Key: topic name
+    private final Map<String, TopicDescription> topics = new ConcurrentHashMap<>();
+
+    private Future<Void> snapshot;
+
+    private boolean snapshotFresh;
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
+        this(reconciliation, ac, operation -> { });
+    }
+
+    KafkaAvailability(Reconciliation reconciliation, Admin ac, Consumer<String> adminCallRecorder) {
         this.ac = ac;
         this.reconciliation = reconciliation;
+        this.adminCallRecorder = adminCallRecorder;
+        loadSnapshot();
+    }
+
+    /**
+     * Loads the descriptions of all topics
+     */
+    private void loadSnapshot() {
         // 1. Get all topic names
         Future<Set<String>> topicNames = topicNames();
         // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
+        snapshot = topicNames.compose(names -> {
             LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
             LOGGER.traceCr(reconciliation, "Topic names {}", names);
             return describeTopics(names);
+        }).map(descriptions -> {
+            topics.clear();
+            descriptions.forEach(td -> topics.put(td.name(), td));
+            return null;
+        });
+        snapshotFresh = true;
+    }
+
+    /**
+     * Refreshes the snapshot with the descriptions of the topics which have replicas on the given broker (according to
+     * its log directories or to the snapshot) and of the topics which are not in the snapshot yet. The deleted topics
+     * are removed from the snapshot.
+     *
+     * @param podId     ID of the broker
+     *
+     * @return  Future with the descriptions of all topics
+     */
+    private Future<Collection<TopicDescription>> refreshSnapshot(int podId) {
+        Future<Set<String>> topicNames = topicNames();
+        Future<Set<String>> brokerTopics = brokerTopics(podId)
+                .recover(error -> {
+                    // Without the log directories, we do not know the replicas of the broker and refresh all topics
+                    LOGGER.debugCr(reconciliation, "Failed to describe the log directories of broker {}. All topics will be refreshed.", podId, error);
+                    return topicNames;
+                });
+
+        return Future.join(topicNames, brokerTopics).compose(i -> {
+            Set<String> names = topicNames.result();
+            topics.keySet().retainAll(names);
+
+            Set<String> toDescribe = new HashSet<>();
+            for (String name : names) {
+                TopicDescription td = topics.get(name);
+                if (td == null || hasReplicaOn(td, podId) || brokerTopics.result().contains(name)) {
+                    toDescribe.add(name);
+                }
+            }
+
+            LOGGER.debugCr(reconciliation, "Refreshing descriptions of {} out of {} topics", toDescribe.size(), names.size());
+            Future<Collection<TopicDescription>> described = toDescribe.isEmpty() ? Future.succeededFuture(List.of()) : describeTopics(toDescribe);
+            return described.map(descriptions -> {
+                descriptions.forEach(td -> topics.put(td.name(), td));
+                return List.copyOf(topics.values());
+            });
         });
     }
 
@@ -60,6 +132,23 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
+        Future<Collection<TopicDescription>> descriptions;
+
+        synchronized (this) {
+            if (snapshot.failed()) {
+                // Start from scratch when loading the snapshot failed
+                loadSnapshot();
+            }
+
+            if (snapshotFresh) {
+                // The first check uses the snapshot without refreshing it
+                snapshotFresh = false;
+                descriptions = snapshot.map(i -> List.copyOf(topics.values()));
+            } else {
+                descriptions = snapshot.compose(i -> refreshSnapshot(podId));
+            }
+        }
+
         return canRollBroker(descriptions, podId);
     }
 
@@ -157,12 +246,28 @@ class KafkaAvailability {
         return isr.stream().anyMatch(node -> node.id() == broker);
     }
 
+    private static boolean hasReplicaOn(TopicDescription td, int podId) {
+        for (TopicPartitionInfo pd : td.partitions()) {
+            for (Node broker : pd.replicas()) {
+                if (podId == broker.id()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture(Map.of());
+        }
+
         LOGGER.debugCr(reconciliation, "Getting topic configs for {} topics", topicNames.size());
         List<ConfigResource> configs = topicNames.stream()
                 .map((String topicName) -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
                 .collect(Collectors.toList());
         Promise<Map<String, Config>> promise = Promise.promise();
+        adminCallRecorder.accept("describeConfigs");
         ac.describeConfigs(configs).all().whenComplete((topicNameToConfig, error) -> {
             if (error != null) {
                 promise.fail(error);
@@ -181,12 +286,8 @@ class KafkaAvailability {
         Set<TopicDescription> topicPartitionInfos = new HashSet<>();
         for (TopicDescription td : tds) {
             LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
+            if (hasReplicaOn(td, podId)) {
+                topicPartitionInfos.add(td);
             }
         }
         return topicPartitionInfos;
@@ -194,6 +295,7 @@ class KafkaAvailability {
 
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
+        adminCallRecorder.accept("describeTopics");
         ac.describeTopics(names).allTopicNames()
                 .whenComplete((tds, error) -> {
                     if (error != null) {
@@ -206,8 +308,36 @@ class KafkaAvailability {
         return descPromise.future();
     }
 
+    /**
+     * Lists the topics with replicas in the log directories of the given broker. Unlike the snapshot, this includes
+     * the partitions which were reassigned to the broker after the snapshot was taken.
+     *
+     * @param podId     ID of the broker
+     *
+     * @return  Future with the names of the topics with replicas on the broker
+     */
+    protected Future<Set<String>> brokerTopics(int podId) {
+        Promise<Set<String>> topicsPromise = Promise.promise();
+        adminCallRecorder.accept("describeLogDirs");
+        ac.describeLogDirs(Set.of(podId)).allDescriptions()
+                .whenComplete((logDirs, error) -> {
+                    if (error != null) {
+                        topicsPromise.fail(error);
+                    } else {
+                        Set<String> names = logDirs.getOrDefault(podId, Map.of()).values().stream()
+                                .flatMap(logDir -> logDir.replicaInfos().keySet().stream())
+                                .map(TopicPartition::topic)
+                                .collect(Collectors.toSet());
+                        LOGGER.debugCr(reconciliation, "Broker {} has replicas of {} topics", podId, names.size());
+                        topicsPromise.complete(names);
+                    }
+                });
+        return topicsPromise.future();
+    }
+
     protected Future<Set<String>> topicNames() {
         Promise<Set<String>> namesPromise = Promise.promise();
+        adminCallRecorder.accept("listTopics");
         ac.listTopics(new ListTopicsOptions().listInternal(true)).names()
                 .whenComplete((names, error) -> {
                     if (error != null) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import org.apache.kafka.clients.admin.Admin;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * State shared by all the nodes rolled by a single {@link KafkaRoller} run. It holds the Admin client connected to all
+ * the brokers and the {@link KafkaAvailability} with the snapshot of the topics and their ISRs, so that they are not
+ * recreated for every node. It also counts the Admin API calls made during the roll.
+ */
+class KafkaRollSession {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRollSession.class);
+
+    private final Reconciliation reconciliation;
+    private final Map<String, Integer> adminCalls = new ConcurrentHashMap<>();
+    private Admin admin;
+    private KafkaAvailability availability;
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    KafkaRollSession(Reconciliation reconciliation) {
+        this.reconciliation = reconciliation;
+    }
+
+    /**
+     * @return  The Admin client connected to all brokers or null if it was not created yet
+     */
+    Admin admin() {
+        return admin;
+    }
+
+    /**
+     * Sets the Admin client connected to all brokers
+     *
+     * @param admin     Admin client
+     */
+    void admin(Admin admin) {
+        this.admin = admin;
+    }
+
+    /**
+     * Returns the availability checker of this session. It is created on first use and reused afterwards so that the
+     * topic snapshot is loaded only once per roll. When the Admin client does not exist yet, a new availability checker
+     * is created for every call.
+     *
+     * @param factory   Function creating the availability checker from the Admin client
+     *
+     * @return  Availability checker
+     */
+    KafkaAvailability availability(Function<Admin, KafkaAvailability> factory) {
+        if (admin == null) {
+            return factory.apply(null);
+        }
+
+        if (availability == null) {
+            availability = factory.apply(admin);
+        }
+
+        return availability;
+    }
+
+    /**
+     * Records an Admin API call
+     *
+     * @param operation     Name of the Admin API operation
+     */
+    void recordAdminCall(String operation) {
+        adminCalls.merge(operation, 1, Integer::sum);
+    }
+
+    /**
+     * @return  Number of Admin API calls made during this session by operation
+     */
+    Map<String, Integer> adminCalls() {
+        return new TreeMap<>(adminCalls);
+    }
+
+    /**
+     * Closes the Admin client and logs the Admin API calls made during this session
+     */
+    void close() {
+        LOGGER.debugCr(reconciliation, "Rolling session made {} Admin API calls {}", adminCalls.values().stream().mapToInt(Integer::intValue).sum(), adminCalls());
+
+        try {
+            if (admin != null) {
+                admin.close(Duration.ofSeconds(30));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.debugCr(reconciliation, "Exception closing admin client", e);
+        }
+    }
+}
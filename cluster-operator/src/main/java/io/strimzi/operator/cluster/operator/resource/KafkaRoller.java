@@ -43,7 +43,6 @@ import org.apache.kafka.common.errors.SslAuthenticationException;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -107,6 +106,9 @@ import static java.util.Collections.singletonList;
 public class KafkaRoller {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRoller.class);
+    private static final long BROKER_STATE_WATCH_TIMEOUT_MS = 30_000L;
+    // Overall deadline for collecting the roll readiness summaries from all nodes
+    private static final long ROLL_READINESS_TIMEOUT_MS = 10_000L;
 
     private final PodOperator podOperations;
     private final long pollingIntervalMs;
@@ -125,7 +127,7 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
-    private Admin allClient;
+    private final KafkaRollSession session;
     private KafkaAgentClient kafkaAgentClient;
 
     /**
@@ -172,6 +174,7 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.session = new KafkaRollSession(reconciliation);
     }
 
     /**
@@ -186,16 +189,19 @@ public class KafkaRoller {
         runnable -> new Thread(runnable, "kafka-roller"));
 
     private final ConcurrentHashMap<String, RestartContext> podToContext = new ConcurrentHashMap<>();
+    // Restart reasons evaluated by the dynamic update of all brokers. They are reused by the first check of the same
+    // version of the pod, so that the restart reasons are not evaluated twice.
+    private final ConcurrentHashMap<String, Map.Entry<String, RestartReasons>> evaluatedRestartReasons = new ConcurrentHashMap<>();
     private Function<Pod, RestartReasons> podNeedsRestart;
 
     /**
-     * If allClient has not been initialized yet, does exactly that
+     * If the Admin client of the rolling session has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
     private boolean initAdminClient() {
-        if (this.allClient == null) {
+        if (session.admin() == null) {
             try {
-                this.allClient = adminClient(nodes, false);
+                session.admin(adminClient(nodes, false));
             } catch (ForceableProblem | FatalProblem e) {
                 LOGGER.warnCr(reconciliation, "Failed to create adminClient.", e);
                 return false;
@@ -219,6 +225,7 @@ public class KafkaRoller {
             try {
                 LOGGER.debugCr(reconciliation, "Verifying cluster pods are up-to-date.");
                 List<NodeRef> pods = new ArrayList<>(nodes.size());
+                boolean allBrokersReady = true;
 
                 for (NodeRef node : nodes) {
                     // Order the nodes unready first otherwise repeated reconciliations might each restart a pod
@@ -228,7 +235,9 @@ public class KafkaRoller {
                     //       limitations. Once managing controller nodes is supported with Kafka Admin API, this should be
                     //       fixed. This is tracked in https://github.com/strimzi/strimzi-kafka-operator/issues/8593.
                     if (node.broker()) {
-                        pods.add(podOperations.isReady(namespace, node.podName()) ? pods.size() : 0, node);
+                        boolean ready = podOperations.isReady(namespace, node.podName());
+                        allBrokersReady &= ready;
+                        pods.add(ready ? pods.size() : 0, node);
                     } else if (node.controller())   {
                         // We do not roll KRaft controllers yet, but we can throw a warning if it needs to be rolled
                         Pod pod = podOperations.get(namespace, node.podName());
@@ -245,19 +254,19 @@ public class KafkaRoller {
 
                 LOGGER.debugCr(reconciliation, "Initial order for updating pods (rolling restart or dynamic update) is {}", pods);
 
+                if (allBrokersReady) {
+                    // The pods are still verified one by one afterwards. But when all brokers were reconfigured
+                    // dynamically here, they just confirm that the update is done.
+                    maybeDynamicUpdateAllBrokerConfigs(pods);
+                }
+
                 List<Future<Void>> futures = new ArrayList<>(nodes.size());
                 for (NodeRef node : pods) {
                     futures.add(schedule(node, 0, TimeUnit.MILLISECONDS));
                 }
                 Future.join(futures).onComplete(ar -> {
                     singleExecutor.shutdown();
-                    try {
-                        if (allClient != null) {
-                            allClient.close(Duration.ofSeconds(30));
-                        }
-                    } catch (RuntimeException e) {
-                        LOGGER.debugCr(reconciliation, "Exception closing admin client", e);
-                    }
+                    session.close();
                     vertx.runOnContext(ignored -> result.handle(ar.map((Void) null)));
                 });
             } catch (Exception e)   {
@@ -400,6 +409,10 @@ public class KafkaRoller {
                     this.kafkaAgentClient = initKafkaAgentClient();
                 }
                 BrokerState brokerState = kafkaAgentClient.getBrokerState(pod.getMetadata().getName());
+                if (brokerState.isBrokerInRecovery()) {
+                    brokerState = awaitBrokerRecovery(nodeRef, brokerState);
+                }
+
                 if (brokerState.isBrokerInRecovery()) {
                     throw new UnforceableProblem("Pod " + nodeRef.podName() + " is not ready because the broker is performing log recovery. There are  " + brokerState.remainingLogsToRecover() + " logs and " + brokerState.remainingSegmentsToRecover() + " segments left to recover.", e.getCause());
                 }
@@ -412,7 +425,7 @@ public class KafkaRoller {
             }
         }
 
-        restartContext.restartReasons = podNeedsRestart.apply(pod);
+        restartContext.restartReasons = restartReasons(pod);
 
         try {
             checkReconfigurability(nodeRef, pod, restartContext);
@@ -466,6 +479,45 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Waits for the broker to finish the log recovery using the long-polling broker state endpoint of the KafkaAgent.
+     * The KafkaAgent pushes every change of the recovery progress, so the roller learns immediately when the broker
+     * finished the recovery instead of retrying with back-off.
+     *
+     * @param nodeRef       Reference of the node
+     * @param brokerState   Last known state of the broker
+     *
+     * @return  Last known state of the broker. It is still in recovery if the recovery did not finish within the
+     *          operation timeout or if the broker state could not be watched (e.g. because the KafkaAgent used by the
+     *          broker does not support it).
+     */
+    private BrokerState awaitBrokerRecovery(NodeRef nodeRef, BrokerState brokerState) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(operationTimeoutMs);
+
+        while (brokerState.isBrokerInRecovery()) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                break;
+            }
+
+            BrokerState newBrokerState = kafkaAgentClient.watchBrokerState(nodeRef.podName(), brokerState.version(), Math.min(remainingMs, BROKER_STATE_WATCH_TIMEOUT_MS));
+            if (newBrokerState == null || newBrokerState.code() == -1) {
+                LOGGER.debugCr(reconciliation, "Failed to watch the state of the broker in pod {}", nodeRef.podName());
+                break;
+            }
+
+            if (newBrokerState.isBrokerInRecovery()) {
+                LOGGER.infoCr(reconciliation, "Broker in pod {} is performing log recovery. There are {} logs and {} segments left to recover.", nodeRef.podName(), newBrokerState.remainingLogsToRecover(), newBrokerState.remainingSegmentsToRecover());
+            } else {
+                LOGGER.infoCr(reconciliation, "Broker in pod {} is not performing log recovery anymore (broker state {})", nodeRef.podName(), newBrokerState.code());
+            }
+
+            brokerState = newBrokerState;
+        }
+
+        return brokerState;
+    }
+
     KafkaAgentClient initKafkaAgentClient() throws FatalProblem {
         try {
             return new KafkaAgentClient(reconciliation, cluster, namespace, clusterCaCertSecret, coKeySecret);
@@ -512,7 +564,7 @@ public class KafkaRoller {
 
         if (restartContext.needsReconfig) {
             try {
-                dynamicUpdateBrokerConfig(nodeRef, allClient, restartContext.diff, restartContext.logDiff);
+                dynamicUpdateBrokerConfig(nodeRef, session.admin(), restartContext.diff, restartContext.logDiff);
                 updatedDynamically = true;
             } catch (ForceableProblem e) {
                 LOGGER.debugCr(reconciliation, "Pod {} could not be updated dynamically ({}), will restart", nodeRef, e);
@@ -610,7 +662,8 @@ public class KafkaRoller {
      */
     protected Config brokerConfig(NodeRef nodeRef) throws ForceableProblem, InterruptedException {
         ConfigResource resource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(nodeRef.nodeId()));
-        return await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeConfigs(singletonList(resource)).values().get(resource)),
+        session.recordAdminCall("describeConfigs");
+        return await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, session.admin().describeConfigs(singletonList(resource)).values().get(resource)),
             30, TimeUnit.SECONDS,
             error -> new ForceableProblem("Error getting broker config", error)
         );
@@ -623,7 +676,8 @@ public class KafkaRoller {
      */
     protected Config brokerLogging(int brokerId) throws ForceableProblem, InterruptedException {
         ConfigResource resource = Util.getBrokersLogging(brokerId);
-        return await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeConfigs(singletonList(resource)).values().get(resource)),
+        session.recordAdminCall("describeConfigs");
+        return await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, session.admin().describeConfigs(singletonList(resource)).values().get(resource)),
                 30, TimeUnit.SECONDS,
             error -> new ForceableProblem("Error getting broker logging", error)
         );
@@ -639,6 +693,7 @@ public class KafkaRoller {
         LOGGER.debugCr(reconciliation, "Updating broker configuration {}", nodeRef);
         LOGGER.traceCr(reconciliation, "Updating broker configuration {} with {}", nodeRef, updatedConfig);
 
+        session.recordAdminCall("incrementalAlterConfigs");
         AlterConfigsResult alterConfigResult = ac.incrementalAlterConfigs(updatedConfig);
         KafkaFuture<Void> brokerConfigFuture = alterConfigResult.values().get(Util.getBrokersConfig(podId));
         KafkaFuture<Void> brokerLoggingConfigFuture = alterConfigResult.values().get(Util.getBrokersLogging(podId));
@@ -656,6 +711,159 @@ public class KafkaRoller {
         LOGGER.infoCr(reconciliation, "Dynamic update of pod {} was successful.", nodeRef);
     }
 
+    /**
+     * Fast path for the rolling updates which only change the dynamically updatable configuration. When none of the
+     * brokers needs to be restarted, the configuration of all brokers is described with a single request, the
+     * differences are computed locally and all brokers are reconfigured with a single request. This avoids
+     * reconfiguring large clusters broker by broker. When any broker needs to be restarted or any of the requests
+     * fails, nothing is done here and the brokers are handled one by one.
+     *
+     * @param brokers   Brokers which should be reconfigured
+     *
+     * @return  True if the brokers were reconfigured. False otherwise.
+     */
+    /* test */ boolean maybeDynamicUpdateAllBrokerConfigs(List<NodeRef> brokers) throws InterruptedException {
+        if (!allowReconfiguration || brokers.size() < 2) {
+            return false;
+        }
+
+        try {
+            for (NodeRef nodeRef : brokers) {
+                Pod pod = podOperations.get(namespace, nodeRef.podName());
+                if (pod == null || isPodStuck(pod) || evaluateRestartReasons(pod).shouldRestart()) {
+                    LOGGER.debugCr(reconciliation, "Pod {} might need to be restarted, brokers will be reconfigured one by one", nodeRef);
+                    return false;
+                }
+            }
+
+            if (!initAdminClient()) {
+                return false;
+            }
+
+            List<ConfigResource> resources = new ArrayList<>(brokers.size() * 2);
+            for (NodeRef nodeRef : brokers) {
+                resources.add(Util.getBrokersConfig(nodeRef.nodeId()));
+                resources.add(Util.getBrokersLogging(nodeRef.nodeId()));
+            }
+            Map<ConfigResource, Config> configs = describeBrokerConfigs(resources);
+
+            List<Map.Entry<NodeRef, Map<ConfigResource, Collection<AlterConfigOp>>>> diffs = brokers.stream()
+                    .map(nodeRef -> brokerConfigUpdates(nodeRef, configs))
+                    .toList();
+
+            Map<ConfigResource, Collection<AlterConfigOp>> updatedConfigs = new HashMap<>();
+            List<NodeRef> updatedBrokers = new ArrayList<>();
+            for (var diff : diffs) {
+                if (diff == null) {
+                    LOGGER.debugCr(reconciliation, "Some brokers cannot be updated dynamically, brokers will be reconfigured one by one");
+                    return false;
+                } else if (!diff.getValue().isEmpty()) {
+                    updatedConfigs.putAll(diff.getValue());
+                    updatedBrokers.add(diff.getKey());
+                }
+            }
+
+            if (updatedConfigs.isEmpty()) {
+                LOGGER.debugCr(reconciliation, "No broker needs to be reconfigured");
+                return false;
+            }
+
+            LOGGER.debugCr(reconciliation, "Updating configuration of brokers {}", updatedBrokers);
+            alterBrokerConfigs(updatedConfigs);
+            LOGGER.infoCr(reconciliation, "Dynamic update of pods {} was successful.", updatedBrokers);
+            return true;
+        } catch (ForceableProblem | RuntimeException e) {
+            LOGGER.debugCr(reconciliation, "Brokers could not be reconfigured together, they will be reconfigured one by one", e);
+            return false;
+        }
+    }
+
+    /**
+     * Evaluates the restart reasons of the pod and keeps them for the first check of the same version of the pod
+     *
+     * @param pod   Pod which should be checked
+     *
+     * @return  The restart reasons
+     */
+    private RestartReasons evaluateRestartReasons(Pod pod) {
+        RestartReasons reasons = podNeedsRestart.apply(pod);
+        evaluatedRestartReasons.put(pod.getMetadata().getName(), Map.entry(String.valueOf(pod.getMetadata().getResourceVersion()), reasons));
+        return reasons;
+    }
+
+    /**
+     * Returns the restart reasons of the pod. The reasons evaluated by the dynamic update of all brokers are used if
+     * the pod did not change since then. Otherwise, the reasons are evaluated again.
+     *
+     * @param pod   Pod which should be checked
+     *
+     * @return  The restart reasons
+     */
+    private RestartReasons restartReasons(Pod pod) {
+        Map.Entry<String, RestartReasons> evaluated = evaluatedRestartReasons.remove(pod.getMetadata().getName());
+
+        if (evaluated != null && evaluated.getKey().equals(String.valueOf(pod.getMetadata().getResourceVersion()))) {
+            return evaluated.getValue();
+        } else {
+            return podNeedsRestart.apply(pod);
+        }
+    }
+
+    /**
+     * Computes the configuration changes of a broker for the dynamic update of all brokers together
+     *
+     * @param nodeRef   Reference of the broker
+     * @param configs   Current configuration and logging of all brokers
+     *
+     * @return  Entry with the broker and its configuration changes or null if the broker cannot be updated dynamically
+     */
+    private Map.Entry<NodeRef, Map<ConfigResource, Collection<AlterConfigOp>>> brokerConfigUpdates(NodeRef nodeRef, Map<ConfigResource, Config> configs) {
+        int nodeId = nodeRef.nodeId();
+        KafkaBrokerConfigurationDiff diff = new KafkaBrokerConfigurationDiff(reconciliation, configs.get(Util.getBrokersConfig(nodeId)), kafkaConfigProvider.apply(nodeId), kafkaVersion, nodeId);
+        KafkaBrokerLoggingConfigurationDiff loggingDiff = new KafkaBrokerLoggingConfigurationDiff(reconciliation, configs.get(Util.getBrokersLogging(nodeId)), kafkaLogging);
+
+        if (diff.getDiffSize() > 0 && !diff.canBeUpdatedDynamically()) {
+            return null;
+        }
+
+        Map<ConfigResource, Collection<AlterConfigOp>> updates = new HashMap<>(2);
+        if (diff.getDiffSize() > 0) {
+            updates.put(Util.getBrokersConfig(nodeId), diff.getConfigDiff());
+        }
+        if (loggingDiff.getDiffSize() > 0) {
+            updates.put(Util.getBrokersLogging(nodeId), loggingDiff.getLoggingDiff());
+        }
+        return Map.entry(nodeRef, updates);
+    }
+
+    /**
+     * Describes the given broker configuration resources using a single request
+     *
+     * @param resources     Broker configuration and logging resources
+     *
+     * @return  Map with the configurations
+     */
+    protected Map<ConfigResource, Config> describeBrokerConfigs(Collection<ConfigResource> resources) throws ForceableProblem, InterruptedException {
+        session.recordAdminCall("describeConfigs");
+        return await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, session.admin().describeConfigs(resources).all()),
+                30, TimeUnit.SECONDS,
+            error -> new ForceableProblem("Error getting broker configs", error)
+        );
+    }
+
+    /**
+     * Alters the configuration of the brokers using a single request
+     *
+     * @param updatedConfigs    Configuration changes of the brokers
+     */
+    protected void alterBrokerConfigs(Map<ConfigResource, Collection<AlterConfigOp>> updatedConfigs) throws ForceableProblem, InterruptedException {
+        session.recordAdminCall("incrementalAlterConfigs");
+        await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, session.admin().incrementalAlterConfigs(updatedConfigs).all()),
+                30, TimeUnit.SECONDS,
+            error -> new ForceableProblem("Error updating broker configurations", error)
+        );
+    }
+
     private KafkaBrokerLoggingConfigurationDiff logging(NodeRef nodeRef)
             throws ForceableProblem, InterruptedException {
         Config brokerLogging = brokerLogging(nodeRef.nodeId());
@@ -714,8 +922,13 @@ public class KafkaRoller {
 
     private boolean canRoll(NodeRef nodeRef, long timeout, TimeUnit unit, boolean ignoreSslError, RestartContext restartContext)
             throws ForceableProblem, InterruptedException {
+        if (rollReadinessAllowsRoll()) {
+            LOGGER.debugCr(reconciliation, "Roll readiness reported by the Kafka agents allows pod {} to be rolled", nodeRef);
+            return true;
+        }
+
         try {
-            return await(availability(allClient).canRoll(nodeRef.nodeId()), timeout, unit,
+            return await(session.availability(this::availability).canRoll(nodeRef.nodeId()), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka pods", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -728,6 +941,60 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Checks the roll readiness summaries reported by the Kafka agents of all nodes. This avoids the Admin based
+     * availability check, which describes all topics and their configurations, in the common case where the cluster is
+     * fully replicated. Restarting a broker cannot make any partition fall below its min.insync.replicas when no
+     * partition is at or under its min.insync.replicas and no partition is offline. Every broker has to report its
+     * replica metrics and at least one node has to report the offline partitions of the controller. Otherwise, for
+     * example when the agents are not reachable or do not support the roll readiness endpoint yet, the Admin based
+     * check has to be used. The summaries are requested from all nodes concurrently and the nodes which do not respond
+     * within the overall deadline are treated as not reachable.
+     *
+     * @return  True if the roll readiness summaries show that any broker can be rolled. False if the Admin based
+     *          availability check has to be used.
+     */
+    private boolean rollReadinessAllowsRoll() throws InterruptedException {
+        if (kafkaAgentClient == null) {
+            try {
+                this.kafkaAgentClient = initKafkaAgentClient();
+            } catch (FatalProblem e) {
+                LOGGER.debugCr(reconciliation, "Failed to initialize Kafka agent client for the roll readiness check", e);
+                return false;
+            }
+        }
+
+        Map<NodeRef, CompletableFuture<RollReadiness>> requests = new HashMap<>(nodes.size());
+        for (NodeRef node : nodes) {
+            requests.put(node, kafkaAgentClient.getRollReadiness(node.podName()));
+        }
+
+        try {
+            CompletableFuture.allOf(requests.values().toArray(new CompletableFuture[0])).get(ROLL_READINESS_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            LOGGER.debugCr(reconciliation, "Failed to get the roll readiness from all nodes in time, the Admin based availability check will be used", e);
+            requests.values().forEach(request -> request.cancel(true));
+            return false;
+        }
+
+        boolean offlinePartitionsKnown = false;
+
+        for (NodeRef node : nodes) {
+            RollReadiness rollReadiness = requests.get(node).join();
+
+            if (rollReadiness == null
+                    || (node.broker() && !rollReadiness.hasNoPartitionsAtOrUnderMinIsr())
+                    || (rollReadiness.offlinePartitions() != null && rollReadiness.offlinePartitions() != 0)) {
+                LOGGER.debugCr(reconciliation, "Roll readiness of pod {} requires the Admin based availability check: {}", node.podName(), rollReadiness);
+                return false;
+            }
+
+            offlinePartitionsKnown |= rollReadiness.offlinePartitions() != null;
+        }
+
+        return offlinePartitionsKnown;
+    }
+
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
@@ -824,7 +1091,14 @@ public class KafkaRoller {
     }
 
     protected KafkaAvailability availability(Admin ac) {
-        return new KafkaAvailability(reconciliation, ac);
+        return new KafkaAvailability(reconciliation, ac, session::recordAdminCall);
+    }
+
+    /**
+     * @return  Number of Admin API calls made by this roller by operation
+     */
+    /* test */ Map<String, Integer> adminCalls() {
+        return session.adminCalls();
     }
     
     /**
@@ -846,10 +1120,13 @@ public class KafkaRoller {
      */
     @SuppressFBWarnings("RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE") // seems to be completely spurious
     int controller(NodeRef nodeRef, long timeout, TimeUnit unit, RestartContext restartContext) throws Exception {
-        // Don't use all allClient here, because it will have cache metadata about which is the controller.
+        // The per-node Admin client is used here instead of the Admin client of the rolling session. The session client
+        // would get the answer from the other brokers even when this broker is unreachable, and the connection problems
+        // with this broker would never be detected.
         try (Admin ac = adminClient(Set.of(nodeRef), false)) {
             Node controllerNode = null;
             try {
+                session.recordAdminCall("describeCluster");
                 DescribeClusterResult describeClusterResult = ac.describeCluster();
                 KafkaFuture<Node> controller = describeClusterResult.controller();
                 controllerNode = controller.get(timeout, unit);
@@ -30,6 +30,7 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.InformerRegistry;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
@@ -241,6 +242,11 @@ public class ResourceOperatorSupplier {
      */
     public final PreventBrokerScaleDownCheck brokerScaleDownOperations;
 
+    /**
+     * Registry of the informers shared between the StrimziPodSet controller and the assembly operators
+     */
+    public final InformerRegistry informerRegistry;
+
     /**
      * Constructor
      *
@@ -458,5 +464,12 @@ public class ResourceOperatorSupplier {
         this.restartEventsPublisher = restartEventsPublisher;
         this.sharedEnvironmentProvider = sharedEnvironmentProvider;
         this.brokerScaleDownOperations = brokerScaleDownOperations;
+
+        // The Kafka, KafkaConnect and KafkaMirrorMaker2 resources are cached by the informers of the StrimziPodSet
+        // controller => we use them to get these resources in the reconciliations
+        this.informerRegistry = new InformerRegistry(metricsProvider);
+        kafkaOperator.useInformerRegistry(informerRegistry);
+        connectOperator.useInformerRegistry(informerRegistry);
+        mirrorMaker2Operator.useInformerRegistry(informerRegistry);
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Java representation of the JSON response from the /v1/roll-readiness endpoint of the KafkaAgent. The values are null
+ * when the corresponding metric is not registered on the node. For example, the controller-only nodes do not have the
+ * replica metrics and the brokers in KRaft mode do not have the offline partitions metric.
+ */
+class RollReadiness {
+    private final Integer underReplicatedPartitions;
+    private final Integer underMinIsrPartitions;
+    private final Integer atMinIsrPartitions;
+    private final Integer offlinePartitions;
+
+    /**
+     * Constructor
+     * @param underReplicatedPartitions Number of under-replicated partitions led by the broker
+     * @param underMinIsrPartitions Number of partitions led by the broker with fewer in-sync replicas than min.insync.replicas
+     * @param atMinIsrPartitions Number of partitions led by the broker with exactly min.insync.replicas in-sync replicas
+     * @param offlinePartitions Number of partitions without a leader according to the controller
+     */
+    @JsonCreator
+    public RollReadiness(@JsonProperty("underReplicatedPartitions") Integer underReplicatedPartitions,
+                         @JsonProperty("underMinIsrPartitions") Integer underMinIsrPartitions,
+                         @JsonProperty("atMinIsrPartitions") Integer atMinIsrPartitions,
+                         @JsonProperty("offlinePartitions") Integer offlinePartitions) {
+        this.underReplicatedPartitions = underReplicatedPartitions;
+        this.underMinIsrPartitions = underMinIsrPartitions;
+        this.atMinIsrPartitions = atMinIsrPartitions;
+        this.offlinePartitions = offlinePartitions;
+    }
+
+    /**
+     * Number of under-replicated partitions led by the broker or null if not known
+     * @return Integer result
+     */
+    public Integer underReplicatedPartitions() {
+        return underReplicatedPartitions;
+    }
+
+    /**
+     * Number of partitions led by the broker with fewer in-sync replicas than min.insync.replicas or null if not known
+     * @return Integer result
+     */
+    public Integer underMinIsrPartitions() {
+        return underMinIsrPartitions;
+    }
+
+    /**
+     * Number of partitions led by the broker with exactly min.insync.replicas in-sync replicas or null if not known
+     * @return Integer result
+     */
+    public Integer atMinIsrPartitions() {
+        return atMinIsrPartitions;
+    }
+
+    /**
+     * Number of partitions without a leader according to the controller or null if not known
+     * @return Integer result
+     */
+    public Integer offlinePartitions() {
+        return offlinePartitions;
+    }
+
+    /**
+     * Returns true if no partition led by the broker is at or below its min.insync.replicas. Restarting any broker
+     * then cannot make a partition led by this broker fall below its min.insync.replicas. Partitions with replication
+     * factor lower than or equal to min.insync.replicas are counted as at min ISR by Kafka, so this check is
+     * conservative for them.
+     * @return boolean result
+     */
+    public boolean hasNoPartitionsAtOrUnderMinIsr() {
+        return Integer.valueOf(0).equals(underMinIsrPartitions) && Integer.valueOf(0).equals(atMinIsrPartitions);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Under-replicated partitions: %s, Under min ISR partitions: %s, At min ISR partitions: %s, Offline partitions: %s",
+                underReplicatedPartitions, underMinIsrPartitions, atMinIsrPartitions, offlinePartitions);
+    }
+}
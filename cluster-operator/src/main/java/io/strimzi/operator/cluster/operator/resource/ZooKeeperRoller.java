@@ -15,7 +15,9 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -80,7 +82,7 @@ public class ZooKeeperRoller {
                         if (pod != null)    {
                             List<String> restartReasons = podRestart.apply(pod);
                             final boolean ready = podOperator.isReady(namespace, pod.getMetadata().getName());
-                            ZookeeperPodContext podContext = new ZookeeperPodContext(podName, restartReasons, true, ready);
+                            ZookeeperPodContext podContext = new ZookeeperPodContext(podName, pod.getMetadata().getUid(), restartReasons, true, ready);
                             if (restartReasons != null && !restartReasons.isEmpty())    {
                                 LOGGER.debugCr(reconciliation, "Pod {} should be rolled due to {}", podContext.getPodName(), restartReasons);
                             } else {
@@ -104,7 +106,7 @@ public class ZooKeeperRoller {
                 }).compose(clusterRollContext -> {
                     if (clusterRollContext != null)  {
                         Promise<Void> promise = Promise.promise();
-                        Future<String> leaderFuture = leaderFinder.findZookeeperLeader(reconciliation, clusterRollContext.podNames(), clusterCaSecret, coKeySecret);
+                        Future<String> leaderFuture = leaderFinder.findTrackedZookeeperLeader(reconciliation, clusterRollContext.podUids(), clusterCaSecret, coKeySecret);
 
                         leaderFuture.compose(leader -> {
                             LOGGER.debugCr(reconciliation, "Zookeeper leader is " + (ZookeeperLeaderFinder.UNKNOWN_LEADER.equals(leader) ? "unknown" : "pod " + leader));
@@ -231,6 +233,17 @@ public class ZooKeeperRoller {
             return podContexts.stream().map(ZookeeperPodContext::getPodName).collect(Collectors.toSet());
         }
 
+        /**
+         * @return  Map with the names of the ZooKeeper pods in this context and their UIDs (null for missing pods)
+         */
+        Map<String, String> podUids() {
+            Map<String, String> podUids = new HashMap<>(podContexts.size());
+            for (ZookeeperPodContext podContext : podContexts) {
+                podUids.put(podContext.getPodName(), podContext.uid);
+            }
+            return podUids;
+        }
+
         /**
          * Gets a Pod context for a given pod name
          *
@@ -248,6 +261,7 @@ public class ZooKeeperRoller {
      */
     /* test */ static class ZookeeperPodContext {
         private final String podName;
+        private final String uid;
         private final boolean exists;
         private final boolean ready;
         private final List<String> reasonsToRestart = new ArrayList<>();
@@ -261,7 +275,21 @@ public class ZooKeeperRoller {
          * @param ready            Flag indicating whether this pod is ready or not
          */
         ZookeeperPodContext(final String podName, final List<String> reasonsToRestart, final boolean exists, final boolean ready) {
+            this(podName, null, reasonsToRestart, exists, ready);
+        }
+
+        /**
+         * Constructs the ZooKeeper Pod Context
+         *
+         * @param podName          Name of this ZooKeeper pod
+         * @param uid              UID of this ZooKeeper pod or null if the pod does not exist
+         * @param reasonsToRestart List with the reasons why this pod might need to be restarted
+         * @param exists           Flag indicating if this pod exists or not
+         * @param ready            Flag indicating whether this pod is ready or not
+         */
+        ZookeeperPodContext(final String podName, final String uid, final List<String> reasonsToRestart, final boolean exists, final boolean ready) {
             this.podName = podName;
+            this.uid = uid;
             this.exists = exists;
             this.ready = ready;
 
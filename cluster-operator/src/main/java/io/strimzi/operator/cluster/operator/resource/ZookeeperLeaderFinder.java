@@ -30,6 +30,7 @@ import java.security.cert.CertificateFactory;
 import java.util.Base64;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -49,6 +50,7 @@ public class ZookeeperLeaderFinder {
 
     private final Vertx vertx;
     private final Supplier<BackOff> backOffSupplier;
+    private final Map<String, TrackedLeader> leaders = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -153,6 +155,70 @@ public class ZookeeperLeaderFinder {
         }
     }
 
+    /**
+     * Returns a Future which completes with the id of the Zookeeper leader. The leader found by the previous call for
+     * the same cluster is remembered together with the UIDs of the ZooKeeper pods. As long as the pods were not
+     * recreated, the remembered leader is only verified by querying that single pod instead of searching for the leader
+     * across all pods. When the pods changed or the remembered pod is not the leader anymore, the leader is searched
+     * for using {@link #findZookeeperLeader(Reconciliation, Set, Secret, Secret)}.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param pods              Map with the names of the ZooKeeper pods and their UIDs (null for pods which do not exist)
+     * @param clusterCaSecret   Secret with the cluster CA public key
+     * @param coKeySecret       Secret with the cluster operator public and private key
+     *
+     * @return  Future which completes with the name of the leader pod or with {@link #UNKNOWN_LEADER}
+     */
+    Future<String> findTrackedZookeeperLeader(Reconciliation reconciliation, Map<String, String> pods, Secret clusterCaSecret, Secret coKeySecret) {
+        String cluster = reconciliation.namespace() + "/" + reconciliation.name();
+        TrackedLeader tracked = leaders.get(cluster);
+
+        if (tracked == null || pods.size() < 2 || !tracked.pods().equals(pods)) {
+            return findAndTrackZookeeperLeader(reconciliation, cluster, pods, clusterCaSecret, coKeySecret);
+        }
+
+        try {
+            NetClientOptions netClientOptions = clientOptions(reconciliation, coKeySecret, clusterCaSecret);
+
+            return isLeader(reconciliation, tracked.leader(), netClientOptions)
+                    .compose(isLeader -> {
+                        if (isLeader) {
+                            LOGGER.debugCr(reconciliation, "Pod {} is still the leader", tracked.leader());
+                            return Future.succeededFuture(tracked.leader());
+                        } else {
+                            LOGGER.infoCr(reconciliation, "Pod {} is not the leader anymore", tracked.leader());
+                            return findAndTrackZookeeperLeader(reconciliation, cluster, pods, clusterCaSecret, coKeySecret);
+                        }
+                    });
+        } catch (Throwable e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    /**
+     * Searches for the ZooKeeper leader and remembers it when found. The leader is remembered only when all pods exist.
+     */
+    private Future<String> findAndTrackZookeeperLeader(Reconciliation reconciliation, String cluster, Map<String, String> pods, Secret clusterCaSecret, Secret coKeySecret) {
+        leaders.remove(cluster);
+
+        return findZookeeperLeader(reconciliation, pods.keySet(), clusterCaSecret, coKeySecret)
+                .onSuccess(leader -> {
+                    if (!UNKNOWN_LEADER.equals(leader) && !pods.containsValue(null)) {
+                        leaders.put(cluster, new TrackedLeader(leader, Map.copyOf(pods)));
+                    }
+                });
+    }
+
+    /**
+     * Forgets the remembered leader of a ZooKeeper cluster. This should be called when the cluster is deleted.
+     *
+     * @param namespace     Namespace of the cluster
+     * @param name          Name of the cluster
+     */
+    public void forgetZookeeperLeader(String namespace, String name) {
+        leaders.remove(namespace + "/" + name);
+    }
+
     private Future<String> zookeeperLeaderWithBackoff(Reconciliation reconciliation, Set<String> pods, NetClientOptions netClientOptions) {
         Promise<String> result = Promise.promise();
         BackOff backOff = backOffSupplier.get();
@@ -313,4 +379,12 @@ public class ZookeeperLeaderFinder {
     protected int port(String podName) {
         return ZookeeperCluster.CLIENT_TLS_PORT;
     }
+
+    /**
+     * Leader of a ZooKeeper cluster remembered together with the pods which were used to find it
+     *
+     * @param leader    Name of the leader pod
+     * @param pods      Map with the names of the ZooKeeper pods and their UIDs
+     */
+    private record TrackedLeader(String leader, Map<String, String> pods) { }
 }
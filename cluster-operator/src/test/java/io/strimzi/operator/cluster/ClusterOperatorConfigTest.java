@@ -120,6 +120,8 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
         assertThat(config.getDnsCacheTtlSec(), is(Integer.parseInt(ClusterOperatorConfig.DNS_CACHE_TTL.defaultValue())));
         assertThat(config.getPodSecurityProviderClass(), is(ClusterOperatorConfig.POD_SECURITY_PROVIDER_CLASS.defaultValue()));
+        assertThat(config.getMetricsMaxSeriesPerMetric(), is(10_000));
+        assertThat(config.isProfilingEndpointEnabled(), is(false));
     }
 
     private Map<String, String> envWithImages() {
@@ -136,6 +136,7 @@ public class ClusterOperatorTest {
             SharedIndexInformer mockCmInformer = mock(SharedIndexInformer.class);
             when(mockCmInformer.getIndexer()).thenReturn(mockCmIndexer);
             when(mockCmInformer.stopped()).thenReturn(CompletableFuture.completedFuture(null));
+            when(mockCmInformer.itemStore(any())).thenReturn(mockCmInformer);
 
             MixedOperation mockNamespacedCms = mock(MixedOperation.class);
             when(mockNamespacedCms.watch(any())).thenAnswer(invo -> {
@@ -161,6 +162,7 @@ public class ClusterOperatorTest {
             MixedOperation mockNamespacedPods = mock(MixedOperation.class);
             when(mockPodInformer.getIndexer()).thenReturn(mockPodIndexer);
             when(mockPodInformer.stopped()).thenReturn(CompletableFuture.completedFuture(null));
+            when(mockPodInformer.itemStore(any())).thenReturn(mockPodInformer);
             when(mockNamespacedPods.runnableInformer(anyLong())).thenAnswer(i -> {
                 numInformers.getAndIncrement();
                 return mockPodInformer;
@@ -175,7 +177,7 @@ public class ClusterOperatorTest {
         CountDownLatch latch = new CountDownLatch(namespaceList.size() + 1);
 
         Main.deployClusterOperatorVerticles(VERTX, client, ResourceUtils.metricsProvider(), new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION),
-                    ClusterOperatorConfig.buildFromMap(env, KafkaVersionTestUtils.getKafkaVersionLookup()), new ShutdownHook())
+                    ClusterOperatorConfig.buildFromMap(env, KafkaVersionTestUtils.getKafkaVersionLookup()), new ShutdownHook(), null)
 
             .onComplete(context.succeeding(v -> context.verify(() -> {
                 assertThat("A verticle per namespace", VERTX.deploymentIDs(), hasSize(namespaceList.size()));
@@ -230,6 +232,7 @@ public class ClusterOperatorTest {
         SharedIndexInformer mockCmInformer = mock(SharedIndexInformer.class);
         when(mockCmInformer.getIndexer()).thenReturn(mockCmIndexer);
         when(mockCmInformer.stopped()).thenReturn(CompletableFuture.completedFuture(null));
+        when(mockCmInformer.itemStore(any())).thenReturn(mockCmInformer);
 
         AnyNamespaceOperation mockFilteredCms = mock(AnyNamespaceOperation.class);
         when(mockFilteredCms.withLabels(any())).thenReturn(mockFilteredCms);
@@ -259,6 +262,7 @@ public class ClusterOperatorTest {
         when(mockPods.inAnyNamespace()).thenReturn(mockFilteredPods);
         when(mockPodInformer.getIndexer()).thenReturn(mockPodIndexer);
         when(mockPodInformer.stopped()).thenReturn(CompletableFuture.completedFuture(null));
+        when(mockPodInformer.itemStore(any())).thenReturn(mockPodInformer);
         when(mockFilteredPods.runnableInformer(anyLong())).thenAnswer(i -> {
             numInformers.getAndIncrement();
             return mockPodInformer;
@@ -270,7 +274,7 @@ public class ClusterOperatorTest {
         CountDownLatch latch = new CountDownLatch(2);
 
         Main.deployClusterOperatorVerticles(VERTX, client, ResourceUtils.metricsProvider(), new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION),
-                ClusterOperatorConfig.buildFromMap(env, KafkaVersionTestUtils.getKafkaVersionLookup()), new ShutdownHook())
+                ClusterOperatorConfig.buildFromMap(env, KafkaVersionTestUtils.getKafkaVersionLookup()), new ShutdownHook(), null)
             .onComplete(context.succeeding(v -> context.verify(() -> {
                 assertThat("A verticle per namespace", VERTX.deploymentIDs(), hasSize(1));
                 for (String deploymentId: VERTX.deploymentIDs()) {
@@ -92,6 +92,7 @@ import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeLogDirsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.TopicListing;
@@ -514,6 +515,10 @@ public class ResourceUtils {
                 }
                 when(mock.describeTopics(any(Collection.class))).thenReturn(dtr);
 
+                DescribeLogDirsResult dldr = mock(DescribeLogDirsResult.class);
+                when(dldr.allDescriptions()).thenReturn(KafkaFutureImpl.completedFuture(emptyMap()));
+                when(mock.describeLogDirs(any())).thenReturn(dldr);
+
                 DescribeConfigsResult dcfr;
                 try {
                     Constructor<DescribeConfigsResult> declaredConstructor = DescribeConfigsResult.class.getDeclaredConstructor(Map.class);
@@ -30,6 +30,25 @@ public class LeaderElectionManagerConfigTest {
         assertThat(config.getLeaseDuration().toMillis(), is(15_000L));
         assertThat(config.getRenewDeadline().toMillis(), is(10_000L));
         assertThat(config.getRetryPeriod().toMillis(), is(2_000L));
+        assertThat(config.getShards(), is(1));
+        assertThat(config.isSharded(), is(false));
+    }
+
+    @Test
+    public void testConfiguredShards() {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), "my-lease");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), "my-namespace");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), "my-pod");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDS.key(), "8");
+
+        LeaderElectionManagerConfig config = LeaderElectionManagerConfig.fromMap(envVars);
+
+        assertThat(config.getShards(), is(8));
+        assertThat(config.isSharded(), is(true));
+
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> LeaderElectionManagerConfig.fromMap(envVars));
     }
 
     @Test
@@ -0,0 +1,97 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ShardOwnershipTest {
+    @Test
+    public void testShardAssignment() {
+        Set<Integer> usedShards = new HashSet<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            int shard = ShardOwnership.shard("my-namespace", "my-cluster-" + i, 8);
+
+            assertThat(shard, is(greaterThanOrEqualTo(0)));
+            assertThat(shard, is(lessThan(8)));
+            assertThat(ShardOwnership.shard("my-namespace", "my-cluster-" + i, 8), is(shard));
+            usedShards.add(shard);
+        }
+
+        assertThat(usedShards.size(), is(8));
+        assertThat(new ShardOwnership(8).shard("my-namespace", "my-cluster-0"), is(ShardOwnership.shard("my-namespace", "my-cluster-0", 8)));
+    }
+
+    @Test
+    public void testInvalidNumberOfShards() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardOwnership(0));
+    }
+
+    @Test
+    public void testOwnership() {
+        ShardOwnership ownership = new ShardOwnership(4);
+        int shard = ownership.shard("my-namespace", "my-cluster");
+
+        assertThat(ownership.owns("my-namespace", "my-cluster"), is(false));
+        assertThat(ownership.tryStartReconciliation("my-namespace", "my-cluster"), is(false));
+        assertThat(ownership.isIdle(shard), is(true));
+
+        ownership.acquire(shard);
+        assertThat(ownership.owns("my-namespace", "my-cluster"), is(true));
+        assertThat(ownership.ownedShards(), is(Set.of(shard)));
+
+        assertThat(ownership.tryStartReconciliation("my-namespace", "my-cluster"), is(true));
+        assertThat(ownership.isIdle(shard), is(false));
+
+        // Released shard is not reconciled anymore, but the running reconciliation keeps it busy
+        ownership.release(shard);
+        assertThat(ownership.owns("my-namespace", "my-cluster"), is(false));
+        assertThat(ownership.tryStartReconciliation("my-namespace", "my-cluster"), is(false));
+        assertThat(ownership.isIdle(shard), is(false));
+
+        ownership.endReconciliation("my-namespace", "my-cluster");
+        assertThat(ownership.isIdle(shard), is(true));
+        assertThat(ownership.ownedShards().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testShardAcquiredListeners() {
+        ShardOwnership ownership = new ShardOwnership(4);
+        List<Integer> acquired = new ArrayList<>();
+        IntConsumer listener = acquired::add;
+        ownership.addShardAcquiredListener(shard -> {
+            throw new RuntimeException("Failing listener");
+        });
+        ownership.addShardAcquiredListener(listener);
+
+        ownership.acquire(1);
+        assertThat(acquired, is(List.of(1)));
+
+        // Already owned shard is not announced again
+        ownership.acquire(1);
+        assertThat(acquired, is(List.of(1)));
+
+        // Released and re-acquired shard is announced again
+        ownership.release(1);
+        ownership.acquire(1);
+        assertThat(acquired, is(List.of(1, 1)));
+
+        ownership.removeShardAcquiredListener(listener);
+        ownership.acquire(2);
+        assertThat(acquired, is(List.of(1, 1)));
+    }
+}
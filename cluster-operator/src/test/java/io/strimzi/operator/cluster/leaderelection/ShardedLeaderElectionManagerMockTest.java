@@ -0,0 +1,170 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.test.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+public class ShardedLeaderElectionManagerMockTest {
+    private final static String NAMESPACE = "my-le-namespace";
+    private final static String LEASE_NAME = "my-lease";
+    private final static int SHARDS = 4;
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    @Test
+    public void testShardsAreRebalanced() {
+        AtomicInteger lostShards = new AtomicInteger(0);
+
+        ShardedLeaderElectionManager le1 = createShardedLeaderElectionManager("le-1", lostShards::incrementAndGet);
+        ShardedLeaderElectionManager le2 = createShardedLeaderElectionManager("le-2", lostShards::incrementAndGet);
+
+        // Start the first member => it should own all shards
+        le1.start();
+        TestUtils.waitFor("le-1 owns all shards", 100, 30_000, () -> le1.shardOwnership().ownedShards().size() == SHARDS);
+        assertThat(shardHolders(), is(Set.of("le-1")));
+
+        // Start the second member => the shards should be split
+        le2.start();
+        TestUtils.waitFor("The shards are split", 100, 30_000,
+                () -> le1.shardOwnership().ownedShards().size() == SHARDS / 2 && le2.shardOwnership().ownedShards().size() == SHARDS / 2);
+
+        Set<Integer> allShards = new HashSet<>(le1.shardOwnership().ownedShards());
+        allShards.addAll(le2.shardOwnership().ownedShards());
+        assertThat(allShards.size(), is(SHARDS));
+
+        // Stop the first member => the second member should take over all shards
+        le1.stop();
+        assertThat(le1.shardOwnership().ownedShards().isEmpty(), is(true));
+        TestUtils.waitFor("le-2 owns all shards", 100, 30_000, () -> le2.shardOwnership().ownedShards().size() == SHARDS);
+
+        le2.stop();
+        assertThat(le2.shardOwnership().ownedShards().isEmpty(), is(true));
+
+        // Shards were only handed over, never lost
+        assertThat(lostShards.get(), is(0));
+    }
+
+    @Test
+    public void testBusyShardIsNotReleased() {
+        ShardedLeaderElectionManager le1 = createShardedLeaderElectionManager("le-1", () -> { });
+        ShardedLeaderElectionManager le2 = createShardedLeaderElectionManager("le-2", () -> { });
+
+        le1.start();
+        TestUtils.waitFor("le-1 owns all shards", 100, 30_000, () -> le1.shardOwnership().ownedShards().size() == SHARDS);
+
+        // Start a reconciliation in each shard
+        Map<Integer, String> resourceInShard = new HashMap<>();
+        for (int i = 0; resourceInShard.size() < SHARDS; i++) {
+            resourceInShard.putIfAbsent(le1.shardOwnership().shard(NAMESPACE, "my-cluster-" + i), "my-cluster-" + i);
+        }
+        resourceInShard.values().forEach(name -> assertThat(le1.shardOwnership().tryStartReconciliation(NAMESPACE, name), is(true)));
+
+        // The shards above the fair share are not reconciled anymore, but their Leases are kept until the reconciliations finish
+        le2.start();
+        TestUtils.waitFor("le-1 drains shards", 100, 30_000, () -> le1.shardOwnership().ownedShards().size() == SHARDS / 2);
+        assertThat(le2.shardOwnership().ownedShards().isEmpty(), is(true));
+        assertThat(shardHolders(), is(Set.of("le-1")));
+
+        resourceInShard.values().forEach(name -> le1.shardOwnership().endReconciliation(NAMESPACE, name));
+        TestUtils.waitFor("le-2 takes over the released shards", 100, 30_000, () -> le2.shardOwnership().ownedShards().size() == SHARDS / 2);
+
+        le1.stop();
+        le2.stop();
+    }
+
+    @Test
+    public void testShardLostDuringReconciliation() {
+        AtomicInteger lostShards = new AtomicInteger(0);
+        AtomicBoolean lostWithRunningReconciliation = new AtomicBoolean(false);
+        AtomicReference<ShardedLeaderElectionManager> le = new AtomicReference<>();
+        String name = "my-cluster";
+
+        le.set(createShardedLeaderElectionManager("le-1", () -> {
+            int shard = le.get().shardOwnership().shard(NAMESPACE, name);
+            lostWithRunningReconciliation.set(!le.get().shardOwnership().ownedShards().contains(shard) && !le.get().shardOwnership().isIdle(shard));
+            lostShards.incrementAndGet();
+        }));
+
+        ShardedLeaderElectionManager le1 = le.get();
+        le1.start();
+        TestUtils.waitFor("le-1 owns all shards", 100, 30_000, () -> le1.shardOwnership().ownedShards().size() == SHARDS);
+
+        int shard = le1.shardOwnership().shard(NAMESPACE, name);
+        assertThat(le1.shardOwnership().tryStartReconciliation(NAMESPACE, name), is(true));
+
+        // Another instance takes over the Lease while the reconciliation is running (e.g. because this instance could
+        // not renew it in time). The edit is retried because it can conflict with the renewal of the Lease.
+        TestUtils.waitFor("le-2 takes over the Lease", 100, 30_000, () -> {
+            try {
+                client.leases().inNamespace(NAMESPACE).withName(LEASE_NAME + "-shard-" + shard).edit(lease -> new LeaseBuilder(lease)
+                        .editSpec()
+                            .withHolderIdentity("le-2")
+                            .withRenewTime(ZonedDateTime.now())
+                            .withLeaseDurationSeconds(60)
+                        .endSpec()
+                        .build());
+                return true;
+            } catch (KubernetesClientException e) {
+                return false;
+            }
+        });
+
+        // The shard is lost right away without waiting for the running reconciliation, and the callback (which exits
+        // the operator in production) is called
+        TestUtils.waitFor("le-1 loses the shard", 100, 30_000, () -> lostShards.get() == 1);
+        assertThat(lostWithRunningReconciliation.get(), is(true));
+        assertThat(le1.shardOwnership().owns(NAMESPACE, name), is(false));
+        assertThat(le1.shardOwnership().tryStartReconciliation(NAMESPACE, name), is(false));
+
+        le1.shardOwnership().endReconciliation(NAMESPACE, name);
+        le1.stop();
+    }
+
+    private Set<String> shardHolders() {
+        Set<String> holders = new HashSet<>();
+
+        for (int shard = 0; shard < SHARDS; shard++) {
+            Lease lease = client.leases().inNamespace(NAMESPACE).withName(LEASE_NAME + "-shard-" + shard).get();
+            holders.add(lease.getSpec().getHolderIdentity());
+        }
+
+        return holders;
+    }
+
+    private ShardedLeaderElectionManager createShardedLeaderElectionManager(String identity, Runnable shardLostCallback)   {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), LEASE_NAME);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), NAMESPACE);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), identity);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_DURATION_MS.key(), "1000");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_RENEW_DEADLINE_MS.key(), "800");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS.key(), "200");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDS.key(), String.valueOf(SHARDS));
+
+        return new ShardedLeaderElectionManager(client, LeaderElectionManagerConfig.fromMap(envVars), ResourceUtils.metricsProvider(), shardLostCallback);
+    }
+}
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -63,6 +64,20 @@ public class ConfigMapUtilsTest {
     }
 
 
+    @Test
+    public void testContentHash() {
+        ConfigMap cm = ConfigMapUtils.createConfigMap(NAME, NAMESPACE, LABELS, OWNER_REFERENCE, Map.of("key1", "value1", "key2", "value2"));
+        String hash = ConfigMapUtils.contentHash(cm);
+
+        // Same content => same hash
+        assertThat(ConfigMapUtils.contentHash(ConfigMapUtils.createConfigMap(NAME, NAMESPACE, LABELS, OWNER_REFERENCE, Map.of("key2", "value2", "key1", "value1"))), is(hash));
+
+        // Changed data, labels or owner reference => different hash
+        assertThat(ConfigMapUtils.contentHash(ConfigMapUtils.createConfigMap(NAME, NAMESPACE, LABELS, OWNER_REFERENCE, Map.of("key1", "value1", "key2", "value3"))), is(not(hash)));
+        assertThat(ConfigMapUtils.contentHash(ConfigMapUtils.createConfigMap(NAME, NAMESPACE, LABELS.withAdditionalLabels(Map.of("label-3", "value-3")), OWNER_REFERENCE, Map.of("key1", "value1", "key2", "value2"))), is(not(hash)));
+        assertThat(ConfigMapUtils.contentHash(ConfigMapUtils.createConfigMap(NAME, NAMESPACE, LABELS, new OwnerReferenceBuilder(OWNER_REFERENCE).withUid("my-other-uid").build(), Map.of("key1", "value1", "key2", "value2"))), is(not(hash)));
+    }
+
     @Test
     public void testConfigMapDataNoMetricsNoLogging()   {
         Kafka kafka = new KafkaBuilder()
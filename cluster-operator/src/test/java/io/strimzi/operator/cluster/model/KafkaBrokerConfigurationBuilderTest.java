@@ -768,6 +768,59 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "ssl.endpoint.identification.algorithm=HTTPS"));
     }
 
+    @ParallelTest
+    public void testConfigurationFragments()  {
+        Set<NodeRef> nodes = Set.of(
+                new NodeRef("my-cluster-kafka-0", 0, "kafka", true, true),
+                new NodeRef("my-cluster-kafka-1", 1, "kafka", true, true),
+                new NodeRef("my-cluster-kafka-2", 2, "kafka", true, true)
+        );
+        GenericKafkaListener listener = new GenericKafkaListenerBuilder()
+                .withName("plain")
+                .withPort(9092)
+                .withType(KafkaListenerType.INTERNAL)
+                .withTls(false)
+                .build();
+        KafkaAuthorization auth = new KafkaAuthorizationSimpleBuilder()
+                .withSuperUsers("jakub", "CN=kuba")
+                .build();
+        CruiseControlMetricsReporter ccMetricsReporter = new CruiseControlMetricsReporter("strimzi.cruisecontrol.metrics", 1, 1, 1);
+        KafkaConfiguration kafkaConfiguration = new KafkaConfiguration(Reconciliation.DUMMY_RECONCILIATION, Map.<String, Object>of("auto.create.topics.enable", "false").entrySet());
+
+        String kraftFragment = KafkaBrokerConfigurationBuilder.fragment(Reconciliation.DUMMY_RECONCILIATION, true)
+                .withKRaft("my-cluster", "my-namespace", Set.of(ProcessRoles.BROKER, ProcessRoles.CONTROLLER), nodes)
+                .build();
+        String sharedFragment = KafkaBrokerConfigurationBuilder.fragment(Reconciliation.DUMMY_RECONCILIATION, true)
+                .withAuthorization("my-cluster", auth)
+                .withCruiseControl("my-cluster", ccMetricsReporter, true)
+                .withUserConfiguration(kafkaConfiguration, true)
+                .build();
+
+        String fromFragments = new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION, "2", true)
+                .withRackId(new Rack("failure-domain.kubernetes.io/zone"))
+                .withConfigurationFragment(kraftFragment)
+                .withLogDirs(VolumeUtils.createVolumeMounts(new EphemeralStorageBuilder().build(), "/var/lib/kafka", false))
+                .withListeners("my-cluster", "my-namespace", new NodeRef("my-cluster-kafka-2", 2, "kafka", true, true), singletonList(listener), listenerId -> "my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc", listenerId -> "9092")
+                .withConfigurationFragment(sharedFragment)
+                .build();
+
+        String direct = new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION, "2", true)
+                .withRackId(new Rack("failure-domain.kubernetes.io/zone"))
+                .withKRaft("my-cluster", "my-namespace", Set.of(ProcessRoles.BROKER, ProcessRoles.CONTROLLER), nodes)
+                .withLogDirs(VolumeUtils.createVolumeMounts(new EphemeralStorageBuilder().build(), "/var/lib/kafka", false))
+                .withListeners("my-cluster", "my-namespace", new NodeRef("my-cluster-kafka-2", 2, "kafka", true, true), singletonList(listener), listenerId -> "my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc", listenerId -> "9092")
+                .withAuthorization("my-cluster", auth)
+                .withCruiseControl("my-cluster", ccMetricsReporter, true)
+                .withUserConfiguration(kafkaConfiguration, true)
+                .build();
+
+        // The fragments do not contain the header or the node ID
+        assertThat(kraftFragment.contains("node.id="), is(false));
+        assertThat(kraftFragment.contains("This file is automatically generated"), is(false));
+        // The configuration rendered from the fragments has to be identical to the directly rendered configuration
+        assertThat(fromFragments, is(direct));
+    }
+
     @ParallelTest
     public void testKraftListenersMixedNodes()  {
         Set<NodeRef> nodes = Set.of(
@@ -0,0 +1,192 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaAuthorizationSimpleBuilder;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.cruisecontrol.CruiseControlMetricsReporter;
+import io.strimzi.operator.cluster.model.nodepools.NodeIdAssignment;
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that the per-broker configurations rendered from the shared configuration fragments are byte-identical to
+ * the configurations rendered completely for each node, for small and large KRaft and ZooKeeper based clusters.
+ */
+public class KafkaClusterPerBrokerConfigurationTest {
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+    private static final SharedEnvironmentProvider SHARED_ENV_PROVIDER = new MockSharedEnvironmentProvider();
+    private static final String NAMESPACE = "my-namespace";
+    private static final String CLUSTER_NAME = "my-cluster";
+    private static final OwnerReference OWNER_REFERENCE = new OwnerReferenceBuilder()
+            .withApiVersion("v1")
+            .withKind("Kafka")
+            .withName(CLUSTER_NAME)
+            .withUid("my-uid")
+            .build();
+
+    private static Stream<Arguments> clusters() {
+        return Stream.of(true, false)
+                .flatMap(kraft -> Stream.of(3, 30, 300).map(nodes -> Arguments.of(kraft, nodes)));
+    }
+
+    /**
+     * Creates the Kafka CR. It uses rack awareness, authorization, Cruise Control and custom configuration to render
+     * all configuration sections.
+     */
+    private static Kafka kafka(int replicas)   {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(replicas)
+                        .withNewJbodStorage()
+                            .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").build(),
+                                    new PersistentClaimStorageBuilder().withId(1).withSize("100Gi").build())
+                        .endJbodStorage()
+                        .withListeners(new GenericKafkaListenerBuilder().withName("plain").withPort(9092).withType(KafkaListenerType.INTERNAL).withTls(false).build(),
+                                new GenericKafkaListenerBuilder().withName("tls").withPort(9093).withType(KafkaListenerType.INTERNAL).withTls().build())
+                        .withNewRack().withTopologyKey("topology.kubernetes.io/zone").endRack()
+                        .withAuthorization(new KafkaAuthorizationSimpleBuilder().withSuperUsers("CN=my-admin").build())
+                        .withConfig(new TreeMap<>(Map.of("auto.create.topics.enable", "false", "default.replication.factor", 3, "min.insync.replicas", 2)))
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage().endEphemeralStorage()
+                    .endZookeeper()
+                    .withNewCruiseControl()
+                    .endCruiseControl()
+                .endSpec()
+                .build();
+    }
+
+    private static KafkaPool pool(Kafka kafka, String name, Set<Integer> nodeIds, ProcessRoles... roles)  {
+        KafkaNodePool pool = new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(nodeIds.size())
+                    .withNewJbodStorage()
+                        .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").build())
+                    .endJbodStorage()
+                    .withRoles(roles)
+                .endSpec()
+                .build();
+
+        return KafkaPool.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, pool, new NodeIdAssignment(nodeIds, nodeIds, Set.of(), Set.of()), null, OWNER_REFERENCE, SHARED_ENV_PROVIDER);
+    }
+
+    private static Set<Integer> ids(int from, int to)  {
+        return IntStream.range(from, to).boxed().collect(Collectors.toSet());
+    }
+
+    /**
+     * The KRaft clusters use 3 dedicated controllers, 3 mixed nodes and the remaining nodes are brokers. Clusters
+     * with only 3 nodes use a single pool of mixed nodes.
+     */
+    private static List<KafkaPool> pools(Kafka kafka, int nodes, boolean kraft)  {
+        List<KafkaPool> pools = new ArrayList<>();
+
+        if (!kraft) {
+            pools.add(pool(kafka, "kafka", ids(0, nodes), ProcessRoles.BROKER));
+        } else if (nodes <= 3) {
+            pools.add(pool(kafka, "mixed", ids(0, nodes), ProcessRoles.CONTROLLER, ProcessRoles.BROKER));
+        } else {
+            pools.add(pool(kafka, "controllers", ids(0, 3), ProcessRoles.CONTROLLER));
+            pools.add(pool(kafka, "mixed", ids(3, 6), ProcessRoles.CONTROLLER, ProcessRoles.BROKER));
+            pools.add(pool(kafka, "brokers", ids(6, nodes), ProcessRoles.BROKER));
+        }
+
+        return pools;
+    }
+
+    /**
+     * Renders the whole configuration of a single node without any shared fragments, the same way as it was rendered
+     * before the shared fragments were introduced.
+     */
+    private static String fullConfiguration(KafkaCluster kc, Kafka kafka, KafkaPool pool, NodeRef node, boolean kraft,
+                                            CruiseControlMetricsReporter ccMetricsReporter,
+                                            Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts) {
+        KafkaBrokerConfigurationBuilder builder = new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION, String.valueOf(node.nodeId()), kraft)
+                .withRackId(kafka.getSpec().getKafka().getRack());
+
+        if (kraft) {
+            builder.withKRaft(CLUSTER_NAME, NAMESPACE, pool.processRoles, kc.nodes());
+        } else {
+            builder.withZookeeper(CLUSTER_NAME);
+        }
+
+        return builder.withLogDirs(VolumeUtils.createVolumeMounts(pool.storage, "/var/lib/kafka", false))
+                .withListeners(CLUSTER_NAME,
+                        NAMESPACE,
+                        node,
+                        kc.getListeners(),
+                        listenerId -> advertisedHostnames.get(node.nodeId()).get(listenerId),
+                        listenerId -> advertisedPorts.get(node.nodeId()).get(listenerId)
+                )
+                .withAuthorization(CLUSTER_NAME, kafka.getSpec().getKafka().getAuthorization())
+                .withCruiseControl(CLUSTER_NAME, ccMetricsReporter, node.broker())
+                .withUserConfiguration(kc.getConfiguration(), node.broker() && ccMetricsReporter != null)
+                .build().trim();
+    }
+
+    @ParameterizedTest(name = "KRaft: {0}, nodes: {1}")
+    @MethodSource("clusters")
+    public void testConfigurationIsIdenticalToFullRendering(boolean kraft, int nodes) {
+        Kafka kafka = kafka(nodes);
+        List<KafkaPool> pools = pools(kafka, nodes, kraft);
+        KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, pools, VERSIONS, kraft, null, SHARED_ENV_PROVIDER);
+        CruiseControlMetricsReporter ccMetricsReporter = CruiseControlMetricsReporter.fromCrd(kafka, kc.getConfiguration(), kc.brokerNodes().size());
+
+        Map<Integer, Map<String, String>> advertisedHostnames = new HashMap<>();
+        Map<Integer, Map<String, String>> advertisedPorts = new HashMap<>();
+        for (NodeRef node : kc.nodes())  {
+            advertisedHostnames.put(node.nodeId(), Map.of("PLAIN_9092", node.podName(), "TLS_9093", node.podName()));
+            advertisedPorts.put(node.nodeId(), Map.of("PLAIN_9092", "9092", "TLS_9093", "9093"));
+        }
+
+        Map<String, String> configurations = kc.generatePerBrokerConfigurationConfigMaps(new MetricsAndLogging(null, null), advertisedHostnames, advertisedPorts)
+                .stream()
+                .collect(Collectors.toMap(cm -> cm.getMetadata().getName(), cm -> cm.getData().get(KafkaCluster.BROKER_CONFIGURATION_FILENAME)));
+        assertThat(configurations.size(), is(nodes));
+
+        for (KafkaPool pool : pools) {
+            for (NodeRef node : pool.nodes()) {
+                assertThat("Configuration of node " + node.podName(), configurations.get(node.podName()),
+                        is(fullConfiguration(kc, kafka, pool, node, kraft, ccMetricsReporter, advertisedHostnames, advertisedPorts)));
+            }
+        }
+    }
+}
@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.api.kafka.model.Spec;
 import io.strimzi.api.kafka.model.status.Status;
+import io.strimzi.operator.cluster.leaderelection.ShardOwnership;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
@@ -213,6 +214,43 @@ class AbstractOperatorTest {
         handlersRegistered.complete();
     }
 
+    @Test
+    /*
+     * Verifies that the resources from the shards not owned by this operator instance are not reconciled and the lock
+     * is released.
+     */
+    void testWithLockSkipsResourceFromNotOwnedShard(VertxTestContext context) {
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
+        target.setShardOwnership(new ShardOwnership(4));
+        Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
+        String lockName = target.getLockName(reconciliation);
+
+        Checkpoint callableSkipped = context.checkpoint();
+        Checkpoint lockObtained  = context.checkpoint();
+        @SuppressWarnings("unchecked")
+        Future<String> result = target.withLockTest(reconciliation, () -> {
+            context.failNow("The resource should not be reconciled");
+            return Future.succeededFuture("OK");
+        });
+        Promise<Void> failHandlerCalled = Promise.promise();
+
+        result.onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e, instanceOf(AbstractOperator.ShardNotOwnedException.class));
+            failHandlerCalled.complete();
+            callableSkipped.flag();
+        })));
+
+        failHandlerCalled.future()
+            .compose(nothing -> vertx.sharedData().getLockWithTimeout(lockName, 10000L))
+            .onComplete(context.succeeding(lock -> context.verify(() -> {
+                assertThat(lock, instanceOf(Lock.class));
+                lock.release();
+                lockObtained.flag();
+            })));
+    }
+
     private static class DefaultOperator<
             T extends CustomResource<P, S>,
             P extends Spec,
@@ -0,0 +1,166 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaConnectBuilder;
+import io.strimzi.api.kafka.model.connect.build.JarArtifactBuilder;
+import io.strimzi.api.kafka.model.connect.build.PluginBuilder;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.KafkaConnectBuild;
+import io.strimzi.operator.cluster.model.MockSharedEnvironmentProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ConnectBuildCacheTest {
+    @Test
+    public void testInProgressAndCompletedBuildsAreShared()  {
+        ConnectBuildCache cache = new ConnectBuildCache(10, 60_000L);
+        AtomicInteger builds = new AtomicInteger(0);
+        Promise<String> build = Promise.promise();
+
+        Future<String> first = cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, () -> {
+            builds.incrementAndGet();
+            return build.future();
+        });
+
+        // Build in progress => coalesced
+        Future<String> second = cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, () -> {
+            builds.incrementAndGet();
+            return Future.succeededFuture("other-image");
+        });
+        assertThat(second, is(sameInstance(first)));
+        assertThat(builds.get(), is(1));
+
+        // Completed build => reused
+        build.complete("my-image@sha256:1234");
+        Future<String> third = cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, () -> {
+            builds.incrementAndGet();
+            return Future.succeededFuture("other-image");
+        });
+        assertThat(third.result(), is("my-image@sha256:1234"));
+        assertThat(builds.get(), is(1));
+
+        // Different revision => new build
+        cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-2", false, () -> {
+            builds.incrementAndGet();
+            return Future.succeededFuture("my-image@sha256:5678");
+        });
+        assertThat(builds.get(), is(2));
+        assertThat(cache.size(), is(2));
+    }
+
+    @Test
+    public void testForcedRebuild()  {
+        ConnectBuildCache cache = new ConnectBuildCache(10, 60_000L);
+
+        Future<String> first = cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, () -> Future.succeededFuture("my-image@sha256:1234"));
+        Future<String> forced = cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", true, () -> Future.succeededFuture("my-image@sha256:5678"));
+        assertThat(forced, is(not(sameInstance(first))));
+        assertThat(forced.result(), is("my-image@sha256:5678"));
+
+        // The forced build replaces the cached build
+        Future<String> reused = cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, () -> Future.succeededFuture("other-image"));
+        assertThat(reused.result(), is("my-image@sha256:5678"));
+    }
+
+    @Test
+    public void testFailedBuildsAreNotCached()  {
+        ConnectBuildCache cache = new ConnectBuildCache(10, 60_000L);
+        Promise<String> build = Promise.promise();
+
+        cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, build::future);
+        assertThat(cache.size(), is(1));
+
+        build.fail("The Kafka Connect build failed");
+        assertThat(cache.size(), is(0));
+
+        Future<String> retried = cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, () -> Future.succeededFuture("my-image@sha256:1234"));
+        assertThat(retried.result(), is("my-image@sha256:1234"));
+    }
+
+    @Test
+    public void testEviction()  {
+        ConnectBuildCache cache = new ConnectBuildCache(2, 60_000L);
+
+        cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, () -> Future.succeededFuture("image-1"));
+        cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-2", false, () -> Future.succeededFuture("image-2"));
+        // Use rev-1 to make rev-2 the least recently used build
+        cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, () -> Future.succeededFuture("other-image"));
+        cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-3", false, () -> Future.succeededFuture("image-3"));
+        assertThat(cache.size(), is(2));
+
+        assertThat(cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, () -> Future.succeededFuture("other-image")).result(), is("image-1"));
+        assertThat(cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-2", false, () -> Future.succeededFuture("new-image-2")).result(), is("new-image-2"));
+    }
+
+    @Test
+    public void testExpiration()  {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        ConnectBuildCache cache = new ConnectBuildCache(10, 1_000L, clock);
+        Promise<String> build = Promise.promise();
+
+        cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, build::future);
+
+        // Builds in progress do not expire
+        when(clock.millis()).thenReturn(5_000L);
+        assertThat(cache.size(), is(1));
+
+        build.complete("image-1");
+        when(clock.millis()).thenReturn(5_999L);
+        assertThat(cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, () -> Future.succeededFuture("new-image-1")).result(), is("image-1"));
+
+        // Completed builds expire
+        when(clock.millis()).thenReturn(6_000L);
+        assertThat(cache.size(), is(0));
+        assertThat(cache.getOrBuild(Reconciliation.DUMMY_RECONCILIATION, "rev-1", false, () -> Future.succeededFuture("new-image-1")).result(), is("new-image-1"));
+    }
+
+    @Test
+    public void testBuildCacheKey()  {
+        KafkaConnectBuild build = connectBuild("my-image:latest", "my-secret");
+        String key = ConnectBuildOperator.buildCacheKey("my-ns", build, "rev-1");
+
+        assertThat(ConnectBuildOperator.buildCacheKey("my-ns", connectBuild("my-image:latest", "my-secret"), "rev-1"), is(key));
+        assertThat(ConnectBuildOperator.buildCacheKey("other-ns", build, "rev-1"), is(not(key)));
+        assertThat(ConnectBuildOperator.buildCacheKey("my-ns", build, "rev-2"), is(not(key)));
+        assertThat(ConnectBuildOperator.buildCacheKey("my-ns", connectBuild("other-image:latest", "my-secret"), "rev-1"), is(not(key)));
+        assertThat(ConnectBuildOperator.buildCacheKey("my-ns", connectBuild("my-image:latest", "other-secret"), "rev-1"), is(not(key)));
+    }
+
+    private static KafkaConnectBuild connectBuild(String image, String pushSecret)  {
+        KafkaConnect kc = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName("my-connect")
+                    .withNamespace("my-ns")
+                .endMetadata()
+                .withNewSpec()
+                    .withBootstrapServers("my-kafka:9092")
+                    .withNewBuild()
+                        .withNewDockerOutput()
+                            .withImage(image)
+                            .withPushSecret(pushSecret)
+                        .endDockerOutput()
+                        .withPlugins(new PluginBuilder().withName("my-connector").withArtifacts(new JarArtifactBuilder().withUrl("https://mydomain.tld/my.jar").build()).build())
+                    .endBuild()
+                .endSpec()
+                .build();
+
+        return KafkaConnectBuild.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kc, KafkaVersionTestUtils.getKafkaVersionLookup(), new MockSharedEnvironmentProvider());
+    }
+}
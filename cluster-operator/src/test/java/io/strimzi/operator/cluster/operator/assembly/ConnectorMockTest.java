@@ -173,7 +173,7 @@ public class ConnectorMockTest {
                 metricsProvider,
                 pfa, 10_000);
 
-        podSetController = new StrimziPodSetController(NAMESPACE, Labels.EMPTY, ros.kafkaOperator, ros.connectOperator, ros.mirrorMaker2Operator, ros.strimziPodSetOperator, ros.podOperations, ros.metricsProvider, Integer.parseInt(ClusterOperatorConfig.POD_SET_CONTROLLER_WORK_QUEUE_SIZE.defaultValue()));
+        podSetController = new StrimziPodSetController(NAMESPACE, Labels.EMPTY, ros.kafkaOperator, ros.connectOperator, ros.mirrorMaker2Operator, ros.strimziPodSetOperator, ros.podOperations, ros.metricsProvider, Integer.parseInt(ClusterOperatorConfig.POD_SET_CONTROLLER_WORK_QUEUE_SIZE.defaultValue()), Integer.parseInt(ClusterOperatorConfig.POD_SET_CONTROLLER_WORKERS.defaultValue()), Integer.parseInt(ClusterOperatorConfig.POD_SET_CONTROLLER_POD_OPERATIONS_THREADS.defaultValue()), ros.informerRegistry, null);
         podSetController.start();
 
         setupMockConnectAPI();
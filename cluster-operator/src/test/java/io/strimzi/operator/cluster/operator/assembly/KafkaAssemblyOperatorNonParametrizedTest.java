@@ -22,6 +22,7 @@ import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.platform.KubernetesVersion;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 import io.vertx.junit5.Checkpoint;
@@ -34,6 +35,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -151,4 +153,56 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                     async.flag();
                 })));
     }
+
+    @Test
+    public void testConcurrentComponentReconciliation(VertxTestContext context) {
+        Kafka kafka = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION), certManager, passwordGenerator,
+                supplier, ResourceUtils.dummyClusterOperatorConfig());
+        KafkaAssemblyOperator.ReconciliationState state = op.createReconciliationState(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME), kafka);
+
+        Promise<KafkaAssemblyOperator.ReconciliationState> first = Promise.promise();
+        Promise<KafkaAssemblyOperator.ReconciliationState> second = Promise.promise();
+        Promise<KafkaAssemblyOperator.ReconciliationState> third = Promise.promise();
+
+        Checkpoint async = context.checkpoint();
+        state.reconcileConcurrently(List.of(
+                state.timed("first", first::future),
+                state.timed("second", second::future),
+                state.timed("third", () -> {
+                    throw new RuntimeException("Third failed");
+                })
+        )).onComplete(context.failing(e -> context.verify(() -> {
+            // The failure of the first failed step in the list is used regardless of the order in which they completed
+            assertThat(e.getMessage(), is("Second failed"));
+            assertThat(op.metrics().componentReconciliationsTimer(NAMESPACE, "first").count(), is(1L));
+            assertThat(op.metrics().componentReconciliationsTimer(NAMESPACE, "second").count(), is(1L));
+            assertThat(op.metrics().componentReconciliationsTimer(NAMESPACE, "third").count(), is(1L));
+
+            async.flag();
+        })));
+
+        // All steps are started without waiting for each other
+        first.complete(state);
+        second.fail("Second failed");
+    }
 }
@@ -62,7 +62,7 @@ import org.mockito.Mockito;
 
 import java.util.List;
 import java.util.Map;
-import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -580,7 +580,7 @@ public class KafkaConnectAssemblyOperatorPodSetTest {
         // Mock Pods
         PodOperator mockPodOps = supplier.podOperations;
         when(mockPodOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(oldPods));
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
+        when(mockPodOps.waitForResource(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any(Predicate.class))).thenReturn(Future.succeededFuture(terminatedBuildPod));
         when(mockPodOps.getAsync(eq(NAMESPACE), startsWith(COMPONENT_NAME))).thenAnswer(i -> {
             if (KafkaConnectResources.buildPodName(NAME).equals(i.getArgument(1)))  {
                 return Future.succeededFuture(terminatedBuildPod);
@@ -23,7 +23,10 @@ import io.strimzi.api.kafka.model.StrimziPodSet;
 import io.strimzi.api.kafka.model.connect.build.JarArtifactBuilder;
 import io.strimzi.api.kafka.model.connect.build.Plugin;
 import io.strimzi.api.kafka.model.connect.build.PluginBuilder;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.api.kafka.model.status.KafkaConnectStatus;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.MockSharedEnvironmentProvider;
 import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
@@ -52,6 +55,7 @@ import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
 import io.strimzi.operator.common.operator.resource.ServiceOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -65,7 +69,7 @@ import org.mockito.ArgumentCaptor;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -81,6 +85,7 @@ import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
 @ExtendWith(VertxExtension.class)
 public class KafkaConnectBuildAssemblyOperatorKubeTest {
     private static final String NAMESPACE = "my-ns";
@@ -209,7 +214,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
+        when(mockPodOps.waitForResource(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any(Predicate.class))).thenReturn(Future.succeededFuture(terminatedPod));
         when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null), Future.succeededFuture(terminatedPod));
 
         // Mock and capture BuildConfig ops
@@ -279,6 +284,176 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
             })));
     }
 
+    @SuppressWarnings({"checkstyle:MethodLength"})
+    @Test
+    public void testBackgroundBuildOnKube(VertxTestContext context) {
+        Plugin plugin1 = new PluginBuilder()
+                .withName("plugin1")
+                .withArtifacts(new JarArtifactBuilder().withUrl("https://my-domain.tld/my.jar").build())
+                .build();
+
+        KafkaConnect kc = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                    .withBootstrapServers("my-cluster-kafka-bootstrap:9092")
+                    .withNewBuild()
+                        .withNewDockerOutput()
+                            .withImage(OUTPUT_IMAGE)
+                            .withPushSecret("my-docker-credentials")
+                        .endDockerOutput()
+                        .withPlugins(plugin1)
+                    .endBuild()
+                .endSpec()
+                .build();
+
+        KafkaConnectBuild build = KafkaConnectBuild.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kc, VERSIONS, sharedEnvironmentProvider);
+
+        // Prepare and get mocks
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(true);
+        CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> mockConnectOps = supplier.connectOperator;
+        DeploymentOperator mockDepOps = supplier.deploymentOperations;
+        StrimziPodSetOperator mockPodSetOps = supplier.strimziPodSetOperator;
+        PodDisruptionBudgetOperator mockPdbOps = supplier.podDisruptionBudgetOperator;
+        ConfigMapOperator mockCmOps = supplier.configMapOperations;
+        ServiceOperator mockServiceOps = supplier.serviceOperations;
+        NetworkPolicyOperator mockNetPolOps = supplier.networkPolicyOperator;
+        PodOperator mockPodOps = supplier.podOperations;
+        BuildConfigOperator mockBcOps = supplier.buildConfigOperations;
+        SecretOperator mockSecretOps = supplier.secretOperations;
+        ServiceAccountOperator mockSaOps = supplier.serviceAccountOperations;
+        CrdOperator<KubernetesClient, KafkaConnector, KafkaConnectorList> mockConnectorOps = supplier.kafkaConnectorOperator;
+
+        // Mock KafkaConnector ops
+        when(mockConnectorOps.listAsync(anyString(), any(LabelSelector.class))).thenReturn(Future.succeededFuture(emptyList()));
+
+        // Mock KafkaConnect ops
+        when(mockConnectOps.get(NAMESPACE, NAME)).thenReturn(kc);
+        when(mockConnectOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(kc));
+
+        // Mock and capture service ops
+        ArgumentCaptor<Service> serviceCaptor = ArgumentCaptor.forClass(Service.class);
+        when(mockServiceOps.reconcile(any(), anyString(), anyString(), serviceCaptor.capture())).thenReturn(Future.succeededFuture());
+
+        // Mock and capture deployment ops
+        when(mockDepOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
+
+        // Mock Secret ops
+        when(mockSecretOps.reconcile(any(), anyString(), anyString(), any())).thenReturn(Future.succeededFuture());
+
+        // Mock StrimziPodSet ops
+        when(mockPodSetOps.getAsync(eq(NAMESPACE), eq(COMPONENT_NAME))).thenReturn(Future.succeededFuture());
+        ArgumentCaptor<StrimziPodSet> podSetCaptor = ArgumentCaptor.forClass(StrimziPodSet.class);
+        when(mockPodSetOps.reconcile(any(), eq(NAMESPACE), eq(COMPONENT_NAME), podSetCaptor.capture())).thenAnswer(i -> Future.succeededFuture(ReconcileResult.created(i.getArgument(3))));
+        when(mockPodSetOps.readiness(any(), eq(NAMESPACE), eq(COMPONENT_NAME), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
+
+        // Mock and capture CM ops
+        when(mockCmOps.reconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
+        ArgumentCaptor<ConfigMap> dockerfileCaptor = ArgumentCaptor.forClass(ConfigMap.class);
+        when(mockCmOps.reconcile(any(), anyString(), eq(KafkaConnectResources.dockerFileConfigMapName(NAME)), dockerfileCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ConfigMap())));
+
+        // Mock and capture SA ops
+        ArgumentCaptor<ServiceAccount> saCaptor = ArgumentCaptor.forClass(ServiceAccount.class);
+        when(mockSaOps.reconcile(any(), anyString(), anyString(), saCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.created(new ServiceAccount())));
+
+        // Mock and capture Pod ops
+        when(mockPodOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(mockPodOps.getAsync(eq(NAMESPACE), startsWith(COMPONENT_NAME))).thenReturn(Future.succeededFuture());
+        when(mockPodOps.reconcile(any(), eq(NAMESPACE), startsWith(COMPONENT_NAME), any())).thenReturn(Future.succeededFuture());
+        when(mockPodOps.readiness(any(), eq(NAMESPACE), startsWith(COMPONENT_NAME), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
+
+        ArgumentCaptor<Pod> builderPodCaptor = ArgumentCaptor.forClass(Pod.class);
+        when(mockPodOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), builderPodCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
+
+        Pod terminatedPod = new PodBuilder()
+                .withNewMetadata()
+                    .withName(KafkaConnectResources.buildPodName(NAME))
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                .endSpec()
+                .withNewStatus()
+                    .withContainerStatuses(new ContainerStatusBuilder()
+                        .withName(KafkaConnectResources.buildPodName(NAME))
+                        .withNewState()
+                            .withNewTerminated()
+                                .withExitCode(0)
+                                .withMessage("my-connect-build@sha256:blablabla")
+                            .endTerminated()
+                        .endState()
+                        .build())
+                .endStatus()
+                .build();
+        Promise<Pod> buildFinished = Promise.promise();
+        when(mockPodOps.waitForResource(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any(Predicate.class))).thenReturn(buildFinished.future());
+        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null), Future.succeededFuture(terminatedPod));
+
+        // Mock and capture BuildConfig ops
+        when(mockBcOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildConfigName(NAME)), eq(null))).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
+
+        // Mock and capture NP ops
+        when(mockNetPolOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new NetworkPolicy())));
+
+        // Mock and capture PDB ops
+        when(mockPdbOps.reconcile(any(), anyString(), any(), any())).thenReturn(Future.succeededFuture());
+
+        // Mock and capture KafkaConnect ops for status update
+        ArgumentCaptor<KafkaConnect> connectCaptor = ArgumentCaptor.forClass(KafkaConnect.class);
+        Promise<Void> reconciledAfterBuild = Promise.promise();
+        when(mockConnectOps.updateStatusAsync(any(), connectCaptor.capture())).thenAnswer(i -> {
+            if (connectCaptor.getAllValues().size() == 2) {
+                reconciledAfterBuild.complete();
+            }
+            return Future.succeededFuture();
+        });
+
+        // Mock KafkaConnect API client
+        KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
+
+        // Prepare and run reconciliation
+        KafkaConnectAssemblyOperator ops = new KafkaConnectAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, kubernetesVersion),
+                supplier, new ClusterOperatorConfig.ClusterOperatorConfigBuilder(ResourceUtils.dummyClusterOperatorConfig(), VERSIONS)
+                        .with(ClusterOperatorConfig.CONNECT_BUILD_IN_BACKGROUND.key(), "true")
+                        .build(), x -> mockConnectClient);
+
+        Checkpoint async = context.checkpoint();
+        ops.reconcile(new Reconciliation("test-trigger", KafkaConnect.RESOURCE_KIND, NAMESPACE, NAME))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The build is running in the background => the PodSet is not reconciled yet
+                assertThat(podSetCaptor.getAllValues(), hasSize(0));
+
+                List<KafkaConnect> capturedConnects = connectCaptor.getAllValues();
+                assertThat(capturedConnects, hasSize(1));
+                KafkaConnectStatus connectStatus = capturedConnects.get(0).getStatus();
+                assertThat(connectStatus.getConditions().get(0).getStatus(), is("True"));
+                assertThat(connectStatus.getConditions().get(0).getType(), is("Building"));
+
+                // Finish the build => a new reconciliation should be triggered
+                buildFinished.complete(terminatedPod);
+            })))
+            .compose(v -> reconciledAfterBuild.future())
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // Verify PodSet
+                List<StrimziPodSet> capturedSps = podSetCaptor.getAllValues();
+                assertThat(capturedSps, hasSize(1));
+                assertThat(Annotations.stringAnnotation(capturedSps.get(0), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                PodSetUtils.podSetToPods(capturedSps.get(0)).forEach(pod -> assertThat(pod.getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla")));
+
+                // The builder Pod was created only once
+                assertThat(builderPodCaptor.getAllValues().stream().filter(Objects::nonNull).collect(Collectors.toList()), hasSize(1));
+
+                // Verify status
+                KafkaConnectStatus connectStatus = connectCaptor.getAllValues().get(1).getStatus();
+                assertThat(connectStatus.getConditions().get(0).getStatus(), is("True"));
+                assertThat(connectStatus.getConditions().get(0).getType(), is("Ready"));
+
+                async.flag();
+            })));
+    }
+
     @Test
     public void testBuildFailureOnKube(VertxTestContext context) {
         Plugin plugin1 = new PluginBuilder()
@@ -365,7 +540,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
+        when(mockPodOps.waitForResource(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any(Predicate.class))).thenReturn(Future.succeededFuture(terminatedPod));
         when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null), Future.succeededFuture(terminatedPod));
         // Kafka Connect (not builder) Pods
         when(mockPodOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
@@ -528,7 +703,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
+        when(mockPodOps.waitForResource(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any(Predicate.class))).thenReturn(Future.succeededFuture(terminatedPod));
         when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null), Future.succeededFuture(terminatedPod));
 
         // Mock and capture BuildConfig ops
@@ -716,7 +891,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                     .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
+        when(mockPodOps.waitForResource(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any(Predicate.class))).thenReturn(Future.succeededFuture(terminatedPod));
         when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null), Future.succeededFuture(terminatedPod));
 
         // Mock and capture BuildConfig ops
@@ -915,7 +1090,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
+        when(mockPodOps.waitForResource(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any(Predicate.class))).thenReturn(Future.succeededFuture(terminatedPod));
         when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(runningBuild), Future.succeededFuture(terminatedPod));
 
         // Mock and capture BuildConfig ops
@@ -1112,7 +1287,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .endStatus()
                 .build();
 
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
+        when(mockPodOps.waitForResource(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any(Predicate.class))).thenReturn(Future.succeededFuture(terminatedPod));
         when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(runningBuild), Future.succeededFuture(terminatedPod));
 
         // Mock and capture BuildConfig ops
@@ -1314,7 +1489,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
+        when(mockPodOps.waitForResource(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any(Predicate.class))).thenReturn(Future.succeededFuture(terminatedPod));
         when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(runningBuild), Future.succeededFuture(terminatedPod));
 
         // Mock and capture BuildConfig ops
@@ -1631,7 +1806,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
+        when(mockPodOps.waitForResource(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any(Predicate.class))).thenReturn(Future.succeededFuture(terminatedPod));
         when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(terminatedPod));
 
         // Mock and capture BuildConfig ops
@@ -1689,4 +1864,49 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 async.flag();
             })));
     }
+
+    @Test
+    public void testBuildingConditionIsMergedWithOtherConditions() {
+        Condition ready = new ConditionBuilder()
+                .withType("Ready")
+                .withStatus("True")
+                .withLastTransitionTime("2023-01-01T00:00:00Z")
+                .build();
+        Condition previousWarning = new ConditionBuilder()
+                .withType("Warning")
+                .withReason("OldWarning")
+                .build();
+        Condition warning = new ConditionBuilder()
+                .withType("Warning")
+                .withReason("NewWarning")
+                .build();
+
+        KafkaConnect kc = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewStatus()
+                    .withConditions(ready, previousWarning)
+                .endStatus()
+                .build();
+        KafkaConnectStatus status = new KafkaConnectStatus();
+        status.addCondition(warning);
+
+        // New Building condition is added, the readiness is kept and the warnings come from the current reconciliation
+        List<Condition> conditions = KafkaConnectAssemblyOperator.buildingConditions(kc, status);
+        assertThat(conditions, hasSize(3));
+        assertThat(conditions.get(0).getType(), is("Building"));
+        assertThat(conditions.get(0).getStatus(), is("True"));
+        assertThat(conditions.get(1), is(ready));
+        assertThat(conditions.get(2), is(warning));
+
+        // Existing Building condition is reused
+        Condition building = conditions.get(0);
+        kc.getStatus().setConditions(conditions);
+        conditions = KafkaConnectAssemblyOperator.buildingConditions(kc, new KafkaConnectStatus());
+        assertThat(conditions, hasSize(2));
+        assertThat(conditions.get(0), is(building));
+        assertThat(conditions.get(1), is(ready));
+    }
 }
\ No newline at end of file
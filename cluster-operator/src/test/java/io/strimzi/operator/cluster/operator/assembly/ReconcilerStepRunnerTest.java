@@ -0,0 +1,90 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconcilerStepRunnerTest {
+    @Test
+    public void testStepsRunConcurrentlyAndRespectDependencies()  {
+        List<String> started = new ArrayList<>();
+        Promise<Void> a = Promise.promise();
+        Promise<Void> b = Promise.promise();
+
+        Future<Void> result = new ReconcilerStepRunner()
+                .step("a", () -> {
+                    started.add("a");
+                    return a.future();
+                })
+                .step("b", () -> {
+                    started.add("b");
+                    return b.future();
+                })
+                .step("c", () -> {
+                    started.add("c");
+                    return Future.succeededFuture();
+                }, "a", "b")
+                .run();
+
+        // Independent steps are started right away
+        assertThat(started, is(List.of("a", "b")));
+
+        b.complete();
+        assertThat(started, is(List.of("a", "b")));
+
+        // Dependent step is started once all its dependencies completed
+        a.complete();
+        assertThat(started, is(List.of("a", "b", "c")));
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    public void testFirstFailureIsReported()  {
+        List<String> started = new ArrayList<>();
+        Promise<Void> a = Promise.promise();
+        Promise<Void> b = Promise.promise();
+
+        Future<Void> result = new ReconcilerStepRunner()
+                .step("a", () -> a.future())
+                .step("b", () -> b.future())
+                .step("c", () -> {
+                    started.add("c");
+                    return Future.succeededFuture();
+                }, "b")
+                .step("d", () -> {
+                    throw new RuntimeException("Step d failed");
+                })
+                .run();
+
+        b.fail("Step b failed");
+        assertThat(result.isComplete(), is(false));
+
+        a.fail("Step a failed");
+
+        // Step c depends on the failed step b and is not started
+        assertThat(started.isEmpty(), is(true));
+        // The failure of the first step is reported regardless of the order in which the steps failed
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Step a failed"));
+    }
+
+    @Test
+    public void testInvalidDependencies()  {
+        ReconcilerStepRunner runner = new ReconcilerStepRunner()
+                .step("a", Future::succeededFuture);
+
+        assertThrows(IllegalArgumentException.class, () -> runner.step("a", Future::succeededFuture));
+        assertThrows(IllegalArgumentException.class, () -> runner.step("b", Future::succeededFuture, "c"));
+    }
+}
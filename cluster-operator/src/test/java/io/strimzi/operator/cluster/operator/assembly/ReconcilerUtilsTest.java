@@ -19,6 +19,7 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -26,8 +27,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.hamcrest.CoreMatchers.is;
@@ -291,6 +294,38 @@ public class ReconcilerUtilsTest {
                 })));
     }
 
+    @Test
+    public void testWithBoundedConcurrency(VertxTestContext context) {
+        List<Promise<Void>> promises = new ArrayList<>();
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+
+        Checkpoint async = context.checkpoint();
+        ReconcilerUtils.withBoundedConcurrency(List.of(1, 2, 3, 4, 5), 2, item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Promise<Void> promise = Promise.promise();
+            promises.add(promise);
+            return promise.future().onComplete(i -> running.decrementAndGet());
+        }).onComplete(context.failing(e -> context.verify(() -> {
+            // All operations were run even when one of them failed
+            assertThat(promises.size(), is(5));
+            assertThat(maxRunning.get(), is(2));
+            assertThat(e.getMessage(), is("Failed operation"));
+
+            async.flag();
+        })));
+
+        // Only two operations are started
+        assertThat(promises.size(), is(2));
+
+        promises.get(0).fail("Failed operation");
+        assertThat(promises.size(), is(3));
+
+        for (int i = 1; i < 5; i++) {
+            promises.get(i).complete();
+        }
+    }
+
     static class MockJmxCluster implements SupportsJmx {
         private final JmxModel jmx;
 
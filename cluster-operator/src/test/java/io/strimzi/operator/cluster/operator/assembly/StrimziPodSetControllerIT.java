@@ -33,6 +33,7 @@ import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.PodRevision;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
+import io.strimzi.operator.common.InformerRegistry;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -71,6 +72,8 @@ public class StrimziPodSetControllerIT {
     private static final String OTHER_KAFKA_NAME = "bar";
     private static final Map<String, String> OTHER_LABELS = Map.of("selector", "not-matching");
     private static final int POD_SET_CONTROLLER_WORK_QUEUE_SIZE = 1024;
+    private static final int POD_SET_CONTROLLER_WORKERS = 4;
+    private static final int POD_SET_CONTROLLER_POD_OPERATIONS_THREADS = 8;
 
     private static KubernetesClient client;
     private static KubeClusterResource cluster;
@@ -236,7 +239,7 @@ public class StrimziPodSetControllerIT {
     }
 
     private static void startController()  {
-        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, ResourceUtils.metricsProvider(), POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
+        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, ResourceUtils.metricsProvider(), POD_SET_CONTROLLER_WORK_QUEUE_SIZE, POD_SET_CONTROLLER_WORKERS, POD_SET_CONTROLLER_POD_OPERATIONS_THREADS, new InformerRegistry(ResourceUtils.metricsProvider()), null);
         controller.start();
     }
 
@@ -11,8 +11,10 @@ import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -33,6 +35,7 @@ import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.PodRevision;
+import io.strimzi.operator.common.InformerRegistry;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
@@ -87,6 +90,7 @@ public class StrimziPodSetControllerMockTest {
     private StrimziPodSetOperator podSetOperator;
     private PodOperator podOperator;
     private MetricsProvider metricsProvider;
+    private InformerRegistry informerRegistry;
     private WorkerExecutor sharedWorkerExecutor;
 
     @BeforeEach
@@ -238,7 +242,8 @@ public class StrimziPodSetControllerMockTest {
     }
 
     private void startController()  {
-        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, metricsProvider, Integer.parseInt(ClusterOperatorConfig.POD_SET_CONTROLLER_WORK_QUEUE_SIZE.defaultValue()));
+        informerRegistry = new InformerRegistry(metricsProvider);
+        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, metricsProvider, Integer.parseInt(ClusterOperatorConfig.POD_SET_CONTROLLER_WORK_QUEUE_SIZE.defaultValue()), Integer.parseInt(ClusterOperatorConfig.POD_SET_CONTROLLER_WORKERS.defaultValue()), Integer.parseInt(ClusterOperatorConfig.POD_SET_CONTROLLER_POD_OPERATIONS_THREADS.defaultValue()), informerRegistry, null);
         controller.start();
     }
 
@@ -647,6 +652,33 @@ public class StrimziPodSetControllerMockTest {
         }
     }
 
+    /**
+     * Tests that the Kafka informer of the controller is shared through the informer registry and used to get the
+     * Kafka resources without calling the Kubernetes API.
+     */
+    @Test
+    public void testSharedInformerCache() {
+        kafkaOperator.useInformerRegistry(informerRegistry);
+
+        SharedIndexInformer<Kafka> kafkaInformer = informerRegistry.informer(Kafka.RESOURCE_KIND, NAMESPACE, Labels.fromMap(MATCHING_LABELS).toSelectorString(), () -> {
+            throw new RuntimeException("The Kafka informer should be already registered by the controller");
+        });
+        TestUtils.waitFor("Kafka informer sync", 100, 10_000, () -> kafkaInformer.hasSynced() && kafkaInformer.isWatching());
+
+        // Only the Kafka cluster matching the selector is cached
+        MeterRegistry registry = metricsProvider.meterRegistry();
+        assertThat(registry.get("strimzi.informer.cache.size").tags("kind", "Kafka", "namespace", NAMESPACE).gauge().value(), is(1.0));
+
+        // The Kafka resource is served from the cache once its watch event is recorded
+        Kafka kafka = kafkaOp().inNamespace(NAMESPACE).withName(KAFKA_NAME).get();
+        kafkaOperator.recordWatchEvent(Watcher.Action.ADDED, kafka);
+
+        Kafka cached = kafkaOperator.getAsync(NAMESPACE, KAFKA_NAME).result();
+        assertThat(cached, is(notNullValue()));
+        assertThat(cached.getMetadata().getResourceVersion(), is(kafka.getMetadata().getResourceVersion()));
+        assertThat(registry.get("strimzi.informer.api.calls.avoided").tags("kind", "Kafka").counter().count(), is(1.0));
+    }
+
     /**
      * Tests the metrics during the reconciliation
      *   - It creates and deletes the SPS
@@ -693,6 +725,11 @@ public class StrimziPodSetControllerMockTest {
             assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.duration").tag("kind", "StrimziPodSet").timer().count(), greaterThanOrEqualTo(3L));
             assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.duration").tag("kind", "StrimziPodSet").timer().totalTime(TimeUnit.MILLISECONDS), greaterThanOrEqualTo(0.0));
 
+            // The PodSet is always reconciled by the same worker
+            assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "controller.worker.reconciliations.duration").tag("kind", "StrimziPodSet").timers().size(), is(1));
+            assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "controller.worker.reconciliations.duration").tag("kind", "StrimziPodSet").timer().count(), greaterThanOrEqualTo(3L));
+            assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "controller.worker.queue.size").tag("kind", "StrimziPodSet").gauge().value(), greaterThanOrEqualTo(0.0));
+
             // Delete the PodSet
             podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.common.MetricsProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class StrimziPodSetPodsCacheTest {
+    private static StrimziPodSet podSet(String uid, Long generation, String... podNames)   {
+        List<Pod> pods = List.of(podNames).stream()
+                .map(name -> new PodBuilder().withNewMetadata().withName(name).endMetadata().build())
+                .toList();
+
+        return new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName("my-podset")
+                    .withNamespace("my-namespace")
+                    .withUid(uid)
+                    .withGeneration(generation)
+                .endMetadata()
+                .withNewSpec()
+                    .withPods(PodSetUtils.podsToMaps(pods))
+                .endSpec()
+                .build();
+    }
+
+    private static double counter(MeterRegistry registry, String name)  {
+        return registry.get("strimzi.controller.podset.pods.cache." + name).counter().count();
+    }
+
+    @Test
+    public void testCachingPerGeneration()  {
+        MetricsProvider metrics = ResourceUtils.metricsProvider();
+        StrimziPodSetPodsCache cache = new StrimziPodSetPodsCache(metrics);
+
+        List<Pod> pods = cache.pods(podSet("uid-1", 1L, "pod-0", "pod-1"));
+        assertThat(pods.stream().map(p -> p.getMetadata().getName()).toList(), is(List.of("pod-0", "pod-1")));
+        assertThat(counter(metrics.meterRegistry(), "misses"), is(1.0));
+
+        // Same generation => cached pods are used
+        assertThat(cache.pods(podSet("uid-1", 1L, "pod-0", "pod-1")), is(sameInstance(pods)));
+        assertThat(counter(metrics.meterRegistry(), "hits"), is(1.0));
+
+        // New generation => pods are decoded again
+        List<Pod> newPods = cache.pods(podSet("uid-1", 2L, "pod-0", "pod-1", "pod-2"));
+        assertThat(newPods, is(not(sameInstance(pods))));
+        assertThat(newPods.size(), is(3));
+        assertThat(counter(metrics.meterRegistry(), "misses"), is(2.0));
+        assertThat(cache.size(), is(1));
+
+        // Different UID (recreated PodSet) => pods are decoded again
+        assertThat(cache.pods(podSet("uid-2", 2L, "pod-0")).size(), is(1));
+        assertThat(counter(metrics.meterRegistry(), "misses"), is(3.0));
+        assertThat(cache.size(), is(2));
+    }
+
+    @Test
+    public void testEviction()  {
+        MetricsProvider metrics = ResourceUtils.metricsProvider();
+        StrimziPodSetPodsCache cache = new StrimziPodSetPodsCache(metrics);
+
+        List<Pod> pods = cache.pods(podSet("uid-1", 1L, "pod-0"));
+
+        // Update without generation change keeps the cached pods
+        cache.update(podSet("uid-1", 1L, "pod-0"));
+        assertThat(cache.size(), is(1));
+        assertThat(cache.pods(podSet("uid-1", 1L, "pod-0")), is(sameInstance(pods)));
+
+        // Update with generation change evicts the cached pods
+        cache.update(podSet("uid-1", 2L, "pod-0"));
+        assertThat(cache.size(), is(0));
+
+        // Deletion evicts the cached pods
+        cache.pods(podSet("uid-1", 2L, "pod-0"));
+        assertThat(cache.size(), is(1));
+        cache.delete(podSet("uid-1", 2L, "pod-0"));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testNoCachingWithoutGeneration()  {
+        MetricsProvider metrics = ResourceUtils.metricsProvider();
+        StrimziPodSetPodsCache cache = new StrimziPodSetPodsCache(metrics);
+
+        cache.pods(podSet("uid-1", null, "pod-0"));
+        cache.pods(podSet("uid-1", null, "pod-0"));
+
+        assertThat(cache.size(), is(0));
+        assertThat(counter(metrics.meterRegistry(), "misses"), is(2.0));
+        assertThat(counter(metrics.meterRegistry(), "hits"), is(0.0));
+    }
+}
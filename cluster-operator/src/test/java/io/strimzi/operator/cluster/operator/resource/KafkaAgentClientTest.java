@@ -5,11 +5,15 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
 
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
 
 import io.strimzi.operator.common.Reconciliation;
@@ -62,4 +66,52 @@ public class KafkaAgentClientTest {
         assertEquals(0, actual.remainingLogsToRecover());
         assertEquals(0, actual.remainingSegmentsToRecover());
     }
+
+    @Test
+    public void testWatchBrokerState() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> {
+            assertEquals("version=5&timeoutMs=1000", ((URI) invocation.getArgument(0)).getQuery());
+            return "{\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":5,\"remainingSegmentsToRecover\":50},\"version\":6}";
+        }).when(kafkaAgentClient).doGet(any(), any());
+
+        BrokerState actual = kafkaAgentClient.watchBrokerState("mypod", 5, 1_000);
+        assertTrue(actual.isBrokerInRecovery(), "broker is not in log recovery as expected");
+        assertEquals(5, actual.remainingLogsToRecover());
+        assertEquals(50, actual.remainingSegmentsToRecover());
+        assertEquals(6, actual.version());
+    }
+
+    @Test
+    public void testWatchBrokerStateNotSupported() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> {
+            throw new RuntimeException("Unexpected HTTP status code: 404");
+        }).when(kafkaAgentClient).doGet(any(), any());
+
+        BrokerState actual = kafkaAgentClient.watchBrokerState("mypod", 0, 1_000);
+        assertEquals(-1, actual.code());
+        assertEquals(0, actual.version());
+    }
+
+    @Test
+    public void testRollReadiness() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> CompletableFuture.completedFuture("{\"underReplicatedPartitions\":1,\"underMinIsrPartitions\":0,\"atMinIsrPartitions\":0}")).when(kafkaAgentClient).doGetAsync(any(), any());
+
+        RollReadiness actual = kafkaAgentClient.getRollReadiness("mypod").join();
+        assertEquals(1, actual.underReplicatedPartitions());
+        assertEquals(0, actual.underMinIsrPartitions());
+        assertEquals(0, actual.atMinIsrPartitions());
+        assertNull(actual.offlinePartitions());
+        assertTrue(actual.hasNoPartitionsAtOrUnderMinIsr());
+    }
+
+    @Test
+    public void testRollReadinessNotSupported() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> CompletableFuture.failedFuture(new RuntimeException("Unexpected HTTP status code: 404"))).when(kafkaAgentClient).doGetAsync(any(), any());
+
+        assertNull(kafkaAgentClient.getRollReadiness("mypod").join());
+    }
 }
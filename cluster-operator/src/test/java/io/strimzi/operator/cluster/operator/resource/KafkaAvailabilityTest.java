@@ -13,11 +13,15 @@ import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeLogDirsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
@@ -26,6 +30,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,15 +39,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -249,6 +258,27 @@ public class KafkaAvailabilityTest {
             });
         }
 
+        void mockDescribeLogDirs(Admin mockAc) {
+            when(mockAc.describeLogDirs(any())).thenAnswer(invocation -> {
+                Collection<Integer> brokerIds = invocation.getArgument(0);
+                Map<Integer, Map<String, LogDirDescription>> result = new HashMap<>();
+                for (Integer brokerId : brokerIds) {
+                    Map<TopicPartition, ReplicaInfo> replicas = new HashMap<>();
+                    for (TSB tsb : topics.values()) {
+                        for (TSB.PSB psb : tsb.partitions.values()) {
+                            if (IntStream.of(psb.replicaOn).anyMatch(x -> x == brokerId)) {
+                                replicas.put(new TopicPartition(tsb.name, psb.id), new ReplicaInfo(0, 0, false));
+                            }
+                        }
+                    }
+                    result.put(brokerId, Map.of("/var/lib/kafka/data", new LogDirDescription(null, replicas)));
+                }
+                DescribeLogDirsResult dldr = mock(DescribeLogDirsResult.class);
+                when(dldr.allDescriptions()).thenReturn(KafkaFuture.completedFuture(result));
+                return dldr;
+            });
+        }
+
         Admin ac() {
             Admin ac = mock(AdminClient.class);
 
@@ -259,6 +289,8 @@ public class KafkaAvailabilityTest {
 
             mockDescribeConfigs(ac);
 
+            mockDescribeLogDirs(ac);
+
             return ac;
         }
     }
@@ -632,4 +664,96 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testTopicDescriptionsAreRefreshedIncrementally(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2)
+                        .leader(1)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(3);
+
+        Admin ac = ksb.ac();
+        Map<String, Integer> adminCalls = new HashMap<>();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac,
+                operation -> adminCalls.merge(operation, 1, Integer::sum));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> describedTopics = ArgumentCaptor.forClass(Collection.class);
+
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> kafkaAvailability.canRoll(2))
+                .compose(canRoll -> kafkaAvailability.canRoll(3))
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    verify(ac, times(2)).describeTopics(describedTopics.capture());
+                    // All topics are described only once for the initial snapshot
+                    assertThat(new HashSet<>(describedTopics.getAllValues().get(0)), is(Set.of("A", "B")));
+                    // The next check describes only the topics on the checked broker
+                    assertThat(new HashSet<>(describedTopics.getAllValues().get(1)), is(Set.of("B")));
+                    // Broker 3 has no replicas and needs no topic descriptions
+                    assertThat(adminCalls, is(Map.of("listTopics", 3, "describeLogDirs", 2, "describeTopics", 2, "describeConfigs", 2)));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testReassignedPartitionsAreRefreshed(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 3)
+                        .leader(0)
+                        .isr(0, 1, 3)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(2);
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> describedTopics = ArgumentCaptor.forClass(Collection.class);
+
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    // Topic A is reassigned from broker 3 to broker 2 after the snapshot was taken and broker 1 is out of sync
+                    ksb.addNewTopic("A", false)
+                            .addNewPartition(0)
+                                .replicaOn(0, 1, 2)
+                                .isr(0, 2)
+                            .endPartition();
+                    return kafkaAvailability.canRoll(2);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 2 should not be rollable, because it hosts the reassigned partition of topic A");
+                    verify(ac, times(2)).describeTopics(describedTopics.capture());
+                    // The reassigned topic is found in the log directories of the broker
+                    assertThat(new HashSet<>(describedTopics.getAllValues().get(1)), is(Set.of("A")));
+                    context.completeNow();
+                })));
+    }
 }
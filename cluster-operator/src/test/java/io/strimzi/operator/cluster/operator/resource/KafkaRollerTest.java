@@ -18,6 +18,7 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -26,10 +27,13 @@ import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -50,12 +54,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
@@ -65,6 +72,7 @@ import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -140,6 +148,8 @@ public class KafkaRollerTest {
                 asList(0, 1, 2, 3, 4),
                 asList(0, 1, 2, 3, 4), () -> {
                     assertEquals(kafkaRoller.tcpProbes, expectedTcpProbes);
+                    // The Admin calls made by the per-node clients are counted in the rolling session as well
+                    assertThat(kafkaRoller.adminCalls().get("describeCluster"), is(greaterThan(0)));
                 });
     }
 
@@ -439,6 +449,38 @@ public class KafkaRollerTest {
                 emptyList());
     }
 
+    @Test
+    public void testRollReadinessAllowsRollWithoutAvailabilityCheck(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(null, null, addPodNames(REPLICAS),
+                podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(false),
+                false, new DefaultAdminClientProvider(), false, null, 2);
+        kafkaRoller.rollReadiness = new RollReadiness(0, 0, 0, 0);
+
+        // The Admin based availability check would not allow any pod to be rolled, so all pods are rolled based on the roll readiness
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 1, 3, 4, 2));
+    }
+
+    @Test
+    public void testRollReadinessAtMinIsrUsesAvailabilityCheck(VertxTestContext testContext) throws InterruptedException {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(null, null, addPodNames(REPLICAS),
+                podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(brokerId != 1),
+                false, new DefaultAdminClientProvider(), false, null, 2);
+        kafkaRoller.rollReadiness = new RollReadiness(0, 0, 1, 0);
+
+        doFailingRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                KafkaRoller.UnforceableProblem.class, "Pod c-kafka-1 cannot be updated right now.",
+                asList(0, 3, 4, 2));
+    }
+
     @Test
     public void testRollHandlesErrorWhenGettingConfigFromNonController(VertxTestContext testContext) {
         PodOperator podOps = mockPodOps(podId -> succeededFuture());
@@ -491,6 +533,68 @@ public class KafkaRollerTest {
                 emptyList());
     }
 
+    private TestingKafkaRoller rollerWithBatchedConfigUpdate(PodOperator podOps, List<Map<ConfigResource, Collection<AlterConfigOp>>> alteredConfigs) {
+        return new TestingKafkaRoller(null, null, addPodNames(REPLICAS), podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true), false, new DefaultAdminClientProvider(), false, null, 2) {
+            @Override
+            protected Map<ConfigResource, Config> describeBrokerConfigs(Collection<ConfigResource> resources) {
+                Map<ConfigResource, Config> configs = new HashMap<>();
+                for (ConfigResource resource : resources) {
+                    // The brokers use a non-default min.insync.replicas which is not in the desired configuration
+                    configs.put(resource, resource.type() == ConfigResource.Type.BROKER
+                            ? new Config(List.of(new ConfigEntry("min.insync.replicas", "2")))
+                            : new Config(emptyList()));
+                }
+                return configs;
+            }
+
+            @Override
+            protected void alterBrokerConfigs(Map<ConfigResource, Collection<AlterConfigOp>> updatedConfigs) {
+                alteredConfigs.add(updatedConfigs);
+            }
+        };
+    }
+
+    @Test
+    public void testDynamicUpdateOfAllBrokersTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        List<Map<ConfigResource, Collection<AlterConfigOp>>> alteredConfigs = new ArrayList<>();
+        TestingKafkaRoller kafkaRoller = rollerWithBatchedConfigUpdate(podOps, alteredConfigs);
+
+        Map<String, AtomicInteger> evaluations = new ConcurrentHashMap<>();
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> {
+            evaluations.computeIfAbsent(pod.getMetadata().getName(), ignored -> new AtomicInteger()).incrementAndGet();
+            return RestartReasons.empty();
+        })
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(restarted(), is(emptyList()));
+                    // The restart reasons are evaluated only once for each pod. The controller (pod 2) is deferred
+                    // and checked again after the other pods.
+                    assertThat(evaluations.size(), is(REPLICAS));
+                    evaluations.forEach((pod, count) -> assertThat(count.get(), is("c-kafka-2".equals(pod) ? 2 : 1)));
+                    // All brokers are reconfigured with a single request
+                    assertThat(alteredConfigs.size(), is(1));
+                    assertThat(alteredConfigs.get(0).keySet().stream().filter(resource -> resource.type() == ConfigResource.Type.BROKER).collect(Collectors.toSet()), is(IntStream.range(0, REPLICAS).mapToObj(Util::getBrokersConfig).collect(Collectors.toSet())));
+                    assertThat(alteredConfigs.get(0).get(Util.getBrokersConfig(0)).iterator().next().opType(), is(AlterConfigOp.OpType.DELETE));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testNoDynamicUpdateOfAllBrokersTogetherWhenRestartIsNeeded(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        List<Map<ConfigResource, Collection<AlterConfigOp>>> alteredConfigs = new ArrayList<>();
+        TestingKafkaRoller kafkaRoller = rollerWithBatchedConfigUpdate(podOps, alteredConfigs);
+
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                singletonList(1),
+                singletonList(1), () -> assertThat(alteredConfigs.isEmpty(), is(true)));
+    }
+
     @Test
     public void testControllerAndOneMoreNeverRollable(VertxTestContext testContext) throws InterruptedException {
         PodOperator podOps = mockPodOps(podId -> succeededFuture());
@@ -529,6 +633,30 @@ public class KafkaRollerTest {
                 asList(2, 3, 4, 1));
     }
 
+    @Test
+    public void testBrokerFinishesRecoveryWhileWatched(VertxTestContext testContext) throws InterruptedException {
+        PodOperator podOps = mockPodOps(podId ->
+                (podId == 0) ? failedFuture(new TimeoutException("Timeout")) : succeededFuture()
+        );
+
+        Map<String, Object> recoveryState = new HashMap<>();
+        recoveryState.put("remainingLogsToRecover", 10);
+        recoveryState.put("remainingSegmentsToRecover", 100);
+
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(null, null, addPodNames(REPLICAS),
+                podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                false, null, false, new BrokerState(2, recoveryState), 1);
+        kafkaRoller.watchedBrokerState = new BrokerState(3, null, 2);
+
+        // The recovery finished, so the roller continues like with a running broker instead of failing because of the recovery
+        doFailingRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                KafkaRoller.FatalProblem.class, "Error while waiting for restarted pod c-kafka-0 to become ready",
+                asList(0));
+    }
+
     @Test
     public void testBrokerInRunningState(VertxTestContext testContext) throws InterruptedException {
         PodOperator podOps = mockPodOps(podId ->
@@ -721,6 +849,8 @@ public class KafkaRollerTest {
         private final int[] controllers;
         private final List<String> tcpProbes = new ArrayList<>();
         private final BrokerState brokerState;
+        private BrokerState watchedBrokerState;
+        private RollReadiness rollReadiness;
 
         @SuppressWarnings("checkstyle:ParameterNumber")
         private TestingKafkaRoller(Secret clusterCaCertSecret, Secret coKeySecret, Set<NodeRef> nodes,
@@ -774,6 +904,13 @@ public class KafkaRollerTest {
                         return new BrokerState(-1, null);
                     }
                     return brokerState;
+                } else if ("watchBrokerState".equals(invocation.getMethod().getName())) {
+                    if (watchedBrokerState == null) {
+                        return new BrokerState(-1, null);
+                    }
+                    return watchedBrokerState;
+                } else if ("getRollReadiness".equals(invocation.getMethod().getName())) {
+                    return CompletableFuture.completedFuture(rollReadiness);
                 }
                 return null;
             });
@@ -65,7 +65,7 @@ public class ZooKeeperRollerTest {
         when(podOperator.listAsync(any(), any(Labels.class))).thenReturn(Future.succeededFuture(PODS));
 
         ZookeeperLeaderFinder leaderFinder = mock(ZookeeperLeaderFinder.class);
-        when(leaderFinder.findZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(ZookeeperLeaderFinder.UNKNOWN_LEADER));
+        when(leaderFinder.findTrackedZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(ZookeeperLeaderFinder.UNKNOWN_LEADER));
 
         MockZooKeeperRoller roller = new MockZooKeeperRoller(podOperator, leaderFinder, 300_00L);
 
@@ -94,7 +94,7 @@ public class ZooKeeperRollerTest {
         when(podOperator.readiness(any(), any(), any(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
 
         ZookeeperLeaderFinder leaderFinder = mock(ZookeeperLeaderFinder.class);
-        when(leaderFinder.findZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(leaderPodReady));
+        when(leaderFinder.findTrackedZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(leaderPodReady));
 
         MockZooKeeperRoller roller = new MockZooKeeperRoller(podOperator, leaderFinder, 300_00L);
 
@@ -129,7 +129,7 @@ public class ZooKeeperRollerTest {
 
 
         ZookeeperLeaderFinder leaderFinder = mock(ZookeeperLeaderFinder.class);
-        when(leaderFinder.findZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(leaderPodNeedsRestart));
+        when(leaderFinder.findTrackedZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(leaderPodNeedsRestart));
 
         MockZooKeeperRoller roller = new MockZooKeeperRoller(podOperator, leaderFinder, 300_00L);
 
@@ -161,7 +161,7 @@ public class ZooKeeperRollerTest {
         when(podOperator.readiness(any(), any(), eq(leaderPodNeedsRestartNonReady), anyLong(), anyLong())).thenReturn(Future.failedFuture("failure"));
 
         ZookeeperLeaderFinder leaderFinder = mock(ZookeeperLeaderFinder.class);
-        when(leaderFinder.findZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(leaderPodNeedsRestartNonReady));
+        when(leaderFinder.findTrackedZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(leaderPodNeedsRestartNonReady));
 
         MockZooKeeperRoller roller = new MockZooKeeperRoller(podOperator, leaderFinder, 300_00L);
 
@@ -178,7 +178,7 @@ public class ZooKeeperRollerTest {
         when(podOperator.listAsync(any(), any(Labels.class))).thenReturn(Future.succeededFuture(PODS));
 
         ZookeeperLeaderFinder leaderFinder = mock(ZookeeperLeaderFinder.class);
-        when(leaderFinder.findZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(ZookeeperLeaderFinder.UNKNOWN_LEADER));
+        when(leaderFinder.findTrackedZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(ZookeeperLeaderFinder.UNKNOWN_LEADER));
 
         MockZooKeeperRoller roller = new MockZooKeeperRoller(podOperator, leaderFinder, 300_00L);
 
@@ -197,7 +197,7 @@ public class ZooKeeperRollerTest {
         when(podOperator.readiness(any(), any(), any(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
 
         ZookeeperLeaderFinder leaderFinder = mock(ZookeeperLeaderFinder.class);
-        when(leaderFinder.findZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture("name-zookeeper-1"));
+        when(leaderFinder.findTrackedZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture("name-zookeeper-1"));
 
         MockZooKeeperRoller roller = new MockZooKeeperRoller(podOperator, leaderFinder, 300_00L);
 
@@ -219,7 +219,7 @@ public class ZooKeeperRollerTest {
         when(podOperator.readiness(any(), any(), any(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
 
         ZookeeperLeaderFinder leaderFinder = mock(ZookeeperLeaderFinder.class);
-        when(leaderFinder.findZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(ZookeeperLeaderFinder.UNKNOWN_LEADER));
+        when(leaderFinder.findTrackedZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture(ZookeeperLeaderFinder.UNKNOWN_LEADER));
 
         MockZooKeeperRoller roller = new MockZooKeeperRoller(podOperator, leaderFinder, 300_00L);
 
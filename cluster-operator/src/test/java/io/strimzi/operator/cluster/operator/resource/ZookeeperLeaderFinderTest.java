@@ -35,7 +35,9 @@ import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -387,6 +389,71 @@ public class ZookeeperLeaderFinderTest {
             })));
     }
 
+    @Test
+    public void testTrackedLeader(VertxTestContext context) throws InterruptedException {
+        String leaderPod = "my-cluster-kafka-1";
+
+        int[] ports = startMockZks(context, 3, (id, attempt) -> id == 1);
+
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        Map<String, String> pods = new TreeMap<>(Map.of(createPodWithId(0), "uid-0", createPodWithId(1), "uid-1", createPodWithId(2), "uid-2"));
+        Map<String, String> recreatedPods = new TreeMap<>(Map.of(createPodWithId(0), "uid-3", createPodWithId(1), "uid-1", createPodWithId(2), "uid-2"));
+
+        Checkpoint a = context.checkpoint();
+        finder.findTrackedZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, dummySecret(), dummySecret())
+            .compose(leader -> {
+                context.verify(() -> {
+                    // The leader is searched for in all pods
+                    assertThat(leader, is(leaderPod));
+                    assertThat(zks.get(0).attempts.get(), is(1));
+                    assertThat(zks.get(1).attempts.get(), is(1));
+                    assertThat(zks.get(2).attempts.get(), is(0));
+                });
+
+                return finder.findTrackedZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, dummySecret(), dummySecret());
+            })
+            .compose(leader -> {
+                context.verify(() -> {
+                    // The pods did not change => only the tracked leader is verified
+                    assertThat(leader, is(leaderPod));
+                    assertThat(zks.get(0).attempts.get(), is(1));
+                    assertThat(zks.get(1).attempts.get(), is(2));
+                    assertThat(zks.get(2).attempts.get(), is(0));
+                });
+
+                return finder.findTrackedZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, recreatedPods, dummySecret(), dummySecret());
+            })
+            .onComplete(context.succeeding(leader -> context.verify(() -> {
+                // A pod was recreated => the leader is searched for again
+                assertThat(leader, is(leaderPod));
+                assertThat(zks.get(0).attempts.get(), is(2));
+                assertThat(zks.get(1).attempts.get(), is(3));
+                assertThat(zks.get(2).attempts.get(), is(0));
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testTrackedLeaderChanged(VertxTestContext context) throws InterruptedException {
+        // Pod 0 is the leader only on the first attempt, then pod 1 takes over
+        int[] ports = startMockZks(context, 2, (id, attempt) -> id == 0 ? attempt == 0 : attempt > 0);
+
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        Map<String, String> pods = new TreeMap<>(Map.of(createPodWithId(0), "uid-0", createPodWithId(1), "uid-1"));
+
+        Checkpoint a = context.checkpoint();
+        finder.findTrackedZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, dummySecret(), dummySecret())
+            .compose(leader -> {
+                context.verify(() -> assertThat(leader, is(createPodWithId(0))));
+                return finder.findTrackedZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, dummySecret(), dummySecret());
+            })
+            .onComplete(context.succeeding(leader -> context.verify(() -> {
+                // The tracked leader is not the leader anymore => the leader is searched for again
+                assertThat(leader, is(createPodWithId(1)));
+                a.flag();
+            })));
+    }
+
     String createPodWithId(int id) {
         return "my-cluster-kafka-" + id;
     }
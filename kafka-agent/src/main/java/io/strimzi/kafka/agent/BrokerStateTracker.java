@@ -0,0 +1,86 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the transitions of the broker state and of the log recovery progress for the long-polling broker state
+ * endpoint. Every change of the sampled state increases the version. Clients pass the last version they have seen and
+ * the request returns as soon as the state changes to a newer version, instead of clients polling the broker state
+ * over the network.
+ * The versions start from the time when the tracker was created, so the versions of a restarted agent do not repeat
+ * the versions seen by the clients before the restart. Any version different from the current one, including a stale
+ * version higher than the current one, is treated as outdated and the current state is returned immediately.
+ * The broker state is exposed only as gauges, so the state is sampled by the waiting requests in short intervals.
+ */
+class BrokerStateTracker {
+    private static final long SAMPLE_INTERVAL_MS = 100;
+
+    private final Supplier<Map<String, Object>> sampler;
+    private Map<String, Object> current;
+    private long version;
+
+    /**
+     * Constructs the tracker
+     *
+     * @param sampler   Supplier of the current broker state or null if the broker state is not known yet
+     */
+    BrokerStateTracker(Supplier<Map<String, Object>> sampler) {
+        this.sampler = sampler;
+        this.version = System.currentTimeMillis();
+    }
+
+    /**
+     * Samples the broker state and increases the version when it changed
+     */
+    private void sample() {
+        Map<String, Object> sampled = sampler.get();
+
+        if (!Objects.equals(sampled, current)) {
+            current = sampled;
+            version++;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits until the broker state has a different version than the version passed as parameter or until the timeout.
+     *
+     * @param sinceVersion  Last version of the broker state known to the client
+     * @param timeoutMs     Maximal time to wait for a change in milliseconds
+     *
+     * @return  The broker state with its version under the {@code version} key or null if the broker state is not known
+     *
+     * @throws InterruptedException     If interrupted while waiting
+     */
+    synchronized Map<String, Object> await(long sinceVersion, long timeoutMs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        sample();
+        while (version == sinceVersion) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+            if (remainingMs <= 0) {
+                break;
+            }
+
+            wait(Math.min(remainingMs, SAMPLE_INTERVAL_MS));
+            sample();
+        }
+
+        if (current == null) {
+            return null;
+        }
+
+        Map<String, Object> state = new LinkedHashMap<>(current);
+        state.put("version", version);
+        return state;
+    }
+}
@@ -21,6 +21,7 @@ import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.eclipse.jetty.server.handler.ContextHandler;
+import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +33,7 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -50,11 +52,28 @@ import java.util.Map;
  *          "remainingSegmentsToRecover": 456
  *        }
  *      }</dd>
+ *     <dt>{@code GET /v1/broker-state-watch?version=<version>&timeoutMs=<timeout>}</dt>
+ *     <dd>Long-polling variant of the broker state endpoint. It returns the same JSON response extended with the
+ *      version of the broker state as soon as the broker state or the log recovery progress changes to a newer
+ *      version than the one passed in the request, or when the timeout (max. 60 seconds) expires,
+ *      e.g. {"brokerState": 3, "version": 1697724000005}. The versions start from the start time of the agent. When
+ *      the version passed in the request is not the current version (for example because it was seen before the agent
+ *      restarted), the current state is returned immediately.</dd>
+ *     <dt>{@code GET /v1/roll-readiness}</dt>
+ *     <dd>Summary of the replication state used by the operator to check whether the node can be safely restarted
+ *      without reading the descriptions of all topics through the Admin API. It reflects the UnderReplicatedPartitions,
+ *      UnderMinIsrPartitionCount and AtMinIsrPartitionCount metrics of the partitions led by the broker and the
+ *      OfflinePartitionsCount metric of the controller. Only the metrics registered on the node are included,
+ *      e.g. {"underReplicatedPartitions": 0, "underMinIsrPartitions": 0, "atMinIsrPartitions": 0, "offlinePartitions": 0}</dd>
  * </dl>
  */
 public class KafkaAgent {
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaAgent.class);
     private static final String BROKER_STATE_PATH = "/v1/broker-state";
+    private static final String BROKER_STATE_WATCH_PATH = "/v1/broker-state-watch";
+    private static final String ROLL_READINESS_PATH = "/v1/roll-readiness";
+    private static final long BROKER_STATE_WATCH_MAX_TIMEOUT_MS = 60_000;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
     private static final int HTTPS_PORT = 8443;
     private static final long GRACEFUL_SHUTDOWN_TIMEOUT_MS = 30 * 1000;
 
@@ -74,9 +93,14 @@ public class KafkaAgent {
     private Gauge brokerState;
     private Gauge remainingLogsToRecover;
     private Gauge remainingSegmentsToRecover;
+    private Gauge underReplicatedPartitions;
+    private Gauge underMinIsrPartitions;
+    private Gauge atMinIsrPartitions;
+    private Gauge offlinePartitions;
     private MetricName sessionStateName;
     private Gauge sessionState;
     private boolean pollerRunning;
+    private final BrokerStateTracker brokerStateTracker = new BrokerStateTracker(this::brokerStateResponse);
 
     /**
      * Constructor of the KafkaAgent
@@ -110,6 +134,21 @@ public class KafkaAgent {
         this.remainingSegmentsToRecover = remainingSegmentsToRecover;
     }
 
+    /**
+     * Constructor of the KafkaAgent
+     *
+     * @param underReplicatedPartitions   Number of under-replicated partitions led by the broker
+     * @param underMinIsrPartitions       Number of partitions led by the broker with ISR smaller than min.insync.replicas
+     * @param atMinIsrPartitions          Number of partitions led by the broker with ISR equal to min.insync.replicas
+     * @param offlinePartitions           Number of offline partitions according to the controller
+     */
+    /* test */ KafkaAgent(Gauge underReplicatedPartitions, Gauge underMinIsrPartitions, Gauge atMinIsrPartitions, Gauge offlinePartitions) {
+        this.underReplicatedPartitions = underReplicatedPartitions;
+        this.underMinIsrPartitions = underMinIsrPartitions;
+        this.atMinIsrPartitions = atMinIsrPartitions;
+        this.offlinePartitions = offlinePartitions;
+    }
+
     private void run() {
         Thread pollerThread = new Thread(poller(),
                 "KafkaAgentPoller");
@@ -144,6 +183,8 @@ public class KafkaAgent {
                         && metric instanceof Gauge) {
                     sessionStateName = metricName;
                     sessionState = (Gauge) metric;
+                } else if (metric instanceof Gauge) {
+                    onReplicationMetricAdded(metricName, (Gauge) metric);
                 }
 
                 // starting the poller to create the broker ready and ZooKeeper session connected files on if not KRaft mode
@@ -205,6 +246,36 @@ public class KafkaAgent {
                 && "LogManager".equals(name.getType());
     }
 
+    /**
+     * Keeps the gauges used for the roll readiness summary
+     *
+     * @param metricName    Name of the added metric
+     * @param gauge         The added gauge
+     */
+    private void onReplicationMetricAdded(MetricName metricName, Gauge gauge) {
+        if (isReplicaManagerMetric(metricName, "UnderReplicatedPartitions")) {
+            underReplicatedPartitions = gauge;
+        } else if (isReplicaManagerMetric(metricName, "UnderMinIsrPartitionCount")) {
+            underMinIsrPartitions = gauge;
+        } else if (isReplicaManagerMetric(metricName, "AtMinIsrPartitionCount")) {
+            atMinIsrPartitions = gauge;
+        } else if (isOfflinePartitionsCount(metricName)) {
+            offlinePartitions = gauge;
+        }
+    }
+
+    private boolean isReplicaManagerMetric(MetricName name, String metric) {
+        return metric.equals(name.getName())
+                && "kafka.server".equals(name.getGroup())
+                && "ReplicaManager".equals(name.getType());
+    }
+
+    private boolean isOfflinePartitionsCount(MetricName name) {
+        return "OfflinePartitionsCount".equals(name.getName())
+                && "kafka.controller".equals(name.getGroup())
+                && "KafkaController".equals(name.getType());
+    }
+
     private boolean isSessionState(MetricName name) {
         return "SessionState".equals(name.getName())
                 && "SessionExpireListener".equals(name.getType());
@@ -224,8 +295,14 @@ public class KafkaAgent {
         ContextHandler context = new ContextHandler(BROKER_STATE_PATH);
         context.setHandler(getBrokerStateHandler());
 
+        ContextHandler watchContext = new ContextHandler(BROKER_STATE_WATCH_PATH);
+        watchContext.setHandler(getBrokerStateWatchHandler());
+
+        ContextHandler rollReadinessContext = new ContextHandler(ROLL_READINESS_PATH);
+        rollReadinessContext.setHandler(getRollReadinessHandler());
+
         server.setConnectors(new Connector[]{conn});
-        server.setHandler(context);
+        server.setHandler(new ContextHandlerCollection(context, watchContext, rollReadinessContext));
         server.setStopTimeout(GRACEFUL_SHUTDOWN_TIMEOUT_MS);
         server.setStopAtShutdown(true);
         server.start();
@@ -244,29 +321,116 @@ public class KafkaAgent {
                 response.setCharacterEncoding("UTF-8");
                 baseRequest.setHandled(true);
 
-                Map<String, Object> brokerStateResponse = new HashMap<>();
-                if (brokerState != null) {
-                    if ((byte) brokerState.value() == BROKER_RECOVERY_STATE && remainingLogsToRecover != null && remainingSegmentsToRecover != null) {
-                        Map<String, Object> recoveryState = new HashMap<>();
-                        recoveryState.put("remainingLogsToRecover", remainingLogsToRecover.value());
-                        recoveryState.put("remainingSegmentsToRecover", remainingSegmentsToRecover.value());
-                        brokerStateResponse.put("brokerState", brokerState.value());
-                        brokerStateResponse.put("recoveryState", recoveryState);
-                    } else {
-                        brokerStateResponse.put("brokerState", brokerState.value());
-                    }
+                writeBrokerState(response, brokerStateResponse());
+            }
+        };
+    }
+
+    /**
+     * Creates a Handler instance to handle incoming long-polling HTTP requests for the broker state
+     *
+     * @return Handler
+     */
+    /* test */ Handler getBrokerStateWatchHandler() {
+        return new AbstractHandler() {
+            @Override
+            public void handle(String s, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.setContentType("application/json");
+                response.setCharacterEncoding("UTF-8");
+                baseRequest.setHandled(true);
+
+                long version;
+                long timeoutMs;
+                try {
+                    version = request.getParameter("version") != null ? Long.parseLong(request.getParameter("version")) : 0L;
+                    timeoutMs = request.getParameter("timeoutMs") != null ? Long.parseLong(request.getParameter("timeoutMs")) : BROKER_STATE_WATCH_MAX_TIMEOUT_MS;
+                } catch (NumberFormatException e) {
+                    response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    response.getWriter().print("Invalid version or timeout");
+                    return;
+                }
+
+                try {
+                    writeBrokerState(response, brokerStateTracker.await(version, Math.max(0, Math.min(timeoutMs, BROKER_STATE_WATCH_MAX_TIMEOUT_MS))));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                    response.getWriter().print("Interrupted while waiting for the broker state");
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a Handler instance to handle incoming HTTP requests for the roll readiness summary
+     *
+     * @return Handler
+     */
+    /* test */ Handler getRollReadinessHandler() {
+        return new AbstractHandler() {
+            @Override
+            public void handle(String s, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.setContentType("application/json");
+                response.setCharacterEncoding("UTF-8");
+                baseRequest.setHandled(true);
+
+                Map<String, Object> rollReadinessResponse = new LinkedHashMap<>();
+                putGaugeValue(rollReadinessResponse, "underReplicatedPartitions", underReplicatedPartitions);
+                putGaugeValue(rollReadinessResponse, "underMinIsrPartitions", underMinIsrPartitions);
+                putGaugeValue(rollReadinessResponse, "atMinIsrPartitions", atMinIsrPartitions);
+                putGaugeValue(rollReadinessResponse, "offlinePartitions", offlinePartitions);
 
+                if (!rollReadinessResponse.isEmpty()) {
                     response.setStatus(HttpServletResponse.SC_OK);
-                    String json = new ObjectMapper().writeValueAsString(brokerStateResponse);
-                    response.getWriter().print(json);
+                    response.getWriter().print(MAPPER.writeValueAsString(rollReadinessResponse));
                 } else {
                     response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                    response.getWriter().print("Broker state metric not found");
+                    response.getWriter().print("Replication metrics not found");
                 }
             }
         };
     }
 
+    private static void putGaugeValue(Map<String, Object> map, String key, Gauge gauge) {
+        if (gauge != null) {
+            map.put(key, gauge.value());
+        }
+    }
+
+    /**
+     * Builds the broker state response from the broker state and log recovery metrics
+     *
+     * @return  Map with the broker state response or null if the broker state metric was not found yet
+     */
+    private Map<String, Object> brokerStateResponse() {
+        if (brokerState == null) {
+            return null;
+        }
+
+        Map<String, Object> brokerStateResponse = new HashMap<>();
+        if ((byte) brokerState.value() == BROKER_RECOVERY_STATE && remainingLogsToRecover != null && remainingSegmentsToRecover != null) {
+            Map<String, Object> recoveryState = new HashMap<>();
+            recoveryState.put("remainingLogsToRecover", remainingLogsToRecover.value());
+            recoveryState.put("remainingSegmentsToRecover", remainingSegmentsToRecover.value());
+            brokerStateResponse.put("brokerState", brokerState.value());
+            brokerStateResponse.put("recoveryState", recoveryState);
+        } else {
+            brokerStateResponse.put("brokerState", brokerState.value());
+        }
+
+        return brokerStateResponse;
+    }
+
+    private static void writeBrokerState(HttpServletResponse response, Map<String, Object> brokerStateResponse) throws IOException {
+        if (brokerStateResponse != null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.getWriter().print(MAPPER.writeValueAsString(brokerStateResponse));
+        } else {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            response.getWriter().print("Broker state metric not found");
+        }
+    }
+
 
     private SslContextFactory getSSLContextFactory() {
         SslContextFactory.Server sslContextFactory = new SslContextFactory.Server();
@@ -10,6 +10,11 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.servlet.http.HttpServletResponse;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
@@ -20,10 +25,14 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class KafkaAgentTest {
+    private static final Pattern VERSION = Pattern.compile(",\"version\":(\\d+)");
+
     private Server server;
     private ContextHandler context;
     private HttpRequest req;
@@ -106,4 +115,187 @@ public class KafkaAgentTest {
 
     }
 
+    private static HttpRequest watchRequest(long version, long timeoutMs) throws URISyntaxException {
+        return HttpRequest.newBuilder()
+                .uri(new URI("http://localhost:8080/?version=" + version + "&timeoutMs=" + timeoutMs))
+                .GET()
+                .build();
+    }
+
+    private static long version(HttpResponse<String> response) {
+        Matcher matcher = VERSION.matcher(response.body());
+        assertTrue(matcher.find());
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static String withoutVersion(HttpResponse<String> response) {
+        return VERSION.matcher(response.body()).replaceFirst("");
+    }
+
+    @Test
+    public void testBrokerStateWatchReturnsCurrentState() throws Exception {
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenReturn((byte) 3);
+        KafkaAgent agent = new KafkaAgent(brokerState, null, null);
+        context.setHandler(agent.getBrokerStateWatchHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(watchRequest(0, 60_000), HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpServletResponse.SC_OK, response.statusCode());
+        assertEquals("{\"brokerState\":3}", withoutVersion(response));
+    }
+
+    @Test
+    public void testBrokerStateWatchReturnsImmediatelyForStaleVersion() throws Exception {
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenReturn((byte) 2);
+        KafkaAgent agent = new KafkaAgent(brokerState, null, null);
+        context.setHandler(agent.getBrokerStateWatchHandler());
+        server.setHandler(context);
+        server.start();
+
+        // Version seen by the client before the agent restarted
+        long start = System.nanoTime();
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(watchRequest(Long.MAX_VALUE, 60_000), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(HttpServletResponse.SC_OK, response.statusCode());
+        assertEquals("{\"brokerState\":2}", withoutVersion(response));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 30_000);
+    }
+
+    @Test
+    public void testBrokerStateWatchReturnsOnChange() throws Exception {
+        final AtomicInteger state = new AtomicInteger(2);
+        final AtomicInteger remainingLogs = new AtomicInteger(10);
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenAnswer(i -> (byte) state.get());
+        final Gauge remainingLogsGauge = mock(Gauge.class);
+        when(remainingLogsGauge.value()).thenAnswer(i -> remainingLogs.get());
+        final Gauge remainingSegmentsGauge = mock(Gauge.class);
+        when(remainingSegmentsGauge.value()).thenReturn(100);
+
+        KafkaAgent agent = new KafkaAgent(brokerState, remainingLogsGauge, remainingSegmentsGauge);
+        context.setHandler(agent.getBrokerStateWatchHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpClient client = HttpClient.newBuilder().build();
+        HttpResponse<String> response = client.send(watchRequest(0, 60_000), HttpResponse.BodyHandlers.ofString());
+        assertEquals("{\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100}}", withoutVersion(response));
+        long version = version(response);
+
+        // Recovery progress
+        CompletableFuture<HttpResponse<String>> watch = client.sendAsync(watchRequest(version, 60_000), HttpResponse.BodyHandlers.ofString());
+        Thread.sleep(300);
+        assertFalse(watch.isDone());
+        remainingLogs.set(5);
+        response = watch.get(10, TimeUnit.SECONDS);
+        assertEquals("{\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":5,\"remainingSegmentsToRecover\":100}}", withoutVersion(response));
+        assertEquals(version + 1, version(response));
+
+        // Recovery completed
+        watch = client.sendAsync(watchRequest(version + 1, 60_000), HttpResponse.BodyHandlers.ofString());
+        state.set(3);
+        response = watch.get(10, TimeUnit.SECONDS);
+        assertEquals("{\"brokerState\":3}", withoutVersion(response));
+        assertEquals(version + 2, version(response));
+    }
+
+    @Test
+    public void testBrokerStateWatchTimeout() throws Exception {
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenReturn((byte) 2);
+        KafkaAgent agent = new KafkaAgent(brokerState, null, null);
+        context.setHandler(agent.getBrokerStateWatchHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpClient client = HttpClient.newBuilder().build();
+        long version = version(client.send(watchRequest(0, 0), HttpResponse.BodyHandlers.ofString()));
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(watchRequest(version, 500), HttpResponse.BodyHandlers.ofString());
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(HttpServletResponse.SC_OK, response.statusCode());
+        assertEquals("{\"brokerState\":2}", withoutVersion(response));
+        assertEquals(version, version(response));
+        assertTrue(durationMs >= 500);
+    }
+
+    @Test
+    public void testBrokerStateWatchInvalidRequest() throws Exception {
+        KafkaAgent agent = new KafkaAgent(null, null, null);
+        context.setHandler(agent.getBrokerStateWatchHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(HttpRequest.newBuilder().uri(new URI("http://localhost:8080/?version=foo")).GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpServletResponse.SC_BAD_REQUEST, response.statusCode());
+
+        response = HttpClient.newBuilder()
+                .build()
+                .send(watchRequest(0, 100), HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, response.statusCode());
+    }
+
+    @Test
+    public void testRollReadiness() throws Exception {
+        final Gauge underReplicated = mock(Gauge.class);
+        when(underReplicated.value()).thenReturn(1);
+        final Gauge underMinIsr = mock(Gauge.class);
+        when(underMinIsr.value()).thenReturn(0);
+        final Gauge atMinIsr = mock(Gauge.class);
+        when(atMinIsr.value()).thenReturn(2);
+        final Gauge offline = mock(Gauge.class);
+        when(offline.value()).thenReturn(0);
+
+        KafkaAgent agent = new KafkaAgent(underReplicated, underMinIsr, atMinIsr, offline);
+        context.setHandler(agent.getRollReadinessHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpServletResponse.SC_OK, response.statusCode());
+        assertEquals("{\"underReplicatedPartitions\":1,\"underMinIsrPartitions\":0,\"atMinIsrPartitions\":2,\"offlinePartitions\":0}", response.body());
+    }
+
+    @Test
+    public void testRollReadinessOnControllerOnlyNode() throws Exception {
+        final Gauge offline = mock(Gauge.class);
+        when(offline.value()).thenReturn(0);
+
+        KafkaAgent agent = new KafkaAgent(null, null, null, offline);
+        context.setHandler(agent.getRollReadinessHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpServletResponse.SC_OK, response.statusCode());
+        assertEquals("{\"offlinePartitions\":0}", response.body());
+    }
+
+    @Test
+    public void testRollReadinessMetricsNotFound() throws Exception {
+        KafkaAgent agent = new KafkaAgent(null, null, null, null);
+        context.setHandler(agent.getRollReadinessHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString());
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, response.statusCode());
+    }
 }
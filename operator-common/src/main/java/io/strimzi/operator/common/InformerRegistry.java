@@ -0,0 +1,208 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the informers shared by the different parts of the operator. There is at most one informer for each
+ * kind, namespace (or {@code *} for all namespaces) and label selector. The informers are created by the first component which needs
+ * them (for example the StrimziPodSet controller) and the same instance is returned to the other components. The
+ * component which created the informer is responsible for starting and stopping it.
+ *
+ * The registry also serves the reads of the resources from the informer caches instead of getting them from the
+ * Kubernetes API. The informer uses a different watch than the watches triggering the reconciliations. So a cached
+ * resource is returned only when it has the same resource version as the last event received for the resource by the
+ * watch of the operator. Otherwise the reconciliation might be triggered by an event which did not reach the informer
+ * cache yet. When the versions do not match or the informer is not running or not synced, the read falls back to the
+ * Kubernetes API. The changes done by the operator itself are recorded as well, so that the cached resource is not
+ * used until the informer receives the change.
+ */
+public class InformerRegistry {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(InformerRegistry.class);
+    private static final String METRICS_PREFIX = "strimzi.informer.";
+
+    private final MetricsProvider metricsProvider;
+    private final Map<String, SharedIndexInformer<? extends HasMetadata>> informers = new ConcurrentHashMap<>();
+    private final Map<String, String> watchedResourceVersions = new ConcurrentHashMap<>();
+    private final Map<String, Counter> apiCallsAvoidedCounters = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the informer registry
+     *
+     * @param metricsProvider   Metrics provider used for the cache size and API-call-avoided metrics
+     */
+    public InformerRegistry(MetricsProvider metricsProvider) {
+        this.metricsProvider = metricsProvider;
+    }
+
+    /**
+     * Returns the shared informer for given kind, namespace and label selector. If it does not exist yet (or if the
+     * existing informer was already stopped), a new informer is created using the factory. The informer returned by
+     * this method is not started when it was just created and has to be started by the code using it. The selector has
+     * to be the same as the one used by the factory. The informers with different selectors are not shared.
+     *
+     * @param kind              Kind of the resources
+     * @param namespace         Namespace of the informer or {@code *} for all namespaces
+     * @param selector          Label selector used by the informer in its string form (for example
+     *                          {@code strimzi.io/kind=Kafka}) or null when it watches all resources
+     * @param informerFactory   Factory used to create the informer
+     *
+     * @return  The shared informer
+     *
+     * @param <T>   Type of the resource
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T extends HasMetadata> SharedIndexInformer<T> informer(String kind, String namespace, String selector, Supplier<SharedIndexInformer<T>> informerFactory) {
+        String key = informerKey(kind, namespace) + "/" + (selector == null ? "" : selector);
+        SharedIndexInformer<T> informer = (SharedIndexInformer<T>) informers.get(key);
+
+        if (informer == null || informer.stopped().toCompletableFuture().isDone()) {
+            LOGGER.debugOp("Creating shared {} informer for namespace {}", kind, namespace);
+            informer = informerFactory.get();
+            informer.addEventHandler(new CacheSizeHandler<>(metricsProvider.gauge(METRICS_PREFIX + "cache.size",
+                    "Number of resources in the informer cache", Tags.of("kind", kind, "namespace", namespace))));
+            informers.put(key, informer);
+        }
+
+        return informer;
+    }
+
+    /**
+     * Records the event received for a resource by the watch triggering its reconciliations. The resource version from
+     * the event is used to decide whether the cached resource is recent enough to be used instead of getting it from
+     * the Kubernetes API.
+     *
+     * @param kind      Kind of the resource
+     * @param action    Action of the watch event
+     * @param resource  Resource from the watch event
+     */
+    public void recordWatchEvent(String kind, Watcher.Action action, HasMetadata resource) {
+        String key = resourceKey(kind, resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+
+        if (action == Watcher.Action.ADDED || action == Watcher.Action.MODIFIED) {
+            watchedResourceVersions.put(key, resource.getMetadata().getResourceVersion());
+        } else {
+            watchedResourceVersions.remove(key);
+        }
+    }
+
+    /**
+     * Records a change of a resource done by the operator itself. The informer cache and the watch triggering the
+     * reconciliations might still have the version from before the change. So only the version returned by the
+     * Kubernetes API for the change is used from now on.
+     *
+     * @param kind      Kind of the resource
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     * @param resource  Resource returned by the Kubernetes API after the change or null when the resource was deleted
+     *                  or when its new version is not known (for example because the change failed)
+     */
+    public void recordWrite(String kind, String namespace, String name, HasMetadata resource) {
+        String key = resourceKey(kind, namespace, name);
+
+        if (resource != null && resource.getMetadata() != null && resource.getMetadata().getResourceVersion() != null) {
+            watchedResourceVersions.put(key, resource.getMetadata().getResourceVersion());
+        } else {
+            watchedResourceVersions.remove(key);
+        }
+    }
+
+    /**
+     * Gets the resource from the informer cache. The cached resource is used only when the informer is running and
+     * synced and when the cached resource has the same version as the last resource version received by the watch.
+     *
+     * @param kind          Kind of the resource
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the cached resource or null if the resource has to be read from the Kubernetes API
+     *
+     * @param <T>   Type of the resource
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends HasMetadata> T get(String kind, String namespace, String name) {
+        String watchedResourceVersion = watchedResourceVersions.get(resourceKey(kind, namespace, name));
+
+        if (watchedResourceVersion == null) {
+            return null;
+        }
+
+        String namespacedKey = informerKey(kind, namespace) + "/";
+        String clusterWideKey = informerKey(kind, "*") + "/";
+
+        for (Map.Entry<String, SharedIndexInformer<? extends HasMetadata>> entry : informers.entrySet()) {
+            if (entry.getKey().startsWith(namespacedKey) || entry.getKey().startsWith(clusterWideKey)) {
+                SharedIndexInformer<T> informer = (SharedIndexInformer<T>) entry.getValue();
+
+                if (informer.isWatching() && informer.hasSynced()) {
+                    T cached = new Lister<>(informer.getIndexer(), namespace).get(name);
+
+                    if (cached != null && watchedResourceVersion.equals(cached.getMetadata().getResourceVersion())) {
+                        apiCallsAvoidedCounter(kind).increment();
+                        // The cached resources are shared => we return a copy the caller can modify
+                        return Serialization.clone(cached);
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private Counter apiCallsAvoidedCounter(String kind) {
+        return apiCallsAvoidedCounters.computeIfAbsent(kind, k -> metricsProvider.counter(METRICS_PREFIX + "api.calls.avoided",
+                "Number of Kubernetes API reads served from the informer cache", Tags.of("kind", kind)));
+    }
+
+    private static String informerKey(String kind, String namespace) {
+        return kind + "/" + namespace;
+    }
+
+    private static String resourceKey(String kind, String namespace, String name) {
+        return kind + "/" + namespace + "/" + name;
+    }
+
+    /**
+     * Event handler tracking the number of resources in the informer cache
+     *
+     * @param <T>   Type of the resource
+     */
+    private static class CacheSizeHandler<T> implements ResourceEventHandler<T> {
+        private final AtomicInteger cacheSize;
+
+        CacheSizeHandler(AtomicInteger cacheSize) {
+            this.cacheSize = cacheSize;
+            cacheSize.set(0);
+        }
+
+        @Override
+        public void onAdd(T obj) {
+            cacheSize.incrementAndGet();
+        }
+
+        @Override
+        public void onUpdate(T oldObj, T newObj) {
+            // Updates do not change the cache size
+        }
+
+        @Override
+        public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+            cacheSize.decrementAndGet();
+        }
+    }
+}
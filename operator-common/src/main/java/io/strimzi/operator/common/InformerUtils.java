@@ -4,6 +4,9 @@
  */
 package io.strimzi.operator.common;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodStatusBuilder;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 
 import java.util.concurrent.ExecutionException;
@@ -15,6 +18,55 @@ import java.util.concurrent.TimeoutException;
  */
 public class InformerUtils {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(InformerUtils.class);
+    private static final String LAST_APPLIED_CONFIGURATION_ANNOTATION = "kubectl.kubernetes.io/last-applied-configuration";
+
+    /**
+     * Informer transformation which removes the managed fields from the resource. The managed fields are used only by
+     * the Server Side Apply and are often bigger than the rest of the metadata. This transformation is safe for all
+     * resources, because the managed fields are kept unchanged by Kubernetes when they are missing in an update.
+     *
+     * @param resource  Resource which should be transformed
+     *
+     * @return  The same resource instance without the managed fields
+     *
+     * @param <T>   Type of the resource
+     */
+    public static <T extends HasMetadata> T stripManagedFields(T resource) {
+        if (resource.getMetadata() != null) {
+            resource.getMetadata().setManagedFields(null);
+        }
+
+        return resource;
+    }
+
+    /**
+     * Informer transformation for the Pods. Apart from the managed fields, it removes the last applied configuration
+     * annotation, the Pod spec and all parts of the Pod status except for the phase and conditions. The transformed
+     * Pods can be used to check the labels, annotations, owner references, readiness and phase of the Pods. So it
+     * should be used only for informers which are not shared with components reading the other fields.
+     *
+     * @param pod   Pod which should be transformed
+     *
+     * @return  The same Pod instance without the unused fields
+     */
+    public static Pod stripPod(Pod pod) {
+        stripManagedFields(pod);
+
+        if (pod.getMetadata() != null && pod.getMetadata().getAnnotations() != null) {
+            pod.getMetadata().getAnnotations().remove(LAST_APPLIED_CONFIGURATION_ANNOTATION);
+        }
+
+        pod.setSpec(null);
+
+        if (pod.getStatus() != null) {
+            pod.setStatus(new PodStatusBuilder()
+                    .withPhase(pod.getStatus().getPhase())
+                    .withConditions(pod.getStatus().getConditions())
+                    .build());
+        }
+
+        return pod;
+    }
 
     /**
      * Logs exceptions in the informers to give us a better overview of what is happening.
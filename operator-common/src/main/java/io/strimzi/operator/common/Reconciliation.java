@@ -5,7 +5,6 @@
 package io.strimzi.operator.common;
 
 import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.MarkerManager;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -30,6 +29,8 @@ public class Reconciliation {
     private final String name;
     private final int id;
     private final Marker marker;
+    // Lazily built and cached log prefix. Racy initialization is fine as the String is immutable.
+    private String logPrefix;
 
     /**
      * Constructs the reconciliation marker
@@ -45,7 +46,9 @@ public class Reconciliation {
         this.namespace = namespace;
         this.name = name;
         this.id = IDS.getAndIncrement();
-        this.marker = MarkerManager.getMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
+        // The marker is not registered in the Log4j MarkerManager to not keep the markers of all resources ever
+        // reconciled on the heap forever
+        this.marker = new ReconciliationMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
     }
 
     /**
@@ -76,6 +79,23 @@ public class Reconciliation {
         return marker;
     }
 
+    /**
+     * Returns the prefix used by the {@link ReconciliationLogger} for the log messages of this reconciliation. It is
+     * built on first use and cached afterwards.
+     *
+     * @return  The log prefix
+     */
+    String logPrefix() {
+        String prefix = logPrefix;
+
+        if (prefix == null) {
+            prefix = toString() + ": ";
+            logPrefix = prefix;
+        }
+
+        return prefix;
+    }
+
     @Override
     public String toString() {
         return "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
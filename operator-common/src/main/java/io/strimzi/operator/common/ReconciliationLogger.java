@@ -20,6 +20,9 @@ import org.apache.logging.log4j.util.Supplier;
  * Custom Logger interface with convenience methods for
  * the OFF, FATAL, ERROR, WARN, INFO, DEBUG, TRACE and ALL custom log levels.
  * <p>Compatible with Log4j 2.6 or higher.</p>
+ * <p>The methods which prefix the message with the reconciliation check the level first, so that calls for disabled
+ * levels do not build the prefixed message and do not allocate anything (apart from the varargs array created by the
+ * caller when more than ten parameters are passed). The prefix is cached by the {@link Reconciliation}.</p>
  */
 public class ReconciliationLogger implements Serializable {
     private static final long serialVersionUID = 258810740149174L;
@@ -5644,7 +5647,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5655,7 +5660,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5667,7 +5674,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -5680,7 +5689,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -5690,7 +5701,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5701,7 +5714,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -5713,7 +5728,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -5726,7 +5743,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -5740,7 +5759,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -5756,7 +5777,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -5773,7 +5796,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -5791,7 +5816,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -5810,7 +5837,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -5831,7 +5860,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -5853,7 +5884,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -5876,7 +5909,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -5888,7 +5923,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -5914,7 +5951,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -5988,7 +6027,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5999,7 +6040,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6011,7 +6054,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6024,7 +6069,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6034,7 +6081,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6045,7 +6094,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -6057,7 +6108,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -6070,7 +6123,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -6084,7 +6139,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6100,7 +6157,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6117,7 +6176,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6135,7 +6196,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6154,7 +6217,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6175,7 +6240,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6197,7 +6264,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6220,7 +6289,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6232,7 +6303,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6258,7 +6331,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -6332,7 +6407,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6343,7 +6420,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6355,7 +6434,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6368,7 +6449,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6378,7 +6461,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6389,7 +6474,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -6401,7 +6488,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -6414,7 +6503,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -6428,7 +6519,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6444,7 +6537,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6461,7 +6556,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6479,7 +6576,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6498,7 +6597,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6519,7 +6620,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6541,7 +6644,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6564,7 +6669,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6576,7 +6683,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6602,7 +6711,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -6676,7 +6787,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6687,7 +6800,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6699,7 +6814,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6712,7 +6829,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6722,7 +6841,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6733,7 +6854,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -6745,7 +6868,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -6758,7 +6883,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -6772,7 +6899,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6788,7 +6917,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6805,7 +6936,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6823,7 +6956,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6842,7 +6977,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6863,7 +7000,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6885,7 +7024,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6908,7 +7049,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6920,7 +7063,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6970,7 +7115,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7044,7 +7191,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7055,7 +7204,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7067,7 +7218,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7080,7 +7233,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7090,7 +7245,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7101,7 +7258,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -7113,7 +7272,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -7126,7 +7287,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -7140,7 +7303,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7156,7 +7321,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7173,7 +7340,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7191,7 +7360,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7210,7 +7381,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7231,7 +7404,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7253,7 +7428,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7276,7 +7453,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7288,7 +7467,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7314,7 +7495,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7388,7 +7571,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7399,7 +7584,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7411,7 +7598,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7424,7 +7613,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7434,7 +7625,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7445,7 +7638,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -7457,7 +7652,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -7470,7 +7667,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -7484,7 +7683,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7500,7 +7701,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7517,7 +7720,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7535,7 +7740,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7554,7 +7761,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7575,7 +7784,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7597,7 +7808,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7620,7 +7833,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7632,7 +7847,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7682,7 +7899,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7756,7 +7975,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7767,7 +7988,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7779,7 +8002,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7792,7 +8017,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7802,7 +8029,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7813,7 +8042,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -7825,7 +8056,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -7838,7 +8071,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -7852,7 +8087,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7868,7 +8105,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7885,7 +8124,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7903,7 +8144,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7922,7 +8165,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7943,7 +8188,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7965,7 +8212,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7988,7 +8237,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -8000,7 +8251,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -8026,7 +8279,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -8100,7 +8355,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8111,7 +8368,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8123,7 +8382,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -8136,7 +8397,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -8146,7 +8409,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8157,7 +8422,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -8169,7 +8436,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -8182,7 +8451,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -8196,7 +8467,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -8212,7 +8485,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -8229,7 +8504,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -8247,7 +8524,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -8266,7 +8545,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -8287,7 +8568,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -8309,7 +8592,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -8332,7 +8617,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -8344,7 +8631,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -8370,7 +8659,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -0,0 +1,157 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.apache.logging.log4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Lightweight log marker identifying the reconciled resource. Unlike the markers created by the Log4j
+ * {@code MarkerManager}, it is not registered in the global marker registry which never shrinks. So the markers of the
+ * resources which do not exist anymore can be garbage collected once their reconciliations are finished.
+ *
+ * The markers are matched by name and by their parents in the same way as the Log4j markers. So the marker filters
+ * (e.g. {@code MarkerFilter}) and the {@code %marker} pattern continue to work. The parents are supported in the same
+ * way as in the Log4j {@code MarkerManager.Log4jMarker}, but the operators do not use them.
+ */
+final class ReconciliationMarker implements Marker {
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private volatile Marker[] parents;
+
+    /**
+     * Constructs the marker
+     *
+     * @param name  Name of the marker
+     */
+    ReconciliationMarker(String name) {
+        this.name = Objects.requireNonNull(name, "Marker name cannot be null");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Marker[] getParents() {
+        Marker[] current = parents;
+        return current == null ? null : Arrays.copyOf(current, current.length);
+    }
+
+    @Override
+    public boolean hasParents() {
+        return parents != null;
+    }
+
+    @Override
+    public boolean isInstanceOf(Marker m) {
+        Objects.requireNonNull(m, "A marker parameter is required");
+
+        if (this == m || name.equals(m.getName())) {
+            return true;
+        }
+
+        Marker[] current = parents;
+        if (current != null) {
+            for (Marker parent : current) {
+                if (parent.isInstanceOf(m)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean isInstanceOf(String name) {
+        Objects.requireNonNull(name, "A marker name is required");
+
+        if (this.name.equals(name)) {
+            return true;
+        }
+
+        Marker[] current = parents;
+        if (current != null) {
+            for (Marker parent : current) {
+                if (parent.isInstanceOf(name)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public synchronized Marker addParents(Marker... markers) {
+        Objects.requireNonNull(markers, "A parent marker must be specified");
+        Marker[] current = parents;
+        List<Marker> updated = current == null ? new ArrayList<>(markers.length) : new ArrayList<>(Arrays.asList(current));
+
+        for (Marker marker : markers) {
+            if (!updated.contains(marker)) {
+                updated.add(marker);
+            }
+        }
+
+        parents = updated.isEmpty() ? null : updated.toArray(new Marker[0]);
+        return this;
+    }
+
+    @Override
+    public synchronized boolean remove(Marker marker) {
+        Objects.requireNonNull(marker, "A parent marker must be specified");
+        Marker[] current = parents;
+
+        if (current == null) {
+            return false;
+        }
+
+        List<Marker> updated = new ArrayList<>(Arrays.asList(current));
+        boolean removed = updated.remove(marker);
+        parents = updated.isEmpty() ? null : updated.toArray(new Marker[0]);
+
+        return removed;
+    }
+
+    @Override
+    public synchronized Marker setParents(Marker... markers) {
+        if (markers == null || markers.length == 0) {
+            parents = null;
+        } else {
+            parents = Arrays.copyOf(markers, markers.length);
+        }
+
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (!(o instanceof Marker)) {
+            return false;
+        } else {
+            return name.equals(((Marker) o).getName());
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
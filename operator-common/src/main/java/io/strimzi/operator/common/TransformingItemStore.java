@@ -0,0 +1,41 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Informer item store which transforms the resources before they are stored in the informer cache. It is used to drop
+ * the fields which are never read by the operator from the cached resources to reduce the memory used by the informer
+ * caches. It uses the same keys as the default informer store, so it can be used with the Listers.
+ *
+ * The transformation is applied to the resource received by the informer. So the event handlers of the informer get
+ * the transformed resource as well and should not depend on the dropped fields. The resources taken from the cache
+ * should never be used to replace the resources in Kubernetes, because the dropped fields would be removed.
+ *
+ * @param <T>   Type of the resource
+ */
+public class TransformingItemStore<T extends HasMetadata> extends BasicItemStore<T> {
+    private final UnaryOperator<T> transformation;
+
+    /**
+     * Constructs the item store
+     *
+     * @param transformation    Transformation applied to the resources before they are stored
+     */
+    public TransformingItemStore(UnaryOperator<T> transformation) {
+        super(Cache::metaNamespaceKeyFunc);
+        this.transformation = transformation;
+    }
+
+    @Override
+    public T put(String key, T obj) {
+        return super.put(key, transformation.apply(obj));
+    }
+}
@@ -24,6 +24,7 @@ import io.strimzi.api.kafka.model.authentication.KafkaClientAuthenticationPlain;
 import io.strimzi.api.kafka.model.authentication.KafkaClientAuthenticationScram;
 import io.strimzi.api.kafka.model.authentication.KafkaClientAuthenticationTls;
 import io.strimzi.certs.CertAndKey;
+import io.strimzi.operator.common.jfr.KafkaAdminEvent;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
@@ -183,7 +184,9 @@ public final class VertxUtil {
     public static <T> Future<T> kafkaFutureToVertxFuture(Reconciliation reconciliation, Vertx vertx, KafkaFuture<T> kf) {
         Promise<T> promise = Promise.promise();
         if (kf != null) {
+            KafkaAdminEvent event = KafkaAdminEvent.begin(reconciliation);
             kf.whenComplete((result, error) -> {
+                event.end(error == null);
                 vertx.runOnContext(ignored -> {
                     if (error != null) {
                         promise.fail(error);
@@ -7,6 +7,7 @@ package io.strimzi.operator.common.controller;
 import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.jfr.ReconciliationEvent;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 
 import java.util.concurrent.ScheduledExecutorService;
@@ -152,12 +153,16 @@ public abstract class AbstractControllerLoop {
                 .scheduleAtFixedRate(() -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"), PROGRESS_WARNING_MS, PROGRESS_WARNING_MS, TimeUnit.MILLISECONDS);
         metrics().reconciliationsCounter(reconciliation.namespace()).increment(); // Increase the reconciliation counter
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry()); // Start the reconciliation timer
+        ReconciliationEvent reconciliationEvent = ReconciliationEvent.begin(reconciliation); // Start the Flight Recorder event
+        boolean successful = false;
 
         // Reconciliation
         try {
             reconcile(reconciliation);
+            successful = true;
         } finally   {
             // Tasks after reconciliation
+            reconciliationEvent.end(successful); // Commit the Flight Recorder event
             reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace())); // Stop the reconciliation timer
             progressWarning.cancel(true); // Stop the progress warning
         }
@@ -6,6 +6,7 @@ package io.strimzi.operator.common.http;
 
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.jfr.FlightRecorderController;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.jetty.server.Handler;
@@ -14,23 +15,31 @@ import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.eclipse.jetty.server.handler.ContextHandler;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
 
 /**
- * Jetty based web server used for health checks and metrics
+ * Jetty based web server used for health checks, metrics and (optionally) profiling
  */
 public class HealthCheckAndMetricsServer {
     private final static Logger LOGGER = LogManager.getLogger(HealthCheckAndMetricsServer.class);
     private static final int HEALTH_CHECK_PORT = 8081;
+    private static final String CONTENT_TYPE_004 = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String CONTENT_TYPE_OPENMETRICS_100 = "application/openmetrics-text; version=1.0.0; charset=utf-8";
 
     private final Server server;
     private final Liveness liveness;
 
     private final Readiness readiness;
     private final PrometheusMeterRegistry prometheusMeterRegistry;
+    private final FlightRecorderController flightRecorder = new FlightRecorderController();
 
     /**
      * Constructs the health check and metrics webserver. This constructor will use the default port 8081.
@@ -40,7 +49,19 @@ public class HealthCheckAndMetricsServer {
      * @param metricsProvider   Metrics provider for integrating Prometheus metrics.
      */
     public HealthCheckAndMetricsServer(Liveness liveness, Readiness readiness, MetricsProvider metricsProvider) {
-        this(HEALTH_CHECK_PORT, liveness, readiness, metricsProvider);
+        this(HEALTH_CHECK_PORT, liveness, readiness, metricsProvider, false);
+    }
+
+    /**
+     * Constructs the health check and metrics webserver. This constructor will use the default port 8081.
+     *
+     * @param liveness          Callback used for the health check.
+     * @param readiness         Callback used for the readiness check.
+     * @param metricsProvider   Metrics provider for integrating Prometheus metrics.
+     * @param profilingEnabled  Enables the /jfr endpoint for starting and stopping the Flight Recorder recordings.
+     */
+    public HealthCheckAndMetricsServer(Liveness liveness, Readiness readiness, MetricsProvider metricsProvider, boolean profilingEnabled) {
+        this(HEALTH_CHECK_PORT, liveness, readiness, metricsProvider, profilingEnabled);
     }
 
     /**
@@ -53,6 +74,20 @@ public class HealthCheckAndMetricsServer {
      * @param metricsProvider   Metrics provider for integrating Prometheus metrics.
      */
     public HealthCheckAndMetricsServer(int port, Liveness liveness, Readiness readiness, MetricsProvider metricsProvider) {
+        this(port, liveness, readiness, metricsProvider, false);
+    }
+
+    /**
+     * Constructs the health check and metrics webserver. This constructor has a configurable port and is designed to be
+     * used in tests.
+     *
+     * @param port              Port number which should be used by the web server.
+     * @param liveness          Callback used for the health check.
+     * @param readiness         Callback used for the readiness check.
+     * @param metricsProvider   Metrics provider for integrating Prometheus metrics.
+     * @param profilingEnabled  Enables the /jfr endpoint for starting and stopping the Flight Recorder recordings.
+     */
+    public HealthCheckAndMetricsServer(int port, Liveness liveness, Readiness readiness, MetricsProvider metricsProvider, boolean profilingEnabled) {
         this.liveness = liveness;
         this.readiness = readiness;
         // If the metrics provider is Prometheus based, we integrate it into the webserver
@@ -64,7 +99,10 @@ public class HealthCheckAndMetricsServer {
         // Configure Handlers
         ContextHandlerCollection contexts = new ContextHandlerCollection();
 
-        contexts.addHandler(contextHandler("/metrics", new MetricsHandler()));
+        // The metrics are compressed when the client supports it, because they can be big in large deployments
+        GzipHandler metricsHandler = new GzipHandler();
+        metricsHandler.setHandler(new MetricsHandler());
+        contexts.addHandler(contextHandler("/metrics", metricsHandler));
 
         if (liveness != null) {
             contexts.addHandler(contextHandler("/healthy", new HealthyHandler()));
@@ -74,6 +112,10 @@ public class HealthCheckAndMetricsServer {
             contexts.addHandler(contextHandler("/ready", new ReadyHandler()));
         }
 
+        if (profilingEnabled) {
+            contexts.addHandler(contextHandler("/jfr", new FlightRecorderHandler()));
+        }
+
         server.setHandler(contexts);
     }
 
@@ -152,22 +194,113 @@ public class HealthCheckAndMetricsServer {
     }
 
     /**
-     * Handler responsible for the metrics
+     * Handler responsible for the metrics. The metrics are written directly to the response writer without rendering
+     * them into a string first. The OpenMetrics format is used when requested by the client in the Accept header. The
+     * scraped metrics can be limited using the {@code name[]} query parameters.
      */
     class MetricsHandler extends AbstractHandler {
         @Override
         public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
-            response.setContentType("text/plain");
-
             if (prometheusMeterRegistry != null) {
+                String contentType = contentType(request.getHeader("Accept"));
+                String[] names = request.getParameterValues("name[]");
+
+                response.setContentType(contentType);
                 response.setStatus(HttpServletResponse.SC_OK);
-                prometheusMeterRegistry.scrape(response.getWriter());
+
+                if (names != null) {
+                    prometheusMeterRegistry.scrape(response.getWriter(), contentType, new HashSet<>(Arrays.asList(names)));
+                } else {
+                    prometheusMeterRegistry.scrape(response.getWriter(), contentType);
+                }
             } else {
+                response.setContentType("text/plain");
                 response.setStatus(HttpServletResponse.SC_NOT_IMPLEMENTED);
                 response.getWriter().println("Prometheus metrics are not enabled");
             }
 
             baseRequest.setHandled(true);
         }
+
+        /**
+         * Selects the format of the metrics based on the Accept header
+         *
+         * @param acceptHeader  Value of the Accept header
+         *
+         * @return  Content type of the selected format
+         */
+        private static String contentType(String acceptHeader) {
+            if (acceptHeader != null && acceptHeader.contains("application/openmetrics-text")) {
+                return CONTENT_TYPE_OPENMETRICS_100;
+            } else {
+                return CONTENT_TYPE_004;
+            }
+        }
+    }
+
+    /**
+     * Handler responsible for the Flight Recorder profiling. POST request to /jfr/start starts a new recording (the JFR
+     * settings can be selected using the {@code settings} query parameter). POST request to /jfr/stop stops the
+     * recording and returns it in the response.
+     */
+    class FlightRecorderHandler extends AbstractHandler {
+        @Override
+        public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+            if (!"POST".equals(request.getMethod())) {
+                response.setContentType("text/plain");
+                response.setStatus(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+                response.getWriter().println("Only POST requests are supported");
+            } else if ("/start".equals(target)) {
+                start(request.getParameter("settings"), response);
+            } else if ("/stop".equals(target)) {
+                stop(response);
+            } else {
+                response.setContentType("text/plain");
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                response.getWriter().println("Unknown path " + target);
+            }
+
+            LOGGER.debug("Responding {} to {} /jfr{}", response.getStatus(), request.getMethod(), target);
+            baseRequest.setHandled(true);
+        }
+
+        private void start(String settings, HttpServletResponse response) throws IOException {
+            response.setContentType("text/plain");
+
+            try {
+                flightRecorder.start(settings != null ? settings : FlightRecorderController.DEFAULT_SETTINGS);
+                response.setStatus(HttpServletResponse.SC_OK);
+                response.getWriter().println("Flight recording started");
+            } catch (IllegalStateException e) {
+                response.setStatus(HttpServletResponse.SC_CONFLICT);
+                response.getWriter().println(e.getMessage());
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                response.getWriter().println(e.getMessage());
+            }
+        }
+
+        private void stop(HttpServletResponse response) throws IOException {
+            Path recording;
+
+            try {
+                recording = flightRecorder.stop();
+            } catch (IllegalStateException e) {
+                response.setContentType("text/plain");
+                response.setStatus(HttpServletResponse.SC_CONFLICT);
+                response.getWriter().println(e.getMessage());
+                return;
+            }
+
+            try {
+                response.setContentType("application/octet-stream");
+                response.setHeader("Content-Disposition", "attachment; filename=\"" + recording.getFileName() + "\"");
+                response.setContentLengthLong(Files.size(recording));
+                response.setStatus(HttpServletResponse.SC_OK);
+                Files.copy(recording, response.getOutputStream());
+            } finally {
+                Files.deleteIfExists(recording);
+            }
+        }
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.jfr;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Starts and stops the JDK Flight Recorder recordings requested through the profiling endpoint of the operators. Only
+ * one recording can run at a time. The recordings include the Strimzi reconciliation, Kubernetes API and Kafka Admin
+ * events, so that the profiles can be tied to the reconciliations of specific custom resources.
+ */
+public class FlightRecorderController {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(FlightRecorderController.class);
+
+    /**
+     * Default JFR settings used for the recordings
+     */
+    public static final String DEFAULT_SETTINGS = "profile";
+
+    /**
+     * Maximal duration of the recording. The recording is stopped automatically after this duration to not keep
+     * profiling the operator forever when someone forgets to stop it.
+     */
+    private static final Duration MAX_DURATION = Duration.ofHours(1);
+
+    private Recording recording;
+
+    /**
+     * Starts new recording
+     *
+     * @param settings  Name of the JFR settings (for example {@code default} or {@code profile})
+     *
+     * @throws IllegalStateException    If a recording is already running
+     * @throws IllegalArgumentException If the settings do not exist
+     */
+    public synchronized void start(String settings) {
+        if (isRecording()) {
+            throw new IllegalStateException("Flight recording is already running");
+        }
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown Flight Recorder settings " + settings, e);
+        }
+
+        if (recording != null) {
+            // Recording which was stopped after reaching its maximal duration and was never downloaded
+            recording.close();
+        }
+
+        recording = new Recording(configuration);
+        recording.setName("strimzi");
+        recording.setDuration(MAX_DURATION);
+        recording.enable(ReconciliationEvent.class);
+        recording.enable(KubernetesApiEvent.class);
+        recording.enable(KafkaAdminEvent.class);
+        recording.start();
+
+        LOGGER.infoOp("Flight recording with settings {} started", settings);
+    }
+
+    /**
+     * Stops the running recording and writes it into a temporary file. The caller is responsible for deleting the file.
+     *
+     * @return  Path to the file with the recording
+     *
+     * @throws IllegalStateException    If no recording is running
+     * @throws IOException              If writing the recording fails
+     */
+    public synchronized Path stop() throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("No flight recording is running");
+        }
+
+        try {
+            // The recording might have been already stopped after reaching its maximal duration
+            if (isRecording()) {
+                recording.stop();
+            }
+
+            Path file = Files.createTempFile("strimzi-", ".jfr");
+            boolean dumped = false;
+
+            try {
+                recording.dump(file);
+                dumped = true;
+            } finally {
+                if (!dumped) {
+                    Files.deleteIfExists(file);
+                }
+            }
+
+            LOGGER.infoOp("Flight recording stopped and written to {}", file);
+
+            return file;
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * @return  True if a recording is running. False otherwise.
+     */
+    public synchronized boolean isRecording() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.jfr;
+
+import io.strimzi.operator.common.Reconciliation;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event covering a Kafka Admin API call done as part of a reconciliation. The event starts when
+ * the operator starts waiting for the result of the call. The event is recorded only when a recording with Strimzi
+ * events is running.
+ */
+@Name("io.strimzi.KafkaAdmin")
+@Label("Kafka Admin Call")
+@Category({"Strimzi", "Kafka Admin"})
+@Description("Kafka Admin API call done as part of a reconciliation")
+public class KafkaAdminEvent extends Event {
+    @Label("Reconciliation")
+    @Description("Reconciliation identifier as used in the operator logs")
+    String reconciliation;
+
+    @Label("Successful")
+    boolean successful;
+
+    /**
+     * Creates and begins the Kafka Admin event
+     *
+     * @param reconciliation    Reconciliation marker
+     *
+     * @return  The started event
+     */
+    public static KafkaAdminEvent begin(Reconciliation reconciliation) {
+        KafkaAdminEvent event = new KafkaAdminEvent();
+
+        if (event.isEnabled()) {
+            event.reconciliation = reconciliation != null ? reconciliation.toString() : null;
+            event.begin();
+        }
+
+        return event;
+    }
+
+    /**
+     * Ends and commits the Kafka Admin event
+     *
+     * @param successful    Indicates whether the call was successful
+     */
+    public void end(boolean successful) {
+        if (isEnabled()) {
+            this.successful = successful;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.jfr;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.AsyncResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event covering an operation with a Kubernetes resource done by the resource operators. It covers
+ * the reconciliation and status updates of the resources as well as the get and list requests sent to the Kubernetes
+ * API. The get requests served from the informer caches are not recorded. The get and list operations do not know
+ * the reconciliation they belong to, so their events do not have the reconciliation set. The event is recorded only
+ * when a recording with Strimzi events is running.
+ */
+@Name("io.strimzi.KubernetesApi")
+@Label("Kubernetes API Operation")
+@Category({"Strimzi", "Kubernetes API"})
+@Description("Operation with a Kubernetes resource done as part of a reconciliation")
+public class KubernetesApiEvent extends Event {
+    @Label("Reconciliation")
+    @Description("Reconciliation identifier as used in the operator logs")
+    String reconciliation;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Resource Kind")
+    String resourceKind;
+
+    @Label("Resource Namespace")
+    String resourceNamespace;
+
+    @Label("Resource Name")
+    String resourceName;
+
+    @Label("Result")
+    String result;
+
+    /**
+     * Creates and begins the Kubernetes API event
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param operation         Name of the operation
+     * @param kind              Kind of the Kubernetes resource
+     * @param namespace         Namespace of the Kubernetes resource (null for cluster-scoped resources)
+     * @param name              Name of the Kubernetes resource
+     *
+     * @return  The started event
+     */
+    public static KubernetesApiEvent begin(Reconciliation reconciliation, String operation, String kind, String namespace, String name) {
+        KubernetesApiEvent event = new KubernetesApiEvent();
+
+        if (event.isEnabled()) {
+            event.reconciliation = reconciliation != null ? reconciliation.toString() : null;
+            event.operation = operation;
+            event.resourceKind = kind;
+            event.resourceNamespace = namespace;
+            event.resourceName = name;
+            event.begin();
+        }
+
+        return event;
+    }
+
+    /**
+     * Ends and commits the Kubernetes API event with the result of a reconciliation of a Kubernetes resource
+     *
+     * @param result    Result of the reconciliation or null if it failed
+     */
+    public void end(ReconcileResult<?> result) {
+        if (result == null) {
+            end("Failed");
+        } else if (result instanceof ReconcileResult.Noop) {
+            end("Noop");
+        } else if (result instanceof ReconcileResult.Created) {
+            end("Created");
+        } else if (result instanceof ReconcileResult.Patched) {
+            end("Patched");
+        } else {
+            end("Deleted");
+        }
+    }
+
+    /**
+     * Ends and commits the Kubernetes API event with the result of a get request
+     *
+     * @param result    Result of the get request
+     */
+    public void end(AsyncResult<?> result) {
+        if (result.failed()) {
+            end("Failed");
+        } else if (result.result() == null) {
+            end("NotFound");
+        } else {
+            end("Found");
+        }
+    }
+
+    /**
+     * Ends and commits the Kubernetes API event
+     *
+     * @param result    Result of the operation
+     */
+    public void end(String result) {
+        if (isEnabled()) {
+            this.result = result;
+            commit();
+        }
+    }
+}
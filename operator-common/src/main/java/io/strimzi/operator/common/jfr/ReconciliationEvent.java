@@ -0,0 +1,71 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.jfr;
+
+import io.strimzi.operator.common.Reconciliation;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event covering a whole reconciliation of a custom resource. The event is recorded only when a
+ * recording with Strimzi events is running.
+ */
+@Name("io.strimzi.Reconciliation")
+@Label("Reconciliation")
+@Category({"Strimzi", "Reconciliation"})
+@Description("Reconciliation of a custom resource")
+public class ReconciliationEvent extends Event {
+    @Label("Reconciliation")
+    @Description("Reconciliation identifier as used in the operator logs")
+    String reconciliation;
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Namespace")
+    String namespace;
+
+    @Label("Name")
+    String name;
+
+    @Label("Successful")
+    boolean successful;
+
+    /**
+     * Creates and begins the reconciliation event
+     *
+     * @param reconciliation    Reconciliation marker
+     *
+     * @return  The started event
+     */
+    public static ReconciliationEvent begin(Reconciliation reconciliation) {
+        ReconciliationEvent event = new ReconciliationEvent();
+
+        if (event.isEnabled()) {
+            event.reconciliation = reconciliation.toString();
+            event.kind = reconciliation.kind();
+            event.namespace = reconciliation.namespace();
+            event.name = reconciliation.name();
+            event.begin();
+        }
+
+        return event;
+    }
+
+    /**
+     * Ends and commits the reconciliation event
+     *
+     * @param successful    Indicates whether the reconciliation was successful
+     */
+    public void end(boolean successful) {
+        if (isEnabled()) {
+            this.successful = successful;
+            commit();
+        }
+    }
+}
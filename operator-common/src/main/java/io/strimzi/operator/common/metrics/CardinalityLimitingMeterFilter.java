@@ -0,0 +1,86 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Meter filter which limits the number of time series (meters with different tags) in each metric family. The metrics
+ * are tagged with the namespaces or names of the resources. So in large deployments, the number of time series can grow
+ * without a limit. When the limit is reached, new meters with the same name are not registered and a no-op meter is
+ * used instead. The removed meters are not counted toward the limit anymore.
+ */
+public class CardinalityLimitingMeterFilter implements MeterFilter {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CardinalityLimitingMeterFilter.class);
+
+    private final int maxSeriesPerMetric;
+    private final Map<String, Set<Meter.Id>> series = new ConcurrentHashMap<>();
+    private final Set<String> limitedMetrics = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs the meter filter
+     *
+     * @param maxSeriesPerMetric    Maximal number of time series for each metric name
+     */
+    /* test */ CardinalityLimitingMeterFilter(int maxSeriesPerMetric) {
+        this.maxSeriesPerMetric = maxSeriesPerMetric;
+    }
+
+    /**
+     * Configures the cardinality limit on the meter registry. Only the meters registered afterwards are limited.
+     *
+     * @param registry              Meter registry
+     * @param maxSeriesPerMetric    Maximal number of time series for each metric name. 0 disables the limit.
+     */
+    public static void configure(MeterRegistry registry, int maxSeriesPerMetric) {
+        if (maxSeriesPerMetric > 0) {
+            CardinalityLimitingMeterFilter filter = new CardinalityLimitingMeterFilter(maxSeriesPerMetric);
+            registry.config()
+                    .meterFilter(filter)
+                    .onMeterRemoved(filter::meterRemoved);
+        }
+    }
+
+    @Override
+    public MeterFilterReply accept(Meter.Id id) {
+        Set<Meter.Id> ids = series.computeIfAbsent(id.getName(), name -> ConcurrentHashMap.newKeySet());
+
+        synchronized (ids) {
+            if (ids.contains(id) || ids.size() < maxSeriesPerMetric) {
+                ids.add(id);
+                return MeterFilterReply.NEUTRAL;
+            }
+        }
+
+        if (limitedMetrics.add(id.getName())) {
+            LOGGER.warnOp("Metric {} reached the limit of {} time series. New time series of this metric will be ignored.", id.getName(), maxSeriesPerMetric);
+        }
+
+        return MeterFilterReply.DENY;
+    }
+
+    /**
+     * Removes the removed meter from the tracked time series
+     *
+     * @param meter     Meter which was removed from the registry
+     */
+    /* test */ void meterRemoved(Meter meter) {
+        Set<Meter.Id> ids = series.get(meter.getId().getName());
+
+        if (ids != null) {
+            synchronized (ids) {
+                ids.remove(meter.getId());
+            }
+        }
+    }
+}
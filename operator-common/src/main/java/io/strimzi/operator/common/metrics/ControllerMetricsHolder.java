@@ -5,17 +5,23 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A metrics holder for controllers.
  */
 public class ControllerMetricsHolder extends MetricsHolder {
     private final Map<String, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> workerQueueSizeGaugeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> workerReconciliationsTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the controller metrics holder
@@ -41,4 +47,32 @@ public class ControllerMetricsHolder extends MetricsHolder {
         return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.already.enqueued", metricsProvider, selectorLabels, alreadyQueuedReconciliationsCounterMap,
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running");
     }
+
+    /**
+     * Gauge metric for the number of reconciliations waiting in the work queue of a controller worker.
+     *
+     * @param worker    Name of the controller worker
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger workerQueueSizeGauge(String worker) {
+        return workerQueueSizeGaugeMap.computeIfAbsent(worker, w -> metricsProvider.gauge(METRICS_PREFIX + "controller.worker.queue.size",
+                "Number of reconciliations waiting in the work queue of the controller worker", workerTags(w)));
+    }
+
+    /**
+     * Timer which measures how long do the reconciliations take in a controller worker.
+     *
+     * @param worker    Name of the controller worker
+     *
+     * @return  Metrics timer
+     */
+    public Timer workerReconciliationsTimer(String worker) {
+        return workerReconciliationsTimerMap.computeIfAbsent(worker, w -> metricsProvider.timer(METRICS_PREFIX + "controller.worker.reconciliations.duration",
+                "The time the reconciliations take to complete in the controller worker", workerTags(w)));
+    }
+
+    private Tags workerTags(String worker) {
+        return Tags.of(Tag.of("kind", kind), Tag.of("selector", selectorLabels != null ? selectorLabels.toSelectorString() : ""), Tag.of("worker", worker));
+    }
 }
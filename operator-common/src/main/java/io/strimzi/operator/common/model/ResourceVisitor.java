@@ -8,8 +8,12 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -102,34 +106,11 @@ public class ResourceVisitor {
     }
 
     private static void visit(Reconciliation reconciliation, List<String> path, Object resource, Visitor visitor) throws ReflectiveOperationException {
-        Class<?> cls = resource.getClass();
         visitor.visitObject(reconciliation, path, resource);
-        for (Field field : cls.getFields()) {
-            Object propertyValue = field.get(resource);
-            visitor.visitFieldProperty(reconciliation, path, resource, field, FIELD_PROPERTY, propertyValue);
-            visitProperty(reconciliation, path, field, FIELD_PROPERTY, propertyValue, visitor);
-        }
-        for (Method method : cls.getMethods()) {
-            String name = method.getName();
-            if (!"getClass".equals(name)) {
-                Property<Method> property = null;
-                if (name.length() > 3
-                        && name.startsWith("get")
-                        && !method.getReturnType().equals(Void.class)
-                        && method.getParameterCount() == 0) {
-                    property = GET_METHOD_PROPERTY;
-                } else if (name.length() > 2
-                        && name.startsWith("is")
-                        && method.getReturnType().equals(boolean.class)
-                        && method.getParameterCount() == 0) {
-                    property = IS_METHOD_PROPERTY;
-                }
-                if (property != null) {
-                    Object propertyValue = method.invoke(resource);
-                    visitor.visitMethodProperty(reconciliation, path, resource, method, property, propertyValue);
-                    visitProperty(reconciliation, path, method, property, propertyValue, visitor);
-                }
-            }
+        for (PropertyPlan property : PLANS.get(resource.getClass())) {
+            Object propertyValue = property.get(resource);
+            property.visit(reconciliation, path, resource, propertyValue, visitor);
+            visitProperty(reconciliation, path, property, propertyValue, visitor);
         }
     }
 
@@ -147,39 +128,207 @@ public class ResourceVisitor {
                 || isFloat;
     }
 
-    static <M extends AnnotatedElement & Member> void visitProperty(Reconciliation reconciliation, List<String> path, M member,
-                                                                    Property<M> property, Object propertyValue,
-                                                                    Visitor visitor)
+    private static void visitProperty(Reconciliation reconciliation, List<String> path, PropertyPlan property,
+                                      Object propertyValue, Visitor visitor)
             throws ReflectiveOperationException {
-        String propertyName = property.propertyName(member);
-        Class<?> returnType = property.type(member);
         if (propertyValue != null) {
-            if (returnType.isArray()) {
-                path.add(propertyName);
-                if (propertyValue instanceof Object[]) {
-                    for (Object element : (Object[]) propertyValue) {
-                        visit(reconciliation, path, element, visitor);
+            switch (property.kind) {
+                case ARRAY:
+                    path.add(property.name);
+                    if (propertyValue instanceof Object[]) {
+                        for (Object element : (Object[]) propertyValue) {
+                            visit(reconciliation, path, element, visitor);
+                        }
                     }
-                }
-                // otherwise it's an array of primitives, in which case there are not further objects to visit
-                path.remove(path.size() - 1);
-            } else if (Collection.class.isAssignableFrom(returnType)) {
-                path.add(propertyName);
-                for (Object element : (Collection<?>) propertyValue) {
-                    if (element != null
-                            && !element.getClass().isEnum()
-                            && !isScalar(element.getClass())) {
-                        visit(reconciliation, path, element, visitor);
+                    // otherwise it's an array of primitives, in which case there are not further objects to visit
+                    path.remove(path.size() - 1);
+                    break;
+                case COLLECTION:
+                    path.add(property.name);
+                    for (Object element : (Collection<?>) propertyValue) {
+                        if (element != null
+                                && !element.getClass().isEnum()
+                                && !isScalar(element.getClass())) {
+                            visit(reconciliation, path, element, visitor);
+                        }
+                    }
+                    path.remove(path.size() - 1);
+                    break;
+                case OBJECT:
+                    path.add(property.name);
+                    visit(reconciliation, path, propertyValue, visitor);
+                    path.remove(path.size() - 1);
+                    break;
+                default:
+                    // Scalars, enums and maps do not contain further objects to visit
+            }
+        }
+    }
+
+    /**
+     * Visit plans of the classes. The plan of each class is built only once from its public fields and getters and
+     * reused for all the visited objects of the same class.
+     */
+    private static final ClassValue<List<PropertyPlan>> PLANS = new ClassValue<>() {
+        @Override
+        protected List<PropertyPlan> computeValue(Class<?> cls) {
+            List<PropertyPlan> plan = new ArrayList<>();
+
+            for (Field field : cls.getFields()) {
+                plan.add(new FieldPlan(field));
+            }
+
+            for (Method method : cls.getMethods()) {
+                String name = method.getName();
+                if (!"getClass".equals(name)) {
+                    MethodProperty property = null;
+                    if (name.length() > 3
+                            && name.startsWith("get")
+                            && !method.getReturnType().equals(Void.class)
+                            && method.getParameterCount() == 0) {
+                        property = GET_METHOD_PROPERTY;
+                    } else if (name.length() > 2
+                            && name.startsWith("is")
+                            && method.getReturnType().equals(boolean.class)
+                            && method.getParameterCount() == 0) {
+                        property = IS_METHOD_PROPERTY;
+                    }
+                    if (property != null) {
+                        plan.add(new MethodPlan(method, property));
                     }
                 }
-                path.remove(path.size() - 1);
-            } else if (!isScalar(returnType)
-                    && !Map.class.isAssignableFrom(returnType)
-                    && !returnType.isEnum()) {
-                path.add(propertyName);
-                visit(reconciliation, path, propertyValue, visitor);
-                path.remove(path.size() - 1);
             }
+
+            return List.copyOf(plan);
+        }
+    };
+
+    /**
+     * Kind of the property deciding how its value is visited
+     */
+    private enum PropertyKind {
+        ARRAY,
+        COLLECTION,
+        OBJECT,
+        OTHER;
+
+        static PropertyKind of(Class<?> type) {
+            if (type.isArray()) {
+                return ARRAY;
+            } else if (Collection.class.isAssignableFrom(type)) {
+                return COLLECTION;
+            } else if (!isScalar(type)
+                    && !Map.class.isAssignableFrom(type)
+                    && !type.isEnum()) {
+                return OBJECT;
+            } else {
+                return OTHER;
+            }
+        }
+    }
+
+    /**
+     * Pre-resolved property of a class. It holds the property name, its kind and a method handle for getting its
+     * value. When the method handle cannot be created (e.g. because the class declaring the member is not public),
+     * the value is read through reflection.
+     */
+    private abstract static class PropertyPlan {
+        final String name;
+        final PropertyKind kind;
+        final MethodHandle getter;
+
+        PropertyPlan(String name, Class<?> type, MethodHandle getter) {
+            this.name = name;
+            this.kind = PropertyKind.of(type);
+            this.getter = getter == null ? null : adapt(getter);
+        }
+
+        private static MethodHandle adapt(MethodHandle getter) {
+            if (getter.type().parameterCount() == 0) {
+                // Static members ignore the owner object
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+
+            return getter.asType(MethodType.methodType(Object.class, Object.class));
+        }
+
+        abstract Object get(Object owner) throws ReflectiveOperationException;
+
+        abstract void visit(Reconciliation reconciliation, List<String> path, Object owner, Object propertyValue, Visitor visitor);
+    }
+
+    private static final class FieldPlan extends PropertyPlan {
+        private final Field field;
+
+        FieldPlan(Field field) {
+            super(FIELD_PROPERTY.propertyName(field), FIELD_PROPERTY.type(field), unreflect(field));
+            this.field = field;
+        }
+
+        private static MethodHandle unreflect(Field field) {
+            try {
+                return MethodHandles.publicLookup().unreflectGetter(field);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+
+        @Override
+        Object get(Object owner) throws ReflectiveOperationException {
+            if (getter == null) {
+                return field.get(owner);
+            }
+
+            try {
+                return (Object) getter.invokeExact(owner);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new ReflectiveOperationException(t);
+            }
+        }
+
+        @Override
+        void visit(Reconciliation reconciliation, List<String> path, Object owner, Object propertyValue, Visitor visitor) {
+            visitor.visitFieldProperty(reconciliation, path, owner, field, FIELD_PROPERTY, propertyValue);
+        }
+    }
+
+    private static final class MethodPlan extends PropertyPlan {
+        private final Method method;
+        private final MethodProperty property;
+
+        MethodPlan(Method method, MethodProperty property) {
+            super(property.propertyName(method), property.type(method), unreflect(method));
+            this.method = method;
+            this.property = property;
+        }
+
+        private static MethodHandle unreflect(Method method) {
+            try {
+                return MethodHandles.publicLookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+
+        @Override
+        Object get(Object owner) throws ReflectiveOperationException {
+            if (getter == null) {
+                return method.invoke(owner);
+            }
+
+            try {
+                return (Object) getter.invokeExact(owner);
+            } catch (Throwable t) {
+                // Keep the same behavior as Method.invoke() which wraps any exception thrown by the getter
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        @Override
+        void visit(Reconciliation reconciliation, List<String> path, Object owner, Object propertyValue, Visitor visitor) {
+            visitor.visitMethodProperty(reconciliation, path, owner, method, property, propertyValue);
         }
     }
 
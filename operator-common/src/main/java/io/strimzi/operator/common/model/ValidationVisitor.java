@@ -14,16 +14,30 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Validation visitor
  */
 public class ValidationVisitor implements ResourceVisitor.Visitor {
+    /**
+     * Annotations of the visited members which are used by the validation. They are resolved only once for each member
+     * and cached by the class declaring the member. The cached values are keyed by the member names and hold only the
+     * values of the annotations and not the reflection objects, so that they do not keep the class loaders alive.
+     */
+    private static final ClassValue<Map<String, MemberAnnotations>> ANNOTATIONS = new ClassValue<>() {
+        @Override
+        protected Map<String, MemberAnnotations> computeValue(Class<?> cls) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final ReconciliationLogger logger;
     private final HasMetadata resource;
     private final Set<Condition> warningConditions;
@@ -42,14 +56,43 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
         this.warningConditions = warningConditions;
     }
 
+    /**
+     * Pre-resolved annotations of a member
+     *
+     * @param deprecated        True if the member has the DeprecatedProperty annotation
+     * @param movedToPath       Value of the movedToPath field of the DeprecatedProperty annotation
+     * @param removalVersion    Value of the removalVersion field of the DeprecatedProperty annotation
+     * @param description       Value of the description field of the DeprecatedProperty annotation
+     * @param jsonInclude       Value of the JsonInclude annotation or null if not present
+     */
+    private record MemberAnnotations(boolean deprecated, String movedToPath, String removalVersion, String description, JsonInclude.Include jsonInclude) {
+        static MemberAnnotations of(AnnotatedElement member) {
+            DeprecatedProperty deprecated = member.getAnnotation(DeprecatedProperty.class);
+            JsonInclude jsonInclude = member.getAnnotation(JsonInclude.class);
+
+            return new MemberAnnotations(deprecated != null,
+                    deprecated != null ? deprecated.movedToPath() : "",
+                    deprecated != null ? deprecated.removalVersion() : "",
+                    deprecated != null ? deprecated.description() : "",
+                    jsonInclude != null ? jsonInclude.value() : null);
+        }
+    }
+
+    private static <M extends AnnotatedElement & Member> MemberAnnotations annotations(M member) {
+        // The visited methods are getters without parameters, so their names are unique within the class
+        String key = (member instanceof Field ? "field:" : "method:") + member.getName();
+        return ANNOTATIONS.get(member.getDeclaringClass())
+                .computeIfAbsent(key, ignored -> MemberAnnotations.of(member));
+    }
+
     <M extends AnnotatedElement & Member> boolean isPresent(M member,
                       Object propertyValue) {
-        JsonInclude annotation = member.getAnnotation(JsonInclude.class);
-        if (annotation != null) {
+        JsonInclude.Include include = annotations(member).jsonInclude();
+        if (include != null) {
             if (propertyValue == null) {
                 return false;
             }
-            switch (annotation.value()) {
+            switch (include) {
                 case NON_ABSENT:
                     // Technically we should handle Optional and AtomicReference
                     // but we're not using these types in the api module, so just fall through
@@ -79,11 +122,12 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
                                                                           List<String> path,
                                                                           M member,
                                                                           Object propertyValue,
-                                                                          String propertyName) {
+                                                                          ResourceVisitor.Property<M> property) {
         // Look for deprecated field
-        DeprecatedProperty deprecated = member.getAnnotation(DeprecatedProperty.class);
-        if (deprecated != null
+        MemberAnnotations annotations = annotations(member);
+        if (annotations.deprecated()
             && isPresent(member, propertyValue)) {
+            String propertyName = property.propertyName(member);
             String msg = String.format("In resource %s(%s/%s) in API version %s the %s property at path %s has been deprecated",
                     resource.getKind(),
                     resource.getMetadata().getNamespace(),
@@ -91,15 +135,15 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
                     resource.getApiVersion(),
                     propertyName,
                     path(path, propertyName));
-            if (!deprecated.movedToPath().isEmpty()) {
-                msg += ", and should now be configured using " + deprecated.movedToPath() + "";
+            if (!annotations.movedToPath().isEmpty()) {
+                msg += ", and should now be configured using " + annotations.movedToPath() + "";
             }
-            if (!deprecated.removalVersion().isEmpty()) {
-                msg += ". This property is removed in API version " + deprecated.removalVersion();
+            if (!annotations.removalVersion().isEmpty()) {
+                msg += ". This property is removed in API version " + annotations.removalVersion();
             }
             msg += ".";
-            if (!deprecated.description().isEmpty()) {
-                msg += " " + deprecated.description();
+            if (!annotations.description().isEmpty()) {
+                msg += " " + annotations.description();
             }
 
             warningConditions.add(StatusUtils.buildWarningCondition("DeprecatedFields", msg, transitionTime));
@@ -112,6 +156,7 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
             DeprecatedType deprecatedType = propertyValue.getClass().getAnnotation(DeprecatedType.class);
             if (deprecatedType != null
                     && isPresent(member, propertyValue)) {
+                String propertyName = property.propertyName(member);
                 String msg = String.format("In resource %s(%s/%s) in API version %s the object %s at path %s has been deprecated. ",
                         resource.getKind(),
                         resource.getMetadata().getNamespace(),
@@ -140,7 +185,7 @@ public class ValidationVisitor implements ResourceVisitor.Visitor {
     @Override
     public <M extends AnnotatedElement & Member> void visitProperty(Reconciliation reconciliation, List<String> path, Object resource,
                                     M method, ResourceVisitor.Property<M> property, Object propertyValue) {
-        checkForDeprecated(reconciliation, path, method, propertyValue, property.propertyName(method));
+        checkForDeprecated(reconciliation, path, method, propertyValue, property);
     }
 
     @Override
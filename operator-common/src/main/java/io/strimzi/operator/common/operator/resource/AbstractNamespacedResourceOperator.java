@@ -17,9 +17,11 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.operator.common.InformerRegistry;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.VertxUtil;
+import io.strimzi.operator.common.jfr.KubernetesApiEvent;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -30,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +57,8 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      */
     public final static String ANY_NAMESPACE = "*";
 
+    private volatile InformerRegistry informerRegistry;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -66,6 +71,49 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
 
     protected abstract MixedOperation<T, L, R> operation();
 
+    /**
+     * Configures the informer registry used to serve the {@link #getAsync(String, String)} calls from the shared
+     * informer caches. The cached resources are used only when the events from the watch triggering the
+     * reconciliations are recorded using {@link #recordWatchEvent(Watcher.Action, HasMetadata)}.
+     *
+     * @param informerRegistry  Informer registry
+     */
+    public void useInformerRegistry(InformerRegistry informerRegistry) {
+        this.informerRegistry = informerRegistry;
+    }
+
+    /**
+     * Records the event received by the watch triggering the reconciliations of this resource kind in the informer
+     * registry. It does nothing when no informer registry is used.
+     *
+     * @param action    Action of the watch event
+     * @param resource  Resource from the watch event
+     */
+    public void recordWatchEvent(Watcher.Action action, T resource) {
+        InformerRegistry registry = informerRegistry;
+
+        if (registry != null) {
+            registry.recordWatchEvent(resourceKind, action, resource);
+        }
+    }
+
+    /**
+     * Records a change of the resource done by this operator in the informer registry, so that an older version of the
+     * resource is not served from the informer cache afterwards. It does nothing when no informer registry is used.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     * @param result    Resource returned by the Kubernetes API after the change or null when it was deleted or when
+     *                  the change failed
+     */
+    protected void recordWrite(String namespace, String name, T result) {
+        InformerRegistry registry = informerRegistry;
+
+        if (registry != null) {
+            registry.recordWrite(resourceKind, namespace, name, result);
+        }
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -98,6 +146,7 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
+        KubernetesApiEvent event = KubernetesApiEvent.begin(reconciliation, "reconcile", resourceKind, namespace, name);
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
@@ -125,7 +174,14 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             false,
             promise
         );
-        return promise.future();
+        return promise.future()
+                .onComplete(res -> {
+                    event.end(res.succeeded() ? res.result() : null);
+
+                    if (res.failed() || !(res.result() instanceof ReconcileResult.Noop)) {
+                        recordWrite(namespace, name, res.succeeded() ? res.result().resourceOpt().orElse(null) : null);
+                    }
+                });
     }
 
     /**
@@ -300,6 +356,7 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
 
     /**
      * Asynchronously gets the resource with the given {@code name} in the given {@code namespace}.
+     * When an informer registry is used, the resource might be served from the informer cache.
      * @param namespace The namespace.
      * @param name The name.
      * @return A Future for the result.
@@ -309,7 +366,18 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture(new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name."));
         }
 
-        return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+        InformerRegistry registry = informerRegistry;
+        if (registry != null) {
+            T cached = registry.get(resourceKind, namespace, name);
+
+            if (cached != null) {
+                return Future.succeededFuture(cached);
+            }
+        }
+
+        KubernetesApiEvent event = KubernetesApiEvent.begin(null, "get", resourceKind, namespace, name);
+        return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name))
+                .onComplete(res -> event.end(res));
     }
 
     /**
@@ -401,6 +469,42 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             () -> predicate.test(namespace, name));
     }
 
+    /**
+     * Returns a future that completes with the resource identified by the given {@code namespace} and {@code name}
+     * once it matches the predicate. Unlike {@link #waitFor(Reconciliation, String, String, String, long, long, BiPredicate)},
+     * this method does not poll the Kubernetes API. It evaluates the predicate on the events received from a watch
+     * on the resource. The future fails if the resource is deleted while waiting or when the timeout is reached.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param logState The state we are waiting for use in log messages
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate evaluated on the resource.
+     * @return A future that completes with the resource when it matches the predicate.
+     */
+    public Future<T> waitForResource(Reconciliation reconciliation, String namespace, String name, String logState, final long timeoutMs, Predicate<T> predicate) {
+        R resourceOp = operation().inNamespace(namespace).withName(name);
+        String description = String.format("%s resource %s in namespace %s to be %s", resourceKind, name, namespace, logState);
+
+        return resourceSupport.selfClosingWatch(
+            reconciliation,
+            resourceOp,
+            resourceOp,
+            timeoutMs,
+            description,
+            (action, resource) -> {
+                if (action == Watcher.Action.DELETED) {
+                    throw new IllegalStateException(String.format("%s resource %s in namespace %s was deleted while waiting for it to be %s", resourceKind, name, namespace, logState));
+                } else if (resource != null && predicate.test(resource)) {
+                    return resource;
+                } else {
+                    return null;
+                }
+            },
+            resource -> resource != null && predicate.test(resource) ? resource : null);
+    }
+
     /**
      * Asynchronously deletes the resource with the given {@code name} in the given {@code namespace}.
      *
@@ -412,7 +516,9 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return                  A Future with True if the deletion succeeded and False when it failed.
      */
     public Future<Void> deleteAsync(Reconciliation reconciliation, String namespace, String name, boolean cascading) {
-        return internalDelete(reconciliation, namespace, name, cascading).map((Void) null);
+        return internalDelete(reconciliation, namespace, name, cascading)
+                .onComplete(res -> recordWrite(namespace, name, null))
+                .map((Void) null);
     }
 
     /**
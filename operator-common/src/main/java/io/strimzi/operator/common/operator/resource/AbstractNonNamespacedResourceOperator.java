@@ -14,6 +14,7 @@ import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.jfr.KubernetesApiEvent;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -79,6 +80,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
                     + desired.getMetadata().getName());
         }
 
+        KubernetesApiEvent event = KubernetesApiEvent.begin(reconciliation, "reconcile", resourceKind, null, name);
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
@@ -106,7 +108,8 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
             false,
             promise
         );
-        return promise.future();
+        return promise.future()
+                .onComplete(res -> event.end(res.succeeded() ? res.result() : null));
     }
 
     /**
@@ -222,7 +225,9 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
             return Future.failedFuture(new IllegalArgumentException(resourceKind + " with an empty name cannot be configured. Please provide a name."));
         }
 
-        return resourceSupport.getAsync(operation().withName(name));
+        KubernetesApiEvent event = KubernetesApiEvent.begin(null, "get", resourceKind, null, name);
+        return resourceSupport.getAsync(operation().withName(name))
+                .onComplete(res -> event.end(res));
     }
 
     /**
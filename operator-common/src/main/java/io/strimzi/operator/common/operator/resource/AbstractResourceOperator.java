@@ -13,6 +13,7 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.jfr.KubernetesApiEvent;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -171,6 +172,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return  Future with the list of resources
      */
     protected Future<List<T>> listAsync(Listable<L> listable) {
-        return resourceSupport.listAsync(listable);
+        KubernetesApiEvent event = KubernetesApiEvent.begin(null, "list", resourceKind, null, null);
+
+        return resourceSupport.listAsync(listable)
+                .onComplete(res -> event.end(res.succeeded() ? "Listed" : "Failed"));
     }
 }
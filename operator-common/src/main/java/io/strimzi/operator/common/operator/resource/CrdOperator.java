@@ -15,6 +15,7 @@ import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.VertxUtil;
+import io.strimzi.operator.common.jfr.KubernetesApiEvent;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -106,7 +107,8 @@ public class CrdOperator<C extends KubernetesClient,
             }
         }, true, blockingPromise);
 
-        return blockingPromise.future();
+        return blockingPromise.future()
+                .onComplete(res -> recordWrite(resource.getMetadata().getNamespace(), resource.getMetadata().getName(), res.result()));
     }
 
     /**
@@ -118,6 +120,7 @@ public class CrdOperator<C extends KubernetesClient,
      * @return  Future which completes when the status is patched
      */
     public Future<T> updateStatusAsync(Reconciliation reconciliation, T resource) {
+        KubernetesApiEvent event = KubernetesApiEvent.begin(reconciliation, "updateStatus", resourceKind, resource.getMetadata().getNamespace(), resource.getMetadata().getName());
         Promise<T> blockingPromise = Promise.promise();
 
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
@@ -134,6 +137,10 @@ public class CrdOperator<C extends KubernetesClient,
             }
         }, true, blockingPromise);
 
-        return blockingPromise.future();
+        return blockingPromise.future()
+                .onComplete(res -> {
+                    event.end(res.succeeded() ? "Updated" : "Failed");
+                    recordWrite(resource.getMetadata().getNamespace(), resource.getMetadata().getName(), res.result());
+                });
     }
 }
@@ -113,6 +113,10 @@ public class ResourceSupport {
      * described above, the {@code preCheckFn} can check if the resource still exists and close the watch in case it was
      * already deleted.
      *
+     * When the watch is closed by the Kubernetes client before the {@code watchFn} returns non-null (for example
+     * because the watched resource version is too old), the {@code preCheckFn} is invoked again and a new watch is
+     * opened if it returns null.
+     *
      * @param reconciliation Reconciliation marker used for logging
      * @param watchable The watchable - used to watch the resource.
      * @param gettable The Gettable - used to get the resource in the pre-check.
@@ -140,6 +144,7 @@ public class ResourceSupport {
             private final Promise<U> donePromise;
             private final Promise<U> resultPromise;
             private final long timerId;
+            private volatile Watch reopenedWatch;
 
             /* init */
             {
@@ -151,7 +156,8 @@ public class ResourceSupport {
                 Future.join(watchPromise.future(), donePromise.future()).onComplete(joinResult -> {
                     Future<Void> closeFuture;
                     if (watchPromise.future().succeeded()) {
-                        closeFuture = closeOnWorkerThread(watchPromise.future().result());
+                        Watch watch = reopenedWatch != null ? reopenedWatch : watchPromise.future().result();
+                        closeFuture = closeOnWorkerThread(watch);
                     } else {
                         closeFuture = Future.succeededFuture();
                     }
@@ -215,7 +221,45 @@ public class ResourceSupport {
 
             @Override
             public void onClose(WatcherException cause) {
+                if (donePromise.future().isComplete()) {
+                    return;
+                }
 
+                LOGGER.debugCr(reconciliation, "Watch for evaluation of {} was closed before it was satisfied, checking the resource again", watchFnDescription, cause);
+                Promise<U> recheckPromise = Promise.promise();
+                vertx.executeBlocking(
+                    f -> {
+                        try {
+                            U apply = preCheckFn.apply(gettable.get());
+                            if (apply == null && !donePromise.future().isComplete()) {
+                                reopenedWatch = watchable.watch(this);
+                                LOGGER.debugCr(reconciliation, "Re-opened watch {} for evaluation of {}", reopenedWatch, watchFnDescription);
+
+                                if (donePromise.future().isComplete()) {
+                                    // Completed (for example by the timeout) while the watch was being opened
+                                    reopenedWatch.close();
+                                }
+                            }
+                            f.complete(apply);
+                        } catch (Throwable t) {
+                            f.fail(t);
+                        }
+                    },
+                    true,
+                    recheckPromise);
+
+                recheckPromise.future().onComplete(res -> {
+                    if (res.failed()) {
+                        donePromise.tryFail(res.cause());
+                    } else if (res.result() != null) {
+                        LOGGER.debugCr(reconciliation, "Satisfied: {}", watchFnDescription);
+                        donePromise.tryComplete(res.result());
+                    }
+
+                    if (donePromise.future().isComplete()) {
+                        vertx.cancelTimer(timerId);
+                    }
+                });
             }
 
         }.resultPromise.future();
@@ -0,0 +1,175 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
+import io.strimzi.test.TestUtils;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@EnableKubernetesMockClient(crud = true)
+public class InformerRegistryTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-config-map";
+
+    private static Vertx vertx;
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testInformersAreShared() {
+        InformerRegistry registry = new InformerRegistry(new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        SharedIndexInformer<ConfigMap> informer = registry.informer("ConfigMap", NAMESPACE, null, () -> client.configMaps().inNamespace(NAMESPACE).runnableInformer(0));
+
+        assertThat(registry.informer("ConfigMap", NAMESPACE, null, () -> client.configMaps().inNamespace(NAMESPACE).runnableInformer(0)), is(sameInstance(informer)));
+        assertThat(registry.informer("ConfigMap", "other-namespace", null, () -> client.configMaps().inNamespace("other-namespace").runnableInformer(0)), is(not(sameInstance(informer))));
+
+        // Informers with different selectors are not shared
+        SharedIndexInformer<ConfigMap> selectingInformer = registry.informer("ConfigMap", NAMESPACE, "app=my-app", () -> client.configMaps().inNamespace(NAMESPACE).withLabels(Map.of("app", "my-app")).runnableInformer(0));
+        assertThat(selectingInformer, is(not(sameInstance(informer))));
+        assertThat(registry.informer("ConfigMap", NAMESPACE, "app=my-app", () -> client.configMaps().inNamespace(NAMESPACE).withLabels(Map.of("app", "my-app")).runnableInformer(0)), is(sameInstance(selectingInformer)));
+
+        // Stopped informer is replaced
+        informer.start();
+        informer.stop();
+        assertThat(registry.informer("ConfigMap", NAMESPACE, null, () -> client.configMaps().inNamespace(NAMESPACE).runnableInformer(0)), is(not(sameInstance(informer))));
+    }
+
+    @Test
+    public void testGetFromCache() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InformerRegistry registry = new InformerRegistry(new MicrometerMetricsProvider(meterRegistry));
+        ConfigMapOperator configMapOperator = new ConfigMapOperator(vertx, client);
+        configMapOperator.useInformerRegistry(registry);
+
+        ConfigMap configMap = client.configMaps().inNamespace(NAMESPACE).resource(new ConfigMapBuilder()
+                    .withNewMetadata()
+                        .withName(NAME)
+                        .withNamespace(NAMESPACE)
+                    .endMetadata()
+                    .withData(Map.of("key", "value"))
+                    .build())
+                .create();
+
+        SharedIndexInformer<ConfigMap> informer = registry.informer("ConfigMap", NAMESPACE, null, () -> client.configMaps().inNamespace(NAMESPACE).runnableInformer(0));
+        informer.start();
+        TestUtils.waitFor("Informer sync", 100, 10_000, () -> informer.hasSynced() && informer.isWatching());
+
+        try {
+            assertThat(meterRegistry.get("strimzi.informer.cache.size").tags("kind", "ConfigMap", "namespace", NAMESPACE).gauge().value(), is(1.0));
+
+            // No watch event was received yet => the cache is not used
+            assertThat(registry.get("ConfigMap", NAMESPACE, NAME), is(nullValue()));
+
+            // Watch event with the same version as the cache => the cache is used
+            configMapOperator.recordWatchEvent(Watcher.Action.ADDED, configMap);
+            ConfigMap cached = registry.get("ConfigMap", NAMESPACE, NAME);
+            assertThat(cached, is(notNullValue()));
+            assertThat(cached.getData(), is(Map.of("key", "value")));
+
+            // The returned resource is a copy
+            cached.getData().put("key", "changed");
+            ConfigMap fromOperator = configMapOperator.getAsync(NAMESPACE, NAME).result();
+            assertThat(fromOperator.getData(), is(Map.of("key", "value")));
+            assertThat(meterRegistry.get("strimzi.informer.api.calls.avoided").tags("kind", "ConfigMap").counter().count(), is(2.0));
+
+            // Watch event with a version which did not reach the cache yet => the cache is not used
+            ConfigMap newerConfigMap = new ConfigMapBuilder(configMap)
+                    .editMetadata()
+                        .withResourceVersion("newer")
+                    .endMetadata()
+                    .build();
+            configMapOperator.recordWatchEvent(Watcher.Action.MODIFIED, newerConfigMap);
+            assertThat(registry.get("ConfigMap", NAMESPACE, NAME), is(nullValue()));
+
+            // Deleted resource is not served from the cache
+            configMapOperator.recordWatchEvent(Watcher.Action.ADDED, configMap);
+            assertThat(registry.get("ConfigMap", NAMESPACE, NAME), is(notNullValue()));
+            configMapOperator.recordWatchEvent(Watcher.Action.DELETED, configMap);
+            assertThat(registry.get("ConfigMap", NAMESPACE, NAME), is(nullValue()));
+        } finally {
+            informer.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOwnWritesAreNotReadFromStaleCache() {
+        InformerRegistry registry = new InformerRegistry(new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        ConfigMapOperator configMapOperator = new ConfigMapOperator(vertx, client);
+        configMapOperator.useInformerRegistry(registry);
+
+        ConfigMap configMap = client.configMaps().inNamespace(NAMESPACE).resource(new ConfigMapBuilder()
+                    .withNewMetadata()
+                        .withName(NAME + "-write")
+                        .withNamespace(NAMESPACE)
+                    .endMetadata()
+                    .withData(Map.of("key", "value"))
+                    .build())
+                .create();
+
+        // The informer did not receive the write yet => its cache keeps the version from before the write
+        AtomicReference<ConfigMap> cached = new AtomicReference<>(configMap);
+        Indexer<ConfigMap> indexer = mock(Indexer.class);
+        when(indexer.getByKey(NAMESPACE + "/" + NAME + "-write")).thenAnswer(i -> cached.get());
+        SharedIndexInformer<ConfigMap> informer = mock(SharedIndexInformer.class);
+        when(informer.isWatching()).thenReturn(true);
+        when(informer.hasSynced()).thenReturn(true);
+        when(informer.getIndexer()).thenReturn(indexer);
+        registry.informer("ConfigMap", NAMESPACE, null, () -> informer);
+
+        configMapOperator.recordWatchEvent(Watcher.Action.ADDED, configMap);
+
+        // Write done by the operator itself
+        ConfigMap updated = new ConfigMapBuilder(configMap)
+                .withData(Map.of("key", "updated"))
+                .build();
+        configMapOperator.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, NAME + "-write", updated).toCompletionStage().toCompletableFuture().join();
+
+        // The informer cache still has the old version, but the read gets the written version
+        ConfigMap read = configMapOperator.getAsync(NAMESPACE, NAME + "-write").toCompletionStage().toCompletableFuture().join();
+        assertThat(read.getData(), is(Map.of("key", "updated")));
+
+        // Once the informer receives the write, the cache is used again
+        cached.set(read);
+        assertThat(registry.<ConfigMap>get("ConfigMap", NAMESPACE, NAME + "-write").getData(), is(Map.of("key", "updated")));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ReconciliationLoggerTest {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationLoggerTest.class);
+
+    @Test
+    public void testLogPrefixIsCached() {
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+        assertThat(reconciliation.logPrefix(), is(reconciliation + ": "));
+        assertThat(reconciliation.logPrefix(), is(sameInstance(reconciliation.logPrefix())));
+    }
+
+    @Test
+    public void testDisabledLevelsDoNotAllocate() {
+        assumeTrue(!LogManager.getLogger(ReconciliationLoggerTest.class).isEnabled(Level.DEBUG), "DEBUG logging is enabled");
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean mxBean
+                && mxBean.isThreadAllocatedMemorySupported()
+                && mxBean.isThreadAllocatedMemoryEnabled(), "Thread allocation measurement is not supported");
+
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+        int calls = 100_000;
+
+        // Warm-up
+        log(reconciliation, calls);
+
+        long allocatedBefore = allocatedBytes();
+        log(reconciliation, calls);
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        // Building the prefixed messages would allocate hundreds of bytes per call. The small margin covers the
+        // allocations of the allocation measurement itself.
+        assertThat(allocated, is(lessThan(10_000L)));
+    }
+
+    private static void log(Reconciliation reconciliation, int calls) {
+        for (int i = 0; i < calls; i++) {
+            LOGGER.debugCr(reconciliation, "Message without parameters");
+            LOGGER.debugCr(reconciliation, "Message with parameters {} and {}", "p0", "p1");
+            LOGGER.traceCr(reconciliation, "Message with parameter {}", "p0");
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
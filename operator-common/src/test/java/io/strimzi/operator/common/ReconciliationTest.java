@@ -0,0 +1,89 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.filter.MarkerFilter;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ReconciliationTest {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationTest.class);
+
+    @Test
+    public void testMarker() {
+        Reconciliation reconciliation = new Reconciliation("test", "KafkaTopic", "my-namespace", "my-topic");
+
+        assertThat(reconciliation.getMarker().getName(), is("KafkaTopic(my-namespace/my-topic)"));
+        assertThat(reconciliation.getMarker().isInstanceOf("KafkaTopic(my-namespace/my-topic)"), is(true));
+        assertThat(reconciliation.getMarker().isInstanceOf(MarkerManager.getMarker("KafkaTopic(my-namespace/my-topic)")), is(true));
+        assertThat(reconciliation.getMarker().isInstanceOf("KafkaTopic(my-namespace/other-topic)"), is(false));
+        assertThat(reconciliation.getMarker(), is(new Reconciliation("other", "KafkaTopic", "my-namespace", "my-topic").getMarker()));
+    }
+
+    @Test
+    public void testMarkerIsNotRegisteredGlobally() {
+        Reconciliation reconciliation = new Reconciliation("test", "KafkaUser", "my-namespace", "not-registered-user");
+
+        assertThat(MarkerManager.exists(reconciliation.getMarker().getName()), is(false));
+    }
+
+    @Test
+    public void testMarkerFilter() {
+        Filter filter = MarkerFilter.createFilter("KafkaTopic(my-namespace/my-topic)", Filter.Result.ACCEPT, Filter.Result.DENY);
+
+        LogEvent matching = Log4jLogEvent.newBuilder().setMarker(new Reconciliation("test", "KafkaTopic", "my-namespace", "my-topic").getMarker()).build();
+        LogEvent other = Log4jLogEvent.newBuilder().setMarker(new Reconciliation("test", "KafkaTopic", "my-namespace", "other-topic").getMarker()).build();
+
+        assertThat(filter.filter(matching), is(Filter.Result.ACCEPT));
+        assertThat(filter.filter(other), is(Filter.Result.DENY));
+    }
+
+    @Test
+    public void testMarkerParents() {
+        Marker marker = new Reconciliation("test", "KafkaTopic", "my-namespace", "my-topic").getMarker();
+        Marker parent = MarkerManager.getMarker("STRIMZI");
+
+        assertThat(marker.hasParents(), is(false));
+        assertThat(marker.isInstanceOf(parent), is(false));
+
+        marker.addParents(parent, parent);
+        assertThat(marker.hasParents(), is(true));
+        assertThat(marker.getParents().length, is(1));
+        assertThat(marker.isInstanceOf(parent), is(true));
+        assertThat(marker.isInstanceOf("STRIMZI"), is(true));
+
+        assertThat(marker.remove(parent), is(true));
+        assertThat(marker.hasParents(), is(false));
+        assertThat(marker.remove(parent), is(false));
+
+        marker.setParents(parent);
+        assertThat(marker.isInstanceOf(parent), is(true));
+        marker.setParents();
+        assertThat(marker.hasParents(), is(false));
+    }
+
+    @Test
+    public void testMarkersAreNotRetained() {
+        for (int i = 0; i < 10_000; i++) {
+            Reconciliation reconciliation = new Reconciliation("watch", "KafkaTopic", "my-namespace", "my-topic-" + i);
+            LOGGER.debugCr(reconciliation, "Reconciling topic {}", reconciliation.name());
+
+            // Each reconciliation owns its marker and logging it does not register it in the global marker registry
+            // which would retain the markers of all resources ever reconciled
+            assertThat(reconciliation.getMarker(), is(sameInstance(reconciliation.getMarker())));
+            assertThat(reconciliation.getMarker(), is(instanceOf(ReconciliationMarker.class)));
+            assertThat(MarkerManager.exists(reconciliation.getMarker().getName()), is(false));
+        }
+    }
+}
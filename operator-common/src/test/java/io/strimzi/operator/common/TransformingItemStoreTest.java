@@ -0,0 +1,164 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.FieldsV1;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.fabric8.kubernetes.client.readiness.Readiness;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+public class TransformingItemStoreTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private static FieldsV1 fieldsV1() {
+        FieldsV1 fields = new FieldsV1();
+        fields.setAdditionalProperty("f:metadata", Map.of("f:labels", Map.of("f:strimzi.io/cluster", Map.of(), "f:strimzi.io/kind", Map.of())));
+        fields.setAdditionalProperty("f:spec", Map.of("f:containers", Map.of("k:{\"name\":\"kafka\"}", Map.of("f:image", Map.of(), "f:env", Map.of()))));
+        return fields;
+    }
+
+    private static Pod pod(String name) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion("1")
+                    .withLabels(Map.of("strimzi.io/cluster", "my-cluster", "strimzi.io/kind", "Kafka"))
+                    .withAnnotations(new HashMap<>(Map.of("strimzi.io/revision", "abcdef",
+                            "kubectl.kubernetes.io/last-applied-configuration", "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"" + name + "\"}}")))
+                    .addNewOwnerReference()
+                        .withApiVersion("core.strimzi.io/v1beta2")
+                        .withKind("StrimziPodSet")
+                        .withName("my-cluster-kafka")
+                        .withUid("some-uid")
+                    .endOwnerReference()
+                    .withManagedFields(new ManagedFieldsEntryBuilder()
+                            .withManager("strimzi-cluster-operator")
+                            .withOperation("Update")
+                            .withFieldsType("FieldsV1")
+                            .withFieldsV1(fieldsV1())
+                            .build())
+                .endMetadata()
+                .withNewSpec()
+                    .addNewContainer()
+                        .withName("kafka")
+                        .withImage("quay.io/strimzi/kafka:latest-kafka-3.5.1")
+                        .withCommand("/opt/kafka/kafka_run.sh")
+                        .withEnv(IntStream.range(0, 20).mapToObj(i -> new EnvVar("ENV_VAR_" + i, "value-" + i, null)).toList())
+                    .endContainer()
+                .endSpec()
+                .withNewStatus()
+                    .withPhase("Running")
+                    .withHostIP("10.0.0.1")
+                    .withPodIP("10.0.0.2")
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                    .addNewContainerStatus()
+                        .withName("kafka")
+                        .withImage("quay.io/strimzi/kafka:latest-kafka-3.5.1")
+                        .withImageID("quay.io/strimzi/kafka@sha256:0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef")
+                        .withContainerID("containerd://0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef")
+                        .withReady(true)
+                        .withRestartCount(0)
+                    .endContainerStatus()
+                .endStatus()
+                .build();
+    }
+
+    private static long serializedSize(ItemStore<Pod> store) {
+        return store.values()
+                .mapToLong(pod -> Serialization.asJson(pod).getBytes(StandardCharsets.UTF_8).length)
+                .sum();
+    }
+
+    @Test
+    public void testStripPod() {
+        Pod pod = InformerUtils.stripPod(pod("my-pod"));
+
+        assertThat(pod.getMetadata().getName(), is("my-pod"));
+        assertThat(pod.getMetadata().getLabels(), is(Map.of("strimzi.io/cluster", "my-cluster", "strimzi.io/kind", "Kafka")));
+        assertThat(pod.getMetadata().getAnnotations(), is(Map.of("strimzi.io/revision", "abcdef")));
+        assertThat(pod.getMetadata().getOwnerReferences().size(), is(1));
+        assertThat(pod.getMetadata().getManagedFields(), is(nullValue()));
+        assertThat(pod.getSpec(), is(nullValue()));
+        assertThat(pod.getStatus().getPhase(), is("Running"));
+        assertThat(pod.getStatus().getContainerStatuses(), is(List.of()));
+        assertThat(Readiness.isPodReady(pod), is(true));
+    }
+
+    @Test
+    public void testStripManagedFields() {
+        Secret secret = InformerUtils.stripManagedFields(new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-secret")
+                    .withNamespace(NAMESPACE)
+                    .withManagedFields(new ManagedFieldsEntryBuilder().withManager("strimzi-user-operator").build())
+                .endMetadata()
+                .withData(Map.of("password", "c2VjcmV0"))
+                .build());
+
+        assertThat(secret.getMetadata().getManagedFields(), is(nullValue()));
+        assertThat(secret.getData(), is(Map.of("password", "c2VjcmV0")));
+    }
+
+    @Test
+    public void testStoreTransformsResources() {
+        TransformingItemStore<Pod> store = new TransformingItemStore<>(InformerUtils::stripPod);
+        Pod pod = pod("my-pod");
+
+        assertThat(store.getKey(pod), is(Cache.metaNamespaceKeyFunc(pod)));
+        store.put(store.getKey(pod), pod);
+
+        assertThat(store.size(), is(1));
+        assertThat(store.get(NAMESPACE + "/my-pod").getSpec(), is(nullValue()));
+        assertThat(store.get(NAMESPACE + "/my-pod").getMetadata().getManagedFields(), is(nullValue()));
+    }
+
+    @Test
+    public void testTransformedCacheSerializedSize() {
+        int count = 10_000;
+        ItemStore<Pod> fullStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+        ItemStore<Pod> strippedStore = new TransformingItemStore<>(InformerUtils::stripPod);
+
+        for (int i = 0; i < count; i++) {
+            Pod fullPod = pod("my-pod-" + i);
+            fullStore.put(fullStore.getKey(fullPod), fullPod);
+
+            Pod strippedPod = pod("my-pod-" + i);
+            strippedStore.put(strippedStore.getKey(strippedPod), strippedPod);
+        }
+
+        assertThat(fullStore.size(), is(count));
+        assertThat(strippedStore.size(), is(count));
+
+        // Compares the size of the cached resources serialized to JSON. It shows how much data is dropped, but it is
+        // not a measurement of the heap used by the cache.
+        long fullSize = serializedSize(fullStore);
+        long strippedSize = serializedSize(strippedStore);
+        assertThat(strippedSize * 3, is(lessThan(fullSize)));
+    }
+}
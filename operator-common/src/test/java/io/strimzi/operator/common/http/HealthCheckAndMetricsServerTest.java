@@ -13,15 +13,20 @@ import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.test.TestUtils;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class HealthCheckAndMetricsServerTest {
@@ -89,6 +94,120 @@ public class HealthCheckAndMetricsServerTest {
         }
     }
 
+    @Test
+    public void testMetricsFormatsAndCompression() throws IOException, InterruptedException, URISyntaxException {
+        MeterRegistry metricsRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        metrics.counter("my-metric", "My test metric", Tags.empty()).increment();
+        metrics.counter("my-other-metric", "My other test metric", Tags.empty()).increment();
+
+        int port = TestUtils.getFreePort();
+
+        HealthCheckAndMetricsServer server = new HealthCheckAndMetricsServer(port, () -> true, () -> true, metrics);
+        server.start();
+
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+
+            // Prometheus text format
+            HttpRequest request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/metrics")).GET().build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode(), is(200));
+            assertThat(response.headers().firstValue("Content-Type").orElseThrow(), startsWith("text/plain; version=0.0.4"));
+            assertThat(response.body(), containsString("my_metric_total 1.0"));
+
+            // OpenMetrics format
+            request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/metrics"))
+                    .header("Accept", "application/openmetrics-text; version=1.0.0,text/plain;version=0.0.4;q=0.5")
+                    .GET()
+                    .build();
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode(), is(200));
+            assertThat(response.headers().firstValue("Content-Type").orElseThrow(), startsWith("application/openmetrics-text"));
+            assertThat(response.body(), containsString("# EOF"));
+
+            // Selected metrics only
+            request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/metrics?name[]=my_other_metric_total")).GET().build();
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode(), is(200));
+            assertThat(response.body(), containsString("my_other_metric_total 1.0"));
+            assertThat(response.body(), not(containsString("my_metric_total")));
+
+            // Compressed metrics
+            request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/metrics"))
+                    .header("Accept-Encoding", "gzip")
+                    .GET()
+                    .build();
+            HttpResponse<byte[]> compressedResponse = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            assertThat(compressedResponse.statusCode(), is(200));
+            assertThat(compressedResponse.headers().firstValue("Content-Encoding").orElseThrow(), is("gzip"));
+
+            try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressedResponse.body()))) {
+                assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8), containsString("my_metric_total 1.0"));
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testProfilingEndpoint() throws IOException, InterruptedException, URISyntaxException {
+        int port = TestUtils.getFreePort();
+
+        HealthCheckAndMetricsServer server = new HealthCheckAndMetricsServer(port, () -> true, () -> true, null, true);
+        server.start();
+
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+
+            // Only POST requests are allowed
+            HttpRequest request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/jfr/start")).GET().build();
+            sendAndExpect(client, request, 405, "Only POST requests are supported");
+
+            // Nothing to stop
+            request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/jfr/stop")).POST(HttpRequest.BodyPublishers.noBody()).build();
+            sendAndExpect(client, request, 409, "No flight recording is running");
+
+            // Unknown settings
+            request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/jfr/start?settings=not-a-jfc")).POST(HttpRequest.BodyPublishers.noBody()).build();
+            sendAndExpect(client, request, 400, "Unknown Flight Recorder settings not-a-jfc");
+
+            // Start the recording
+            request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/jfr/start?settings=default")).POST(HttpRequest.BodyPublishers.noBody()).build();
+            sendAndExpect(client, request, 200, "Flight recording started");
+            sendAndExpect(client, request, 409, "Flight recording is already running");
+
+            // Stop and download the recording
+            request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/jfr/stop")).POST(HttpRequest.BodyPublishers.noBody()).build();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            assertThat(response.statusCode(), is(200));
+            assertThat(response.headers().firstValue("Content-Type").orElseThrow(), is("application/octet-stream"));
+            assertThat(response.headers().firstValue("Content-Disposition").orElseThrow(), startsWith("attachment; filename=\"strimzi-"));
+            // JFR files start with the FLR magic bytes
+            assertThat(new String(response.body(), 0, 3, StandardCharsets.US_ASCII), is("FLR"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testProfilingEndpointDisabled() throws IOException, InterruptedException, URISyntaxException {
+        int port = TestUtils.getFreePort();
+
+        HealthCheckAndMetricsServer server = new HealthCheckAndMetricsServer(port, () -> true, () -> true, null);
+        server.start();
+
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+
+            HttpRequest request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/jfr/start")).POST(HttpRequest.BodyPublishers.noBody()).build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode(), is(404));
+        } finally {
+            server.stop();
+        }
+    }
+
     private static void sendAndExpect(HttpClient client, HttpRequest request, int expectedStatus, String expectedBody) throws IOException, InterruptedException {
         HttpResponse<String> response =  client.send(request, HttpResponse.BodyHandlers.ofString());
         assertThat(response.statusCode(), is(expectedStatus));
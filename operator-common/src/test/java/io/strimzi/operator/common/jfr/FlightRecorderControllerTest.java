@@ -0,0 +1,86 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.jfr;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FlightRecorderControllerTest {
+    @Test
+    public void testRecording() throws IOException {
+        FlightRecorderController controller = new FlightRecorderController();
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+        assertThat(controller.isRecording(), is(false));
+        assertThrows(IllegalStateException.class, controller::stop);
+        assertThrows(IllegalArgumentException.class, () -> controller.start("not-a-jfc"));
+
+        controller.start(FlightRecorderController.DEFAULT_SETTINGS);
+        assertThat(controller.isRecording(), is(true));
+        assertThrows(IllegalStateException.class, () -> controller.start(FlightRecorderController.DEFAULT_SETTINGS));
+
+        ReconciliationEvent reconciliationEvent = ReconciliationEvent.begin(reconciliation);
+        KubernetesApiEvent apiEvent = KubernetesApiEvent.begin(reconciliation, "reconcile", "Secret", "my-namespace", "my-secret");
+        apiEvent.end(ReconcileResult.noop(null));
+        KafkaAdminEvent adminEvent = KafkaAdminEvent.begin(reconciliation);
+        adminEvent.end(false);
+        reconciliationEvent.end(true);
+
+        Path file = controller.stop();
+        assertThat(controller.isRecording(), is(false));
+
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            RecordedEvent recordedReconciliation = event(events, "io.strimzi.Reconciliation");
+            assertThat(recordedReconciliation.getString("reconciliation"), is(reconciliation.toString()));
+            assertThat(recordedReconciliation.getString("kind"), is("Kafka"));
+            assertThat(recordedReconciliation.getString("namespace"), is("my-namespace"));
+            assertThat(recordedReconciliation.getString("name"), is("my-cluster"));
+            assertThat(recordedReconciliation.getBoolean("successful"), is(true));
+
+            RecordedEvent recordedApiCall = event(events, "io.strimzi.KubernetesApi");
+            assertThat(recordedApiCall.getString("reconciliation"), is(reconciliation.toString()));
+            assertThat(recordedApiCall.getString("operation"), is("reconcile"));
+            assertThat(recordedApiCall.getString("resourceKind"), is("Secret"));
+            assertThat(recordedApiCall.getString("resourceName"), is("my-secret"));
+            assertThat(recordedApiCall.getString("result"), is("Noop"));
+
+            RecordedEvent recordedAdminCall = event(events, "io.strimzi.KafkaAdmin");
+            assertThat(recordedAdminCall.getString("reconciliation"), is(reconciliation.toString()));
+            assertThat(recordedAdminCall.getBoolean("successful"), is(false));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testEventsWithoutRecording() {
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+        // Without a running recording, the events are disabled and ending them does nothing
+        ReconciliationEvent event = ReconciliationEvent.begin(reconciliation);
+        assertThat(event.isEnabled(), is(false));
+        event.end(true);
+    }
+
+    private static RecordedEvent event(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+        assertThat(matching.size(), is(1));
+        return matching.get(0);
+    }
+}
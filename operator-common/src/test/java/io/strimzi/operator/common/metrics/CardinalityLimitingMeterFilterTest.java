@@ -0,0 +1,54 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CardinalityLimitingMeterFilterTest {
+    @Test
+    public void testLimit() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CardinalityLimitingMeterFilter.configure(registry, 2);
+
+        Counter first = registry.counter("my.metric", Tags.of("namespace", "ns1"));
+        first.increment();
+        registry.counter("my.metric", Tags.of("namespace", "ns2")).increment();
+        registry.counter("my.metric", Tags.of("namespace", "ns3")).increment();
+        registry.counter("my.other.metric", Tags.of("namespace", "ns3")).increment();
+
+        assertThat(registry.find("my.metric").counters().size(), is(2));
+        assertThat(registry.find("my.metric").tag("namespace", "ns3").counter(), is((Counter) null));
+        assertThat(registry.find("my.other.metric").counters().size(), is(1));
+
+        // Existing time series are still updated
+        assertThat(registry.counter("my.metric", Tags.of("namespace", "ns1")), is(sameInstance(first)));
+
+        // Removed time series free up the space for new ones
+        registry.remove(first);
+        registry.counter("my.metric", Tags.of("namespace", "ns3")).increment();
+        assertThat(registry.find("my.metric").tag("namespace", "ns3").counter().count(), is(1.0));
+        assertThat(registry.find("my.metric").counters().size(), is(2));
+    }
+
+    @Test
+    public void testDisabledLimit() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CardinalityLimitingMeterFilter.configure(registry, 0);
+
+        for (int i = 0; i < 100; i++) {
+            registry.counter("my.metric", Tags.of("namespace", "ns" + i)).increment();
+        }
+
+        assertThat(registry.find("my.metric").counters().size(), is(100));
+    }
+}
@@ -10,8 +10,13 @@ import io.strimzi.test.TestUtils;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
 import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -19,6 +24,20 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 
 public class ResourceVisitorTest {
+    private static final ResourceVisitor.Property<Method> GET_METHOD_PROPERTY = new ResourceVisitor.MethodProperty(true);
+    private static final ResourceVisitor.Property<Method> IS_METHOD_PROPERTY = new ResourceVisitor.MethodProperty(false);
+    private static final ResourceVisitor.Property<Field> FIELD_PROPERTY = new ResourceVisitor.Property<>() {
+        @Override
+        public String propertyName(Field i) {
+            return i.getName();
+        }
+
+        @Override
+        public Class<?> type(Field i) {
+            return i.getType();
+        }
+    };
+
     @Test
     public void testDoesNotThrow() {
         Kafka k = TestUtils.fromYaml("/example.yaml", Kafka.class, true);
@@ -52,4 +71,147 @@ public class ResourceVisitorTest {
             }
         });
     }
+
+    @Test
+    public void testVisitIsSameAsReflectiveWalk() throws ReflectiveOperationException {
+        for (String yaml : List.of("/example.yaml", "/example2.yaml", "/example-large.yaml")) {
+            Kafka k = TestUtils.fromYaml(yaml, Kafka.class, true);
+            assertThat(k, is(notNullValue()));
+
+            RecordingVisitor expected = new RecordingVisitor();
+            reflectiveVisit(Reconciliation.DUMMY_RECONCILIATION, new ArrayList<>(), k, expected);
+
+            // Visit twice to use the cached visit plans as well
+            for (int i = 0; i < 2; i++) {
+                RecordingVisitor actual = new RecordingVisitor();
+                ResourceVisitor.visit(Reconciliation.DUMMY_RECONCILIATION, k, actual);
+                assertThat(actual.visits, is(expected.visits));
+            }
+        }
+    }
+
+    /**
+     * The reflective walk used by the ResourceVisitor before the visit plans were introduced. It is used to check
+     * that the visit plans produce the same visits.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param path              Path of the visited object
+     * @param resource          Visited object
+     * @param visitor           Visitor
+     *
+     * @throws ReflectiveOperationException     If the getters cannot be called
+     */
+    private static void reflectiveVisit(Reconciliation reconciliation, List<String> path, Object resource, ResourceVisitor.Visitor visitor) throws ReflectiveOperationException {
+        Class<?> cls = resource.getClass();
+        visitor.visitObject(reconciliation, path, resource);
+        for (Field field : cls.getFields()) {
+            Object propertyValue = field.get(resource);
+            visitor.visitFieldProperty(reconciliation, path, resource, field, FIELD_PROPERTY, propertyValue);
+            reflectiveVisitProperty(reconciliation, path, field, FIELD_PROPERTY, propertyValue, visitor);
+        }
+        for (Method method : cls.getMethods()) {
+            String name = method.getName();
+            if (!"getClass".equals(name)) {
+                ResourceVisitor.Property<Method> property = null;
+                if (name.length() > 3
+                        && name.startsWith("get")
+                        && !method.getReturnType().equals(Void.class)
+                        && method.getParameterCount() == 0) {
+                    property = GET_METHOD_PROPERTY;
+                } else if (name.length() > 2
+                        && name.startsWith("is")
+                        && method.getReturnType().equals(boolean.class)
+                        && method.getParameterCount() == 0) {
+                    property = IS_METHOD_PROPERTY;
+                }
+                if (property != null) {
+                    Object propertyValue = method.invoke(resource);
+                    visitor.visitMethodProperty(reconciliation, path, resource, method, property, propertyValue);
+                    reflectiveVisitProperty(reconciliation, path, method, property, propertyValue, visitor);
+                }
+            }
+        }
+    }
+
+    private static boolean isScalar(Class<?> returnType) {
+        boolean isInteger = Short.class.equals(returnType)
+                || Integer.class.equals(returnType)
+                || Long.class.equals(returnType);
+        boolean isFloat = Float.class.equals(returnType)
+                || Double.class.equals(returnType);
+        return returnType.isPrimitive()
+                || String.class.equals(returnType)
+                || Boolean.class.equals(returnType)
+                || isInteger
+                || Byte.class.equals(returnType)
+                || isFloat;
+    }
+
+    private static <M extends AnnotatedElement & Member> void reflectiveVisitProperty(Reconciliation reconciliation, List<String> path, M member,
+                                                                                      ResourceVisitor.Property<M> property, Object propertyValue,
+                                                                                      ResourceVisitor.Visitor visitor)
+            throws ReflectiveOperationException {
+        String propertyName = property.propertyName(member);
+        Class<?> returnType = property.type(member);
+        if (propertyValue != null) {
+            if (returnType.isArray()) {
+                path.add(propertyName);
+                if (propertyValue instanceof Object[]) {
+                    for (Object element : (Object[]) propertyValue) {
+                        reflectiveVisit(reconciliation, path, element, visitor);
+                    }
+                }
+                path.remove(path.size() - 1);
+            } else if (Collection.class.isAssignableFrom(returnType)) {
+                path.add(propertyName);
+                for (Object element : (Collection<?>) propertyValue) {
+                    if (element != null
+                            && !element.getClass().isEnum()
+                            && !isScalar(element.getClass())) {
+                        reflectiveVisit(reconciliation, path, element, visitor);
+                    }
+                }
+                path.remove(path.size() - 1);
+            } else if (!isScalar(returnType)
+                    && !Map.class.isAssignableFrom(returnType)
+                    && !returnType.isEnum()) {
+                path.add(propertyName);
+                reflectiveVisit(reconciliation, path, propertyValue, visitor);
+                path.remove(path.size() - 1);
+            }
+        }
+    }
+
+    static class RecordingVisitor implements ResourceVisitor.Visitor {
+        final List<String> visits = new ArrayList<>();
+
+        @Override
+        public void visitMethodProperty(Reconciliation reconciliation, List<String> path, Object owner, Method method, ResourceVisitor.Property<Method> property, Object propertyValue) {
+            visits.add("method " + path + " " + method + " " + property.propertyName(method) + " " + value(propertyValue));
+        }
+
+        @Override
+        public void visitFieldProperty(Reconciliation reconciliation, List<String> path, Object owner, Field field, ResourceVisitor.Property<Field> property, Object propertyValue) {
+            visits.add("field " + path + " " + field + " " + property.propertyName(field) + " " + value(propertyValue));
+        }
+
+        @Override
+        public <M extends AnnotatedElement & Member> void visitProperty(Reconciliation reconciliation, List<String> path, Object owner, M member, ResourceVisitor.Property<M> property, Object propertyValue) {
+            throw new IllegalStateException("Should not be called");
+        }
+
+        @Override
+        public void visitObject(Reconciliation reconciliation, List<String> path, Object object) {
+            visits.add("object " + path + " " + System.identityHashCode(object));
+        }
+
+        private static String value(Object value) {
+            // Boxed primitives and computed strings might be different instances for each call of the getter
+            if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character) {
+                return String.valueOf(value);
+            } else {
+                return String.valueOf(System.identityHashCode(value));
+            }
+        }
+    }
 }
@@ -11,6 +11,7 @@ import io.fabric8.kubernetes.client.GracePeriodConfigurable;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.Deletable;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
@@ -31,7 +32,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -590,4 +593,141 @@ public abstract class AbstractNamespacedResourceOperatorTest<C extends Kubernete
             async.flag();
         })));
     }
+
+    @Test
+    public void testWaitForResourceCompletesOnWatchEvent(VertxTestContext context) {
+        T resource = resource();
+        T modified = modifiedResource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        AtomicBoolean watchClosed = new AtomicBoolean(false);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher watcher = invocation.getArgument(0);
+            watcher.eventReceived(Watcher.Action.MODIFIED, modified);
+            return (Watch) () -> {
+                watchClosed.set(true);
+            };
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.waitForResource(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, "modified", 10_000, r -> r == modified)
+            .onComplete(context.succeeding(r -> context.verify(() -> {
+                assertThat(r, is(modified));
+                assertThat(watchClosed.get(), is(true));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testWaitForResourceReopensClosedWatch(VertxTestContext context) {
+        T resource = resource();
+        T modified = modifiedResource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        AtomicInteger watches = new AtomicInteger(0);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher watcher = invocation.getArgument(0);
+
+            if (watches.incrementAndGet() == 1) {
+                // The first watch is closed by the client before the resource is modified
+                watcher.onClose(new WatcherException("Too old resource version"));
+            } else {
+                watcher.eventReceived(Watcher.Action.MODIFIED, modified);
+            }
+
+            return (Watch) () -> { };
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.waitForResource(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, "modified", 10_000, r -> r == modified)
+            .onComplete(context.succeeding(r -> context.verify(() -> {
+                assertThat(r, is(modified));
+                assertThat(watches.get(), is(2));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testWaitForResourceChecksResourceWhenWatchIsClosed(VertxTestContext context) {
+        T resource = resource();
+        T modified = modifiedResource();
+        Resource mockResource = mock(resourceType());
+        // The resource is modified while the watch is closed => the modification is found by the get
+        when(mockResource.get()).thenReturn(resource, modified);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher watcher = invocation.getArgument(0);
+            watcher.onClose(new WatcherException("Too old resource version"));
+            return (Watch) () -> { };
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.waitForResource(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, "modified", 10_000, r -> r == modified)
+            .onComplete(context.succeeding(r -> context.verify(() -> {
+                assertThat(r, is(modified));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testWaitForResourceFailsWhenDeleted(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher watcher = invocation.getArgument(0);
+            watcher.eventReceived(Watcher.Action.DELETED, resource);
+            return (Watch) () -> { };
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.waitForResource(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, "modified", 10_000, r -> false)
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e.getMessage(), containsString("was deleted while waiting"));
+                async.flag();
+            })));
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Starts asynchronous tasks while keeping at most a limited number of them in progress at the same time. The tasks
+ * are started in their order. At least one task is always kept in progress, even when the limit is lower, to make
+ * sure all tasks eventually complete.
+ *
+ * The limit is evaluated every time a task is about to be started, so it can change while the tasks are in progress.
+ * When the limit increases, {@link #startNext()} has to be called to use the new free slots.
+ *
+ * @param <T>   Type of the task result
+ */
+class ConcurrencyLimiter<T> {
+    private final Lock lock = new ReentrantLock();
+    private final List<Supplier<Future<T>>> tasks;
+    private final List<Promise<T>> results;
+    private final IntSupplier limit;
+    private final Handler<AsyncResult<T>> completionHandler;
+
+    // Guarded by the lock
+    private int next = 0;
+    private int inProgress = 0;
+    private boolean starting = false;
+
+    /**
+     * Constructs the limiter. The tasks are not started until {@link #startNext()} is called.
+     *
+     * @param tasks                 Suppliers starting the tasks
+     * @param limit                 Supplier of the maximal number of tasks in progress
+     * @param completionHandler     Handler called when each of the tasks completes
+     */
+    ConcurrencyLimiter(List<Supplier<Future<T>>> tasks, IntSupplier limit, Handler<AsyncResult<T>> completionHandler) {
+        this.tasks = tasks;
+        this.limit = limit;
+        this.completionHandler = completionHandler;
+        this.results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            results.add(Promise.promise());
+        }
+    }
+
+    /**
+     * @return  List with the futures of the tasks in the same order as the suppliers
+     */
+    List<Future<T>> futures() {
+        return results.stream().map(Promise::future).collect(Collectors.toList());
+    }
+
+    /**
+     * Starts the next tasks while there are free slots. The tasks completing synchronously or calls from other
+     * threads while the tasks are being started do not start the next tasks recursively, but leave it to the loop in
+     * progress.
+     */
+    void startNext() {
+        lock.lock();
+        try {
+            if (starting) {
+                return;
+            }
+            starting = true;
+        } finally {
+            lock.unlock();
+        }
+
+        while (true) {
+            int index;
+            lock.lock();
+            try {
+                if (inProgress >= Math.max(1, limit.getAsInt()) || next >= tasks.size()) {
+                    starting = false;
+                    return;
+                }
+                index = next++;
+                inProgress++;
+            } finally {
+                lock.unlock();
+            }
+
+            Future<T> task;
+            try {
+                task = tasks.get(index).get();
+            } catch (Throwable t) {
+                task = Future.failedFuture(t);
+            }
+
+            task.onComplete(result -> {
+                lock.lock();
+                try {
+                    inProgress--;
+                } finally {
+                    lock.unlock();
+                }
+                completionHandler.handle(result);
+                results.get(index).handle(result);
+                startNext();
+            });
+        }
+    }
+}
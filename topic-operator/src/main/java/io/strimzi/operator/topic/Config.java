@@ -37,6 +37,14 @@ public class Config {
     };
 
     /** A Java Integer */
+    private static final Type<? extends Integer> INTEGER = new Type<>() {
+        @Override
+        Integer parse(String s) {
+            return Integer.parseInt(s);
+        }
+    };
+
+    /** A positive Java Integer */
     private static final Type<? extends Integer> POSITIVE_INTEGER = new Type<>() {
         @Override
         Integer parse(String s) {
@@ -111,6 +119,8 @@ public class Config {
     protected static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     protected static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
     protected static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
+    protected static final String TC_TOPIC_METADATA_BATCH_WINDOW_MS = "STRIMZI_TOPIC_METADATA_BATCH_WINDOW_MS";
+    protected static final String TC_FULL_RECONCILIATION_MAX_CONCURRENCY = "STRIMZI_FULL_RECONCILIATION_MAX_CONCURRENCY";
 
     protected static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
     protected static final String TC_TLS_TRUSTSTORE_LOCATION = "STRIMZI_TRUSTSTORE_LOCATION";
@@ -132,6 +142,8 @@ public class Config {
     protected static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
 
     protected static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
+    protected static final String TC_USE_BINARY_TOPIC_STORE_FORMAT = "STRIMZI_USE_BINARY_TOPIC_STORE_FORMAT";
+    protected static final String TC_METRICS_MAX_SERIES_PER_METRIC = "STRIMZI_METRICS_MAX_SERIES_PER_METRIC";
 
     private static final Map<String, Value<?>> CONFIG_VALUES = new HashMap<>();
 
@@ -171,6 +183,12 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /** The time for which the topic metadata requests are collected and sent to the Kafka cluster in a single batch */
+    public static final Value<Long> TOPIC_METADATA_BATCH_WINDOW_MS = new Value<>(TC_TOPIC_METADATA_BATCH_WINDOW_MS, DURATION, "10");
+
+    /** The maximum number of topics reconciled at the same time during the full reconciliation */
+    public static final Value<Integer> FULL_RECONCILIATION_MAX_CONCURRENCY = new Value<>(TC_FULL_RECONCILIATION_MAX_CONCURRENCY, POSITIVE_INTEGER, "100");
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
@@ -211,6 +229,15 @@ public class Config {
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
 
+    /**
+     * Do we write the records of the Kafka Streams based TopicStore in the binary format. The records in both formats
+     * are always read, but the older versions can read only the JSON format.
+     */
+    public static final Value<Boolean> USE_BINARY_TOPIC_STORE_FORMAT = new Value<>(TC_USE_BINARY_TOPIC_STORE_FORMAT, BOOLEAN, "false");
+
+    /** The maximum number of time series of each metric. 0 disables the limit. */
+    public static final Value<Integer> METRICS_MAX_SERIES_PER_METRIC = new Value<>(TC_METRICS_MAX_SERIES_PER_METRIC, INTEGER, "10000");
+
     static {
         Map<String, Value<?>> configValues = CONFIG_VALUES;
         addConfigValue(configValues, LABELS);
@@ -224,6 +251,8 @@ public class Config {
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, TOPIC_METADATA_BATCH_WINDOW_MS);
+        addConfigValue(configValues, FULL_RECONCILIATION_MAX_CONCURRENCY);
         addConfigValue(configValues, TOPICS_PATH);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, SECURITY_PROTOCOL);
@@ -241,6 +270,8 @@ public class Config {
         addConfigValue(configValues, APPLICATION_ID);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
+        addConfigValue(configValues, USE_BINARY_TOPIC_STORE_FORMAT);
+        addConfigValue(configValues, METRICS_MAX_SERIES_PER_METRIC);
     }
 
     static void addConfigValue(Map<String, Value<?>> configValues, Value<?> cv) {
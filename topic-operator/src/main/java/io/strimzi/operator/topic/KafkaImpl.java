@@ -4,7 +4,10 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -37,19 +40,40 @@ public class KafkaImpl implements Kafka {
 
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaImpl.class);
 
+    /**
+     * Maximal number of topics for which the metadata are requested in a single batch
+     */
+    /* test */ static final int TOPIC_METADATA_MAX_BATCH_SIZE = 1_000;
+
     protected final Admin adminClient;
 
     protected final Vertx vertx;
 
+    private final TopicMetadataLoader topicMetadataLoader;
+
     /**
-     * Constructor
+     * Constructor. The topic metadata requests made at the same time are batched, but without waiting for more
+     * requests.
      *
      * @param adminClient  Instance of the Kafka AdminClient API
      * @param vertx        The Vertx instance
      */
     public KafkaImpl(Admin adminClient, Vertx vertx) {
+        this(adminClient, vertx, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param adminClient                   Instance of the Kafka AdminClient API
+     * @param vertx                         The Vertx instance
+     * @param topicMetadataBatchWindowMs    Time in milliseconds for which the topic metadata requests are collected
+     *                                      before they are sent to Kafka in a single batch
+     */
+    public KafkaImpl(Admin adminClient, Vertx vertx, long topicMetadataBatchWindowMs) {
         this.adminClient = adminClient;
         this.vertx = vertx;
+        this.topicMetadataLoader = new TopicMetadataLoader(topicMetadataBatchWindowMs);
     }
 
     /**
@@ -91,17 +115,26 @@ public class KafkaImpl implements Kafka {
             new NewTopic(topicName.toString(), 1, (short) 1)),
             new CreateTopicsOptions().validateOnly(true)).all())
                 .map(ignored -> false)
-                .recover(
-                    e -> {
-                        if (e instanceof ExecutionException) {
-                            e = e.getCause();
-                        }
-                        if (e instanceof TopicExistsException) {
-                            return Future.succeededFuture(true);
-                        } else {
-                            return Future.failedFuture(e);
-                        }
-                    });
+                .recover(KafkaImpl::topicExistsFromError);
+    }
+
+    /**
+     * The existence of the topic is tested by a validate-only creation of the topic. Fails with the error when the
+     * validate-only creation failed for other reason than the topic already existing.
+     *
+     * @param error     Error from the validate-only creation of the topic
+     *
+     * @return  Future which completes with true if the topic exists
+     */
+    private static Future<Boolean> topicExistsFromError(Throwable error) {
+        if (error instanceof ExecutionException) {
+            error = error.getCause();
+        }
+        if (error instanceof TopicExistsException) {
+            return Future.succeededFuture(true);
+        } else {
+            return Future.failedFuture(error);
+        }
     }
 
 
@@ -125,23 +158,12 @@ public class KafkaImpl implements Kafka {
      * Completes the returned Future on the Vertx event loop
      * with the topic config obtained from the Kafka AdminClient API.
      * The Future completes with a null result a topic with the given {@code topicName} does not exist.
+     * The requests for the metadata of different topics are coalesced into batched Admin API requests.
      */
     @Override
     public Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName) {
         LOGGER.debugCr(reconciliation, "Getting metadata for topic {}", topicName);
-        ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString());
-        return topicExists(reconciliation, topicName).compose(exists -> {
-            if (exists) {
-                Future<TopicDescription> topicDescriptionFuture = mapFuture(adminClient.describeTopics(
-                        singleton(topicName.toString())).topicNameValues().get(topicName.toString()));
-                Future<Config> configFuture = mapFuture(adminClient.describeConfigs(
-                        singleton(resource)).values().get(resource));
-                return Future.all(topicDescriptionFuture, configFuture)
-                        .map(compositeFuture -> new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)));
-            } else {
-                return Future.succeededFuture(null);
-            }
-        });
+        return topicMetadataLoader.load(topicName.toString());
     }
 
     /**
@@ -202,6 +224,160 @@ public class KafkaImpl implements Kafka {
         }
     }
 
+    /**
+     * Coalesces the topic metadata requests into batches. The requests are collected for the batch window and then
+     * the existence check, the topic descriptions and the topic configurations of all the requested topics are
+     * obtained using a single Admin API request each. Concurrent requests for the same topic share the result.
+     */
+    private class TopicMetadataLoader {
+        private final long batchWindowMs;
+        private Map<String, Promise<TopicMetadata>> pending = new LinkedHashMap<>();
+
+        /**
+         * Constructs the loader
+         *
+         * @param batchWindowMs     Time for which the requests are collected. When 0, only the requests made before
+         *                          the Vert.x context gets to the batch are collected.
+         */
+        TopicMetadataLoader(long batchWindowMs) {
+            this.batchWindowMs = batchWindowMs;
+        }
+
+        /**
+         * Requests the metadata of a topic
+         *
+         * @param topicName     Name of the topic
+         *
+         * @return  Future which completes with the metadata or with null if the topic does not exist
+         */
+        Future<TopicMetadata> load(String topicName) {
+            Map<String, Promise<TopicMetadata>> fullBatch = null;
+            Promise<TopicMetadata> promise;
+
+            synchronized (this) {
+                promise = pending.get(topicName);
+
+                if (promise == null) {
+                    promise = Promise.promise();
+                    pending.put(topicName, promise);
+
+                    if (pending.size() >= TOPIC_METADATA_MAX_BATCH_SIZE) {
+                        fullBatch = pending;
+                        pending = new LinkedHashMap<>();
+                    } else if (pending.size() == 1) {
+                        if (batchWindowMs > 0) {
+                            vertx.setTimer(batchWindowMs, ignored -> flush());
+                        } else {
+                            vertx.runOnContext(ignored -> flush());
+                        }
+                    }
+                }
+            }
+
+            if (fullBatch != null) {
+                loadBatch(fullBatch);
+            }
+
+            return promise.future();
+        }
+
+        /**
+         * Sends the pending requests
+         */
+        private void flush() {
+            Map<String, Promise<TopicMetadata>> batch;
+
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+
+                batch = pending;
+                pending = new LinkedHashMap<>();
+            }
+
+            loadBatch(batch);
+        }
+
+        /**
+         * Checks which topics exist and describes them
+         *
+         * @param batch     Batch of requested topics and the promises for their results
+         */
+        private void loadBatch(Map<String, Promise<TopicMetadata>> batch) {
+            LOGGER.debugOp("Getting metadata for {} topics", batch.size());
+
+            try {
+                Set<NewTopic> newTopics = new LinkedHashSet<>(batch.size());
+                for (String topicName : batch.keySet()) {
+                    newTopics.add(new NewTopic(topicName, 1, (short) 1));
+                }
+
+                Map<String, KafkaFuture<Void>> validations = adminClient.createTopics(newTopics, new CreateTopicsOptions().validateOnly(true)).values();
+                Map<String, Future<Boolean>> existence = new LinkedHashMap<>(batch.size());
+                for (String topicName : batch.keySet()) {
+                    existence.put(topicName, mapFuture(validations.get(topicName))
+                            .map(ignored -> false)
+                            .recover(KafkaImpl::topicExistsFromError));
+                }
+
+                Future.join(new ArrayList<>(existence.values()))
+                        .onComplete(ignored -> describeExisting(batch, existence));
+            } catch (Exception e) {
+                batch.values().forEach(promise -> promise.tryFail(e));
+            }
+        }
+
+        /**
+         * Completes the requests for the topics which do not exist or failed the existence check and describes the
+         * existing topics
+         *
+         * @param batch         Batch of requested topics and the promises for their results
+         * @param existence     Results of the existence checks of the topics
+         */
+        private void describeExisting(Map<String, Promise<TopicMetadata>> batch, Map<String, Future<Boolean>> existence) {
+            Set<String> existing = new LinkedHashSet<>();
+
+            for (Map.Entry<String, Future<Boolean>> entry : existence.entrySet()) {
+                Promise<TopicMetadata> promise = batch.get(entry.getKey());
+
+                if (entry.getValue().failed()) {
+                    promise.fail(entry.getValue().cause());
+                } else if (entry.getValue().result()) {
+                    existing.add(entry.getKey());
+                } else {
+                    promise.complete(null);
+                }
+            }
+
+            if (existing.isEmpty()) {
+                return;
+            }
+
+            try {
+                Set<ConfigResource> resources = new LinkedHashSet<>(existing.size());
+                for (String topicName : existing) {
+                    resources.add(new ConfigResource(ConfigResource.Type.TOPIC, topicName));
+                }
+
+                Map<String, KafkaFuture<TopicDescription>> descriptions = adminClient.describeTopics(existing).topicNameValues();
+                Map<ConfigResource, KafkaFuture<Config>> configs = adminClient.describeConfigs(resources).values();
+
+                for (String topicName : existing) {
+                    Future<TopicDescription> topicDescriptionFuture = mapFuture(descriptions.get(topicName));
+                    Future<Config> configFuture = mapFuture(configs.get(new ConfigResource(ConfigResource.Type.TOPIC, topicName)));
+                    Future.all(topicDescriptionFuture, configFuture)
+                            .<TopicMetadata>map(compositeFuture -> new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)))
+                            .onComplete(batch.get(topicName));
+                }
+            } catch (Exception e) {
+                for (String topicName : existing) {
+                    batch.get(topicName).tryFail(e);
+                }
+            }
+        }
+    }
+
     private <T> Future<T> mapFuture(KafkaFuture<T> future) {
         Promise<T> handler = Promise.promise();
         try {
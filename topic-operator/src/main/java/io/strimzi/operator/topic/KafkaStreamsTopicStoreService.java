@@ -82,7 +82,7 @@ public class KafkaStreamsTopicStoreService {
         ProducerActions<String, TopicCommand> producer = new AsyncProducer<>(
                 kafkaProperties,
             Serdes.String().serializer(),
-            new TopicCommandSerde()
+            new TopicCommandSerde(config.get(Config.USE_BINARY_TOPIC_STORE_FORMAT))
         );
         closeables.add(producer);
 
@@ -120,7 +120,7 @@ public class KafkaStreamsTopicStoreService {
             streamsProperties.put(StreamsConfig.REPLICATION_FACTOR_CONFIG, "-1");
         }
 
-        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher).get();
+        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher, config.get(Config.USE_BINARY_TOPIC_STORE_FORMAT)).get();
 
         streams = new KafkaStreams(topology, streamsProperties);
         streams.setStateListener(listener);
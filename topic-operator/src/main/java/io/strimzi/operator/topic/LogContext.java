@@ -24,22 +24,24 @@ public class LogContext {
     private final String trigger;
     private final String namespace;
     private final String topicName;
+    private final boolean periodic;
     private String resourceVersion;
 
-    private LogContext(String trigger, String namespace, String topicName) {
+    private LogContext(String trigger, String namespace, String topicName, boolean periodic) {
         base = ctx.getAndIncrement() + "|" + trigger;
         this.namespace = namespace;
         this.topicName = topicName;
         this.trigger = trigger;
+        this.periodic = periodic;
     }
 
 
     static LogContext zkWatch(String znode, String childAction, String namespace, String topicName) {
-        return new LogContext(znode + " " + childAction, namespace, topicName);
+        return new LogContext(znode + " " + childAction, namespace, topicName, false);
     }
 
     static LogContext kubeWatch(Watcher.Action action, KafkaTopic kafkaTopic) {
-        LogContext logContext = new LogContext("kube " + action(action) + kafkaTopic.getMetadata().getName(), kafkaTopic.getMetadata().getNamespace(), kafkaTopic.getMetadata().getName());
+        LogContext logContext = new LogContext("kube " + action(action) + kafkaTopic.getMetadata().getName(), kafkaTopic.getMetadata().getNamespace(), kafkaTopic.getMetadata().getName(), false);
         logContext.resourceVersion = kafkaTopic.getMetadata().getResourceVersion();
         return logContext;
     }
@@ -57,13 +59,21 @@ public class LogContext {
     }
 
     static LogContext periodic(String periodicType, String namespace, String topicName) {
-        return new LogContext(periodicType, namespace, topicName);
+        return new LogContext(periodicType, namespace, topicName, true);
     }
 
     protected String trigger() {
         return trigger;
     }
 
+    /**
+     * @return True if the reconciliation was triggered by the initial or periodic reconciliation. False if it was
+     * triggered by an event from Kubernetes or ZooKeeper.
+     */
+    protected boolean isPeriodic() {
+        return periodic;
+    }
+
     @Override
     public String toString() {
         if (resourceVersion == null) {
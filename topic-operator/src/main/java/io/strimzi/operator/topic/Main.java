@@ -7,6 +7,7 @@ package io.strimzi.operator.topic;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
 import io.strimzi.operator.common.ShutdownHook;
+import io.strimzi.operator.common.metrics.CardinalityLimitingMeterFilter;
 import io.vertx.core.Vertx;
 
 import java.util.HashMap;
@@ -14,6 +15,7 @@ import java.util.Map;
 import io.vertx.core.VertxOptions;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
+import io.vertx.micrometer.backends.BackendRegistries;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -62,6 +64,7 @@ public class Main {
                         .setJvmMetricsEnabled(true)
                         .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
+        CardinalityLimitingMeterFilter.configure(BackendRegistries.getDefaultNow(), config.get(Config.METRICS_MAX_SERIES_PER_METRIC));
         shutdownHook.register(() -> ShutdownHook.shutdownVertx(vertx, 10_000L));
 
         Session session = new Session(kubeClient, config);
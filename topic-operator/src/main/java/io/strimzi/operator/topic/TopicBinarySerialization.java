@@ -0,0 +1,274 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of {@link Topic} and {@link TopicCommand} used by the Kafka Streams based topic store.
+ *
+ * The records start with a zero magic byte followed by the format version. JSON records always start with a
+ * character, so the magic byte is used to distinguish the binary records from the JSON records written by the older
+ * versions. Integers are encoded as zig-zag varints and strings as varint length followed by UTF-8 bytes. The keys of
+ * the topic configuration are encoded as an index into a shared dictionary of the well-known topic configuration
+ * keys. Keys which are not in the dictionary are written as strings.
+ */
+final class TopicBinarySerialization {
+    private static final byte MAGIC = 0;
+    private static final byte FORMAT_VERSION = 1;
+
+    /**
+     * Dictionary of the topic configuration keys. The index of the key in this list is used in the encoded records.
+     * New keys can be only appended at the end of the list. Existing keys can never be removed or reordered, otherwise
+     * the existing records will be decoded incorrectly.
+     */
+    private static final List<String> CONFIG_KEYS = List.of(
+            "cleanup.policy",
+            "compression.type",
+            "delete.retention.ms",
+            "file.delete.delay.ms",
+            "flush.messages",
+            "flush.ms",
+            "follower.replication.throttled.replicas",
+            "index.interval.bytes",
+            "leader.replication.throttled.replicas",
+            "local.retention.bytes",
+            "local.retention.ms",
+            "max.compaction.lag.ms",
+            "max.message.bytes",
+            "message.downconversion.enable",
+            "message.format.version",
+            "message.timestamp.difference.max.ms",
+            "message.timestamp.type",
+            "min.cleanable.dirty.ratio",
+            "min.compaction.lag.ms",
+            "min.insync.replicas",
+            "preallocate",
+            "remote.storage.enable",
+            "retention.bytes",
+            "retention.ms",
+            "segment.bytes",
+            "segment.index.bytes",
+            "segment.jitter.ms",
+            "segment.ms",
+            "unclean.leader.election.enable"
+    );
+
+    private static final Map<String, Integer> CONFIG_KEY_INDEXES = new HashMap<>(CONFIG_KEYS.size());
+
+    static {
+        for (int i = 0; i < CONFIG_KEYS.size(); i++) {
+            CONFIG_KEY_INDEXES.put(CONFIG_KEYS.get(i), i);
+        }
+    }
+
+    private TopicBinarySerialization() { }
+
+    /**
+     * Checks whether the record uses the binary encoding
+     *
+     * @param data  Serialized record
+     *
+     * @return  True if the record is binary encoded. False if it is JSON.
+     */
+    static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    /**
+     * Encodes the topic
+     *
+     * @param topic     Topic
+     *
+     * @return  Binary encoded topic
+     */
+    static byte[] toBytes(Topic topic) {
+        Writer writer = new Writer();
+        writer.header();
+        writer.topic(topic);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decodes the topic
+     *
+     * @param data  Binary encoded topic
+     *
+     * @return  Topic
+     */
+    static Topic topicFromBytes(byte[] data) {
+        Reader reader = new Reader(data);
+        reader.header();
+        return reader.topic();
+    }
+
+    /**
+     * Encodes the topic command
+     *
+     * @param command   Topic command
+     *
+     * @return  Binary encoded topic command
+     */
+    static byte[] toBytes(TopicCommand command) {
+        Writer writer = new Writer();
+        writer.header();
+        writer.string(command.getUuid());
+        writer.varint(command.getVersion());
+        writer.varint(command.getType().getId());
+
+        if (command.getType() == TopicCommand.Type.CREATE || command.getType() == TopicCommand.Type.UPDATE) {
+            writer.topic(command.getTopic());
+        } else {
+            writer.string(command.getKey());
+        }
+
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decodes the topic command
+     *
+     * @param data  Binary encoded topic command
+     *
+     * @return  Topic command
+     */
+    static TopicCommand topicCommandFromBytes(byte[] data) {
+        Reader reader = new Reader(data);
+        reader.header();
+        String uuid = reader.string();
+        int version = reader.varint();
+        TopicCommand.Type type = TopicCommand.Type.fromId(reader.varint());
+
+        if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+            return new TopicCommand(uuid, type, reader.topic(), null, version);
+        } else {
+            return new TopicCommand(uuid, type, null, new TopicName(reader.string()), version);
+        }
+    }
+
+    /**
+     * Writes the binary records
+     */
+    private static class Writer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+
+        void header() {
+            out.write(MAGIC);
+            out.write(FORMAT_VERSION);
+        }
+
+        void topic(Topic topic) {
+            string(topic.getOrAsKubeName().toString());
+            string(topic.getTopicName().toString());
+            varint(topic.getNumPartitions());
+            varint(topic.getNumReplicas());
+
+            Map<String, String> config = topic.getConfig();
+            varint(config.size());
+            for (Map.Entry<String, String> entry : config.entrySet()) {
+                Integer index = CONFIG_KEY_INDEXES.get(entry.getKey());
+
+                if (index != null) {
+                    // 0 is reserved for keys which are not in the dictionary
+                    varint(index + 1);
+                } else {
+                    varint(0);
+                    string(entry.getKey());
+                }
+
+                string(entry.getValue());
+            }
+        }
+
+        void varint(int value) {
+            // Zig-zag encoding to keep small negative values (such as -1 for unknown replicas) short
+            int zigZag = (value << 1) ^ (value >> 31);
+
+            while ((zigZag & ~0x7F) != 0) {
+                out.write((zigZag & 0x7F) | 0x80);
+                zigZag >>>= 7;
+            }
+
+            out.write(zigZag);
+        }
+
+        void string(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Reads the binary records
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+
+        Reader(byte[] data) {
+            this.buffer = ByteBuffer.wrap(data);
+        }
+
+        void header() {
+            byte magic = buffer.get();
+            byte version = buffer.get();
+
+            if (magic != MAGIC || version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported topic store record format " + magic + "/" + version);
+            }
+        }
+
+        Topic topic() {
+            Topic.Builder builder = new Topic.Builder()
+                    .withMapName(string())
+                    .withTopicName(string())
+                    .withNumPartitions(varint())
+                    .withNumReplicas((short) varint());
+
+            int configSize = varint();
+            for (int i = 0; i < configSize; i++) {
+                int index = varint();
+                String key = index == 0 ? string() : CONFIG_KEYS.get(index - 1);
+                builder.withConfigEntry(key, string());
+            }
+
+            return builder.build();
+        }
+
+        int varint() {
+            int zigZag = 0;
+            int shift = 0;
+            byte b;
+
+            do {
+                if (shift > 28) {
+                    throw new IllegalArgumentException("Malformed varint in the topic store record");
+                }
+
+                b = buffer.get();
+                zigZag |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            return (zigZag >>> 1) ^ -(zigZag & 1);
+        }
+
+        String string() {
+            int length = varint();
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+    }
+}
@@ -11,7 +11,9 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 /**
- * TopicCommand Kafka Serde
+ * TopicCommand Kafka Serde. The commands are written either as JSON or using the compact binary encoding from
+ * {@link TopicBinarySerialization}. Both the binary and the JSON encoded commands can be read. The binary encoding
+ * cannot be read by the older versions, so it has to be enabled explicitly.
  */
 public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
@@ -21,6 +23,24 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
     private static final String KEY = "key";
     private static final String VERSION = "version";
 
+    private final boolean binaryFormat;
+
+    /**
+     * Constructs the TopicCommand Serde writing the commands as JSON
+     */
+    public TopicCommandSerde() {
+        this(false);
+    }
+
+    /**
+     * Constructs the TopicCommand Serde
+     *
+     * @param binaryFormat  If true, the commands are written using the binary encoding. Otherwise, they are written as JSON.
+     */
+    public TopicCommandSerde(boolean binaryFormat) {
+        this.binaryFormat = binaryFormat;
+    }
+
     /**
      * Method to serialize the topic command data into byte stream
      *
@@ -30,6 +50,16 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
      */
     @Override
     public byte[] serialize(String topic, TopicCommand data) {
+        return binaryFormat ? TopicBinarySerialization.toBytes(data) : serializeJson(data);
+    }
+
+    /**
+     * Serializes the topic command into JSON
+     *
+     * @param data   Topic command
+     * @return JSON encoded topic command
+     */
+    private static byte[] serializeJson(TopicCommand data) {
         return TopicSerialization.toBytes((mapper, root) -> {
             root.put(UUID, data.getUuid());
             TopicCommand.Type type = data.getType();
@@ -52,6 +82,10 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
      */
     @Override
     public TopicCommand deserialize(String t, byte[] data) {
+        if (TopicBinarySerialization.isBinary(data)) {
+            return TopicBinarySerialization.topicCommandFromBytes(data);
+        }
+
         return TopicSerialization.fromJson(data, (mapper, bytes) -> {
             try {
                 JsonNode root = mapper.readTree(bytes);
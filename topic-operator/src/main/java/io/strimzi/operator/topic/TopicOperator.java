@@ -43,9 +43,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
@@ -77,6 +79,12 @@ class TopicOperator {
     private AtomicInteger topicCounter;
     protected AtomicInteger pausedTopicCounter;
     protected Timer reconciliationsTimer;
+    private AtomicInteger periodicReconciliationsRemaining;
+    private Counter periodicTopicReconciliationsCounter;
+    // Number of the reconciliations triggered by Kubernetes or ZooKeeper events which are currently in progress
+    private final AtomicInteger eventReconciliationsInProgress = new AtomicInteger();
+    // Concurrency limiters of the full reconciliations which are currently in progress
+    private final Set<ConcurrencyLimiter<?>> activeLimiters = ConcurrentHashMap.newKeySet();
 
     enum EventType {
         INFO("Info"),
@@ -552,6 +560,14 @@ class TopicOperator {
             lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
                     "Number of reconciliations skipped because another reconciliation for the same topic was still running",
                     metricTags);
+
+            periodicReconciliationsRemaining = metrics.gauge(METRICS_PREFIX + "reconciliations.periodical.remaining",
+                    "Number of topic reconciliations of the running periodical reconciliation which did not complete yet",
+                    metricTags);
+
+            periodicTopicReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.periodical.topics",
+                    "Number of topic reconciliations completed by the periodical reconciliations",
+                    metricTags);
         }
     }
 
@@ -586,6 +602,14 @@ class TopicOperator {
             }
         };
         LOGGER.debugCr(logContext.toReconciliation(), "Queuing action {} on topic {}", action, lockName);
+        if (!logContext.isPeriodic()) {
+            eventReconciliationsInProgress.incrementAndGet();
+            result.future().onComplete(ignored -> {
+                eventReconciliationsInProgress.decrementAndGet();
+                // The freed slot can be used by the full reconciliation
+                activeLimiters.forEach(ConcurrencyLimiter::startNext);
+            });
+        }
         inflight.compute(key, (topicName, waiters) -> {
             if (waiters == null) {
                 LOGGER.debugCr(logContext.toReconciliation(), "Adding first waiter {}", action);
@@ -1427,6 +1451,8 @@ class TopicOperator {
 
     Future<?> reconcileAllTopics(String reconciliationType) {
         LOGGER.infoOp("Starting {} reconciliation", reconciliationType);
+        long startNanos = System.nanoTime();
+        double completedAtStart = periodicTopicReconciliationsCounter.count();
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
         )).compose(topicNamesFromKafka ->
@@ -1441,7 +1467,7 @@ class TopicOperator {
                 return reconcileState;
             });
         }).compose(reconcileState -> {
-            List<Future<Boolean>> futs = new ArrayList<>();
+            List<Supplier<Future<Boolean>>> reconciliations = new ArrayList<>();
             pausedTopicCounter.set(0);
             topicCounter.set(reconcileState.ktList.size());
             for (KafkaTopic kt : reconcileState.ktList) {
@@ -1464,7 +1490,7 @@ class TopicOperator {
                     successfulReconciliationsCounter.increment();
                 } else if (reconcileState.undetermined.contains(topicName)) {
                     // The topic didn't exist in topicStore, but now we know which KT it corresponds to
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    reconciliations.add(() -> reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
                         // if success then remove from undetermined add to success
                         reconcileState.undetermined.remove(topicName);
                         reconcileState.succeeded.add(topicName);
@@ -1473,14 +1499,14 @@ class TopicOperator {
                 } else {
                     // Topic exists in kube, but not in Kafka
                     LOGGER.debugCr(logContext.toReconciliation(), "Topic {} exists in Kubernetes, but not Kafka", topicName, logTopic(kt));
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    reconciliations.add(() -> reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
                         // if success then add to success
                         reconcileState.succeeded.add(topicName);
                         return Future.succeededFuture(Boolean.TRUE);
                     }));
                 }
             }
-            return Future.join(futs).compose(joined -> {
+            return join(withConcurrencyLimit(reconciliations)).compose(joined -> {
                 List<Future<Void>> futs2 = new ArrayList<>();
                 for (Throwable exception : reconcileState.failed.values()) {
                     futs2.add(Future.failedFuture(exception));
@@ -1498,6 +1524,11 @@ class TopicOperator {
                 }
                 return Future.join(futs2);
             });
+        }).onComplete(ignored -> {
+            long topics = (long) (periodicTopicReconciliationsCounter.count() - completedAtStart);
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            LOGGER.infoOp("Finished {} reconciliation of {} topics in {} ms ({} topics per second)", reconciliationType,
+                    topics, durationMs, durationMs > 0 ? topics * 1_000 / durationMs : topics);
         });
     }
 
@@ -1514,10 +1545,10 @@ class TopicOperator {
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
         if (topicsFromKafka.size() > 0) {
-            List<Future<Void>> futures = new ArrayList<>();
+            List<Supplier<Future<Void>>> reconciliations = new ArrayList<>();
             for (TopicName topicName : topicsFromKafka) {
                 LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName, namespace, topicName.asKubeName().toString());
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-from-kafka", false) {
+                reconciliations.add(() -> executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-from-kafka", false) {
                     @Override
                     public Future<Void> execute() {
                         return getFromTopicStore(topicName).recover(error -> {
@@ -1548,7 +1579,7 @@ class TopicOperator {
                     }
                 }));
             }
-            return join(futures).map(state);
+            return join(withConcurrencyLimit(reconciliations)).map(state);
         } else {
             return Future.succeededFuture(state);
         }
@@ -1556,6 +1587,41 @@ class TopicOperator {
 
     }
 
+    /**
+     * Starts the reconciliations while keeping at most {@link Config#FULL_RECONCILIATION_MAX_CONCURRENCY} of them in
+     * progress at the same time. This avoids sending the requests for all topics to Kafka and Kubernetes at once
+     * during the full reconciliation of clusters with many topics.
+     *
+     * The reconciliations triggered by events take priority: every such reconciliation in progress takes one slot from
+     * the limit, so that the full reconciliation does not delay them. The slot is returned to the full reconciliation
+     * as soon as the event triggered reconciliation completes. At least one reconciliation is always kept in
+     * progress to make sure the full reconciliation completes even under a constant stream of events. The number of
+     * reconciliations which did not complete yet and the number of completed reconciliations are exposed as metrics
+     * to track the progress of the full reconciliation.
+     *
+     * @param reconciliations   Suppliers starting the reconciliations
+     * @param <T>               Type of the reconciliation result
+     *
+     * @return  List with the futures of the reconciliations in the same order as the suppliers
+     */
+    /* test */ <T> List<Future<T>> withConcurrencyLimit(List<Supplier<Future<T>>> reconciliations) {
+        int maxConcurrency = config.get(Config.FULL_RECONCILIATION_MAX_CONCURRENCY);
+        periodicReconciliationsRemaining.addAndGet(reconciliations.size());
+
+        ConcurrencyLimiter<T> limiter = new ConcurrencyLimiter<>(reconciliations,
+            () -> maxConcurrency - eventReconciliationsInProgress.get(),
+            result -> {
+                periodicReconciliationsRemaining.decrementAndGet();
+                periodicTopicReconciliationsCounter.increment();
+            });
+        List<Future<T>> futures = limiter.futures();
+        activeLimiters.add(limiter);
+        join(futures).onComplete(ignored -> activeLimiters.remove(limiter));
+        limiter.startNext();
+
+        return futures;
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> CompositeFuture join(List<T> futures) {
         return Future.join((List) futures);
@@ -7,9 +7,28 @@ package io.strimzi.operator.topic;
 import io.apicurio.registry.utils.kafka.SelfSerde;
 
 /**
- * Topic Kafka Serde
+ * Topic Kafka Serde. The topics are written either as JSON or using the compact binary encoding from
+ * {@link TopicBinarySerialization}. Both the binary and the JSON encoded topics can be read. The binary encoding cannot
+ * be read by the older versions, so it has to be enabled explicitly.
  */
 public class TopicSerde extends SelfSerde<Topic> {
+    private final boolean binaryFormat;
+
+    /**
+     * Constructs the Topic Serde writing the topics as JSON
+     */
+    public TopicSerde() {
+        this(false);
+    }
+
+    /**
+     * Constructs the Topic Serde
+     *
+     * @param binaryFormat  If true, the topics are written using the binary encoding. Otherwise, they are written as JSON.
+     */
+    public TopicSerde(boolean binaryFormat) {
+        this.binaryFormat = binaryFormat;
+    }
 
     /**
      * Method to serialize the topic into byte stream
@@ -20,7 +39,7 @@ public class TopicSerde extends SelfSerde<Topic> {
      */
     @Override
     public byte[] serialize(String topic, Topic data) {
-        return TopicSerialization.toJson(data);
+        return binaryFormat ? TopicBinarySerialization.toBytes(data) : TopicSerialization.toJson(data);
     }
 
     /**
@@ -31,6 +50,10 @@ public class TopicSerde extends SelfSerde<Topic> {
      */
     @Override
     public Topic deserialize(String topic, byte[] data) {
-        return TopicSerialization.fromJson(data);
+        if (TopicBinarySerialization.isBinary(data)) {
+            return TopicBinarySerialization.topicFromBytes(data);
+        } else {
+            return TopicSerialization.fromJson(data);
+        }
     }
 }
@@ -74,6 +74,9 @@ public class BatchingTopicController {
     // Key: topic name, Value: The KafkaTopics known to manage that topic
     /* test */ final Map<String, Set<KubeRef>> topics = new HashMap<>();
 
+    // State derived from the KafkaTopic specs, reused across batches until the KafkaTopic changes
+    /* test */ final KafkaTopicStateCache stateCache = new KafkaTopicStateCache();
+
 
     BatchingTopicController(Map<String, String> selector,
                             Admin admin,
@@ -122,6 +125,14 @@ public class BatchingTopicController {
         }
     }
 
+    /**
+     * @param kt The KafkaTopic
+     * @return The state derived from the spec of the given KafkaTopic
+     */
+    KafkaTopicStateCache.State state(KafkaTopic kt) {
+        return stateCache.get(kt);
+    }
+
     static String topicName(KafkaTopic kt) {
         String tn = null;
         if (kt.getSpec() != null) {
@@ -236,7 +247,7 @@ public class BatchingTopicController {
     private static Either<TopicOperatorException, Boolean> validateUnchangedTopicName(ReconcilableTopic reconcilableTopic) {
         if (reconcilableTopic.kt().getStatus() != null
                 && reconcilableTopic.kt().getStatus().getTopicName() != null
-                && !topicName(reconcilableTopic.kt()).equals(reconcilableTopic.kt().getStatus().getTopicName())) {
+                && !reconcilableTopic.topicName().equals(reconcilableTopic.kt().getStatus().getTopicName())) {
             return Either.ofLeft(new TopicOperatorException.NotSupported("Changing spec.topicName is not supported"
             ));
         }
@@ -246,7 +257,7 @@ public class BatchingTopicController {
     private PartitionedByError<ReconcilableTopic, Void> createTopics(List<ReconcilableTopic> kts) {
         var newTopics = kts.stream().map(reconcilableTopic -> {
             // Admin create
-            return buildNewTopic(reconcilableTopic.kt(), reconcilableTopic.topicName());
+            return buildNewTopic(state(reconcilableTopic.kt()), reconcilableTopic.topicName());
         }).collect(Collectors.toSet());
 
         LOGGER.debugOp("Admin.createTopics({})", newTopics);
@@ -284,40 +295,13 @@ public class BatchingTopicController {
         }
     }
 
-    private static NewTopic buildNewTopic(KafkaTopic kt, String tn) {
+    private static NewTopic buildNewTopic(KafkaTopicStateCache.State state, String tn) {
 
         return new NewTopic(
                 tn,
-                kt.getSpec() == null || kt.getSpec().getPartitions() == null ? -1 : kt.getSpec().getPartitions(),
-                kt.getSpec() == null || kt.getSpec().getReplicas() == null ? -1 : kt.getSpec().getReplicas().shortValue())
-            .configs(buildConfigsMap(kt));
-    }
-
-    private static Map<String, String> buildConfigsMap(KafkaTopic kt) {
-        Map<String, String> configs = new HashMap<>();
-        if (hasConfig(kt)) {
-            for (var entry : kt.getSpec().getConfig().entrySet()) {
-                configs.put(entry.getKey(), configValueAsString(entry.getValue()));
-            }
-        }
-        return configs;
-    }
-
-    private static String configValueAsString(Object value) {
-        String valueStr;
-        if (value instanceof String
-                || value instanceof Boolean) {
-            valueStr = value.toString();
-        } else if (value instanceof Number) {
-            valueStr = value.toString();
-        } else if (value instanceof List) {
-            valueStr = ((List<?>) value).stream()
-                    .map(BatchingTopicController::configValueAsString)
-                    .collect(Collectors.joining(","));
-        } else {
-            throw new RuntimeException("Cannot convert " + value);
-        }
-        return valueStr;
+                state.partitions() == null ? -1 : state.partitions(),
+                state.replicas() == null ? -1 : state.replicas().shortValue())
+            .configs(state.configs());
     }
 
     record CurrentState(TopicDescription topicDescription, Config configs) {
@@ -396,6 +380,7 @@ public class BatchingTopicController {
         var partitionedByDeletion = topics.stream().filter(reconcilableTopic -> {
             var kt = reconcilableTopic.kt();
             if (!matchesSelector(selector, kt.getMetadata().getLabels())) {
+                // Forgetting the topic also evicts its derived state which is not used anymore
                 forgetTopic(reconcilableTopic);
                 LOGGER.debugCr(reconcilableTopic.reconciliation(), "Ignoring KafkaTopic with labels {} not selected by selector {}",
                         kt.getMetadata().getLabels(), selector);
@@ -420,6 +405,8 @@ public class BatchingTopicController {
 
         var partitionedByManaged = partitionedByDeletion.get(false).stream().collect(Collectors.partitioningBy(reconcilableTopic -> isManaged(reconcilableTopic.kt())));
         var unmanaged = partitionedByManaged.get(false);
+        // The derived state is used only for the managed topics
+        unmanaged.forEach(reconcilableTopic -> stateCache.remove(reconcilableTopic.kt()));
         addOrRemoveFinalizer(useFinalizer, unmanaged).forEach(rt -> putResult(results, rt, Either.ofRight(null)));
 
         List<ReconcilableTopic> mayNeedUpdate = validateManagedTopics(partitionedByManaged);
@@ -539,13 +526,13 @@ public class BatchingTopicController {
         });
     }
 
-    private static List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> configChanges(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results, PartitionedByError<ReconcilableTopic, CurrentState> currentStatesOrError) {
+    private List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> configChanges(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results, PartitionedByError<ReconcilableTopic, CurrentState> currentStatesOrError) {
         // Determine config changes
         Map<Boolean, List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>>> alterConfigs = currentStatesOrError.ok().map(pair -> {
             var reconcilableTopic = pair.getKey();
             var currentState = pair.getValue();
             // determine config changes
-            return pair(reconcilableTopic, buildAlterConfigOps(reconcilableTopic.reconciliation(), reconcilableTopic.kt(), currentState.configs()));
+            return pair(reconcilableTopic, buildAlterConfigOps(reconcilableTopic.reconciliation(), state(reconcilableTopic.kt()), currentState.configs()));
         }).collect(Collectors.partitioningBy(pair -> pair.getValue().isEmpty()));
 
         // add topics which don't require configs changes to the results (may be overwritten later)
@@ -554,13 +541,13 @@ public class BatchingTopicController {
         return someAlterConfigs;
     }
 
-    private static List<Pair<ReconcilableTopic, NewPartitions>> partitionChanges(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results, PartitionedByError<ReconcilableTopic, CurrentState> currentStatesOrError) {
+    private List<Pair<ReconcilableTopic, NewPartitions>> partitionChanges(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results, PartitionedByError<ReconcilableTopic, CurrentState> currentStatesOrError) {
         // Determine partition changes
         PartitionedByError<ReconcilableTopic, NewPartitions> newPartitionsOrError = partitionedByError(currentStatesOrError.ok().map(pair -> {
             var reconcilableTopic = pair.getKey();
             var currentState = pair.getValue();
             // determine config changes
-            return BatchingTopicController.pair(reconcilableTopic, buildNewPartitions(reconcilableTopic.reconciliation(), reconcilableTopic.kt(), currentState.numPartitions()));
+            return BatchingTopicController.pair(reconcilableTopic, buildNewPartitions(reconcilableTopic.reconciliation(), state(reconcilableTopic.kt()), currentState.numPartitions()));
         }));
         newPartitionsOrError.errors().forEach(pair -> putResult(results, pair.getKey(), Either.ofLeft(pair.getValue())));
 
@@ -768,6 +755,8 @@ public class BatchingTopicController {
     }
 
     void onDelete(List<ReconcilableTopic> batch) throws InterruptedException {
+        // The derived state is not needed for deletion, and the KafkaTopics are going away
+        batch.forEach(reconcilableTopic -> stateCache.remove(reconcilableTopic.kt()));
         try {
             deleteInternal(batch, true);
         } catch (UncheckedInterruptedException e) {
@@ -884,6 +873,7 @@ public class BatchingTopicController {
     }
 
     private void forgetTopic(ReconcilableTopic reconcilableTopic) {
+        stateCache.remove(reconcilableTopic.kt());
         topics.compute(reconcilableTopic.topicName(), (k, v) -> {
             if (v != null) {
                 v.remove(new KubeRef(reconcilableTopic.kt()));
@@ -898,8 +888,8 @@ public class BatchingTopicController {
         });
     }
 
-    private static Either<TopicOperatorException, NewPartitions> buildNewPartitions(Reconciliation reconciliation, KafkaTopic kt, int currentNumPartitions) {
-        Integer requested = kt.getSpec().getPartitions();
+    private static Either<TopicOperatorException, NewPartitions> buildNewPartitions(Reconciliation reconciliation, KafkaTopicStateCache.State state, int currentNumPartitions) {
+        Integer requested = state.partitions();
         if (requested > currentNumPartitions) {
             LOGGER.debugCr(reconciliation, "Partition increase from {} to {}", currentNumPartitions, requested);
             return Either.ofRight(NewPartitions.increaseTo(requested));
@@ -912,27 +902,23 @@ public class BatchingTopicController {
         }
     }
 
-    private static Collection<AlterConfigOp> buildAlterConfigOps(Reconciliation reconciliation, KafkaTopic kt, Config configs) {
+    private static Collection<AlterConfigOp> buildAlterConfigOps(Reconciliation reconciliation, KafkaTopicStateCache.State state, Config configs) {
         Set<AlterConfigOp> alterConfigOps = new HashSet<>();
-        if (hasConfig(kt)) {
-            for (var specConfigEntry : kt.getSpec().getConfig().entrySet()) {
-                String key = specConfigEntry.getKey();
-                var specValueStr = configValueAsString(specConfigEntry.getValue());
-                var kafkaConfigEntry = configs.get(key);
-                if (kafkaConfigEntry == null
-                        || !Objects.equals(specValueStr, kafkaConfigEntry.value())) {
-                    alterConfigOps.add(new AlterConfigOp(
-                            new ConfigEntry(key, specValueStr),
-                            AlterConfigOp.OpType.SET));
-                }
+        for (var specConfigEntry : state.configs().entrySet()) {
+            String key = specConfigEntry.getKey();
+            var specValueStr = specConfigEntry.getValue();
+            var kafkaConfigEntry = configs.get(key);
+            if (kafkaConfigEntry == null
+                    || !Objects.equals(specValueStr, kafkaConfigEntry.value())) {
+                alterConfigOps.add(new AlterConfigOp(
+                        new ConfigEntry(key, specValueStr),
+                        AlterConfigOp.OpType.SET));
             }
         }
         HashSet<String> keysToRemove = configs.entries().stream()
                 .filter(configEntry -> configEntry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG)
                 .map(ConfigEntry::name).collect(Collectors.toCollection(HashSet::new));
-        if (hasConfig(kt)) {
-            keysToRemove.removeAll(kt.getSpec().getConfig().keySet());
-        }
+        keysToRemove.removeAll(state.configs().keySet());
         for (var key : keysToRemove) {
             alterConfigOps.add(new AlterConfigOp(
                     new ConfigEntry(key, null),
@@ -946,11 +932,6 @@ public class BatchingTopicController {
         return alterConfigOps;
     }
 
-    private static boolean hasConfig(KafkaTopic kt) {
-        return kt.getSpec() != null
-                && kt.getSpec().getConfig() != null;
-    }
-
     private void updateStatusForException(ReconcilableTopic reconcilableTopic, Exception e) {
         String message = e.getMessage();
         String reason;
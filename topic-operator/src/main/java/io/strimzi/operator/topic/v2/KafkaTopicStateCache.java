@@ -0,0 +1,114 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the state derived from the spec of each {@link KafkaTopic}: the topic name, partitions, replicas and the
+ * config normalized to strings. The periodic resync re-queues all the KafkaTopics even when they did not change, so
+ * the state is derived only once for each {@code metadata.resourceVersion} of a KafkaTopic (identified by
+ * {@code metadata.uid}) and reused in all the following batches.
+ * KafkaTopics without UID or resource version (which should happen only in tests) are never cached.
+ */
+class KafkaTopicStateCache {
+    // Key: KafkaTopic UID
+    private final Map<String, CachedState> cache = new ConcurrentHashMap<>();
+
+    /**
+     * State derived from the KafkaTopic spec
+     *
+     * @param topicName     The name of the topic in Kafka (spec.topicName, or metadata.name)
+     * @param partitions    Desired number of partitions, or null if not set
+     * @param replicas      Desired replication factor, or null if not set
+     * @param configs       Unmodifiable map with the desired topic config with values converted to strings
+     */
+    record State(String topicName, Integer partitions, Integer replicas, Map<String, String> configs) { }
+
+    private record CachedState(String resourceVersion, State state) { }
+
+    /**
+     * Returns the derived state of the KafkaTopic, deriving it only when it was not derived for this resource version
+     * of the KafkaTopic before.
+     *
+     * @param kt    The KafkaTopic
+     *
+     * @return  The derived state
+     */
+    State get(KafkaTopic kt) {
+        String uid = kt.getMetadata().getUid();
+        String resourceVersion = kt.getMetadata().getResourceVersion();
+
+        if (uid == null || resourceVersion == null) {
+            return derive(kt);
+        }
+
+        CachedState cached = cache.get(uid);
+        if (cached == null || !resourceVersion.equals(cached.resourceVersion())) {
+            cached = new CachedState(resourceVersion, derive(kt));
+            cache.put(uid, cached);
+        }
+
+        return cached.state();
+    }
+
+    /**
+     * Removes the derived state of the KafkaTopic from the cache
+     *
+     * @param kt    The KafkaTopic
+     */
+    void remove(KafkaTopic kt) {
+        String uid = kt.getMetadata().getUid();
+
+        if (uid != null) {
+            cache.remove(uid);
+        }
+    }
+
+    /* test */ int size() {
+        return cache.size();
+    }
+
+    private static State derive(KafkaTopic kt) {
+        String topicName = BatchingTopicController.topicName(kt);
+
+        if (kt.getSpec() == null) {
+            return new State(topicName, null, null, Map.of());
+        }
+
+        Map<String, String> configs = new HashMap<>();
+        if (kt.getSpec().getConfig() != null) {
+            for (var entry : kt.getSpec().getConfig().entrySet()) {
+                configs.put(entry.getKey(), configValueAsString(entry.getValue()));
+            }
+        }
+
+        return new State(topicName, kt.getSpec().getPartitions(), kt.getSpec().getReplicas(), Collections.unmodifiableMap(configs));
+    }
+
+    private static String configValueAsString(Object value) {
+        String valueStr;
+        if (value instanceof String
+                || value instanceof Boolean) {
+            valueStr = value.toString();
+        } else if (value instanceof Number) {
+            valueStr = value.toString();
+        } else if (value instanceof List) {
+            valueStr = ((List<?>) value).stream()
+                    .map(KafkaTopicStateCache::configValueAsString)
+                    .collect(Collectors.joining(","));
+        } else {
+            throw new RuntimeException("Cannot convert " + value);
+        }
+        return valueStr;
+    }
+}
@@ -7,12 +7,12 @@ package io.strimzi.operator.topic.v2;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
-import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
-import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.InformerUtils;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.TransformingItemStore;
 import io.strimzi.operator.common.http.HealthCheckAndMetricsServer;
 import io.strimzi.operator.common.http.Liveness;
 import io.strimzi.operator.common.http.Readiness;
@@ -33,7 +33,7 @@ public class TopicOperatorMain implements Liveness, Readiness {
     private final KubernetesClient client;
     /* test */ final BatchingLoop queue;
     private final long resyncIntervalMs;
-    private final BasicItemStore<KafkaTopic> itemStore;
+    private final TransformingItemStore<KafkaTopic> itemStore;
     /* test */ final BatchingTopicController controller;
     private final Admin admin;
     private SharedIndexInformer<KafkaTopic> informer; // guarded by this
@@ -52,7 +52,8 @@ public class TopicOperatorMain implements Liveness, Readiness {
         this.resyncIntervalMs = config.fullReconciliationIntervalMs();
         this.admin = admin;
         this.controller = new BatchingTopicController(selector, admin, client, config.useFinalizer());
-        this.itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        // The managed fields of the KafkaTopics are never used, so they are not kept in the informer cache
+        this.itemStore = new TransformingItemStore<>(InformerUtils::stripManagedFields);
         this.queue = new BatchingLoop(config.maxQueueSize(),  controller, 1, config.maxBatchSize(), config.maxBatchLingerMs(), itemStore, this::stop);
         this.handler = new TopicOperatorEventHandler(queue, config.useFinalizer());
         this.healthAndMetricsServer = new HealthCheckAndMetricsServer(8080, this, this, null);
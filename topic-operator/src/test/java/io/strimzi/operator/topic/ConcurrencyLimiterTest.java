@@ -0,0 +1,118 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ConcurrencyLimiterTest {
+    @Test
+    public void testLimit() {
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        List<Promise<Integer>> promises = new ArrayList<>();
+        List<Supplier<Future<Integer>>> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Promise<Integer> promise = Promise.promise();
+            promises.add(promise);
+            tasks.add(() -> {
+                started.incrementAndGet();
+                return promise.future();
+            });
+        }
+
+        ConcurrencyLimiter<Integer> limiter = new ConcurrencyLimiter<>(tasks, () -> 2, result -> completed.incrementAndGet());
+        List<Future<Integer>> results = limiter.futures();
+        assertThat(started.get(), is(0));
+
+        limiter.startNext();
+        assertThat(started.get(), is(2));
+
+        // Calling startNext without a free slot does not start anything
+        limiter.startNext();
+        assertThat(started.get(), is(2));
+
+        promises.get(1).complete(1);
+        assertThat(started.get(), is(3));
+        assertThat(completed.get(), is(1));
+        assertThat(results.get(0).isComplete(), is(false));
+        assertThat(results.get(1).result(), is(1));
+
+        promises.get(0).fail("Failed");
+        promises.get(2).complete(2);
+        assertThat(started.get(), is(5));
+
+        promises.get(3).complete(3);
+        promises.get(4).complete(4);
+        assertThat(completed.get(), is(5));
+        assertThat(results.get(0).cause().getMessage(), is("Failed"));
+        assertThat(results.subList(1, 5).stream().map(Future::result).toList(), is(List.of(1, 2, 3, 4)));
+    }
+
+    @Test
+    public void testSynchronousAndThrowingTasks() {
+        List<Supplier<Future<Integer>>> tasks = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            int value = i;
+            tasks.add(() -> Future.succeededFuture(value));
+        }
+        tasks.add(() -> {
+            throw new RuntimeException("Thrown");
+        });
+
+        ConcurrencyLimiter<Integer> limiter = new ConcurrencyLimiter<>(tasks, () -> 1, result -> { });
+        limiter.startNext();
+
+        // Synchronously completed tasks are started in a loop and not recursively
+        List<Future<Integer>> results = limiter.futures();
+        assertThat(results.stream().allMatch(Future::isComplete), is(true));
+        assertThat(results.get(999).result(), is(999));
+        assertThat(results.get(1_000).cause().getMessage(), is("Thrown"));
+    }
+
+    @Test
+    public void testChangingLimit() {
+        AtomicInteger limit = new AtomicInteger(0);
+        AtomicInteger started = new AtomicInteger();
+        List<Promise<Void>> promises = new ArrayList<>();
+        List<Supplier<Future<Void>>> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Promise<Void> promise = Promise.promise();
+            promises.add(promise);
+            tasks.add(() -> {
+                started.incrementAndGet();
+                return promise.future();
+            });
+        }
+
+        ConcurrencyLimiter<Void> limiter = new ConcurrencyLimiter<>(tasks, limit::get, result -> { });
+
+        // At least one task is always in progress
+        limiter.startNext();
+        assertThat(started.get(), is(1));
+
+        // The increased limit is used on the next call
+        limit.set(3);
+        assertThat(started.get(), is(1));
+        limiter.startNext();
+        assertThat(started.get(), is(3));
+
+        // The decreased limit is respected when the tasks complete
+        limit.set(2);
+        promises.get(0).complete();
+        assertThat(started.get(), is(3));
+        promises.get(1).complete();
+        assertThat(started.get(), is(4));
+    }
+}
@@ -4,10 +4,15 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -33,12 +38,18 @@ import org.mockito.ArgumentMatcher;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -113,10 +124,37 @@ public class KafkaImplTest {
             }
             return kafkaFuture1;
         });
+        when(createTopicsResult.values()).then(invocation -> {
+            KafkaFutureImpl<Void> kafkaFuture = new KafkaFutureImpl<>();
+            if (result == null) {
+                kafkaFuture.complete(null);
+            } else {
+                kafkaFuture.completeExceptionally(result);
+            }
+            return singletonMap(topic.name(), kafkaFuture);
+        });
         when(admin.createTopics(eq(singleton(topic)),
                 argThat(isValidateOnly()))).thenReturn(createTopicsResult);
     }
 
+    private void mockCreateTopicsValidateOnly(Admin admin, Map<String, Exception> result) {
+        CreateTopicsResult createTopicsResult = mock(CreateTopicsResult.class);
+        when(createTopicsResult.values()).thenReturn(result.entrySet().stream().collect(toMap(
+            Map.Entry::getKey,
+            entry -> {
+                KafkaFutureImpl<Void> kafkaFuture = new KafkaFutureImpl<>();
+                if (entry.getValue() == null) {
+                    kafkaFuture.complete(null);
+                } else {
+                    kafkaFuture.completeExceptionally(entry.getValue());
+                }
+                return kafkaFuture;
+            })));
+        Set<NewTopic> newTopics = result.keySet().stream().map(name -> new NewTopic(name, 1, (short) 1)).collect(Collectors.toSet());
+        when(admin.createTopics(eq(newTopics),
+                argThat(isValidateOnly()))).thenReturn(createTopicsResult);
+    }
+
     private ArgumentMatcher<CreateTopicsOptions> isValidateOnly() {
         return CreateTopicsOptions::shouldValidateOnly;
     }
@@ -246,6 +284,40 @@ public class KafkaImplTest {
         })));
     }
 
+    @Test
+    public void testTopicMetadataBatching(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        Map<String, Exception> validations = new HashMap<>();
+        validations.put("topic-a", new TopicExistsException(""));
+        validations.put("topic-b", new TopicExistsException(""));
+        validations.put("topic-c", null);
+        mockCreateTopicsValidateOnly(admin, validations);
+        mockDescribeTopics(admin, Map.of("topic-a", Either.ofLeft(mock(TopicDescription.class)),
+                "topic-b", Either.ofLeft(mock(TopicDescription.class))));
+        mockDescribeConfigs(admin, Map.of(new ConfigResource(ConfigResource.Type.TOPIC, "topic-a"), Either.ofLeft(mock(Config.class)),
+                new ConfigResource(ConfigResource.Type.TOPIC, "topic-b"), Either.ofLeft(mock(Config.class))));
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx, 100);
+        Future<TopicMetadata> a = impl.topicMetadata(Reconciliation.DUMMY_RECONCILIATION, new TopicName("topic-a"));
+        Future<TopicMetadata> b = impl.topicMetadata(Reconciliation.DUMMY_RECONCILIATION, new TopicName("topic-b"));
+        Future<TopicMetadata> c = impl.topicMetadata(Reconciliation.DUMMY_RECONCILIATION, new TopicName("topic-c"));
+        // Concurrent requests for the same topic are coalesced
+        Future<TopicMetadata> a2 = impl.topicMetadata(Reconciliation.DUMMY_RECONCILIATION, new TopicName("topic-a"));
+
+        Future.all(a, b, c, a2).onComplete(testContext.succeeding(i -> testContext.verify(() -> {
+            assertNotNull(a.result());
+            assertNotNull(b.result());
+            assertNull(c.result());
+            assertThat(a2.result(), is(sameInstance(a.result())));
+
+            // All requests were sent in a single batch
+            verify(admin, times(1)).createTopics(any(), any());
+            verify(admin, times(1)).describeTopics(any(Collection.class));
+            verify(admin, times(1)).describeConfigs(any(Collection.class));
+            testContext.completeNow();
+        })));
+    }
+
     @Test
     public void testDelete(VertxTestContext testContext) {
         Admin admin = mock(Admin.class);
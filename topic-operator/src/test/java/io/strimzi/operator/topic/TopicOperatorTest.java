@@ -19,6 +19,7 @@ import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.WorkerExecutor;
@@ -39,6 +40,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -46,6 +48,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
@@ -1237,6 +1240,100 @@ public class TopicOperatorTest {
             }));
     }
 
+    @Test
+    public void testFullReconciliationConcurrencyLimit() {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.FULL_RECONCILIATION_MAX_CONCURRENCY.key, "2");
+        TopicOperator limitedOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", new Config(configMap), metrics);
+
+        List<Promise<Integer>> promises = new ArrayList<>();
+        List<Supplier<Future<Integer>>> reconciliations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Promise<Integer> promise = Promise.promise();
+            promises.add(promise);
+            reconciliations.add(promise::future);
+        }
+        // Synchronously completed reconciliations do not block the slots
+        reconciliations.add(() -> Future.succeededFuture(5));
+        reconciliations.add(() -> Future.succeededFuture(6));
+
+        AtomicInteger started = new AtomicInteger();
+        List<Supplier<Future<Integer>>> counted = reconciliations.stream()
+                .<Supplier<Future<Integer>>>map(reconciliation -> () -> {
+                    started.incrementAndGet();
+                    return reconciliation.get();
+                })
+                .toList();
+
+        List<Future<Integer>> results = limitedOperator.withConcurrencyLimit(counted);
+        assertThat(started.get(), is(2));
+
+        promises.get(0).complete(0);
+        assertThat(started.get(), is(3));
+        assertThat(results.get(0).result(), is(0));
+
+        promises.get(1).complete(1);
+        promises.get(2).complete(2);
+        assertThat(started.get(), is(5));
+
+        // The synchronous reconciliations use the free slot one after another
+        promises.get(3).complete(3);
+        assertThat(started.get(), is(7));
+        assertThat(results.get(4).isComplete(), is(false));
+
+        promises.get(4).complete(4);
+        assertThat(results.stream().map(Future::result).toList(), is(List.of(0, 1, 2, 3, 4, 5, 6)));
+    }
+
+    @Test
+    public void testFullReconciliationGivesPriorityToEvents(VertxTestContext context) {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.FULL_RECONCILIATION_MAX_CONCURRENCY.key, "3");
+        MetricsProvider limitedMetrics = createCleanMetricsProvider();
+        TopicOperator limitedOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", new Config(configMap), limitedMetrics);
+
+        // Event triggered reconciliation in progress
+        Promise<Void> event = Promise.promise();
+        LogContext logContext = LogContext.zkWatch("///", "event-topic", "default-namespace", "event-topic");
+        Future<Void> eventResult = limitedOperator.executeWithTopicLockHeld(logContext, new TopicName("event-topic"),
+                limitedOperator.new Reconciliation(logContext, "event", false) {
+                    @Override
+                    public Future<Void> execute() {
+                        return event.future();
+                    }
+                });
+
+        List<Promise<Void>> promises = new ArrayList<>();
+        AtomicInteger started = new AtomicInteger();
+        List<Supplier<Future<Void>>> reconciliations = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Promise<Void> promise = Promise.promise();
+            promises.add(promise);
+            reconciliations.add(() -> {
+                started.incrementAndGet();
+                return promise.future();
+            });
+        }
+
+        limitedOperator.withConcurrencyLimit(reconciliations);
+
+        // The event triggered reconciliation takes one of the slots
+        assertThat(started.get(), is(2));
+        assertThat(limitedMetrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.periodical.remaining").gauge().value(), is(6.0));
+
+        event.complete();
+        eventResult.onComplete(context.succeeding(v -> context.verify(() -> {
+            // The slot freed by the event triggered reconciliation is used right away
+            assertThat(started.get(), is(3));
+
+            promises.get(0).complete();
+            assertThat(started.get(), is(4));
+            assertThat(limitedMetrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.periodical.remaining").gauge().value(), is(5.0));
+            assertThat(limitedMetrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.periodical.topics").counter().count(), is(1.0));
+            context.completeNow();
+        })));
+    }
+
     /**
      * Created new MetricsProvider and makes sure it doesn't contain any metrics from previous tests.
      *
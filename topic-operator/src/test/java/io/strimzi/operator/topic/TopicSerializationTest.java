@@ -36,7 +36,11 @@ public class TopicSerializationTest {
 
     @Test
     public void testTopicCommandSerde() {
-        TopicCommandSerde serde = new TopicCommandSerde();
+        testTopicCommandSerde(new TopicCommandSerde());
+        testTopicCommandSerde(new TopicCommandSerde(true));
+    }
+
+    private void testTopicCommandSerde(TopicCommandSerde serde) {
 
         Topic.Builder builder = new Topic.Builder();
         builder.withTopicName("foobar");
@@ -63,6 +67,105 @@ public class TopicSerializationTest {
         Assertions.assertEquals(TopicCommand.CURRENT_VERSION, data.getVersion());
     }
 
+    @Test
+    public void testBinaryTopicSerde() {
+        TopicSerde serde = new TopicSerde(true);
+
+        Topic topic = new Topic.Builder()
+                .withTopicName("my-topic")
+                .withMapName("my-topic---1234")
+                .withNumPartitions(300)
+                .withNumReplicas((short) -1)
+                .withConfigEntry("cleanup.policy", "compact")
+                .withConfigEntry("retention.ms", "-1")
+                .withConfigEntry("my.custom.config", "vålue")
+                .build();
+
+        byte[] bytes = serde.serialize("dummy", topic);
+        assertThat(TopicBinarySerialization.isBinary(bytes), is(true));
+        assertThat(bytes.length < TopicSerialization.toJson(topic).length, is(true));
+
+        Topic deserialized = serde.deserialize("dummy", bytes);
+        assertThat(deserialized, is(topic));
+        assertThat(deserialized.getOrAsKubeName().toString(), is("my-topic---1234"));
+        assertThat(deserialized.getNumReplicas(), is((short) -1));
+    }
+
+    @Test
+    public void testSerdesReadJson() {
+        Topic topic = new Topic.Builder()
+                .withTopicName("my-topic")
+                .withNumPartitions(2)
+                .withNumReplicas((short) 3)
+                .withConfigEntry("cleanup.policy", "compact")
+                .build();
+
+        // Records written as JSON by the older versions or without the binary format enabled are readable
+        assertThat(new TopicSerde().serialize("dummy", topic), is(TopicSerialization.toJson(topic)));
+        assertThat(new TopicSerde(true).deserialize("dummy", new TopicSerde().serialize("dummy", topic)), is(topic));
+
+        TopicCommandSerde jsonSerde = new TopicCommandSerde();
+        TopicCommandSerde serde = new TopicCommandSerde(true);
+        TopicCommand create = TopicCommand.create(topic);
+        assertThat(TopicBinarySerialization.isBinary(jsonSerde.serialize("dummy", create)), is(false));
+
+        TopicCommand data = serde.deserialize("dummy", jsonSerde.serialize("dummy", create));
+        assertThat(data.getUuid(), is(create.getUuid()));
+        assertThat(data.getType(), is(TopicCommand.Type.CREATE));
+        assertThat(data.getTopic(), is(topic));
+
+        TopicCommand delete = TopicCommand.delete(new TopicName("my-topic"));
+        data = serde.deserialize("dummy", jsonSerde.serialize("dummy", delete));
+        assertThat(data.getUuid(), is(delete.getUuid()));
+        assertThat(data.getType(), is(TopicCommand.Type.DELETE));
+        assertThat(data.getName(), is(new TopicName("my-topic")));
+
+        // With the binary format enabled, new records are written in the binary format
+        assertThat(TopicBinarySerialization.isBinary(serde.serialize("dummy", create)), is(true));
+        assertThat(serde.deserialize("dummy", serde.serialize("dummy", create)).getUuid(), is(create.getUuid()));
+    }
+
+    /**
+     * The binary format is used to speed up the restore of the topic store, which replays all its records. The
+     * restore time is dominated by the amount of data read and parsed, so this checks that the binary records of a
+     * representative set of topics are substantially smaller than the JSON records and that they restore the same
+     * topics.
+     */
+    @Test
+    public void testBinaryTopicCommandsAreSmallerThanJson() {
+        TopicCommandSerde jsonSerde = new TopicCommandSerde();
+        TopicCommandSerde binarySerde = new TopicCommandSerde(true);
+        long jsonBytes = 0;
+        long binaryBytes = 0;
+
+        for (int i = 0; i < 1_000; i++) {
+            Topic topic = new Topic.Builder()
+                    .withTopicName("my-topic-" + i)
+                    .withMapName("my-topic-" + i)
+                    .withNumPartitions(12)
+                    .withNumReplicas((short) 3)
+                    .withConfigEntry("cleanup.policy", "delete")
+                    .withConfigEntry("retention.ms", "604800000")
+                    .withConfigEntry("min.insync.replicas", "2")
+                    .withConfigEntry("segment.bytes", "1073741824")
+                    .withMetadata(new ObjectMetaBuilder()
+                            .withLabels(Map.of("strimzi.io/cluster", "my-cluster"))
+                            .build())
+                    .build();
+            TopicCommand command = TopicCommand.create(topic);
+
+            byte[] json = jsonSerde.serialize("dummy", command);
+            byte[] binary = binarySerde.serialize("dummy", command);
+            jsonBytes += json.length;
+            binaryBytes += binary.length;
+
+            assertThat(binarySerde.deserialize("dummy", binary).getTopic(), is(jsonSerde.deserialize("dummy", json).getTopic()));
+        }
+
+        assertThat("Binary records with " + binaryBytes + " bytes should be at most half the size of JSON records with " + jsonBytes + " bytes",
+                binaryBytes * 2 <= jsonBytes, is(true));
+    }
+
     @Test
     public void testResourceSerializationRoundTrip() {
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KafkaTopicStateCacheTest {
+
+    private static KafkaTopic kafkaTopic(String uid, String resourceVersion, Map<String, Object> config) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("my-topic")
+                    .withNamespace("ns")
+                    .withUid(uid)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withNewSpec()
+                    .withTopicName("my.topic")
+                    .withPartitions(3)
+                    .withReplicas(2)
+                    .withConfig(config)
+                .endSpec()
+                .build();
+    }
+
+    @Test
+    void testStateIsDerived() {
+        var cache = new KafkaTopicStateCache();
+        var state = cache.get(kafkaTopic("uid", "1", Map.of("retention.ms", 1000, "compression.type", "lz4",
+                "preallocate", true, "follower.replication.throttled.replicas", List.of("0:1", "1:0"))));
+
+        assertEquals("my.topic", state.topicName());
+        assertEquals(3, state.partitions());
+        assertEquals(2, state.replicas());
+        assertEquals(Map.of("retention.ms", "1000", "compression.type", "lz4",
+                "preallocate", "true", "follower.replication.throttled.replicas", "0:1,1:0"), state.configs());
+        assertThrows(UnsupportedOperationException.class, () -> state.configs().put("foo", "bar"));
+    }
+
+    @Test
+    void testStateWithoutSpec() {
+        var cache = new KafkaTopicStateCache();
+        var state = cache.get(new KafkaTopicBuilder().withNewMetadata().withName("my-topic").withUid("uid").withResourceVersion("1").endMetadata().build());
+
+        assertEquals("my-topic", state.topicName());
+        assertNull(state.partitions());
+        assertNull(state.replicas());
+        assertEquals(Map.of(), state.configs());
+    }
+
+    @Test
+    void testStateIsReusedUntilResourceVersionChanges() {
+        var cache = new KafkaTopicStateCache();
+        var state = cache.get(kafkaTopic("uid", "1", Map.of("retention.ms", 1000)));
+
+        // Same resource version (e.g. periodic resync) reuses the derived state
+        assertSame(state, cache.get(kafkaTopic("uid", "1", Map.of("retention.ms", 1000))));
+        assertEquals(1, cache.size());
+
+        // New resource version derives the state again
+        var updated = cache.get(kafkaTopic("uid", "2", Map.of("retention.ms", 2000)));
+        assertNotSame(state, updated);
+        assertEquals(Map.of("retention.ms", "2000"), updated.configs());
+        assertEquals(1, cache.size());
+
+        // Different KafkaTopic with the same resource version
+        cache.get(kafkaTopic("other-uid", "2", Map.of()));
+        assertEquals(2, cache.size());
+
+        cache.remove(kafkaTopic("uid", "2", Map.of()));
+        cache.remove(kafkaTopic("other-uid", "2", Map.of()));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testStateIsEvictedWhenKafkaTopicIsNotSelectedAnymore() throws Exception {
+        Admin admin = Mockito.mock(Admin.class);
+        DescribeClusterResult describeClusterResult = Mockito.mock(DescribeClusterResult.class);
+        Mockito.when(describeClusterResult.nodes()).thenReturn(KafkaFuture.completedFuture(List.of()));
+        Mockito.when(admin.describeCluster()).thenReturn(describeClusterResult);
+        var controller = new BatchingTopicController(Map.of("key", "VALUE"), admin, Mockito.mock(KubernetesClient.class), false);
+
+        var kt = kafkaTopic("uid", "1", Map.of("retention.ms", 1000));
+        controller.state(kt);
+        assertEquals(1, controller.stateCache.size());
+
+        // The update removing the selected label makes the KafkaTopic ignored
+        var unselected = new KafkaTopicBuilder(kt)
+                .editMetadata()
+                    .withResourceVersion("2")
+                    .withLabels(Map.of("key", "OTHER"))
+                .endMetadata()
+                .build();
+        controller.onUpdate(List.of(new ReconcilableTopic(new Reconciliation("test", "KafkaTopic", "ns", "my-topic"), unselected, "my.topic")));
+        assertEquals(0, controller.stateCache.size());
+    }
+
+    @Test
+    void testStateWithoutUidIsNotCached() {
+        var cache = new KafkaTopicStateCache();
+        var kt = kafkaTopic(null, "1", Map.of());
+
+        assertNotSame(cache.get(kt), cache.get(kt));
+        assertEquals(0, cache.size());
+    }
+}
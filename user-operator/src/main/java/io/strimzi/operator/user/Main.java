@@ -24,6 +24,7 @@ import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.http.HealthCheckAndMetricsServer;
+import io.strimzi.operator.common.metrics.CardinalityLimitingMeterFilter;
 import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
 import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
 import io.strimzi.operator.user.operator.DisabledSimpleAclOperator;
@@ -80,18 +81,18 @@ public class Main {
         Admin adminClient = createAdminClient(config, secretOperator, new DefaultAdminClientProvider());
         var kafkaUserCrdOperator = new CrdOperator<>(kafkaUserOperatorExecutor, client, KafkaUser.class, KafkaUserList.class, "KafkaUser");
 
+        MetricsProvider metricsProvider = createMetricsProvider(config);
+
         KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
                 config,
                 new OpenSslCertManager(),
                 secretOperator,
                 kafkaUserCrdOperator,
-                new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor),
-                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor),
-                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor) : new DisabledSimpleAclOperator()
+                new ScramCredentialsOperator(adminClient, config, metricsProvider, kafkaUserOperatorExecutor),
+                new QuotasOperator(adminClient, config, metricsProvider, kafkaUserOperatorExecutor),
+                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, metricsProvider, kafkaUserOperatorExecutor) : new DisabledSimpleAclOperator()
         );
 
-        MetricsProvider metricsProvider = createMetricsProvider();
-
         // Create the User controller
         UserController controller = new UserController(
                 config,
@@ -102,7 +103,7 @@ public class Main {
         );
 
         // Create the health check and metrics server
-        HealthCheckAndMetricsServer healthCheckAndMetricsServer = new HealthCheckAndMetricsServer(controller, controller, metricsProvider);
+        HealthCheckAndMetricsServer healthCheckAndMetricsServer = new HealthCheckAndMetricsServer(controller, controller, metricsProvider, config.isProfilingEndpointEnabled());
 
         // Start health check server, KafkaUser operator and the controller
         healthCheckAndMetricsServer.start();
@@ -172,10 +173,13 @@ public class Main {
     /**
      * Creates the MetricsProvider instance based on a PrometheusMeterRegistry and binds the JVM metrics to it
      *
+     * @param config    User Operator configuration
+     *
      * @return  MetricsProvider instance
      */
-    private static MetricsProvider createMetricsProvider()  {
+    private static MetricsProvider createMetricsProvider(UserOperatorConfig config)  {
         MeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        CardinalityLimitingMeterFilter.configure(registry, config.getMetricsMaxSeriesPerMetric());
 
         // Bind JVM metrics
         new ClassLoaderMetrics().bindTo(registry);
@@ -15,6 +15,7 @@ import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.InformerUtils;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.TransformingItemStore;
 import io.strimzi.operator.common.controller.AbstractControllerLoop;
 import io.strimzi.operator.common.controller.ControllerQueue;
 import io.strimzi.operator.common.controller.ReconciliationLockManager;
@@ -105,12 +106,15 @@ public class UserController implements Liveness, Readiness {
         // Set up the work queue
         this.workQueue = new ControllerQueue(config.getWorkQueueSize(), this.metrics);
 
-        // Secret informer and lister is used to get events about Secrets and get Secrets quickly
-        this.secretInformer = secretOperator.informer(watchedNamespace, secretSelector, DEFAULT_RESYNC_PERIOD_MS);
+        // Secret informer and lister is used to get events about Secrets and get Secrets quickly. The data of the
+        // Secrets are used in the reconciliation, so only the managed fields are not cached.
+        this.secretInformer = secretOperator.informer(watchedNamespace, secretSelector, DEFAULT_RESYNC_PERIOD_MS)
+                .itemStore(new TransformingItemStore<>(InformerUtils::stripManagedFields));
         Lister<Secret> secretLister = new Lister<>(secretInformer.getIndexer());
 
         // KafkaUser informer and lister is used to get events about Users and get Users quickly
-        this.userInformer = userCrdOperator.informer(watchedNamespace, userSelector, DEFAULT_RESYNC_PERIOD_MS);
+        this.userInformer = userCrdOperator.informer(watchedNamespace, userSelector, DEFAULT_RESYNC_PERIOD_MS)
+                .itemStore(new TransformingItemStore<>(InformerUtils::stripManagedFields));
         Lister<KafkaUser> userLister = new Lister<>(userInformer.getIndexer());
 
         // Creates the scheduled executor service used for periodical reconciliations and progress warnings
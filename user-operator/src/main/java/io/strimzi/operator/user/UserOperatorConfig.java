@@ -115,6 +115,10 @@ public class UserOperatorConfig {
      * Maximal batch time for micro-batching the Kafka Admin API requests
      */
     public static final ConfigParameter<Integer> BATCH_MAXIMUM_BLOCK_TIME_MS = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+    /**
+     * Maximal number of batches which can be in-flight at the same time when micro-batching the Kafka Admin API requests
+     */
+    public static final ConfigParameter<Integer> BATCH_MAXIMUM_IN_FLIGHT = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_IN_FLIGHT", strictlyPositive(INTEGER), "4", CONFIG_VALUES);
     /**
      * Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -127,6 +131,15 @@ public class UserOperatorConfig {
      * Lit of maintenance windows
      */
     public static final ConfigParameter<List<String>> MAINTENANCE_TIME_WINDOWS = new ConfigParameter<>("STRIMZI_MAINTENANCE_TIME_WINDOWS", SEMICOLON_SEPARATED_LIST, "", CONFIG_VALUES);
+    /**
+     * Maximal number of time series of each metric. 0 disables the limit.
+     */
+    public static final ConfigParameter<Integer> METRICS_MAX_SERIES_PER_METRIC = new ConfigParameter<>("STRIMZI_METRICS_MAX_SERIES_PER_METRIC", INTEGER, "10000", CONFIG_VALUES);
+
+    /**
+     * Enables the endpoint for starting and stopping the Flight Recorder recordings of the operator
+     */
+    public static final ConfigParameter<Boolean> PROFILING_ENDPOINT_ENABLED = new ConfigParameter<>("STRIMZI_PROFILING_ENDPOINT_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
 
     private final Map<String, Object> map;
 
@@ -345,6 +358,13 @@ public class UserOperatorConfig {
         return get(BATCH_MAXIMUM_BLOCK_TIME_MS);
     }
 
+    /**
+     * @return  Maximal number of batches which can be in-flight at the same time when micro-batching the Kafka Admin API requests
+     */
+    public int getBatchMaxInFlight() {
+        return get(BATCH_MAXIMUM_IN_FLIGHT);
+    }
+
     /**
      * @return Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -352,6 +372,20 @@ public class UserOperatorConfig {
         return get(USER_OPERATIONS_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return Maximal number of time series of each metric
+     */
+    public int getMetricsMaxSeriesPerMetric() {
+        return get(METRICS_MAX_SERIES_PER_METRIC);
+    }
+
+    /**
+     * @return  True if the Flight Recorder profiling endpoint is enabled. False otherwise.
+     */
+    public boolean isProfilingEndpointEnabled() {
+        return get(PROFILING_ENDPOINT_ENABLED);
+    }
+
     /**
      * @return The number of certificates validity days.
      */
@@ -393,7 +427,10 @@ public class UserOperatorConfig {
                 "\n\tbatchQueueSize=" + getBatchQueueSize() +
                 "\n\tbatchMaxBlockSize=" + getBatchMaxBlockSize() +
                 "\n\tbatchMaxBlockTime=" + getBatchMaxBlockTime() +
+                "\n\tbatchMaxInFlight=" + getBatchMaxInFlight() +
                 "\n\tuserOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
+                "\n\tmetricsMaxSeriesPerMetric=" + getMetricsMaxSeriesPerMetric() +
+                "\n\tprofilingEndpointEnabled=" + isProfilingEndpointEnabled() +
                 '}';
     }
 }
@@ -4,58 +4,105 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract class for collecting Kafka Admin API requests and sending them to Kafka in batches. The batches are sent
- * when we collect some (configurable) amount of requests or after some (configurable) time interval
+ * when we collect some (configurable) amount of requests or after some (configurable) time interval. Up to a
+ * (configurable) number of batches can be in-flight at the same time. Requests with the same key (e.g. the same
+ * principal) are never part of two in-flight batches at the same time to keep their ordering.
  */
 public abstract class AbstractBatchReconciler<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractBatchReconciler.class);
 
+    private static final String METRICS_PREFIX = "strimzi.batch.reconciler.";
+
     private final BlockingQueue<T> queue;
     private final int maxBatchSize;
     private final int maxBatchTime;
+    private final int maxInFlightBatches;
     private final Thread batchHandlerThread;
+    private final Semaphore inFlightBatches;
+    private final Set<String> inFlightKeys = ConcurrentHashMap.newKeySet();
+    private final List<T> deferred = new ArrayList<>(); // Accessed only from the batch handler thread
+
+    private final DistributionSummary inFlightBatchesHistogram;
+    private final Timer batchDurationTimer;
 
     private volatile CountDownLatch batchSize;
+    private volatile boolean hasDeferred = false;
     private volatile boolean stop = false;
 
     /**
      * Creates the BatchReconciler
      *
-     * @param name          Name of the reconciler
-     * @param queueSize     Size of the queue for queueing the reconciliation requests
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time to wait before batch is executed
+     * @param name                  Name of the reconciler
+     * @param queueSize             Size of the queue for queueing the reconciliation requests
+     * @param maxBatchSize          Maximal size of the batch
+     * @param maxBatchTime          Maximal time to wait before batch is executed
+     * @param maxInFlightBatches    Maximal number of batches which can be in-flight at the same time
+     * @param metricsProvider       Metrics provider for the batch metrics
      */
-    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime) {
+    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches, MetricsProvider metricsProvider) {
         if (maxBatchSize > queueSize)   {
             throw new IllegalArgumentException("Maximum batch size cannot be bigger than queue size");
         }
 
+        if (maxInFlightBatches < 1)   {
+            throw new IllegalArgumentException("Maximum number of in-flight batches has to be at least 1");
+        }
+
         this.queue = new ArrayBlockingQueue<>(queueSize);
         this.batchSize = new CountDownLatch(0);
         this.maxBatchSize = maxBatchSize;
         this.maxBatchTime = maxBatchTime;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
         this.batchHandlerThread = new Thread(new Runner(), name);
+
+        Tags tags = Tags.of(Tag.of("reconciler", name));
+        this.inFlightBatchesHistogram = metricsProvider.histogram(METRICS_PREFIX + "batches.inflight", "Number of batches in-flight when a new batch is sent", tags);
+        this.batchDurationTimer = metricsProvider.timer(METRICS_PREFIX + "batches.duration", "The time it takes to send a batch and process its results", tags);
     }
 
     /**
      * Method responsible for sending the batch of requests to Apache Kafka and handling the result
      *
      * @param items Items which should be reconciled
+     *
+     * @return  CompletionStage which completes once the results of the batch were handled
      */
-    protected abstract void reconcile(Collection<T> items);
+    protected abstract CompletionStage<Void> reconcile(Collection<T> items);
+
+    /**
+     * Returns the ordering key of the request. Requests with the same key are never part of two batches which are
+     * in-flight at the same time.
+     *
+     * @param item  Reconciliation request
+     *
+     * @return  The ordering key of the request
+     */
+    protected abstract String key(T item);
 
     /**
      * Enqueues a reconciliation request
@@ -73,25 +120,77 @@ public abstract class AbstractBatchReconciler<T> {
     }
 
     /**
-     * Starts a new batch of requests. It drains the queue and passes the batch of requests to the reconcile method.
+     * Starts a new batch of requests. It waits for a free in-flight slot, drains the queue and passes the batch of
+     * requests to the reconcile method. Requests for keys which are already in-flight are deferred to one of the next
+     * batches.
      *
      * @param batchSizeReached  Indicates whether the batch is triggered because we reached the maximal batch size
      *                          (true) or the time limit (false)
+     *
+     * @throws InterruptedException Thrown when interrupted while waiting for a free in-flight slot
      */
-    private void handleBatch(boolean batchSizeReached)  {
+    private void handleBatch(boolean batchSizeReached) throws InterruptedException {
         if (batchSizeReached) {
             LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch size was reached", batchHandlerThread.getName());
         } else {
             LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch time was reached", batchHandlerThread.getName());
         }
 
-        List<T> batch = new ArrayList<>();
-        int batchSize = queue.drainTo(batch, maxBatchSize);
+        inFlightBatches.acquire();
+
+        List<T> candidates = new ArrayList<>(deferred);
+        deferred.clear();
+        queue.drainTo(candidates, Math.max(0, maxBatchSize - candidates.size()));
+
+        List<T> batch = new ArrayList<>(candidates.size());
+        Set<String> batchKeys = new HashSet<>();
+        Set<String> deferredKeys = new HashSet<>();
+
+        for (T item : candidates)   {
+            String key = key(item);
+
+            if (inFlightKeys.contains(key) || batchKeys.contains(key) || deferredKeys.contains(key)) {
+                // The key is already in-flight or part of this batch => we defer it (and all following requests with
+                // the same key to keep the order)
+                deferredKeys.add(key);
+                deferred.add(item);
+            } else {
+                batchKeys.add(key);
+                batch.add(item);
+            }
+        }
+
+        hasDeferred = !deferred.isEmpty();
 
-        if (batchSize > 0)  {
-            LOGGER.debug("{}: Processing batch of {} records in the BatchReconciler", batchHandlerThread.getName(), batchSize);
-            reconcile(batch);
+        if (batch.isEmpty())    {
+            inFlightBatches.release();
+            return;
         }
+
+        LOGGER.debug("{}: Processing batch of {} records in the BatchReconciler ({} deferred)", batchHandlerThread.getName(), batch.size(), deferred.size());
+        inFlightKeys.addAll(batchKeys);
+        inFlightBatchesHistogram.record(maxInFlightBatches - inFlightBatches.availablePermits());
+
+        Timer.Sample sample = Timer.start();
+        CompletionStage<Void> result;
+
+        try {
+            result = reconcile(batch);
+        } catch (RuntimeException e) {
+            LOGGER.warn("{}: Failed to send the batch of records", batchHandlerThread.getName(), e);
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((r, e) -> {
+            sample.stop(batchDurationTimer);
+            inFlightKeys.removeAll(batchKeys);
+            inFlightBatches.release();
+
+            if (hasDeferred) {
+                // Some requests are waiting for this batch to complete => we trigger the next batch right away
+                batchSize.countDown();
+            }
+        });
     }
 
     /**
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
@@ -16,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -29,13 +31,15 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
     /**
      * Creates the micro-batching reconciler for deleting ACL rules
      *
-     * @param adminClient   Kafka Admin API client
-     * @param queueSize     Maximal size of the batching queue
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     * @param adminClient           Kafka Admin API client
+     * @param queueSize             Maximal size of the batching queue
+     * @param maxBatchSize          Maximal size of the batch
+     * @param maxBatchTime          Maximal time for which the requests should be collected before a batch is sent
+     * @param maxInFlightBatches    Maximal number of batches which can be in-flight at the same time
+     * @param metricsProvider       Metrics provider for the batch metrics
      */
-    public DeleteAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
-        super("DeleteAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    public DeleteAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches, MetricsProvider metricsProvider) {
+        super("DeleteAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxInFlightBatches, metricsProvider);
         this.adminClient = adminClient;
     }
 
@@ -43,15 +47,17 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
      * Reconciles batch of requests to delete ACL rules in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes once the results of the batch were handled
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>>> items) {
+    protected CompletionStage<Void> reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>>> items) {
         List<AclBindingFilter> aclFilters = new ArrayList<>();
         items.forEach(req -> aclFilters.addAll(req.desired()));
 
         DeleteAclsResult result = adminClient.deleteAcls(aclFilters);
 
-        result.all()
+        return result.all()
                 .toCompletionStage()
                 .handleAsync((r, e) -> {
                     if (e != null)  {
@@ -105,4 +111,16 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
                     return null;
                 });
     }
+
+    /**
+     * Requests are ordered per user
+     *
+     * @param item  Reconciliation request
+     *
+     * @return  Name of the user
+     */
+    @Override
+    protected String key(AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>> item) {
+        return item.username();
+    }
 }
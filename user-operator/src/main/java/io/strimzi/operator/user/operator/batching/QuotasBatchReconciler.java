@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
@@ -17,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Micro-batching reconciler for patching Kafka quotas using the Kafka Admin API.
@@ -29,13 +31,15 @@ public class QuotasBatchReconciler extends AbstractBatchReconciler<AdminApiOpera
     /**
      * Creates the Quotas micro-batching reconciler
      *
-     * @param adminClient   Kafka Admin API client
-     * @param queueSize     Maximal size of the batching queue
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     * @param adminClient           Kafka Admin API client
+     * @param queueSize             Maximal size of the batching queue
+     * @param maxBatchSize          Maximal size of the batch
+     * @param maxBatchTime          Maximal time for which the requests should be collected before a batch is sent
+     * @param maxInFlightBatches    Maximal number of batches which can be in-flight at the same time
+     * @param metricsProvider       Metrics provider for the batch metrics
      */
-    public QuotasBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
-        super("QuotasBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    public QuotasBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches, MetricsProvider metricsProvider) {
+        super("QuotasBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxInFlightBatches, metricsProvider);
         this.adminClient = adminClient;
     }
 
@@ -43,15 +47,17 @@ public class QuotasBatchReconciler extends AbstractBatchReconciler<AdminApiOpera
      * Reconciles batch of requests to Patch quotas in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes once the results of the batch were handled
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>>> items) {
+    protected CompletionStage<Void> reconcile(Collection<AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>>> items) {
         List<ClientQuotaAlteration> quotas = new ArrayList<>();
         items.forEach(req -> quotas.add(req.desired()));
 
         AlterClientQuotasResult result = adminClient.alterClientQuotas(quotas);
 
-        result.all()
+        return result.all()
                 .toCompletionStage()
                 .handleAsync((r, e) -> {
                     if (e != null)  {
@@ -90,4 +96,16 @@ public class QuotasBatchReconciler extends AbstractBatchReconciler<AdminApiOpera
                     return null;
                 });
     }
+
+    /**
+     * Requests are ordered per user
+     *
+     * @param item  Reconciliation request
+     *
+     * @return  Name of the user
+     */
+    @Override
+    protected String key(AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>> item) {
+        return item.username();
+    }
 }
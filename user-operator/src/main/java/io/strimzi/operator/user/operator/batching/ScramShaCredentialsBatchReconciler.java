@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
@@ -18,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Micro-batching reconciler for patching SCRAM-SHA credentials using the Kafka Admin API.
@@ -30,13 +32,15 @@ public class ScramShaCredentialsBatchReconciler extends AbstractBatchReconciler<
     /**
      * Creates the SCRAM-SHA credentials micro-batching reconciler
      *
-     * @param adminClient   Kafka Admin API client
-     * @param queueSize     Maximal size of the batching queue
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     * @param adminClient           Kafka Admin API client
+     * @param queueSize             Maximal size of the batching queue
+     * @param maxBatchSize          Maximal size of the batch
+     * @param maxBatchTime          Maximal time for which the requests should be collected before a batch is sent
+     * @param maxInFlightBatches    Maximal number of batches which can be in-flight at the same time
+     * @param metricsProvider       Metrics provider for the batch metrics
      */
-    public ScramShaCredentialsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
-        super("ScramShaCredentialsBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    public ScramShaCredentialsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches, MetricsProvider metricsProvider) {
+        super("ScramShaCredentialsBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxInFlightBatches, metricsProvider);
         this.adminClient = adminClient;
     }
 
@@ -44,15 +48,17 @@ public class ScramShaCredentialsBatchReconciler extends AbstractBatchReconciler<
      * Reconciles batch of requests to patch SCRAM-SHA credentials in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes once the results of the batch were handled
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<UserScramCredentialAlteration, ReconcileResult<UserScramCredentialAlteration>>> items) {
+    protected CompletionStage<Void> reconcile(Collection<AdminApiOperator.ReconcileRequest<UserScramCredentialAlteration, ReconcileResult<UserScramCredentialAlteration>>> items) {
         List<UserScramCredentialAlteration> alterations = new ArrayList<>();
         items.forEach(req -> alterations.add(req.desired()));
 
         AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(alterations);
 
-        result.all()
+        return result.all()
                 .toCompletionStage()
                 .handleAsync((r, e) -> {
                     if (e != null)  {
@@ -97,4 +103,16 @@ public class ScramShaCredentialsBatchReconciler extends AbstractBatchReconciler<
                     return null;
                 });
     }
+
+    /**
+     * Requests are ordered per user
+     *
+     * @param item  Reconciliation request
+     *
+     * @return  Name of the user
+     */
+    @Override
+    protected String key(AdminApiOperator.ReconcileRequest<UserScramCredentialAlteration, ReconcileResult<UserScramCredentialAlteration>> item) {
+        return item.username();
+    }
 }
@@ -62,7 +62,10 @@ public class UserOperatorConfigTest {
         assertThat(config.getBatchQueueSize(), is(1_024));
         assertThat(config.getBatchMaxBlockSize(), is(100));
         assertThat(config.getBatchMaxBlockTime(), is(100));
+        assertThat(config.getBatchMaxInFlight(), is(4));
         assertThat(config.getUserOperationsThreadPoolSize(), is(4));
+        assertThat(config.getMetricsMaxSeriesPerMetric(), is(10_000));
+        assertThat(config.isProfilingEndpointEnabled(), is(false));
     }
 
     @Test
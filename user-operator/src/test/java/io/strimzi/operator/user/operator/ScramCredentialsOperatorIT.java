@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.user.ResourceUtils;
 import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
@@ -18,7 +20,7 @@ public class ScramCredentialsOperatorIT extends AdminApiOperatorIT<String, List<
 
     @Override
     AdminApiOperator<String, List<String>> operator() {
-        return new ScramCredentialsOperator(adminClient, ResourceUtils.createUserOperatorConfig(), Executors.newSingleThreadExecutor());
+        return new ScramCredentialsOperator(adminClient, ResourceUtils.createUserOperatorConfig(), new MicrometerMetricsProvider(new SimpleMeterRegistry()), Executors.newSingleThreadExecutor());
     }
 
     @Override
@@ -4,15 +4,24 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 public class AbstractBatchReconcilerTest {
     Set<Integer> reconciled;
@@ -50,15 +59,85 @@ public class AbstractBatchReconcilerTest {
         batcher.stop();
     }
 
+    @Test
+    public void testInFlightBatchesAndOrdering() throws InterruptedException {
+        List<CompletableFuture<Void>> pendingBatches = new CopyOnWriteArrayList<>();
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        AtomicInteger maxInFlight = new AtomicInteger(0);
+
+        AbstractBatchReconciler<String> batcher = new AbstractBatchReconciler<>("TestBatchReconciler", 20, 2, 10, 2, new MicrometerMetricsProvider(new SimpleMeterRegistry())) {
+            @Override
+            protected CompletionStage<Void> reconcile(Collection<String> items) {
+                batches.add(new ArrayList<>(items));
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                pendingBatches.add(future);
+                maxInFlight.accumulateAndGet((int) pendingBatches.stream().filter(f -> !f.isDone()).count(), Math::max);
+                return future;
+            }
+
+            @Override
+            protected String key(String item) {
+                return item.split("-")[0];
+            }
+        };
+        batcher.enqueue("user1-1");
+        batcher.enqueue("user2-1");
+        batcher.enqueue("user1-2");
+        batcher.enqueue("user3-1");
+        batcher.enqueue("user4-1");
+        batcher.start();
+
+        // The second request for user1 is deferred because user1 is already in-flight
+        waitFor(() -> batches.size() == 2);
+        MatcherAssert.assertThat(batches.get(0), CoreMatchers.is(List.of("user1-1", "user2-1")));
+        MatcherAssert.assertThat(batches.get(1), CoreMatchers.is(List.of("user3-1")));
+
+        // No other batch is sent while the maximum number of batches is in-flight
+        Thread.sleep(100);
+        MatcherAssert.assertThat(batches.size(), CoreMatchers.is(2));
+
+        pendingBatches.get(1).complete(null);
+        waitFor(() -> batches.size() == 3);
+        MatcherAssert.assertThat(batches.get(2), CoreMatchers.is(List.of("user4-1")));
+
+        // The second request for user1 is sent only after the first batch with user1 completes
+        pendingBatches.get(0).complete(null);
+        waitFor(() -> batches.size() == 4);
+        MatcherAssert.assertThat(batches.get(3), CoreMatchers.is(List.of("user1-2")));
+        MatcherAssert.assertThat(maxInFlight.get(), CoreMatchers.is(2));
+
+        pendingBatches.get(2).complete(null);
+        pendingBatches.get(3).complete(null);
+        batcher.stop();
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for the condition");
+            }
+
+            Thread.sleep(10);
+        }
+    }
+
     class TestBatchReconciler extends AbstractBatchReconciler<Integer> {
         public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime) {
-            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         }
 
         @Override
-        protected void reconcile(Collection<Integer> items) {
+        protected CompletionStage<Void> reconcile(Collection<Integer> items) {
             reconciled.addAll(items);
             reconciliationFinished.countDown();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        protected String key(Integer item) {
+            return String.valueOf(item);
         }
     }
 }
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
@@ -81,7 +83,7 @@ public class DeleteAclsBatchReconcilerTest {
         when(mockClient.deleteAcls(aclBindingsFilterCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10);
+        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10, 2, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
@@ -137,7 +139,7 @@ public class DeleteAclsBatchReconcilerTest {
         when(mockClient.deleteAcls(aclBindingsFilterCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10);
+        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10, 2, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
@@ -188,7 +190,7 @@ public class DeleteAclsBatchReconcilerTest {
         when(mockClient.deleteAcls(aclBindingsFilterCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10);
+        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10, 2, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
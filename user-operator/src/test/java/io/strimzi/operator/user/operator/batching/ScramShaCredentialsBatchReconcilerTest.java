@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
@@ -60,7 +62,7 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10, 2, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
@@ -111,7 +113,7 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10, 2, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
@@ -159,7 +161,7 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10, 2, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
@@ -210,7 +212,7 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10, 2, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {